@@ -15,7 +15,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
-import io.harness.eventsframework.impl.redis.RedisTraceConsumer;
+import io.harness.eventsframework.impl.redis.RedisParallelTraceConsumer;
 import io.harness.queue.QueueController;
 import io.harness.security.SecurityContextBuilder;
 import io.harness.security.dto.ServicePrincipal;
@@ -31,8 +31,10 @@ import lombok.extern.slf4j.Slf4j;
 
 @OwnedBy(PL)
 @Slf4j
-public class EntityActivityStreamConsumer extends RedisTraceConsumer {
+public class EntityActivityStreamConsumer extends RedisParallelTraceConsumer {
   private static final int WAIT_TIME_IN_SECONDS = 10;
+  // activities of different accounts are recorded in parallel, the ones of an account stay in order
+  private static final int WORKER_COUNT = 4;
   private final Consumer redisConsumer;
   private final List<MessageListener> messageListenersList;
   private final QueueController queueController;
@@ -40,6 +42,7 @@ public class EntityActivityStreamConsumer extends RedisTraceConsumer {
   @Inject
   public EntityActivityStreamConsumer(@Named(ENTITY_ACTIVITY) Consumer redisConsumer,
       @Named(ENTITY_ACTIVITY) MessageListener activityEventMessageProcessor, QueueController queueController) {
+    super(ENTITY_ACTIVITY, WORKER_COUNT);
     this.redisConsumer = redisConsumer;
     this.queueController = queueController;
     messageListenersList = new ArrayList<>();
@@ -71,25 +74,21 @@ public class EntityActivityStreamConsumer extends RedisTraceConsumer {
 
   private void readEventsFrameworkMessages() throws InterruptedException {
     try {
-      pollAndProcessMessages();
+      pollAndProcessMessagesInParallel(redisConsumer, Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
     } catch (EventsFrameworkDownException e) {
       log.error("Events framework is down for Entity activity consumer. Retrying again...", e);
       TimeUnit.SECONDS.sleep(WAIT_TIME_IN_SECONDS);
     }
   }
 
-  private void pollAndProcessMessages() {
-    List<Message> messages;
-    String messageId;
-    boolean messageProcessed;
-    messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
-    for (Message message : messages) {
-      messageId = message.getId();
-      messageProcessed = handleMessage(message);
-      if (messageProcessed) {
-        redisConsumer.acknowledge(messageId);
-      }
-    }
+  @Override
+  protected void initWorkerThread() {
+    SecurityContextBuilder.setContext(new ServicePrincipal(NG_MANAGER.getServiceId()));
+  }
+
+  @Override
+  protected void cleanupWorkerThread() {
+    SecurityContextBuilder.unsetCompleteContext();
   }
 
   @Override
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ng.core.event;
+
+import static io.harness.eventsframework.EventsFrameworkConstants.ENTITY_ACTIVITY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_TYPE;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.queue.QueueController;
+import io.harness.rule.Owner;
+import io.harness.security.SecurityContextBuilder;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class EntityActivityStreamConsumerTest extends CategoryTest {
+  private Consumer redisConsumer;
+  private EntityActivityStreamConsumer entityActivityStreamConsumer;
+  private final List<String> handledMessageIds = new CopyOnWriteArrayList<>();
+
+  @Before
+  public void setUp() {
+    redisConsumer = mock(Consumer.class);
+    QueueController queueController = mock(QueueController.class);
+    MessageListener messageListener = message -> {
+      if (SecurityContextBuilder.getPrincipal() != null) {
+        handledMessageIds.add(message.getId());
+      }
+      return !message.getId().equals("1");
+    };
+    entityActivityStreamConsumer = new EntityActivityStreamConsumer(redisConsumer, messageListener, queueController);
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    entityActivityStreamConsumer.shutdownWorkers();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testFailedMessageHoldsBackLaterMessagesOfItsAccountOnly() {
+    List<Message> messages =
+        Arrays.asList(message("1", "account1"), message("2", "account1"), message("3", "account2"));
+    when(redisConsumer.read(any(Duration.class))).thenReturn(messages).thenAnswer(invocation -> {
+      Thread.currentThread().interrupt();
+      return Collections.emptyList();
+    });
+
+    entityActivityStreamConsumer.run();
+    // clear the interrupt of the stopped consumer loop
+    Thread.interrupted();
+
+    // the failed message of account1 keeps its next message from being handled, the other account is not affected
+    assertThat(handledMessageIds).containsExactlyInAnyOrder("1", "3");
+    verify(redisConsumer).acknowledge("3");
+  }
+
+  private static Message message(String id, String accountId) {
+    return Message.newBuilder()
+        .setId(id)
+        .setMessage(io.harness.eventsframework.producer.Message.newBuilder()
+                        .putAllMetadata(ImmutableMap.of("accountId", accountId, ENTITY_TYPE, ENTITY_ACTIVITY))
+                        .build())
+        .build();
+  }
+}
@@ -574,6 +574,7 @@ import io.harness.terraformcloud.TerraformCloudClientImpl;
 import io.harness.terragrunt.TerragruntClient;
 import io.harness.terragrunt.TerragruntClientImpl;
 import io.harness.threading.ThreadPool;
+import io.harness.threading.VirtualThreads;
 import io.harness.time.TimeModule;
 import io.harness.version.VersionModule;
 
@@ -897,6 +898,7 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import java.io.IOException;
 import java.time.Clock;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -1084,6 +1086,11 @@ public class DelegateModule extends AbstractModule {
   @Singleton
   @Named("taskExecutor")
   public ThreadPoolExecutor taskExecutor() {
+    Optional<ThreadPoolExecutor> virtualThreadExecutor = createVirtualThreadExecutor("task-exec-v-");
+    if (virtualThreadExecutor.isPresent()) {
+      log.info("Starting Delegate process with tasks executed on virtual threads");
+      return virtualThreadExecutor.get();
+    }
     int maxPoolSize = Integer.MAX_VALUE;
     long delegateXmx = 0;
     try {
@@ -1114,10 +1121,26 @@ public class DelegateModule extends AbstractModule {
   @Singleton
   @Named("timeoutExecutor")
   public ThreadPoolExecutor timeoutExecutor() {
+    // every executing task has its timeout watched by a thread sleeping until the task is done
+    Optional<ThreadPoolExecutor> virtualThreadExecutor = createVirtualThreadExecutor("timeout-v-");
+    if (virtualThreadExecutor.isPresent()) {
+      return virtualThreadExecutor.get();
+    }
     return ThreadPool.create(10, 40, 7, TimeUnit.SECONDS,
         new ThreadFactoryBuilder().setNameFormat("timeout-%d").setPriority(Thread.NORM_PRIORITY).build());
   }
 
+  /**
+   * Virtual threads are cheap enough to start one per task, so the pool only ever grows and never queues.
+   */
+  private Optional<ThreadPoolExecutor> createVirtualThreadExecutor(String namePrefix) {
+    if (!configuration.isVirtualThreadTaskExecutionEnabled()) {
+      return Optional.empty();
+    }
+    return VirtualThreads.newThreadFactory(namePrefix).map(
+        threadFactory -> ThreadPool.create(0, Integer.MAX_VALUE, 1, TimeUnit.SECONDS, threadFactory));
+  }
+
   @Provides
   @Singleton
   @Named("serviceNowFetchTicketExecutor")
@@ -21,11 +21,30 @@ public enum DelegateMetric {
       TASK_TYPE_LABEL),
   TASK_FAILED(
       "task_failed_total", "Number of tasks failed", DelegateMetricType.COUNT, DELEGATE_NAME_LABEL, TASK_TYPE_LABEL),
+  TASKS_ACQUIRED("tasks_acquired_total", "Number of tasks acquired in batches", DelegateMetricType.COUNT,
+      DELEGATE_NAME_LABEL),
+  TASK_ACQUIRE_CALLS("task_acquire_calls_total", "Number of calls made to the manager to acquire batches of tasks",
+      DelegateMetricType.COUNT, DELEGATE_NAME_LABEL),
   TASK_REJECTED("task_rejected_total", "Number of tasks rejected due to high load on delegate",
       DelegateMetricType.COUNT, DELEGATE_NAME_LABEL),
   DELEGATE_CONNECTED("delegate_connected", "Delegate connected", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
   RESOURCE_CONSUMPTION_ABOVE_THRESHOLD("delegate_resource_consumption_above_threshold",
-      "Delegate resource consumption reached more than threshold", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL);
+      "Delegate resource consumption reached more than threshold", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  LOG_STREAMING_BUFFERED_LINES("log_streaming_buffered_lines", "Number of log lines waiting to be uploaded",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  LOG_STREAMING_DROPPED_LINES("log_streaming_dropped_lines",
+      "Number of log lines dropped since the last poll because the upload could not keep up", DelegateMetricType.GAUGE,
+      DELEGATE_NAME_LABEL),
+  LOG_STREAMING_FLUSH_TIME("log_streaming_flush_time",
+      "Longest time taken to upload the buffered log lines of a task since the last poll", DelegateMetricType.GAUGE,
+      DELEGATE_NAME_LABEL),
+  PERPETUAL_TASK_ASSIGNMENT_DELAY("perpetual_task_assignment_delay",
+      "Longest time from assigning a perpetual task to the delegate until it started the task since the last poll",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  PERPETUAL_TASK_UPDATE_DELAY("perpetual_task_update_delay",
+      "Longest time from updating the context of a perpetual task until the delegate restarted the task since the last "
+          + "poll",
+      DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL);
 
   private final String metricName;
   private final String description;
@@ -49,8 +49,15 @@ import static io.harness.delegate.message.MessageConstants.WATCHER_VERSION;
 import static io.harness.delegate.message.MessengerType.DELEGATE;
 import static io.harness.delegate.message.MessengerType.WATCHER;
 import static io.harness.delegate.metrics.DelegateMetric.DELEGATE_CONNECTED;
+import static io.harness.delegate.metrics.DelegateMetric.LOG_STREAMING_BUFFERED_LINES;
+import static io.harness.delegate.metrics.DelegateMetric.LOG_STREAMING_DROPPED_LINES;
+import static io.harness.delegate.metrics.DelegateMetric.LOG_STREAMING_FLUSH_TIME;
+import static io.harness.delegate.metrics.DelegateMetric.PERPETUAL_TASK_ASSIGNMENT_DELAY;
+import static io.harness.delegate.metrics.DelegateMetric.PERPETUAL_TASK_UPDATE_DELAY;
 import static io.harness.delegate.metrics.DelegateMetric.RESOURCE_CONSUMPTION_ABOVE_THRESHOLD;
+import static io.harness.delegate.metrics.DelegateMetric.TASKS_ACQUIRED;
 import static io.harness.delegate.metrics.DelegateMetric.TASKS_CURRENTLY_EXECUTING;
+import static io.harness.delegate.metrics.DelegateMetric.TASK_ACQUIRE_CALLS;
 import static io.harness.delegate.metrics.DelegateMetric.TASK_COMPLETED;
 import static io.harness.delegate.metrics.DelegateMetric.TASK_EXECUTION_TIME;
 import static io.harness.delegate.metrics.DelegateMetric.TASK_FAILED;
@@ -164,6 +171,7 @@ import io.harness.security.encryption.EncryptedDataDetail;
 import io.harness.security.encryption.EncryptedRecord;
 import io.harness.security.encryption.EncryptionConfig;
 import io.harness.serializer.KryoSerializer;
+import io.harness.serializer.kryo.KryoFrameCodec;
 import io.harness.serializer.json.JsonUtils;
 import io.harness.taskprogress.TaskProgressClient;
 import io.harness.threading.Schedulable;
@@ -219,11 +227,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -286,6 +297,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   private static final int KEEP_ALIVE_INTERVAL = 23000;
   private static final int CLIENT_TOOL_RETRIES = 5;
   private static final int LOCAL_HEARTBEAT_INTERVAL = 10;
+  private static final long TASK_ACQUIRE_BATCH_WINDOW_MS = 50;
   private static final String TOKEN = "[TOKEN]";
   private static final String SEQ = "[SEQ]";
   private static final String WATCHER_EXPRESSION = "Dwatchersourcedir";
@@ -323,6 +335,8 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   private final boolean dynamicRequestHandling = isNotBlank(System.getenv().get("DYNAMIC_REQUEST_HANDLING"))
       && Boolean.parseBoolean(System.getenv().get("DYNAMIC_REQUEST_HANDLING"));
   private final Optional<Integer> delegateTaskCapacity = getDelegateTaskCapacity();
+  // when above 1, task events are collected and the tasks acquired in batches of up to this many
+  private final int taskAcquireBatchSize = getTaskAcquireBatchSize();
   private String MANAGER_PROXY_CURL = System.getenv().get("MANAGER_PROXY_CURL");
   private String MANAGER_HOST_AND_PORT = System.getenv().get("MANAGER_HOST_AND_PORT");
   private static final String DEFAULT_PATCH_VERSION = "000";
@@ -367,6 +381,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   @Inject DelegateTaskFactory delegateTaskFactory;
   @Inject(optional = true) @Nullable private DelegateServiceAgentClient delegateServiceAgentClient;
   @Inject private KryoSerializer kryoSerializer;
+  @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
   @Nullable @Inject(optional = true) private ChronicleEventTailer chronicleEventTailer;
   @Inject HarnessMetricRegistry metricRegistry;
   @Inject HandlerMappingServer handlerMappingServer;
@@ -386,6 +401,8 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   private final AtomicInteger maxExecutingFuturesCount = new AtomicInteger();
   private final AtomicInteger heartbeatSuccessCalls = new AtomicInteger();
   private final AtomicInteger currentlyAcquiringTasksCount = new AtomicInteger();
+  private final BlockingQueue<DelegateTaskEvent> pendingAcquireEvents = new LinkedBlockingQueue<>();
+  private final AtomicBoolean batchAcquireScheduled = new AtomicBoolean(false);
 
   private final AtomicLong lastHeartbeatSentAt = new AtomicLong(System.currentTimeMillis());
   private final AtomicLong frozenAt = new AtomicLong(-1);
@@ -401,6 +418,9 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   private final Set<String> supportedTaskTypes = new HashSet<>();
   private final ScheduledExecutorService topProcessLogThread = Executors.newSingleThreadScheduledExecutor(
       new ThreadFactoryBuilder().setNameFormat("TopProcessLogThread").build());
+  // waits for validations running on the task executor, so it must not hold one of its threads
+  private final ExecutorService taskAcquireBatchExecutor =
+      Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("TaskAcquireBatch").build());
 
   private Client client;
   private Socket socket;
@@ -647,6 +667,9 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
       if (isImmutableDelegate && dynamicRequestHandling) {
         // Enable dynamic throttling of requests only for immutable and FF enabled
         startDynamicHandlingOfTasks();
+      } else if (delegateConfiguration.isVirtualThreadTaskExecutionEnabled()) {
+        // Virtual threads do not cap the number of tasks, so only CPU and memory usage can stop acquiring more
+        startDynamicHandlingOfTasks();
       }
 
       if (isPollingForTasksEnabled()) {
@@ -1421,6 +1444,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     log.info("Stopping executors");
     taskExecutor.shutdown();
     taskPollExecutor.shutdown();
+    taskAcquireBatchExecutor.shutdown();
     topProcessLogThread.shutdown();
 
     final boolean terminatedTaskExec = taskExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
@@ -2087,6 +2111,11 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
 
     DelegateTaskExecutionData taskExecutionData = DelegateTaskExecutionData.builder().build();
     if (currentlyExecutingFutures.putIfAbsent(delegateTaskId, taskExecutionData) == null) {
+      if (taskAcquireBatchSize > 1) {
+        pendingAcquireEvents.add(delegateTaskEvent);
+        scheduleBatchAcquire();
+        return;
+      }
       final Future<?> taskFuture = taskExecutor.submit(() -> dispatchDelegateTask(delegateTaskEvent));
       taskExecutionData.setTaskFuture(taskFuture);
       updateCounterIfLessThanCurrent(maxExecutingFuturesCount, currentlyExecutingFutures.size());
@@ -2189,6 +2218,180 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     }
   }
 
+  private void scheduleBatchAcquire() {
+    if (batchAcquireScheduled.compareAndSet(false, true)) {
+      taskAcquireBatchExecutor.submit(this::acquireTaskBatches);
+    }
+  }
+
+  /**
+   * Acquires the pending tasks in batches until none are left. Task events of a burst arrive within a few millis of
+   * each other, so it waits for a short window first to let them join the same batch.
+   */
+  private void acquireTaskBatches() {
+    do {
+      try {
+        Thread.sleep(TASK_ACQUIRE_BATCH_WINDOW_MS);
+        List<DelegateTaskEvent> taskEvents = new ArrayList<>();
+        while (pendingAcquireEvents.drainTo(taskEvents, taskAcquireBatchSize) > 0) {
+          acquireTaskBatch(taskEvents);
+          taskEvents.clear();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        batchAcquireScheduled.set(false);
+        return;
+      } catch (Exception e) {
+        log.error("Unable to acquire batch of tasks", e);
+      }
+      batchAcquireScheduled.set(false);
+      // an event queued after the last drain but before the reset above still has to be acquired
+    } while (!pendingAcquireEvents.isEmpty() && batchAcquireScheduled.compareAndSet(false, true));
+  }
+
+  /**
+   * Acquires all tasks of the batch the delegate has capacity for in one call, and reports the connection results of
+   * the ones it had to validate in one more call. Tasks are validated and executed as soon as their package is read
+   * from the response, while the manager is still acquiring the rest of the batch.
+   */
+  @VisibleForTesting
+  void acquireTaskBatch(List<DelegateTaskEvent> taskEvents) throws IOException, InterruptedException {
+    List<String> acquiringTaskIds = new ArrayList<>();
+    for (DelegateTaskEvent taskEvent : taskEvents) {
+      String taskId = taskEvent.getDelegateTaskId();
+      if (canAcquireTask(taskId)) {
+        currentlyAcquiringTasks.add(taskId);
+        acquiringTaskIds.add(taskId);
+      } else {
+        currentlyExecutingFutures.remove(taskId);
+      }
+    }
+    if (acquiringTaskIds.isEmpty()) {
+      return;
+    }
+
+    Set<String> startedTaskIds = ConcurrentHashMap.newKeySet();
+    Map<String, List<DelegateConnectionResultDetail>> connectionResults = new ConcurrentHashMap<>();
+    List<Future<?>> validations = new ArrayList<>();
+    try {
+      log.info("Acquiring batch of tasks {}", acquiringTaskIds);
+      metricRegistry.recordCounterInc(TASK_ACQUIRE_CALLS.getMetricName(), DELEGATE_NAME);
+      readTaskPackages(
+          delegateAgentManagerClient.acquireTasks(delegateId, accountId, delegateInstanceId, acquiringTaskIds),
+          delegateTaskPackage -> {
+            if (delegateTaskPackage.getData() == null) {
+              return;
+            }
+            metricRegistry.recordCounterInc(TASKS_ACQUIRED.getMetricName(), DELEGATE_NAME);
+            if (isEmpty(delegateTaskPackage.getDelegateInstanceId())) {
+              validations.add(taskExecutor.submit(() -> validateTask(delegateTaskPackage, connectionResults)));
+            } else if (delegateInstanceId.equals(delegateTaskPackage.getDelegateInstanceId())) {
+              startTask(delegateTaskPackage, startedTaskIds);
+            }
+          });
+      for (Future<?> validation : validations) {
+        try {
+          validation.get();
+        } catch (ExecutionException e) {
+          log.error("Unable to validate task", e.getCause());
+        }
+      }
+
+      if (!connectionResults.isEmpty()) {
+        metricRegistry.recordCounterInc(TASK_ACQUIRE_CALLS.getMetricName(), DELEGATE_NAME);
+        readTaskPackages(delegateAgentManagerClient.reportConnectionResults(
+                             delegateId, accountId, delegateInstanceId, connectionResults),
+            delegateTaskPackage -> {
+              if (delegateTaskPackage.getData() != null
+                  && delegateInstanceId.equals(delegateTaskPackage.getDelegateInstanceId())) {
+                startTask(delegateTaskPackage, startedTaskIds);
+              }
+            });
+      }
+    } finally {
+      // tasks that were not started were taken by another delegate, failed validation or were not acquired at all
+      for (String taskId : acquiringTaskIds) {
+        if (!startedTaskIds.contains(taskId)) {
+          if (currentlyAcquiringTasks.remove(taskId)) {
+            currentlyAcquiringTasksCount.getAndDecrement();
+          }
+          currentlyValidatingTasks.remove(taskId);
+          currentlyExecutingFutures.remove(taskId);
+        }
+      }
+    }
+  }
+
+  private boolean canAcquireTask(String taskId) {
+    if (frozen.get() || rejectRequest.get() || !acquireTasks.get()) {
+      log.info("Delegate is not acquiring tasks, dropping task {}", taskId);
+      return false;
+    }
+    if (currentlyAcquiringTasks.contains(taskId) || currentlyValidatingTasks.containsKey(taskId)) {
+      log.info("Task {} already being acquired or validated. Don't acquire again", taskId);
+      return false;
+    }
+    // So this feature works only if ENV - DELEGATE_TASK_CAPACITY is defined.
+    if (delegateTaskCapacity.isPresent() && currentlyAcquiringTasksCount.get() >= delegateTaskCapacity.get()) {
+      log.info("Not acquiring task {} - currently processing {} tasks count exceeds task capacity {}", taskId,
+          currentlyAcquiringTasksCount.get(), delegateTaskCapacity.get());
+      return false;
+    }
+    currentlyAcquiringTasksCount.getAndIncrement();
+    return true;
+  }
+
+  private void readTaskPackages(Call<ResponseBody> call, Consumer<DelegateTaskPackage> consumer) throws IOException {
+    ResponseBody responseBody = ManagerCallHelper.executeAcquireCallWithRetry(
+        call, String.format("Failed acquiring batch of tasks by delegate %s", delegateId), this::handleErrorResponse);
+    if (responseBody == null) {
+      return;
+    }
+    try (responseBody) {
+      KryoFrameCodec.readFrames(referenceFalseKryoSerializer, responseBody.byteStream(),
+          object -> consumer.accept((DelegateTaskPackage) object));
+    }
+  }
+
+  private void validateTask(
+      DelegateTaskPackage delegateTaskPackage, Map<String, List<DelegateConnectionResultDetail>> connectionResults) {
+    String taskId = delegateTaskPackage.getDelegateTaskId();
+    try (TaskLogContext ignore = new TaskLogContext(taskId, OVERRIDE_ERROR)) {
+      DelegateValidateTask delegateValidateTask =
+          new CapabilityCheckController(delegateId, delegateTaskPackage, results -> {
+            currentlyValidatingTasks.remove(taskId);
+            connectionResults.put(
+                taskId, getDelegateConnectionResultDetails(Optional.ofNullable(results).orElse(emptyList())));
+          });
+      injector.injectMembers(delegateValidateTask);
+      currentlyValidatingTasks.put(taskId, delegateTaskPackage);
+      updateCounterIfLessThanCurrent(maxValidatingTasksCount, currentlyValidatingTasks.size());
+      delegateValidateTask.validationResults();
+    }
+  }
+
+  private void startTask(DelegateTaskPackage delegateTaskPackage, Set<String> startedTaskIds) {
+    String taskId = delegateTaskPackage.getDelegateTaskId();
+    DelegateTaskExecutionData taskExecutionData = currentlyExecutingFutures.get(taskId);
+    if (taskExecutionData == null || !startedTaskIds.add(taskId)) {
+      log.info("Task {} was aborted or already started", taskId);
+      return;
+    }
+    taskExecutionData.setTaskFuture(taskExecutor.submit(() -> {
+      try (TaskLogContext ignore = new TaskLogContext(taskId, OVERRIDE_ERROR)) {
+        applyDelegateSecretFunctor(delegateTaskPackage);
+        executeTask(delegateTaskPackage);
+      } catch (Exception e) {
+        log.error("Unable to execute task", e);
+      } finally {
+        if (currentlyAcquiringTasks.remove(taskId)) {
+          currentlyAcquiringTasksCount.getAndDecrement();
+        }
+        currentlyExecutingFutures.remove(taskId);
+      }
+    }));
+  }
+
   private DelegateValidateTask getDelegateValidateTask(
       DelegateTaskEvent delegateTaskEvent, DelegateTaskPackage delegateTaskPackage) {
     Consumer<List<DelegateConnectionResultDetail>> postValidationFunction =
@@ -2467,6 +2670,18 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     return taskCapacity;
   }
 
+  private static int getTaskAcquireBatchSize() {
+    String val = System.getenv().get("DELEGATE_TASK_ACQUIRE_BATCH_SIZE");
+    if (StringUtils.isNotEmpty(val)) {
+      try {
+        return Integer.parseInt(val);
+      } catch (NumberFormatException ex) {
+        log.error("Unable to parse DELEGATE_TASK_ACQUIRE_BATCH_SIZE env variable {} ", val, ex);
+      }
+    }
+    return 1;
+  }
+
   private BooleanSupplier getPreExecutionFunction(@NotNull DelegateTaskPackage delegateTaskPackage,
       LogSanitizer sanitizer, ILogStreamingTaskClient logStreamingTaskClient) {
     return () -> {
@@ -2857,6 +3072,18 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     long tasksExecutionCount = taskExecutor.getActiveCount();
     metricRegistry.recordGaugeValue(
         TASKS_CURRENTLY_EXECUTING.getMetricName(), new String[] {DELEGATE_NAME}, tasksExecutionCount);
+    metricRegistry.recordGaugeValue(LOG_STREAMING_BUFFERED_LINES.getMetricName(), new String[] {DELEGATE_NAME},
+        LogStreamingTaskClient.getBufferedLineCount());
+    metricRegistry.recordGaugeValue(LOG_STREAMING_FLUSH_TIME.getMetricName(), new String[] {DELEGATE_NAME},
+        LogStreamingTaskClient.takeMaxFlushMillis());
+    metricRegistry.recordGaugeValue(LOG_STREAMING_DROPPED_LINES.getMetricName(), new String[] {DELEGATE_NAME},
+        LogStreamingTaskClient.takeDroppedLineCount());
+    if (perpetualTaskWorker != null) {
+      metricRegistry.recordGaugeValue(PERPETUAL_TASK_ASSIGNMENT_DELAY.getMetricName(), new String[] {DELEGATE_NAME},
+          perpetualTaskWorker.takeMaxAssignmentDelayMillis());
+      metricRegistry.recordGaugeValue(PERPETUAL_TASK_UPDATE_DELAY.getMetricName(), new String[] {DELEGATE_NAME},
+          perpetualTaskWorker.takeMaxUpdateDelayMillis());
+    }
   }
 
   public void sendTaskResponse(final String taskId, final DelegateTaskResponse taskResponse) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, lock-free buffer of the log lines of one log key. Any number of task threads can append, a single
+ * dispatcher drains. When the buffer is full the oldest lines are dropped, so that the task thread never waits for the
+ * log service and the most recent output (usually the one explaining a failure) is kept.
+ */
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+class LogLineBuffer {
+  static final AtomicLong TOTAL_BUFFERED_LINES = new AtomicLong();
+  static final AtomicLong TOTAL_DROPPED_LINES = new AtomicLong();
+
+  private final int capacity;
+  private final Queue<LogLine> lines = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicLong dropped = new AtomicLong();
+
+  LogLineBuffer(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return the number of buffered lines after adding the given one
+   */
+  int add(LogLine logLine) {
+    lines.add(logLine);
+    TOTAL_BUFFERED_LINES.incrementAndGet();
+    int current = size.incrementAndGet();
+    while (current > capacity && lines.poll() != null) {
+      current = size.decrementAndGet();
+      TOTAL_BUFFERED_LINES.decrementAndGet();
+      TOTAL_DROPPED_LINES.incrementAndGet();
+      dropped.incrementAndGet();
+    }
+    return current;
+  }
+
+  List<LogLine> drain(int maxLines) {
+    List<LogLine> drained = new ArrayList<>(Math.min(maxLines, Math.max(size.get(), 1)));
+    LogLine logLine;
+    while (drained.size() < maxLines && (logLine = lines.poll()) != null) {
+      drained.add(logLine);
+    }
+    size.addAndGet(-drained.size());
+    TOTAL_BUFFERED_LINES.addAndGet(-drained.size());
+    return drained;
+  }
+
+  /**
+   * Drops every buffered line, for a buffer which is no longer dispatched.
+   *
+   * @return the number of dropped lines
+   */
+  int discard() {
+    int discarded = 0;
+    while (lines.poll() != null) {
+      discarded++;
+    }
+    size.addAndGet(-discarded);
+    TOTAL_BUFFERED_LINES.addAndGet(-discarded);
+    TOTAL_DROPPED_LINES.addAndGet(discarded);
+    dropped.addAndGet(discarded);
+    return discarded;
+  }
+
+  boolean isEmpty() {
+    return lines.isEmpty();
+  }
+
+  /**
+   * Number of lines dropped since the last call.
+   */
+  long takeDropped() {
+    return dropped.getAndSet(0);
+  }
+}
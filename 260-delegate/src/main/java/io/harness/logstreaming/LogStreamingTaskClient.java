@@ -33,18 +33,21 @@ import software.wings.beans.command.ExecutionLogCallback;
 import software.wings.delegatetasks.DelegateLogService;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.time.Instant;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.extern.slf4j.Slf4j;
@@ -58,6 +61,10 @@ import org.jetbrains.annotations.NotNull;
  *    -> write line
  *    -> close stream
  * concurrent usage of open and close stream will result in loss of logs
+ *
+ * Writing a line never waits for the log service: lines are appended to a bounded lock-free buffer per log key and
+ * pushed by a single dispatcher, every 100ms or as soon as a buffer holds FLUSH_THRESHOLD lines. If the log service
+ * can not keep up, the oldest buffered lines are dropped and a line reporting the gap is pushed in their place.
  */
 @CodePulse(
     module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_COMMON_STEPS})
@@ -65,6 +72,13 @@ import org.jetbrains.annotations.NotNull;
 @Slf4j
 @TargetModule(HarnessModule._420_DELEGATE_AGENT)
 public class LogStreamingTaskClient implements ILogStreamingTaskClient {
+  private static final int MAX_BUFFERED_LINES_PER_KEY = 20000;
+  private static final int FLUSH_THRESHOLD = 1000;
+  private static final int MAX_LINES_PER_REQUEST = 5000;
+  private static final AtomicLong MAX_FLUSH_MILLIS = new AtomicLong();
+  private static final String DROPPED_LINES_MESSAGE =
+      "%d log lines were dropped because they were produced faster than they could be uploaded";
+
   private final DelegateLogService logService;
   private final LogStreamingClient logStreamingClient;
   private final LogStreamingSanitizer logStreamingSanitizer;
@@ -79,7 +93,10 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   private ScheduledFuture scheduledFuture;
   private final ITaskProgressClient taskProgressClient;
 
-  @Default private final Map<String, List<LogLine>> logCache = new HashMap<>();
+  @Default private final Map<String, LogLineBuffer> logBuffers = new ConcurrentHashMap<>();
+  @Default private final AtomicBoolean dispatching = new AtomicBoolean();
+  @Default private final AtomicBoolean flushRequested = new AtomicBoolean();
+  @Default private final AtomicInteger openStreams = new AtomicInteger();
 
   private Set<String> markers;
 
@@ -92,49 +109,72 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     } catch (Exception ex) {
       log.warn("Unable to open log stream for account {} and key {}", accountId, logKey, ex);
     }
-    scheduledFuture = scheduledExecutorService.scheduleAtFixedRate(this::dispatchLogs, 0, 100, TimeUnit.MILLISECONDS);
+    openStreams.incrementAndGet();
+    synchronized (this) {
+      if (scheduledFuture == null || scheduledFuture.isDone()) {
+        scheduledFuture =
+            scheduledExecutorService.scheduleAtFixedRate(this::dispatchLogs, 0, 100, TimeUnit.MILLISECONDS);
+      }
+    }
   }
 
   @Override
   public void closeStream(String baseLogKeySuffix) {
     String logKey = getLogKey(baseLogKeySuffix);
 
-    synchronized (logCache) {
-      // We can mark this task to be completed. Log upload can happen asynchronously.
-      scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
-    }
+    // We can mark this task to be completed. Log upload can happen asynchronously.
+    scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
   }
 
   private void closeStreamAsync(String logKey) {
     // Waiting for finite time allow log upload to finish.
     long startTime = currentTimeMillis();
-    synchronized (logCache) {
-      while (logCache.containsKey(logKey) && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5)) {
-        log.debug("For {} the logs are not drained yet. sleeping...", logKey);
+    while (!isDrained(logKey) && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5)) {
+      log.debug("For {} the logs are not drained yet. sleeping...", logKey);
+      dispatchLogs();
+      if (!isDrained(logKey)) {
         try {
-          logCache.wait(100);
+          Thread.sleep(100);
         } catch (InterruptedException e) {
           log.warn("Log upload didn't completed successfully for {} ", logKey);
+          Thread.currentThread().interrupt();
+          break;
         }
       }
     }
-    if (logCache.containsKey(logKey)) {
+    if (!isDrained(logKey)) {
       log.warn("log cache was not drained for {}. num of keys in map {}. This will result in missing logs", logKey,
-          logCache.size());
+          logBuffers.size());
+    }
+    LogLineBuffer buffer = logBuffers.remove(logKey);
+    if (buffer != null) {
+      int discarded = buffer.discard();
+      if (discarded > 0) {
+        log.warn("Dropped {} log lines of {} which were not dispatched in time", discarded, logKey);
+      }
     }
     try {
       SafeHttpCall.executeWithExceptions(logStreamingClient.closeLogStream(token, accountId, logKey, true));
     } catch (Exception ex) {
       log.warn("Unable to close log stream for account {} and key {}", accountId, logKey, ex);
     } finally {
-      if (scheduledFuture != null) {
-        scheduledFuture.cancel(false);
-      } else {
-        log.warn("Scheduled future is missing for logkey {}", logKey);
+      if (openStreams.decrementAndGet() <= 0) {
+        synchronized (this) {
+          if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+          } else {
+            log.warn("Scheduled future is missing for logkey {}", logKey);
+          }
+        }
       }
     }
   }
 
+  private boolean isDrained(String logKey) {
+    LogLineBuffer buffer = logBuffers.get(logKey);
+    return (buffer == null || buffer.isEmpty()) && !dispatching.get();
+  }
+
   @Override
   public void writeLogLine(LogLine logLine, String baseLogKeySuffix) {
     if (logLine == null) {
@@ -146,31 +186,94 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     logStreamingSanitizer.sanitizeLogMessage(logLine, getMarkers());
     colorLog(logLine);
 
-    synchronized (logCache) {
-      if (!logCache.containsKey(logKey)) {
-        logCache.put(logKey, new ArrayList<>());
+    int buffered =
+        logBuffers.computeIfAbsent(logKey, key -> new LogLineBuffer(MAX_BUFFERED_LINES_PER_KEY)).add(logLine);
+    if (buffered >= FLUSH_THRESHOLD && flushRequested.compareAndSet(false, true)) {
+      try {
+        scheduledExecutorService.submit(this::dispatchLogs);
+      } catch (RejectedExecutionException ex) {
+        flushRequested.set(false);
       }
-      logCache.get(logKey).add(logLine);
     }
   }
 
+  /**
+   * Pushes everything buffered so far, one request per log key and up to MAX_LINES_PER_REQUEST lines. Only one thread
+   * dispatches at a time, which keeps the lines of a key in order; a call made while another dispatch is running
+   * returns immediately.
+   */
   @Override
   public void dispatchLogs() {
-    synchronized (logCache) {
-      for (Iterator<Map.Entry<String, List<LogLine>>> iterator = logCache.entrySet().iterator(); iterator.hasNext();) {
-        Map.Entry<String, List<LogLine>> next = iterator.next();
-        try {
-          SafeHttpCall.executeWithExceptions(
-              logStreamingClient.pushMessage(token, accountId, next.getKey(), next.getValue()));
-        } catch (Exception ex) {
-          log.warn("Unable to push message to log stream for account {} and key {}", accountId, next.getKey(), ex);
+    if (!dispatching.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      flushRequested.set(false);
+      long start = currentTimeMillis();
+      for (Map.Entry<String, LogLineBuffer> entry : logBuffers.entrySet()) {
+        List<LogLine> logLines = nextBatch(entry.getValue());
+        while (!logLines.isEmpty()) {
+          pushMessage(entry.getKey(), logLines);
+          logLines = nextBatch(entry.getValue());
         }
-        iterator.remove();
       }
-      logCache.notifyAll();
+      MAX_FLUSH_MILLIS.accumulateAndGet(currentTimeMillis() - start, Math::max);
+    } finally {
+      dispatching.set(false);
+    }
+  }
+
+  /**
+   * Lines dropped while the previous batch was pushed are reported right before the lines which replaced them.
+   */
+  private List<LogLine> nextBatch(LogLineBuffer buffer) {
+    long dropped = buffer.takeDropped();
+    List<LogLine> logLines = buffer.drain(MAX_LINES_PER_REQUEST);
+    if (dropped > 0) {
+      logLines.add(0, droppedLinesWarning(dropped));
+    }
+    return logLines;
+  }
+
+  private void pushMessage(String logKey, List<LogLine> logLines) {
+    try {
+      SafeHttpCall.executeWithExceptions(logStreamingClient.pushMessage(token, accountId, logKey, logLines));
+    } catch (Exception ex) {
+      log.warn("Unable to push message to log stream for account {} and key {}", accountId, logKey, ex);
     }
   }
 
+  private LogLine droppedLinesWarning(long dropped) {
+    LogLine logLine = LogLine.builder()
+                          .level(LogLevel.WARN)
+                          .message(String.format(DROPPED_LINES_MESSAGE, dropped))
+                          .timestamp(Instant.now())
+                          .build();
+    colorLog(logLine);
+    return logLine;
+  }
+
+  /**
+   * Lines waiting to be pushed across all the task clients of this delegate.
+   */
+  public static long getBufferedLineCount() {
+    return LogLineBuffer.TOTAL_BUFFERED_LINES.get();
+  }
+
+  /**
+   * Lines dropped across all the task clients of this delegate since the last call.
+   */
+  public static long takeDroppedLineCount() {
+    return LogLineBuffer.TOTAL_DROPPED_LINES.getAndSet(0);
+  }
+
+  /**
+   * Slowest dispatch since the last call.
+   */
+  public static long takeMaxFlushMillis() {
+    return MAX_FLUSH_MILLIS.getAndSet(0);
+  }
+
   @NotNull
   private String getLogKey(String baseLogKeySuffix) {
     return baseLogKey + (isBlank(baseLogKeySuffix) ? "" : String.format(COMMAND_UNIT_PLACEHOLDER, baseLogKeySuffix));
@@ -16,6 +16,7 @@ import static java.lang.System.currentTimeMillis;
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.concurrent.HTimeLimiter;
+import io.harness.delegate.configuration.DelegateConfiguration;
 import io.harness.flow.BackoffScheduler;
 import io.harness.logging.AutoLogContext;
 import io.harness.logging.DelayLogContext;
@@ -23,6 +24,8 @@ import io.harness.logging.LoggingListener;
 import io.harness.threading.Schedulable;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.util.concurrent.AbstractScheduledService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.TimeLimiter;
@@ -48,6 +51,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import lombok.Getter;
@@ -60,6 +64,7 @@ import org.slf4j.MarkerFactory;
 @TargetModule(HarnessModule._930_DELEGATE_TASKS)
 public class PerpetualTaskWorker {
   private static final Marker THROTTLED = MarkerFactory.getMarker("THROTTLED");
+  private static final int MAX_CACHED_CONTEXTS = 10000;
   @Getter private final Map<PerpetualTaskId, PerpetualTaskAssignRecord> runningTaskMap = new ConcurrentHashMap<>();
 
   private final TimeLimiter perpetualTaskTimeLimiter;
@@ -69,6 +74,13 @@ public class PerpetualTaskWorker {
   private final BackoffScheduler backoffScheduler;
   private final PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient;
   private final Map<String, PerpetualTaskExecutor> factoryMap;
+  private final boolean assignmentChangesEnabled;
+
+  // contexts of the running tasks, so they are not fetched again when the tasks are restarted without any change
+  private final Cache<PerpetualTaskId, PerpetualTaskAssignment> contextCache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_CONTEXTS).build();
+  private final AtomicLong maxAssignmentDelayMillis = new AtomicLong();
+  private final AtomicLong maxUpdateDelayMillis = new AtomicLong();
 
   private final AtomicBoolean running = new AtomicBoolean(false);
   private final AtomicReference<PerpetualTaskWorkerService> svcHolder = new AtomicReference<>();
@@ -94,9 +106,11 @@ public class PerpetualTaskWorker {
   @Inject
   public PerpetualTaskWorker(PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient,
       Map<String, PerpetualTaskExecutor> factoryMap, @Named("taskExecutor") ThreadPoolExecutor perpetualTaskExecutor,
-      @Named("perpetualTaskTimeoutExecutor") ScheduledExecutorService perpetualTaskTimeoutExecutor) {
+      @Named("perpetualTaskTimeoutExecutor") ScheduledExecutorService perpetualTaskTimeoutExecutor,
+      DelegateConfiguration delegateConfiguration) {
     this.perpetualTaskServiceAgentClient = perpetualTaskServiceAgentClient;
     this.factoryMap = factoryMap;
+    this.assignmentChangesEnabled = delegateConfiguration.isPerpetualTaskAssignmentChangesEnabled();
     this.perpetualTaskTimeLimiter = HTimeLimiter.create(perpetualTaskExecutor);
     this.perpetualTaskTimeoutExecutor = perpetualTaskTimeoutExecutor;
     backoffScheduler = new BackoffScheduler(getClass().getSimpleName(), Duration.ofMinutes(4), Duration.ofMinutes(14));
@@ -108,33 +122,13 @@ public class PerpetualTaskWorker {
 
   private void handleTasks() {
     try {
-      List<PerpetualTaskAssignDetails> assignedTasks = fetchAssignedTask();
-      Set<PerpetualTaskId> stopTasks = new HashSet<>();
-      List<PerpetualTaskAssignDetails> startTasks = new ArrayList<>();
-      List<PerpetualTaskAssignDetails> updatedTasks = new ArrayList<>();
-      synchronized (runningTaskMap) {
-        splitTasks(runningTaskMap, assignedTasks, stopTasks, startTasks, updatedTasks);
-      }
-
-      for (PerpetualTaskId taskId : stopTasks) {
-        log.info("Stopping the task with id: {}", taskId.getId());
-        stopTask(taskId);
-      }
-
-      for (PerpetualTaskAssignDetails task : startTasks) {
-        if (!firstFillUp.get()) {
-          logPullDelay(task, "first poll from this delegate for task");
-        }
-        startTask(task);
-      }
-      firstFillUp.set(false);
-
-      for (PerpetualTaskAssignDetails task : updatedTasks) {
-        logPullDelay(task, "update for task");
-        stopTask(task.getTaskId());
-        startTask(task);
+      if (assignmentChangesEnabled) {
+        handleAssignmentChanges();
+      } else {
+        handleAssignedTasks();
       }
-
+      // only the contexts of running tasks are kept, the other tasks are not assigned to this delegate anymore
+      contextCache.asMap().keySet().removeIf(taskId -> !runningTaskMap.containsKey(taskId));
       backoffScheduler.recordSuccess();
     } catch (StatusRuntimeException ex) {
       if (ex.getStatus().getCode() == Status.Code.UNAVAILABLE
@@ -151,10 +145,88 @@ public class PerpetualTaskWorker {
     }
   }
 
-  private void logPullDelay(PerpetualTaskAssignDetails task, String message) {
+  private void handleAssignedTasks() {
+    List<PerpetualTaskAssignDetails> assignedTasks = fetchAssignedTask();
+    Set<PerpetualTaskId> stopTasks = new HashSet<>();
+    List<PerpetualTaskAssignDetails> startTasks = new ArrayList<>();
+    List<PerpetualTaskAssignDetails> updatedTasks = new ArrayList<>();
+    synchronized (runningTaskMap) {
+      splitTasks(runningTaskMap, assignedTasks, stopTasks, startTasks, updatedTasks);
+    }
+
+    for (PerpetualTaskId taskId : stopTasks) {
+      log.info("Stopping the task with id: {}", taskId.getId());
+      stopTask(taskId);
+    }
+
+    for (PerpetualTaskAssignDetails task : startTasks) {
+      if (!firstFillUp.get()) {
+        logPullDelay(task, "first poll from this delegate for task", maxAssignmentDelayMillis);
+      }
+      startTask(task);
+    }
+    firstFillUp.set(false);
+
+    for (PerpetualTaskAssignDetails task : updatedTasks) {
+      logPullDelay(task, "update for task", maxUpdateDelayMillis);
+      stopTask(task.getTaskId());
+      startTask(task);
+    }
+  }
+
+  /**
+   * Gets only the new, updated and removed tasks from the manager, along with the contexts of the new and updated
+   * tasks which are not cached.
+   */
+  private void handleAssignmentChanges() {
+    String delegateId = getDelegateId().orElse("UNREGISTERED");
+    List<PerpetualTaskAssignDetails> runningTasks;
+    synchronized (runningTaskMap) {
+      runningTasks = runningTaskMap.values()
+                         .stream()
+                         .map(PerpetualTaskAssignRecord::getPerpetualTaskAssignDetails)
+                         .collect(Collectors.toList());
+    }
+    List<PerpetualTaskAssignDetails> cachedTasks = contextCache.asMap()
+                                                       .values()
+                                                       .stream()
+                                                       .map(PerpetualTaskAssignment::getAssignDetails)
+                                                       .filter(task -> !runningTaskMap.containsKey(task.getTaskId()))
+                                                       .collect(Collectors.toList());
+    PerpetualTaskAssignmentsResponse response =
+        perpetualTaskServiceAgentClient.perpetualTaskAssignments(delegateId, accountId, runningTasks, cachedTasks);
+    if (response == null) {
+      return;
+    }
+    log.info("Got {} new or updated and {} removed perpetual tasks for accountId {}",
+        response.getAssignedTasksCount(), response.getRemovedTaskIdsCount(), accountId);
+
+    for (PerpetualTaskId taskId : response.getRemovedTaskIdsList()) {
+      log.info("Stopping the task with id: {}", taskId.getId());
+      stopTask(taskId);
+    }
+
+    for (PerpetualTaskAssignment assignment : response.getAssignedTasksList()) {
+      PerpetualTaskAssignDetails task = assignment.getAssignDetails();
+      if (assignment.hasPerpetualTaskContext()) {
+        contextCache.put(task.getTaskId(), assignment);
+      }
+      if (runningTaskMap.containsKey(task.getTaskId())) {
+        logPullDelay(task, "update for task", maxUpdateDelayMillis);
+        stopTask(task.getTaskId());
+      } else if (!firstFillUp.get()) {
+        logPullDelay(task, "first poll from this delegate for task", maxAssignmentDelayMillis);
+      }
+      startTask(task);
+    }
+    firstFillUp.set(false);
+  }
+
+  private void logPullDelay(PerpetualTaskAssignDetails task, String message, AtomicLong maxDelayMillis) {
     long lastContextUpdated = Timestamps.toMillis(task.getLastContextUpdated());
     long startTime = currentTimeMillis();
     long delay = startTime - lastContextUpdated;
+    maxDelayMillis.accumulateAndGet(delay, Math::max);
 
     try (DelayLogContext ignore = new DelayLogContext(delay, OVERRIDE_ERROR)) {
       log.info(message);
@@ -200,8 +272,7 @@ public class PerpetualTaskWorker {
   @VisibleForTesting
   void startTask(PerpetualTaskAssignDetails task) {
     try (AutoLogContext ignore1 = new PerpetualTaskLogContext(task.getTaskId().getId(), OVERRIDE_ERROR)) {
-      PerpetualTaskExecutionContext context =
-          perpetualTaskServiceAgentClient.perpetualTaskContext(task.getTaskId(), accountId);
+      PerpetualTaskExecutionContext context = getContext(task);
       PerpetualTaskSchedule schedule = context.getTaskSchedule();
       long intervalSeconds = Durations.toSeconds(schedule.getInterval());
 
@@ -229,6 +300,22 @@ public class PerpetualTaskWorker {
     }
   }
 
+  private PerpetualTaskExecutionContext getContext(PerpetualTaskAssignDetails task) {
+    PerpetualTaskAssignment cached = contextCache.getIfPresent(task.getTaskId());
+    if (cached != null
+        && Timestamps.toMillis(cached.getAssignDetails().getLastContextUpdated())
+            >= Timestamps.toMillis(task.getLastContextUpdated())) {
+      return cached.getPerpetualTaskContext();
+    }
+    PerpetualTaskExecutionContext context =
+        perpetualTaskServiceAgentClient.perpetualTaskContext(task.getTaskId(), accountId);
+    if (context != null) {
+      contextCache.put(task.getTaskId(),
+          PerpetualTaskAssignment.newBuilder().setAssignDetails(task).setPerpetualTaskContext(context).build());
+    }
+    return context;
+  }
+
   @VisibleForTesting
   void stopTask(PerpetualTaskId taskId) {
     try (AutoLogContext ignore1 = new PerpetualTaskLogContext(taskId.getId(), OVERRIDE_ERROR)) {
@@ -250,6 +337,21 @@ public class PerpetualTaskWorker {
     handleTasks();
   }
 
+  /**
+   * Returns the longest time from assigning a task to this delegate until it started the task since the last call.
+   */
+  public long takeMaxAssignmentDelayMillis() {
+    return maxAssignmentDelayMillis.getAndSet(0);
+  }
+
+  /**
+   * Returns the longest time from updating the context of a task until this delegate restarted the task since the last
+   * call.
+   */
+  public long takeMaxUpdateDelayMillis() {
+    return maxUpdateDelayMillis.getAndSet(0);
+  }
+
   public void start() {
     if (running.compareAndSet(false, true)) {
       PerpetualTaskWorkerService perpetualTaskWorkerService = new PerpetualTaskWorkerService();
@@ -7,16 +7,22 @@
 
 package io.harness.delegate.service;
 
+import static io.harness.delegate.beans.DelegateTaskEvent.DelegateTaskEventBuilder.aDelegateTaskEvent;
 import static io.harness.filesystem.FileIo.acquireLock;
 import static io.harness.rule.OwnerRule.JENNY;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.NISHANT;
 import static io.harness.rule.OwnerRule.RAGHAV_MURALI;
 import static io.harness.rule.OwnerRule.SRINIVAS;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.Duration.ofMinutes;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,23 +31,41 @@ import io.harness.CategoryTest;
 import io.harness.beans.EncryptedData;
 import io.harness.category.element.UnitTests;
 import io.harness.data.structure.UUIDGenerator;
+import io.harness.delegate.beans.DelegateTaskEvent;
 import io.harness.delegate.beans.DelegateTaskPackage;
 import io.harness.delegate.beans.SecretDetail;
 import io.harness.delegate.beans.TaskData;
+import io.harness.delegate.service.common.DelegateTaskExecutionData;
 import io.harness.exception.UnexpectedException;
 import io.harness.managerclient.DelegateAgentManagerClient;
 import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.rule.Owner;
 import io.harness.security.encryption.DelegateDecryptionService;
 import io.harness.security.encryption.EncryptionConfig;
+import io.harness.serializer.KryoSerializer;
+import io.harness.serializer.kryo.KryoFrameCodec;
 
 import software.wings.beans.KmsConfig;
 
 import com.google.inject.Inject;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -53,6 +77,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import retrofit2.Call;
+import retrofit2.Response;
 
 public class DelegateAgentServiceImplTest extends CategoryTest {
   @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
@@ -64,6 +89,8 @@ public class DelegateAgentServiceImplTest extends CategoryTest {
 
   @InjectMocks @Inject DelegateAgentServiceImpl delegateService;
   private final AtomicBoolean executingProfile = Mockito.mock(AtomicBoolean.class);
+  private ThreadPoolExecutor taskExecutor;
+  private final Map<String, DelegateTaskPackage> taskPackages = new HashMap<>();
 
   @Before
   public void setUp() {
@@ -210,4 +237,129 @@ public class DelegateAgentServiceImplTest extends CategoryTest {
     delegateService.checkForProfile();
     assertThat(lockFile).doesNotExist();
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAcquireBatchUpToTaskCapacity() throws Exception {
+    givenBatchAcquire(Optional.of(2));
+    List<DelegateTaskEvent> taskEvents = givenTaskEvents("task1", "task2", "task3");
+    givenAcquiredPackages(frames(taskPackage("task1"), taskPackage("task2")));
+
+    delegateService.acquireTaskBatch(taskEvents);
+
+    verify(delegateAgentManagerClient).acquireTasks(any(), any(), any(), eq(asList("task1", "task2")));
+    assertThat(getCurrentlyExecutingFutures()).containsOnlyKeys("task1", "task2");
+    assertThat(getCurrentlyAcquiringTasks()).containsExactlyInAnyOrder("task1", "task2");
+    assertThat(getCurrentlyAcquiringTasksCount()).isEqualTo(2);
+    verify(taskExecutor, times(2)).submit(any(Runnable.class));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldCleanUpTasksOfBatchThatWereNotStarted() throws Exception {
+    givenBatchAcquire(Optional.empty());
+    List<DelegateTaskEvent> taskEvents = givenTaskEvents("task1", "task2", "task3");
+    // task2 was acquired by another delegate meanwhile, task3 is missing from the response
+    DelegateTaskPackage alreadyAcquired = DelegateTaskPackage.builder().delegateTaskId("task2").build();
+    givenAcquiredPackages(frames(taskPackage("task1"), alreadyAcquired));
+
+    delegateService.acquireTaskBatch(taskEvents);
+
+    assertThat(getCurrentlyExecutingFutures()).containsOnlyKeys("task1");
+    assertThat(getCurrentlyAcquiringTasks()).containsExactly("task1");
+    assertThat(getCurrentlyAcquiringTasksCount()).isEqualTo(1);
+    verify(taskExecutor, times(1)).submit(any(Runnable.class));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldCleanUpTasksOfBatchWhenStreamFailsMidBatch() throws Exception {
+    givenBatchAcquire(Optional.empty());
+    List<DelegateTaskEvent> taskEvents = givenTaskEvents("task1", "task2", "task3");
+    byte[] frames = frames(taskPackage("task1"), taskPackage("task2"));
+    // the connection drops halfway through the frame of task2
+    byte[] truncatedFrames = Arrays.copyOf(frames, frames.length - 2);
+    givenAcquiredPackages(truncatedFrames);
+
+    assertThatThrownBy(() -> delegateService.acquireTaskBatch(taskEvents)).isInstanceOf(EOFException.class);
+
+    assertThat(getCurrentlyExecutingFutures()).containsOnlyKeys("task1");
+    assertThat(getCurrentlyAcquiringTasks()).containsExactly("task1");
+    assertThat(getCurrentlyAcquiringTasksCount()).isEqualTo(1);
+    assertThat(getCurrentlyValidatingTasks()).isEmpty();
+  }
+
+  private void givenBatchAcquire(Optional<Integer> delegateTaskCapacity) throws IllegalAccessException {
+    taskExecutor = mock(ThreadPoolExecutor.class);
+    KryoSerializer kryoSerializer = mock(KryoSerializer.class);
+    when(kryoSerializer.asObject(any(byte[].class)))
+        .thenAnswer(invocation -> taskPackages.get(new String((byte[]) invocation.getArgument(0), UTF_8)));
+    FieldUtils.writeField(delegateService, "taskExecutor", taskExecutor, true);
+    FieldUtils.writeField(delegateService, "referenceFalseKryoSerializer", kryoSerializer, true);
+    FieldUtils.writeField(delegateService, "delegateTaskCapacity", delegateTaskCapacity, true);
+  }
+
+  private List<DelegateTaskEvent> givenTaskEvents(String... taskIds) throws IllegalAccessException {
+    List<DelegateTaskEvent> taskEvents = new ArrayList<>();
+    for (String taskId : taskIds) {
+      // the task event handler registers every task before it joins a batch
+      getCurrentlyExecutingFutures().put(taskId, DelegateTaskExecutionData.builder().build());
+      taskEvents.add(aDelegateTaskEvent().withDelegateTaskId(taskId).build());
+    }
+    return taskEvents;
+  }
+
+  private void givenAcquiredPackages(byte[] frames) throws IOException {
+    Call<ResponseBody> acquireCall = mock(Call.class);
+    when(acquireCall.clone()).thenReturn(acquireCall);
+    when(acquireCall.execute())
+        .thenReturn(Response.success(ResponseBody.create(MediaType.parse(KryoFrameCodec.MEDIA_TYPE), frames)));
+    when(delegateAgentManagerClient.acquireTasks(any(), any(), any(), any())).thenReturn(acquireCall);
+  }
+
+  private DelegateTaskPackage taskPackage(String taskId) throws IllegalAccessException {
+    String delegateInstanceId =
+        (String) FieldUtils.readStaticField(DelegateAgentServiceImpl.class, "delegateInstanceId", true);
+    return DelegateTaskPackage.builder()
+        .delegateTaskId(taskId)
+        .delegateInstanceId(delegateInstanceId)
+        .data(TaskData.builder().async(true).taskType("HTTP").build())
+        .build();
+  }
+
+  private byte[] frames(DelegateTaskPackage... delegateTaskPackages) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+    for (DelegateTaskPackage delegateTaskPackage : delegateTaskPackages) {
+      // the mocked serializer reads the task id of a frame back into its package
+      taskPackages.put(delegateTaskPackage.getDelegateTaskId(), delegateTaskPackage);
+      byte[] bytes = delegateTaskPackage.getDelegateTaskId().getBytes(UTF_8);
+      dataOutputStream.writeInt(bytes.length);
+      dataOutputStream.write(bytes);
+    }
+    return outputStream.toByteArray();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, DelegateTaskExecutionData> getCurrentlyExecutingFutures() throws IllegalAccessException {
+    return (Map<String, DelegateTaskExecutionData>) FieldUtils.readField(
+        delegateService, "currentlyExecutingFutures", true);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, DelegateTaskPackage> getCurrentlyValidatingTasks() throws IllegalAccessException {
+    return (Map<String, DelegateTaskPackage>) FieldUtils.readField(delegateService, "currentlyValidatingTasks", true);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Set<String> getCurrentlyAcquiringTasks() throws IllegalAccessException {
+    return (Set<String>) FieldUtils.readField(delegateService, "currentlyAcquiringTasks", true);
+  }
+
+  private int getCurrentlyAcquiringTasksCount() throws IllegalAccessException {
+    return ((AtomicInteger) FieldUtils.readField(delegateService, "currentlyAcquiringTasksCount", true)).get();
+  }
 }
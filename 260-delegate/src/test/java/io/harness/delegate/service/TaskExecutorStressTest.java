@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.delegate.service;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+import io.harness.threading.ThreadPool;
+import io.harness.threading.VirtualThreads;
+
+import software.wings.misc.MemoryHelper;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Compares the task executor of the delegate on platform and on virtual threads. Tasks mostly wait on the processes and
+ * cloud calls they start, which is simulated by sleeping. Run it on the pod size of a delegate and compare the logged
+ * tasks per second and pod RSS of both modes.
+ */
+@Slf4j
+public class TaskExecutorStressTest extends CategoryTest {
+  private static final int TASKS = 20000;
+  private static final long TASK_WAIT_MILLIS = 2000;
+  // the number of task threads of a delegate without dynamic handling of requests
+  private static final int PLATFORM_THREADS = 400;
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void platformThreadsPerformance() throws InterruptedException {
+    run("platform", PLATFORM_THREADS,
+        new ThreadFactoryBuilder().setNameFormat("task-exec-%d").setPriority(Thread.MIN_PRIORITY).build());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void virtualThreadsPerformance() throws InterruptedException {
+    ThreadFactory threadFactory = VirtualThreads.newThreadFactory("task-exec-v-").orElse(null);
+    assertThat(threadFactory).as("virtual threads need java 21").isNotNull();
+    run("virtual", Integer.MAX_VALUE, threadFactory);
+  }
+
+  private void run(String mode, int maxThreads, ThreadFactory threadFactory) throws InterruptedException {
+    ThreadPoolExecutor taskExecutor = ThreadPool.create(0, maxThreads, 1, TimeUnit.SECONDS, threadFactory);
+    CountDownLatch done = new CountDownLatch(TASKS);
+    AtomicLong maxPodRSSMB = new AtomicLong();
+    long start = System.nanoTime();
+    try {
+      for (int i = 0; i < TASKS; i++) {
+        taskExecutor.submit(() -> {
+          try {
+            // a task keeps some state of its own while it waits
+            byte[] state = new byte[16 * 1024];
+            Thread.sleep(TASK_WAIT_MILLIS);
+            state[0] = 1;
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } finally {
+            done.countDown();
+          }
+        });
+      }
+      while (!done.await(1, TimeUnit.SECONDS)) {
+        maxPodRSSMB.accumulateAndGet(MemoryHelper.getPodRSSFromCgroupMB(), Math::max);
+        log.info("[{}] {} tasks left, {} threads active", mode, done.getCount(), taskExecutor.getActiveCount());
+      }
+    } finally {
+      taskExecutor.shutdownNow();
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+    log.info("[{}] {} tasks in {} s: {} tasks/s, max pod RSS {} MB, largest pool {} threads", mode, TASKS,
+        String.format("%.1f", seconds), String.format("%.1f", TASKS / seconds), maxPodRSSMB.get(),
+        taskExecutor.getLargestPoolSize());
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.logging.LogLevel;
+import io.harness.rule.Owner;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class LogLineBufferTest extends CategoryTest {
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDrainInOrderAndInChunks() {
+    LogLineBuffer buffer = new LogLineBuffer(10);
+    for (int i = 0; i < 5; i++) {
+      assertThat(buffer.add(line(i))).isEqualTo(i + 1);
+    }
+
+    assertThat(messages(buffer.drain(3))).containsExactly("0", "1", "2");
+    assertThat(messages(buffer.drain(3))).containsExactly("3", "4");
+    assertThat(buffer.isEmpty()).isTrue();
+    assertThat(buffer.drain(3)).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDropOldestLinesWhenFull() {
+    LogLineBuffer buffer = new LogLineBuffer(3);
+    for (int i = 0; i < 5; i++) {
+      assertThat(buffer.add(line(i))).isLessThanOrEqualTo(3);
+    }
+
+    assertThat(buffer.takeDropped()).isEqualTo(2);
+    assertThat(buffer.takeDropped()).isZero();
+    assertThat(messages(buffer.drain(10))).containsExactly("2", "3", "4");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldCountDiscardedLinesAsDropped() {
+    LogLineBuffer buffer = new LogLineBuffer(10);
+    long bufferedLines = LogLineBuffer.TOTAL_BUFFERED_LINES.get();
+    long droppedLines = LogLineBuffer.TOTAL_DROPPED_LINES.get();
+    for (int i = 0; i < 4; i++) {
+      buffer.add(line(i));
+    }
+
+    assertThat(buffer.discard()).isEqualTo(4);
+    assertThat(buffer.isEmpty()).isTrue();
+    assertThat(buffer.takeDropped()).isEqualTo(4);
+    assertThat(LogLineBuffer.TOTAL_BUFFERED_LINES.get()).isEqualTo(bufferedLines);
+    assertThat(LogLineBuffer.TOTAL_DROPPED_LINES.get()).isEqualTo(droppedLines + 4);
+  }
+
+  private static LogLine line(int i) {
+    return LogLine.builder().level(LogLevel.INFO).message(String.valueOf(i)).build();
+  }
+
+  private static List<String> messages(List<LogLine> logLines) {
+    return logLines.stream().map(LogLine::getMessage).collect(Collectors.toList());
+  }
+}
@@ -19,9 +19,12 @@ import static software.wings.beans.LogHelper.COMMAND_UNIT_PLACEHOLDER;
 import static java.time.Duration.ofMillis;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.category.element.UnitTests;
@@ -33,8 +36,12 @@ import io.harness.rule.Owner;
 import software.wings.beans.command.ExecutionLogCallback;
 import software.wings.delegatetasks.DelegateLogService;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.ArgumentCaptor;
@@ -238,4 +245,95 @@ public class LogStreamingTaskClientTest extends CategoryTest {
     List<LogLine> logLines = captor.getValue();
     assertThat(logLines.get(0).getMessage()).contains("1;91");
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotBlockWritersAndDropOldestLinesWhileLogServiceIsSlow() throws Exception {
+    LogStreamingTaskClient client = LogStreamingTaskClient.builder()
+                                        .logStreamingClient(logStreamingClientMock)
+                                        .accountId(ACCOUNT_ID)
+                                        .token(TOKEN)
+                                        .logStreamingSanitizer(logStreamingSanitizerMock)
+                                        .baseLogKey(BASE_LOG_KEY)
+                                        .build();
+    CountDownLatch pushStarted = new CountDownLatch(1);
+    CountDownLatch releasePush = new CountDownLatch(1);
+    List<LogLine> pushedLines = Collections.synchronizedList(new ArrayList<>());
+    when(logStreamingClientMock.pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), any()))
+        .thenAnswer(invocation -> {
+          pushStarted.countDown();
+          releasePush.await();
+          pushedLines.addAll(invocation.getArgument(3));
+          return null;
+        });
+
+    // The first push hangs until released, as a log service which does not answer
+    client.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("first").build(), null);
+    CompletableFuture<Void> dispatcher = CompletableFuture.runAsync(client::dispatchLogs);
+    assertThat(pushStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // A writer waiting for the hanging push would time out here
+    CompletableFuture
+        .runAsync(() -> {
+          for (int i = 0; i < 30000; i++) {
+            client.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("line " + i).build(), null);
+          }
+        })
+        .get(30, TimeUnit.SECONDS);
+    assertThat(pushedLines).isEmpty();
+
+    releasePush.countDown();
+    dispatcher.get(10, TimeUnit.SECONDS);
+    client.dispatchLogs();
+
+    // Only the newest 20000 lines are kept, the dropped ones are reported by a warning line pushed in their place
+    assertThat(pushedLines).hasSize(20002);
+    assertThat(pushedLines.get(0).getMessage()).contains("first");
+    assertThat(pushedLines.get(1).getLevel()).isEqualTo(LogLevel.WARN);
+    assertThat(pushedLines.get(1).getMessage()).contains("10000 log lines were dropped");
+    assertThat(pushedLines.get(2).getMessage()).contains("line 10000");
+    assertThat(pushedLines.get(20001).getMessage()).contains("line 29999");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDropUndispatchedLinesWhenClosingTimesOut() throws Exception {
+    LogStreamingTaskClient client = LogStreamingTaskClient.builder()
+                                        .logStreamingClient(logStreamingClientMock)
+                                        .accountId(ACCOUNT_ID)
+                                        .token(TOKEN)
+                                        .logStreamingSanitizer(logStreamingSanitizerMock)
+                                        .baseLogKey(BASE_LOG_KEY)
+                                        .build();
+    CountDownLatch pushStarted = new CountDownLatch(1);
+    CountDownLatch releasePush = new CountDownLatch(1);
+    when(logStreamingClientMock.pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), any()))
+        .thenAnswer(invocation -> {
+          pushStarted.countDown();
+          releasePush.await();
+          return null;
+        });
+    long bufferedLines = LogLineBuffer.TOTAL_BUFFERED_LINES.get();
+    long droppedLines = LogLineBuffer.TOTAL_DROPPED_LINES.get();
+
+    // The first push hangs, so the lines written after it are never dispatched
+    client.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("first").build(), null);
+    CompletableFuture<Void> dispatcher = CompletableFuture.runAsync(client::dispatchLogs);
+    assertThat(pushStarted.await(10, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 100; i++) {
+      client.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("line " + i).build(), null);
+    }
+
+    try {
+      client.closeStream(null);
+      verify(logStreamingClientMock, timeout(10000)).closeLogStream(TOKEN, ACCOUNT_ID, BASE_LOG_KEY, true);
+      assertThat(LogLineBuffer.TOTAL_BUFFERED_LINES.get()).isEqualTo(bufferedLines);
+      assertThat(LogLineBuffer.TOTAL_DROPPED_LINES.get()).isEqualTo(droppedLines + 100);
+    } finally {
+      releasePush.countDown();
+      dispatcher.get(10, TimeUnit.SECONDS);
+    }
+  }
 }
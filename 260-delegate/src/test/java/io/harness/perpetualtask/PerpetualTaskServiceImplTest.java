@@ -12,12 +12,15 @@ import static io.harness.rule.OwnerRule.ARPIT;
 import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.HITESH;
 import static io.harness.rule.OwnerRule.JENNY;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.MOHIT_GARG;
 import static io.harness.rule.OwnerRule.VUK;
 import static io.harness.rule.OwnerRule.XIN;
 
 import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.NO_ELIGIBLE_DELEGATES;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -35,6 +38,7 @@ import io.harness.delegate.beans.NoAvailableDelegatesException;
 import io.harness.delegate.beans.NoInstalledDelegatesException;
 import io.harness.exception.DelegateTaskExpiredException;
 import io.harness.exception.InvalidArgumentsException;
+import io.harness.grpc.utils.HTimestamps;
 import io.harness.observer.Subject;
 import io.harness.perpetualtask.ecs.EcsPerpetualTaskServiceClient;
 import io.harness.perpetualtask.instancesync.AwsSshInstanceSyncPerpetualTaskParams;
@@ -612,6 +616,47 @@ public class PerpetualTaskServiceImplTest extends WingsBaseTest {
     assertThat(perpetualTaskAssignDetailsList.get(0).getTaskId().getId()).isEqualTo(taskId);
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testListAssignmentChanges() {
+    when(client.getTaskParams(any())).thenReturn(AwsSshInstanceSyncPerpetualTaskParams.getDefaultInstance());
+    PerpetualTaskAssignDetails newTask = saveAssignedTask(1000);
+    PerpetualTaskAssignDetails cachedTask = saveAssignedTask(1000);
+    PerpetualTaskAssignDetails updatedTask = saveAssignedTask(2000);
+    PerpetualTaskAssignDetails unchangedTask = saveAssignedTask(1000);
+    PerpetualTaskAssignDetails removedTask =
+        PerpetualTaskAssignDetails.newBuilder().setTaskId(PerpetualTaskId.newBuilder().setId(generateUuid())).build();
+
+    PerpetualTaskAssignmentsResponse response = perpetualTaskService.listAssignmentChanges(DELEGATE_ID, ACCOUNT_ID,
+        asList(updatedTask.toBuilder().setLastContextUpdated(HTimestamps.fromMillis(1000)).build(), unchangedTask,
+            removedTask),
+        singletonList(cachedTask));
+
+    assertThat(response.getAssignedTasksList())
+        .extracting(PerpetualTaskAssignment::getAssignDetails)
+        .containsExactlyInAnyOrder(newTask, cachedTask, updatedTask);
+    for (PerpetualTaskAssignment assignment : response.getAssignedTasksList()) {
+      assertThat(assignment.hasPerpetualTaskContext()).isEqualTo(!assignment.getAssignDetails().equals(cachedTask));
+    }
+    assertThat(response.getRemovedTaskIdsList()).containsExactly(removedTask.getTaskId());
+  }
+
+  private PerpetualTaskAssignDetails saveAssignedTask(long lastContextUpdated) {
+    PerpetualTaskRecord perpetualTaskRecord = perpetualTaskRecord();
+    perpetualTaskRecord.setClientContext(PerpetualTaskClientContext.builder()
+                                             .clientParams(clientContext().getClientParams())
+                                             .lastContextUpdated(lastContextUpdated)
+                                             .build());
+    perpetualTaskRecord.setUuid(generateUuid());
+    perpetualTaskRecord.setState(PerpetualTaskState.TASK_ASSIGNED);
+    perpetualTaskRecordDao.save(perpetualTaskRecord);
+    return PerpetualTaskAssignDetails.newBuilder()
+        .setTaskId(PerpetualTaskId.newBuilder().setId(perpetualTaskRecord.getUuid()))
+        .setLastContextUpdated(HTimestamps.fromMillis(lastContextUpdated))
+        .build();
+  }
+
   @Test
   @Owner(developers = JENNY)
   @Category(UnitTests.class)
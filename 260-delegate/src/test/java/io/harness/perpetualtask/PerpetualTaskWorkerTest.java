@@ -8,17 +8,23 @@
 package io.harness.perpetualtask;
 
 import static io.harness.rule.OwnerRule.GEORGE;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.VUK;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.DelegateTestBase;
 import io.harness.category.element.UnitTests;
+import io.harness.delegate.configuration.DelegateConfiguration;
 import io.harness.manage.ManagedScheduledExecutorService;
 import io.harness.perpetualtask.k8s.watch.K8sWatchTaskParams;
 import io.harness.rule.Owner;
@@ -78,6 +84,7 @@ public class PerpetualTaskWorkerTest extends DelegateTestBase {
   @Mock private PerpetualTaskServiceAgentClient perpetualTaskServiceAgentClient;
   @Mock private Map<String, PerpetualTaskExecutor> factoryMap;
   @Mock @Named("taskExecutor") ThreadPoolExecutor perpetualTaskExecutor;
+  @Mock private DelegateConfiguration delegateConfiguration;
   @Spy
   @Named("perpetualTaskTimeoutExecutor")
   ScheduledExecutorService perpetualTaskTimeoutExecutor =
@@ -136,6 +143,41 @@ public class PerpetualTaskWorkerTest extends DelegateTestBase {
     assertThat(worker.getRunningTaskMap()).isEmpty();
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testRestartTaskUsesCachedContext() {
+    worker.startTask(task1);
+    worker.stopTask(taskId1);
+    worker.startTask(task1);
+
+    assertThat(worker.getRunningTaskMap()).containsOnlyKeys(taskId1);
+    verify(perpetualTaskServiceAgentClient, times(1)).perpetualTaskContext(taskId1, null);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testHandleAssignmentChanges() {
+    PerpetualTaskWorker assignmentChangesWorker = new PerpetualTaskWorker(perpetualTaskServiceAgentClient, factoryMap,
+        perpetualTaskExecutor, perpetualTaskTimeoutExecutor,
+        DelegateConfiguration.builder().perpetualTaskAssignmentChangesEnabled(true).build());
+    PerpetualTaskAssignment assignment =
+        PerpetualTaskAssignment.newBuilder().setAssignDetails(task1).setPerpetualTaskContext(context).build();
+    when(perpetualTaskServiceAgentClient.perpetualTaskAssignments(anyString(), any(), anyList(), anyList()))
+        .thenReturn(PerpetualTaskAssignmentsResponse.newBuilder().addAssignedTasks(assignment).build());
+
+    assignmentChangesWorker.updateTasks();
+    assertThat(assignmentChangesWorker.getRunningTaskMap()).containsOnlyKeys(taskId1);
+    verify(perpetualTaskServiceAgentClient, never()).perpetualTaskContext(any(), any());
+
+    when(perpetualTaskServiceAgentClient.perpetualTaskAssignments(anyString(), any(), anyList(), anyList()))
+        .thenReturn(PerpetualTaskAssignmentsResponse.newBuilder().addRemovedTaskIds(taskId1).build());
+
+    assignmentChangesWorker.updateTasks();
+    assertThat(assignmentChangesWorker.getRunningTaskMap()).isEmpty();
+  }
+
   @Test
   @Owner(developers = VUK)
   @Category(UnitTests.class)
@@ -17,9 +17,11 @@ import io.harness.delegate.beans.UpgradeCheckResult;
 import io.harness.delegate.service.DelegateVersionService;
 import io.harness.delegate.service.intfc.DelegateUpgraderService;
 import io.harness.persistence.HPersistence;
+import io.harness.service.intfc.DelegateCache;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import dev.morphia.query.Query;
 import javax.validation.executable.ValidateOnExecution;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 public class DelegateUpgraderServiceImpl implements DelegateUpgraderService {
   private final DelegateVersionService delegateVersionService;
   private final HPersistence persistence;
+  private final DelegateCache delegateCache;
 
   @Override
   public UpgradeCheckResult getDelegateImageTag(
@@ -53,11 +56,13 @@ public class DelegateUpgraderServiceImpl implements DelegateUpgraderService {
   }
 
   private void updateDelegateUpgrader(String accountId, String delegateGroupName) {
-    persistence.update(persistence.createQuery(DelegateGroup.class)
-                           .filter(DelegateGroupKeys.accountId, accountId)
-                           .filter(DelegateGroupKeys.name, delegateGroupName),
+    Query<DelegateGroup> query = persistence.createQuery(DelegateGroup.class)
+                                     .filter(DelegateGroupKeys.accountId, accountId)
+                                     .filter(DelegateGroupKeys.name, delegateGroupName);
+    persistence.update(query,
         persistence.createUpdateOperations(DelegateGroup.class)
             .set(DelegateGroupKeys.upgraderLastUpdated, System.currentTimeMillis()));
+    query.asKeyList().forEach(key -> delegateCache.invalidateDelegateGroup(accountId, (String) key.getId()));
   }
 
   @Override
@@ -29,7 +29,6 @@ import software.wings.service.intfc.DelegateTaskServiceClassic;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
-import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,7 +45,7 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
   public void queueTaskV2(DelegateClassicTaskRequest request, StreamObserver<QueueTaskResponse> responseObserver) {
     try {
       DelegateTask task =
-          (DelegateTask) referenceFalseKryoSerializer.asInflatedObject(request.getDelegateTaskKryo().toByteArray());
+          (DelegateTask) referenceFalseKryoSerializer.readInflatedObject(request.getDelegateTaskKryo().newInput());
 
       delegateTaskServiceClassic.queueTaskV2(task);
 
@@ -63,11 +62,11 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
   public void executeTaskV2(DelegateClassicTaskRequest request, StreamObserver<ExecuteTaskResponse> responseObserver) {
     try {
       DelegateTask task =
-          (DelegateTask) referenceFalseKryoSerializer.asInflatedObject(request.getDelegateTaskKryo().toByteArray());
+          (DelegateTask) referenceFalseKryoSerializer.readInflatedObject(request.getDelegateTaskKryo().newInput());
       DelegateResponseData delegateResponseData = delegateTaskServiceClassic.executeTaskV2(task);
       responseObserver.onNext(
           ExecuteTaskResponse.newBuilder()
-              .setDelegateTaskResponseKryo(ByteString.copyFrom(kryoSerializer.asDeflatedBytes(delegateResponseData)))
+              .setDelegateTaskResponseKryo(kryoSerializer.asFastDeflatedByteString(delegateResponseData))
               .build());
       responseObserver.onCompleted();
 
@@ -86,7 +85,7 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
       DelegateTask delegateTask = delegateTaskServiceClassic.abortTaskV2(accountId, delegateTaskId);
       responseObserver.onNext(
           AbortTaskResponse.newBuilder()
-              .setDelegateTaskKryo(ByteString.copyFrom(referenceFalseKryoSerializer.asDeflatedBytes(delegateTask)))
+              .setDelegateTaskKryo(referenceFalseKryoSerializer.asFastDeflatedByteString(delegateTask))
               .build());
       responseObserver.onCompleted();
 
@@ -119,10 +118,10 @@ public class DelegateServiceClassicGrpcImpl extends DelegateTaskGrpc.DelegateTas
       String perpetualTaskType = request.getPerpetualTaskType();
       String accountId = request.getAccountId();
       PerpetualTaskClientContext clientContext =
-          (PerpetualTaskClientContext) referenceFalseKryoSerializer.asInflatedObject(
-              request.getClientContextKryo().toByteArray());
-      PerpetualTaskSchedule schedule = (PerpetualTaskSchedule) referenceFalseKryoSerializer.asInflatedObject(
-          request.getPerpetualTaskScheduleKryo().toByteArray());
+          (PerpetualTaskClientContext) referenceFalseKryoSerializer.readInflatedObject(
+              request.getClientContextKryo().newInput());
+      PerpetualTaskSchedule schedule = (PerpetualTaskSchedule) referenceFalseKryoSerializer.readInflatedObject(
+          request.getPerpetualTaskScheduleKryo().newInput());
       boolean allowDuplicate = request.getAllowDuplicate();
       String taskDescription = request.getTaskDescription();
       String taskId = perpetualTaskService.createPerpetualTaskInternal(
@@ -51,9 +51,12 @@ import com.google.protobuf.Any;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
 import io.grpc.Context;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -258,6 +261,42 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
         .collect(Collectors.toList());
   }
 
+  @Override
+  public PerpetualTaskAssignmentsResponse listAssignmentChanges(String delegateId, String accountId,
+      List<PerpetualTaskAssignDetails> runningTasks, List<PerpetualTaskAssignDetails> cachedTasks) {
+    Map<PerpetualTaskId, Long> runningContextUpdates = getLastContextUpdates(runningTasks);
+    Map<PerpetualTaskId, Long> cachedContextUpdates = getLastContextUpdates(cachedTasks);
+
+    PerpetualTaskAssignmentsResponse.Builder response = PerpetualTaskAssignmentsResponse.newBuilder();
+    for (PerpetualTaskAssignDetails assignDetails : listAssignedTasks(delegateId, accountId)) {
+      long lastContextUpdated = Timestamps.toMillis(assignDetails.getLastContextUpdated());
+      Long runningContextUpdated = runningContextUpdates.remove(assignDetails.getTaskId());
+      if (runningContextUpdated != null && runningContextUpdated >= lastContextUpdated) {
+        continue;
+      }
+
+      PerpetualTaskAssignment.Builder assignment = PerpetualTaskAssignment.newBuilder().setAssignDetails(assignDetails);
+      Long cachedContextUpdated = cachedContextUpdates.get(assignDetails.getTaskId());
+      if (cachedContextUpdated == null || cachedContextUpdated < lastContextUpdated) {
+        PerpetualTaskExecutionContext context = perpetualTaskContext(assignDetails.getTaskId().getId());
+        if (context == null) {
+          // the task is marked as failed and gets unassigned from the delegate
+          continue;
+        }
+        assignment.setPerpetualTaskContext(context);
+      }
+      response.addAssignedTasks(assignment);
+    }
+    return response.addAllRemovedTaskIds(runningContextUpdates.keySet()).build();
+  }
+
+  private static Map<PerpetualTaskId, Long> getLastContextUpdates(List<PerpetualTaskAssignDetails> tasks) {
+    Map<PerpetualTaskId, Long> lastContextUpdates = new HashMap<>();
+    tasks.forEach(
+        task -> lastContextUpdates.put(task.getTaskId(), Timestamps.toMillis(task.getLastContextUpdated())));
+    return lastContextUpdates;
+  }
+
   @Override
   public List<PerpetualTaskRecord> listAllTasksForAccount(String accountId) {
     return perpetualTaskRecordDao.listAllPerpetualTasksForAccount(accountId);
@@ -16,6 +16,8 @@ import static io.harness.maintenance.MaintenanceController.getMaintenanceFlag;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_REBROADCAST;
 import static io.harness.persistence.HQuery.excludeAuthority;
 
+import static java.util.stream.Collectors.toList;
+
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.DelegateTask;
@@ -35,6 +37,7 @@ import io.harness.version.VersionInfoManager;
 
 import software.wings.core.managerConfiguration.ConfigurationController;
 import software.wings.service.impl.DelegateTaskBroadcastHelper;
+import software.wings.service.impl.DelegateTaskOfferHelper;
 import software.wings.service.intfc.AssignDelegateService;
 import software.wings.service.intfc.DelegateSelectionLogsService;
 import software.wings.service.intfc.DelegateService;
@@ -69,6 +72,7 @@ public class DelegateQueueTask implements Runnable {
   @Inject private AssignDelegateService assignDelegateService;
   @Inject private DelegateService delegateService;
   @Inject private DelegateTaskBroadcastHelper broadcastHelper;
+  @Inject private DelegateTaskOfferHelper delegateTaskOfferHelper;
   @Inject private ConfigurationController configurationController;
   @Inject private DelegateTaskService delegateTaskService;
   @Inject private DelegateSelectionLogsService delegateSelectionLogsService;
@@ -148,6 +152,15 @@ public class DelegateQueueTask implements Runnable {
         Set<String> alreadyTriedDelegates =
             Optional.ofNullable(delegateTask.getAlreadyTriedDelegates()).orElse(Sets.newHashSet());
 
+        boolean offered = false;
+        if (delegateTaskOfferHelper.isEnabled(delegateTask)) {
+          List<String> offeredDelegates = offerToConnectedDelegates(delegateTask, alreadyTriedDelegates);
+          if (!offeredDelegates.isEmpty()) {
+            broadcastToDelegates = offeredDelegates;
+            offered = true;
+          }
+        }
+
         // if all delegates got one round of rebroadcast, then increase broadcast interval & broadcastRound
         if (alreadyTriedDelegates.containsAll(delegateTask.getEligibleToExecuteDelegateIds())) {
           alreadyTriedDelegates.clear();
@@ -170,6 +183,10 @@ public class DelegateQueueTask implements Runnable {
                 .set(DelegateTaskKeys.nextBroadcast, now + nextInterval)
                 .set(DelegateTaskKeys.alreadyTriedDelegates, alreadyTriedDelegates)
                 .set(DelegateTaskKeys.broadcastRound, broadcastRoundCount);
+        if (offered) {
+          updateOperations.set(DelegateTaskKeys.offeredDelegateIds, delegateTask.getOfferedDelegateIds())
+              .set(DelegateTaskKeys.offerExpiry, delegateTask.getOfferExpiry());
+        }
         delegateTask =
             persistence.findAndModify(query, updateOperations, HPersistence.returnNewOptions, isMigrationEnabled);
         // update failed, means this was broadcast by some other manager
@@ -189,6 +206,23 @@ public class DelegateQueueTask implements Runnable {
     }
   }
 
+  /**
+   * Offers the task to connected delegates that were not tried in this round yet, to more of them each time an offer
+   * expires without an acquire.
+   */
+  private List<String> offerToConnectedDelegates(DelegateTask delegateTask, Set<String> alreadyTriedDelegates) {
+    List<String> connectedDelegates =
+        assignDelegateService.getConnectedDelegateList(delegateTask.getEligibleToExecuteDelegateIds(), delegateTask);
+    if (isEmpty(connectedDelegates)) {
+      return connectedDelegates;
+    }
+    List<String> untriedDelegates =
+        connectedDelegates.stream().filter(delegateId -> !alreadyTriedDelegates.contains(delegateId)).collect(toList());
+    List<String> candidateDelegates = untriedDelegates.isEmpty() ? connectedDelegates : untriedDelegates;
+    return delegateTaskOfferHelper.offer(
+        delegateTask, candidateDelegates, DelegateTaskOfferHelper.getOfferSize(delegateTask.getBroadcastCount() + 1));
+  }
+
   private void rebroadcastDelegateTaskUsingTaskData(DelegateTask delegateTask) {
     try (AutoLogContext ignore1 = DelegateLogContextHelper.getLogContext(delegateTask);
          AutoLogContext ignore2 = new AccountLogContext(delegateTask.getAccountId(), OVERRIDE_ERROR)) {
@@ -70,6 +70,7 @@ import io.harness.queueservice.infc.DelegateCapacityManagementService;
 import io.harness.rest.RestResponse;
 import io.harness.security.annotations.DelegateAuth;
 import io.harness.serializer.KryoSerializer;
+import io.harness.serializer.kryo.KryoFrameCodec;
 import io.harness.service.intfc.DelegateRingService;
 
 import software.wings.beans.Account;
@@ -89,13 +90,17 @@ import software.wings.service.intfc.DelegateTaskServiceClassic;
 import com.codahale.metrics.annotation.ExceptionMetered;
 import com.codahale.metrics.annotation.Timed;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import com.google.protobuf.Any;
 import com.google.protobuf.InvalidProtocolBufferException;
 import io.swagger.annotations.Api;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.servlet.http.HttpServletRequest;
@@ -109,6 +114,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.StreamingOutput;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
@@ -125,6 +131,7 @@ import org.jetbrains.annotations.NotNull;
 @BreakDependencyOn("software.wings.service.impl.instance.InstanceHelper")
 public class DelegateAgentResource {
   private static final String PT_LOG_ERROR_TEMPLATE = "Failed to process results for perpetual task: [{}] due to [{}]";
+  private static final int MAX_ACQUIRE_BATCH_SIZE = 50;
   private final DelegateService delegateService;
   private final AccountService accountService;
   private final HPersistence persistence;
@@ -134,6 +141,7 @@ public class DelegateAgentResource {
   private final ManifestCollectionResponseHandler manifestCollectionResponseHandler;
   private final ConnectorHearbeatPublisher connectorHearbeatPublisher;
   private final KryoSerializer kryoSerializer;
+  private final KryoSerializer referenceFalseKryoSerializer;
   private final ConfigurationController configurationController;
   private final DelegateTaskServiceClassic delegateTaskServiceClassic;
   private final InstanceSyncResponsePublisher instanceSyncResponsePublisher;
@@ -148,6 +156,7 @@ public class DelegateAgentResource {
       SubdomainUrlHelperIntfc subdomainUrlHelper, ArtifactCollectionResponseHandler artifactCollectionResponseHandler,
       InstanceHelper instanceHelper, ManifestCollectionResponseHandler manifestCollectionResponseHandler,
       ConnectorHearbeatPublisher connectorHearbeatPublisher, KryoSerializer kryoSerializer,
+      @Named("referenceFalseKryoSerializer") KryoSerializer referenceFalseKryoSerializer,
       ConfigurationController configurationController, DelegateTaskServiceClassic delegateTaskServiceClassic,
       PollingResourceClient pollingResourceClient, InstanceSyncResponsePublisher instanceSyncResponsePublisher,
       DelegatePollingHeartbeatService delegatePollingHeartbeatService,
@@ -162,6 +171,7 @@ public class DelegateAgentResource {
     this.manifestCollectionResponseHandler = manifestCollectionResponseHandler;
     this.connectorHearbeatPublisher = connectorHearbeatPublisher;
     this.kryoSerializer = kryoSerializer;
+    this.referenceFalseKryoSerializer = referenceFalseKryoSerializer;
     this.configurationController = configurationController;
     this.delegateTaskServiceClassic = delegateTaskServiceClassic;
     this.pollingResourceClient = pollingResourceClient;
@@ -387,6 +397,79 @@ public class DelegateAgentResource {
     return reportConnectionResults(delegateId, taskId, accountId, delegateInstanceId, results);
   }
 
+  /**
+   * Acquires several tasks in one call. Every acquired task package is streamed back as soon as it is acquired, so the
+   * delegate can start on it while the rest of the batch is still being acquired.
+   */
+  @DelegateAuth
+  @PUT
+  @Produces(KryoFrameCodec.MEDIA_TYPE)
+  @Path("{delegateId}/tasks/acquire/batch")
+  @Timed
+  @ExceptionMetered
+  public StreamingOutput acquireDelegateTasks(@PathParam("delegateId") String delegateId,
+      @QueryParam("accountId") @NotEmpty String accountId, @QueryParam("delegateInstanceId") String delegateInstanceId,
+      List<String> taskIds) {
+    List<String> acquiringTaskIds = taskIds.stream().distinct().limit(MAX_ACQUIRE_BATCH_SIZE).collect(toList());
+    return outputStream -> {
+      for (String taskId : acquiringTaskIds) {
+        try (AutoLogContext ignore1 = new TaskLogContext(taskId, OVERRIDE_ERROR);
+             AutoLogContext ignore2 = new AccountLogContext(accountId, OVERRIDE_ERROR);
+             AutoLogContext ignore3 =
+                 new DelegateLogContext(accountId, delegateId, delegateInstanceId, OVERRIDE_ERROR)) {
+          writeTaskPackage(
+              () -> delegateTaskServiceClassic.acquireDelegateTask(accountId, delegateId, taskId, delegateInstanceId),
+              outputStream);
+        }
+      }
+    };
+  }
+
+  /**
+   * Reports the connection results of several validated tasks in one call, streaming back the package of every task
+   * assigned to the delegate.
+   */
+  @DelegateAuth
+  @POST
+  @Produces(KryoFrameCodec.MEDIA_TYPE)
+  @Path("{delegateId}/tasks/report/batch")
+  @Timed
+  @ExceptionMetered
+  public StreamingOutput reportConnectionResultsBatch(@PathParam("delegateId") String delegateId,
+      @QueryParam("accountId") @NotEmpty String accountId, @QueryParam("delegateInstanceId") String delegateInstanceId,
+      Map<String, List<DelegateConnectionResultDetail>> resultsByTaskId) {
+    return outputStream -> {
+      for (Map.Entry<String, List<DelegateConnectionResultDetail>> entry : resultsByTaskId.entrySet()) {
+        String taskId = entry.getKey();
+        List<DelegateConnectionResult> results = getDelegateConnectionResults(entry.getValue());
+        try (AutoLogContext ignore1 = new TaskLogContext(taskId, OVERRIDE_ERROR);
+             AutoLogContext ignore2 = new AccountLogContext(accountId, OVERRIDE_ERROR);
+             AutoLogContext ignore3 =
+                 new DelegateLogContext(accountId, delegateId, delegateInstanceId, OVERRIDE_ERROR)) {
+          writeTaskPackage(()
+                               -> delegateTaskServiceClassic.reportConnectionResults(
+                                   accountId, delegateId, taskId, delegateInstanceId, results),
+              outputStream);
+        }
+      }
+    };
+  }
+
+  private void writeTaskPackage(Supplier<DelegateTaskPackage> taskPackageSupplier, OutputStream outputStream)
+      throws IOException {
+    DelegateTaskPackage delegateTaskPackage;
+    try {
+      delegateTaskPackage = taskPackageSupplier.get();
+    } catch (Exception e) {
+      // a task failing to be acquired must not fail the rest of the batch
+      log.warn("Failed to get task package of batch", e);
+      return;
+    }
+    if (delegateTaskPackage != null && delegateTaskPackage.getDelegateTaskId() != null) {
+      KryoFrameCodec.writeFrame(referenceFalseKryoSerializer, delegateTaskPackage, outputStream);
+    }
+  }
+
   @NotNull
   private List<DelegateConnectionResult> getDelegateConnectionResults(List<DelegateConnectionResultDetail> results) {
     List<DelegateConnectionResult> delegateConnectionResult = new ArrayList<>();
@@ -41,6 +41,7 @@ import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.Cd1SetupFields;
 import io.harness.beans.DelegateTask;
 import io.harness.beans.DelegateTask.DelegateTaskKeys;
+import io.harness.beans.FeatureName;
 import io.harness.delegate.beans.Delegate;
 import io.harness.delegate.beans.Delegate.DelegateKeys;
 import io.harness.delegate.beans.DelegateActivity;
@@ -84,6 +85,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
@@ -94,6 +96,7 @@ import io.dropwizard.util.Lists;
 import java.nio.channels.Selector;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -105,7 +108,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -1020,6 +1026,26 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return delegateNames;
   }
 
+  // The expiry is only a safety net, the account index is dropped as soon as one of its delegates, groups or profiles
+  // is invalidated on any manager, see registerEligibilityIndexInvalidation
+  private final AtomicBoolean eligibilityIndexInvalidationRegistered = new AtomicBoolean();
+  private LoadingCache<String, DelegateEligibilityIndex> eligibilityIndexCache =
+      CacheBuilder.newBuilder()
+          .maximumSize(1000)
+          .expireAfterWrite(HEARTBEAT_EXPIRY_TIME.toMillis() / 3, TimeUnit.MILLISECONDS)
+          .build(new CacheLoader<String, DelegateEligibilityIndex>() {
+            @Override
+            public DelegateEligibilityIndex load(String accountId) {
+              List<Delegate> delegates = getAccountDelegates(accountId)
+                                             .stream()
+                                             .map(delegate -> delegateCache.get(accountId, delegate.getUuid()))
+                                             .filter(Objects::nonNull)
+                                             .collect(toList());
+              return DelegateEligibilityIndex.build(
+                  delegates, delegate -> delegateService.retrieveDelegateSelectors(delegate, true));
+            }
+          });
+
   @Override
   public boolean noInstalledDelegates(String accountId) {
     try {
@@ -1057,10 +1083,14 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return eligibleDelegateIds;
       }
 
+      EligibilityFilter eligibilityFilter = getEligibilityFilter(task, task.getData().getTaskType(),
+          CAN_NOT_ASSIGN_TASK_GROUP + " {" + task.getData().getTaskType() + "} ",
+          selectors -> CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP);
       eligibleDelegateIds =
           delegates.stream()
               .filter(delegate
-                  -> delegate.getStatus() != DelegateInstanceStatus.DELETED && canAssignTask(delegate.getUuid(), task))
+                  -> delegate.getStatus() != DelegateInstanceStatus.DELETED
+                      && isCandidate(eligibilityFilter, delegate, task) && canAssignTask(delegate.getUuid(), task))
               .map(Delegate::getUuid)
               .collect(Collectors.toList());
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
@@ -1103,9 +1133,13 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return List.of();
       }
 
+      EligibilityFilter eligibilityFilter = getEligibilityFilter(task, task.getTaskDataV2().getTaskType(),
+          String.format("%s %s", task.getTaskDataV2().getTaskType(), CAN_NOT_ASSIGN_TASK_GROUP),
+          selectors -> CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP + " " + selectors);
       eligibleDelegateIds = delegates.stream()
                                 .filter(delegate
                                     -> delegate.getStatus() != DelegateInstanceStatus.DELETED
+                                        && isCandidate(eligibilityFilter, delegate, task)
                                         && canAssignTaskV2(delegate.getUuid(), task))
                                 .map(Delegate::getUuid)
                                 .collect(Collectors.toList());
@@ -1124,6 +1158,70 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return eligibleDelegateIds;
   }
 
+  @Value
+  private static class EligibilityFilter {
+    DelegateEligibilityIndex index;
+    BitSet supportingTaskType;
+    BitSet havingSelectors;
+    String taskTypeReason;
+    String selectorReason;
+  }
+
+  /**
+   * Narrows down the delegates which can take the task using the account eligibility index, so that the scope and
+   * profile checks only run for delegates supporting the task type and having all the task selectors. Returns null
+   * when the index is not enabled or can not be built, in which case every delegate is checked as before.
+   */
+  private EligibilityFilter getEligibilityFilter(DelegateTask task, String taskType, String taskTypeReason,
+      Function<Set<String>, String> selectorReasonFunction) {
+    if (!featureFlagService.isEnabled(FeatureName.DEL_ELIGIBILITY_INDEX, task.getAccountId())) {
+      return null;
+    }
+    registerEligibilityIndexInvalidation();
+    try {
+      DelegateEligibilityIndex index = eligibilityIndexCache.get(task.getAccountId());
+      Set<String> selectors = isEmpty(task.getExecutionCapabilities())
+          ? Collections.emptySet()
+          : delegateTaskServiceClassic.fetchTaskSelectorCapabilities(task.getExecutionCapabilities())
+                .stream()
+                .map(SelectorCapability::getSelectors)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toSet());
+      return new EligibilityFilter(index, index.supportingTaskType(taskType), index.havingAllSelectors(selectors),
+          taskTypeReason, selectorReasonFunction.apply(selectors));
+    } catch (ExecutionException | UncheckedExecutionException | InvalidCacheLoadException ex) {
+      log.warn("Unable to build delegate eligibility index for account {}", task.getAccountId(), ex);
+      return null;
+    }
+  }
+
+  @VisibleForTesting
+  void registerEligibilityIndexInvalidation() {
+    if (eligibilityIndexInvalidationRegistered.compareAndSet(false, true)) {
+      delegateCache.addAccountInvalidationListener(eligibilityIndexCache::invalidate);
+    }
+  }
+
+  private boolean isCandidate(EligibilityFilter eligibilityFilter, Delegate delegate, DelegateTask task) {
+    if (eligibilityFilter == null || !eligibilityFilter.getIndex().contains(delegate.getUuid())) {
+      // Delegates registered after the index was built are checked the usual way
+      return true;
+    }
+    String reason = null;
+    if (!eligibilityFilter.getIndex().isSet(eligibilityFilter.getSupportingTaskType(), delegate.getUuid())) {
+      reason = eligibilityFilter.getTaskTypeReason();
+    } else if (!eligibilityFilter.getIndex().isSet(eligibilityFilter.getHavingSelectors(), delegate.getUuid())) {
+      reason = eligibilityFilter.getSelectorReason();
+    }
+    if (reason == null) {
+      return true;
+    }
+    String delegateName = isNotEmpty(delegate.getHostName()) ? delegate.getHostName() : delegate.getUuid();
+    task.getNonAssignableDelegates().computeIfAbsent(reason, key -> new ArrayList<>()).add(delegateName);
+    return false;
+  }
+
   @Override
   public List<String> getConnectedDelegateList(List<String> delegates, DelegateTask delegateTask) {
     if (isEmpty(delegates)) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+import static io.harness.data.structure.CollectionUtils.trimmedLowercaseSet;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.Delegate;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable snapshot of the delegates of an account, indexed by supported task type and selector.
+ *
+ * Used to rule out delegates which can never take a task (task type not supported or selectors missing) with a couple
+ * of bitset intersections, so that the expensive scope and profile checks only run for the remaining candidates.
+ * Delegates which are not part of the snapshot are never ruled out by the index.
+ */
+@OwnedBy(DEL)
+public class DelegateEligibilityIndex {
+  private final Map<String, Integer> ordinals = new HashMap<>();
+  private final Map<String, BitSet> taskTypeIndex = new HashMap<>();
+  private final Map<String, BitSet> selectorIndex = new HashMap<>();
+  private final BitSet allDelegates = new BitSet();
+
+  private DelegateEligibilityIndex() {}
+
+  public static DelegateEligibilityIndex build(
+      List<Delegate> delegates, Function<Delegate, Set<String>> delegateSelectorsResolver) {
+    DelegateEligibilityIndex index = new DelegateEligibilityIndex();
+    for (Delegate delegate : delegates) {
+      if (delegate == null || delegate.getUuid() == null || index.ordinals.containsKey(delegate.getUuid())) {
+        continue;
+      }
+      int ordinal = index.ordinals.size();
+      index.ordinals.put(delegate.getUuid(), ordinal);
+      index.allDelegates.set(ordinal);
+      if (delegate.getSupportedTaskTypes() != null) {
+        for (String taskType : delegate.getSupportedTaskTypes()) {
+          index.taskTypeIndex.computeIfAbsent(taskType, key -> new BitSet()).set(ordinal);
+        }
+      }
+      for (String selector : trimmedLowercaseSet(delegateSelectorsResolver.apply(delegate))) {
+        index.selectorIndex.computeIfAbsent(selector, key -> new BitSet()).set(ordinal);
+      }
+    }
+    return index;
+  }
+
+  public int size() {
+    return ordinals.size();
+  }
+
+  public boolean contains(String delegateId) {
+    return ordinals.containsKey(delegateId);
+  }
+
+  /**
+   * Delegates supporting the given task type.
+   */
+  public BitSet supportingTaskType(String taskType) {
+    BitSet delegates = taskType == null ? null : taskTypeIndex.get(taskType);
+    return delegates == null ? new BitSet() : (BitSet) delegates.clone();
+  }
+
+  /**
+   * Delegates having every one of the given selectors (case and whitespace insensitive).
+   */
+  public BitSet havingAllSelectors(Collection<String> selectors) {
+    BitSet delegates = (BitSet) allDelegates.clone();
+    if (isEmpty(selectors)) {
+      return delegates;
+    }
+    for (String selector : trimmedLowercaseSet(selectors)) {
+      BitSet selectorDelegates = selectorIndex.get(selector);
+      if (selectorDelegates == null) {
+        return new BitSet();
+      }
+      delegates.and(selectorDelegates);
+    }
+    return delegates;
+  }
+
+  public boolean isSet(BitSet delegates, String delegateId) {
+    Integer ordinal = ordinals.get(delegateId);
+    return ordinal != null && delegates.get(ordinal);
+  }
+}
@@ -1122,6 +1122,7 @@ public class DelegateServiceImpl implements DelegateService {
 
     log.info("Updating approval status from {} to {}", currentDelegate.getStatus(), newDelegateStatus);
     Delegate updatedDelegate = persistence.findAndModify(updateQuery, updateOperations, HPersistence.returnNewOptions);
+    delegateCache.invalidateDelegate(currentDelegate.getAccountId(), currentDelegate.getUuid());
 
     auditServiceHelper.reportForAuditingUsingAccountId(
         currentDelegate.getAccountId(), currentDelegate, updatedDelegate, actionEventType);
@@ -1290,7 +1291,30 @@ public class DelegateServiceImpl implements DelegateService {
     delegateTaskService.touchExecutingTasks(
         delegate.getAccountId(), delegate.getUuid(), delegate.getCurrentlyExecutingDelegateTasks());
 
-    return delegateCache.get(delegate.getAccountId(), delegate.getUuid(), true);
+    Delegate updatedDelegate = delegateCache.get(delegate.getAccountId(), delegate.getUuid(), true);
+    // Delegates are updated on every registration, only tell the other managers when task assignment is affected
+    if (affectsTaskAssignment(previousDelegate, updatedDelegate)) {
+      delegateCache.invalidateDelegate(delegate.getAccountId(), delegate.getUuid());
+    }
+    return updatedDelegate;
+  }
+
+  @VisibleForTesting
+  static boolean affectsTaskAssignment(Delegate previousDelegate, Delegate updatedDelegate) {
+    return previousDelegate == null || updatedDelegate == null
+        || previousDelegate.getStatus() != updatedDelegate.getStatus()
+        || previousDelegate.isNg() != updatedDelegate.isNg()
+        || !Objects.equals(previousDelegate.getOwner(), updatedDelegate.getOwner())
+        || !Objects.equals(previousDelegate.getDelegateGroupId(), updatedDelegate.getDelegateGroupId())
+        || !Objects.equals(previousDelegate.getDelegateGroupName(), updatedDelegate.getDelegateGroupName())
+        || !Objects.equals(previousDelegate.getDelegateName(), updatedDelegate.getDelegateName())
+        || !Objects.equals(previousDelegate.getHostName(), updatedDelegate.getHostName())
+        || !Objects.equals(previousDelegate.getDelegateProfileId(), updatedDelegate.getDelegateProfileId())
+        || !Objects.equals(previousDelegate.getSupportedTaskTypes(), updatedDelegate.getSupportedTaskTypes())
+        || !Objects.equals(previousDelegate.getTags(), updatedDelegate.getTags())
+        || !Objects.equals(previousDelegate.getTagsFromYaml(), updatedDelegate.getTagsFromYaml())
+        || !Objects.equals(previousDelegate.getIncludeScopes(), updatedDelegate.getIncludeScopes())
+        || !Objects.equals(previousDelegate.getExcludeScopes(), updatedDelegate.getExcludeScopes());
   }
 
   private String processTemplate(Map<String, String> scriptParams, String template) throws IOException {
@@ -2342,6 +2366,7 @@ public class DelegateServiceImpl implements DelegateService {
     persistence.delete(persistence.createQuery(DelegateGroup.class)
                            .filter(DelegateGroupKeys.accountId, accountId)
                            .filter(DelegateGroupKeys.uuid, delegateGroupId));
+    delegateCache.invalidateDelegateGroup(accountId, delegateGroupId);
     log.info("Delegate group: {} and all belonging delegates have been deleted.", delegateGroupId);
 
     String orgIdentifier = delegateGroup.getOwner() != null
@@ -2417,6 +2442,7 @@ public class DelegateServiceImpl implements DelegateService {
     persistence.delete(persistence.createQuery(DelegateGroup.class)
                            .filter(DelegateGroupKeys.accountId, accountId)
                            .filter(DelegateGroupKeys.uuid, delegateGroupUuid));
+    delegateCache.invalidateDelegateGroup(accountId, delegateGroupUuid);
     log.info("Delegate group: {} and all belonging delegates have been deleted.", delegateGroupUuid);
 
     outboxService.save(
@@ -2660,6 +2686,7 @@ public class DelegateServiceImpl implements DelegateService {
       persistence.update(persistence.createQuery(DelegateGroup.class).filter(DelegateGroupKeys.uuid, delegateGroupId),
           persistence.createUpdateOperations(DelegateGroup.class)
               .set(DelegateGroupKeys.tags, new HashSet<>(delegateParams.getTags())));
+      delegateCache.invalidateDelegateGroup(delegateParams.getAccountId(), delegateGroupId);
     }
 
     final DelegateEntityOwner owner = DelegateEntityOwnerHelper.buildOwner(orgIdentifier, projectIdentifier);
@@ -3272,6 +3299,7 @@ public class DelegateServiceImpl implements DelegateService {
 
     DelegateGroup updatedDelegateGroup =
         persistence.upsert(query, updateOperations, HPersistence.upsertReturnNewOptions);
+    delegateCache.invalidateDelegateGroup(accountId, updatedDelegateGroup.getUuid());
     DelegateSetupDetails delegateSetupDetailsOld = null;
     if (existingEntity != null) {
       delegateSetupDetailsOld = DelegateSetupDetails.builder()
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+import static io.harness.beans.FeatureName.DEL_TARGETED_TASK_DISPATCH;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.beans.DelegateTask;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.TaskGroup;
+import io.harness.ff.FeatureFlagService;
+import io.harness.queueservice.impl.FilterByDelegateCapacity;
+import io.harness.queueservice.impl.OrderByTotalNumberOfTaskAssignedCriteria;
+import io.harness.service.intfc.DelegateCache;
+
+import software.wings.beans.TaskType;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the delegates a task is offered to when {@code DEL_TARGETED_TASK_DISPATCH} is enabled. Instead of letting
+ * every eligible delegate race to acquire a task, it is offered to a few delegates with free capacity and the fewest
+ * started tasks for a short lease. The started tasks of a delegate are counted at most once per lease, the offers of
+ * all tasks made within it share the count and add to it. Only they may acquire it until the lease expires (see
+ * {@code DelegateTaskServiceClassicImpl#acquireDelegateTask}), after which the next rebroadcast offers it to twice as
+ * many delegates.
+ */
+@Singleton
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+@OwnedBy(DEL)
+public class DelegateTaskOfferHelper {
+  public static final int INITIAL_OFFER_SIZE = 2;
+  public static final int MAX_OFFER_SIZE = 32;
+  public static final long OFFER_LEASE_MILLIS = TimeUnit.SECONDS.toMillis(5);
+  // counting the started tasks of a delegate costs a query, so only this many candidates are ranked per offer
+  private static final int MAX_RANKED_CANDIDATES = 2 * MAX_OFFER_SIZE;
+
+  @Inject private OrderByTotalNumberOfTaskAssignedCriteria orderByTotalNumberOfTaskAssignedCriteria;
+  @Inject private FilterByDelegateCapacity filterByDelegateCapacity;
+  @Inject private DelegateCache delegateCache;
+  @Inject private FeatureFlagService featureFlagService;
+  @Inject private Clock clock;
+
+  // offers add to the counts without extending how long they are kept, so they are read again once per lease
+  private final Cache<StartedTasksKey, Integer> startedTaskCounts =
+      Caffeine.newBuilder()
+          .maximumSize(10_000)
+          .expireAfter(new Expiry<StartedTasksKey, Integer>() {
+            public long expireAfterCreate(StartedTasksKey key, Integer count, long currentTime) {
+              return TimeUnit.MILLISECONDS.toNanos(OFFER_LEASE_MILLIS);
+            }
+            public long expireAfterUpdate(StartedTasksKey key, Integer count, long currentTime, long currentDuration) {
+              return currentDuration;
+            }
+            public long expireAfterRead(StartedTasksKey key, Integer count, long currentTime, long currentDuration) {
+              return currentDuration;
+            }
+          })
+          .build();
+
+  public boolean isEnabled(DelegateTask delegateTask) {
+    // pre-assigned tasks are only ever broadcast to their delegate
+    return isBlank(delegateTask.getPreAssignedDelegateId())
+        && featureFlagService.isEnabled(DEL_TARGETED_TASK_DISPATCH, delegateTask.getAccountId());
+  }
+
+  /**
+   * The number of delegates to offer the task to once {@code expiredOffers} offers have expired without an acquire.
+   */
+  public static int getOfferSize(int expiredOffers) {
+    return Math.min(INITIAL_OFFER_SIZE << Math.min(expiredOffers, 4), MAX_OFFER_SIZE);
+  }
+
+  /**
+   * Offers the task to up to {@code offerSize} of the candidates, preferring delegates with free capacity and the
+   * fewest started tasks, and returns the delegates to broadcast it to.
+   */
+  public List<String> offer(DelegateTask delegateTask, List<String> candidateDelegateIds, int offerSize) {
+    List<String> offeredDelegateIds = rankCandidates(delegateTask, candidateDelegateIds)
+                                          .stream()
+                                          .limit(offerSize)
+                                          .collect(Collectors.toList());
+    countOffered(delegateTask, offeredDelegateIds);
+    delegateTask.setOfferedDelegateIds(new HashSet<>(offeredDelegateIds));
+    delegateTask.setOfferExpiry(clock.millis() + OFFER_LEASE_MILLIS);
+    log.info("Offering task {} to delegates {} until {}", delegateTask.getUuid(), offeredDelegateIds,
+        delegateTask.getOfferExpiry());
+    return offeredDelegateIds;
+  }
+
+  private List<String> rankCandidates(DelegateTask delegateTask, List<String> candidateDelegateIds) {
+    TaskType taskType = getTaskType(delegateTask);
+    if (taskType == null) {
+      return candidateDelegateIds;
+    }
+    String accountId = delegateTask.getAccountId();
+    List<Delegate> candidates = candidateDelegateIds.stream()
+                                    .limit(MAX_RANKED_CANDIDATES)
+                                    .map(delegateId -> delegateCache.get(accountId, delegateId))
+                                    .filter(Objects::nonNull)
+                                    .collect(Collectors.toList());
+    candidates.forEach(delegate
+        -> delegate.setNumberOfTaskAssigned(getStartedTaskCount(accountId, taskType, delegate.getUuid())));
+    List<String> rankedDelegateIds =
+        filterByDelegateCapacity.getFilteredEligibleDelegateList(candidates, taskType, accountId)
+            .stream()
+            .sorted(Comparator.comparing(Delegate::getNumberOfTaskAssigned))
+            .map(Delegate::getUuid)
+            .collect(Collectors.toList());
+    // every candidate is at capacity, offer the task anyway rather than leaving it to expire
+    return rankedDelegateIds.isEmpty() ? candidateDelegateIds : rankedDelegateIds;
+  }
+
+  /**
+   * Counts the task as started on every delegate it is offered to, any of them may start it, so the following offers
+   * within the lease go to other delegates instead of all to the ones that were least busy when the lease began.
+   */
+  private void countOffered(DelegateTask delegateTask, List<String> offeredDelegateIds) {
+    TaskType taskType = getTaskType(delegateTask);
+    if (taskType == null) {
+      return;
+    }
+    for (String delegateId : offeredDelegateIds) {
+      startedTaskCounts.asMap().computeIfPresent(
+          new StartedTasksKey(delegateTask.getAccountId(), delegateId, isCountedPerStage(taskType)),
+          (key, count) -> count + 1);
+    }
+  }
+
+  private int getStartedTaskCount(String accountId, TaskType taskType, String delegateId) {
+    return startedTaskCounts.get(new StartedTasksKey(accountId, delegateId, isCountedPerStage(taskType)),
+        key
+        -> orderByTotalNumberOfTaskAssignedCriteria
+               .getTotalNumberOfTaskAssignedInDelegate(accountId, taskType, delegateId)
+               .size());
+  }
+
+  private static boolean isCountedPerStage(TaskType taskType) {
+    // CI tasks are counted per stage, all other task groups per task
+    return taskType.getTaskGroup() == TaskGroup.CI;
+  }
+
+  private static TaskType getTaskType(DelegateTask delegateTask) {
+    String taskType = null;
+    if (delegateTask.getTaskDataV2() != null) {
+      taskType = delegateTask.getTaskDataV2().getTaskType();
+    } else if (delegateTask.getData() != null) {
+      taskType = delegateTask.getData().getTaskType();
+    }
+    if (taskType == null) {
+      return null;
+    }
+    try {
+      return TaskType.valueOf(taskType);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  @Value
+  private static class StartedTasksKey {
+    String accountId;
+    String delegateId;
+    boolean ci;
+  }
+}
@@ -30,11 +30,14 @@ import static io.harness.govern.Switch.noop;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_NESTS;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE_CONTENTION;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE_FAILED;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE_NOT_OFFERED;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_CREATION;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_EXPIRED;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_NO_ELIGIBLE_DELEGATES;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_NO_FIRST_WHITELISTED;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_TIME_TO_ASSIGN;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_VALIDATION;
 
 import static software.wings.expression.SecretManagerModule.EXPRESSION_EVALUATOR_EXECUTOR;
@@ -252,6 +255,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   @Inject private ServiceTemplateService serviceTemplateService;
   @Inject private ArtifactCollectionUtils artifactCollectionUtils;
   @Inject private DelegateTaskBroadcastHelper broadcastHelper;
+  @Inject private DelegateTaskOfferHelper delegateTaskOfferHelper;
   @Inject private DelegateSelectionLogsService delegateSelectionLogsService;
   @Inject private DelegateDao delegateDao;
   @Inject private DelegateSyncService delegateSyncService;
@@ -572,6 +576,8 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
           checkTaskRankRateLimit(task);
         }
 
+        offerToConnectedDelegates(task, connectedEligibleDelegates);
+
         // Added temporarily to help to identifying tasks whose task setup abstractions need to be fixed
         verifyTaskSetupAbstractions(task);
         task.setNextBroadcast(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5));
@@ -651,6 +657,8 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
           checkTaskRankRateLimit(task);
         }
 
+        offerToConnectedDelegates(task, connectedEligibleDelegates);
+
         // Added temporarily to help to identifying tasks whose task setup abstractions need to be fixed
         verifyTaskSetupAbstractions(task);
 
@@ -672,6 +680,13 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
     }
   }
 
+  private void offerToConnectedDelegates(DelegateTask task, List<String> connectedEligibleDelegates) {
+    if (isNotEmpty(connectedEligibleDelegates) && delegateTaskOfferHelper.isEnabled(task)) {
+      task.setBroadcastToDelegateIds(
+          delegateTaskOfferHelper.offer(task, connectedEligibleDelegates, DelegateTaskOfferHelper.getOfferSize(0)));
+    }
+  }
+
   private String getDelegateIdForFirstBroadcast(DelegateTask delegateTask, List<String> eligibleListOfDelegates) {
     if (delegateTask.isNGTask(delegateTask.getSetupAbstractions())
         && featureFlagService.isEnabled(DELEGATE_TASK_LOAD_DISTRIBUTION, delegateTask.getAccountId())) {
@@ -934,6 +949,9 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
         return Optional.empty();
       }
       try (AutoLogContext ignore = DelegateLogContextHelper.getLogContext(delegateTask)) {
+        if (delegateTask.getDelegateId() == null && isOfferedToOtherDelegates(delegateTask, delegateId)) {
+          return Optional.empty();
+        }
         markTaskAssigned(accountId, delegateId, taskId, delegateInstanceId, delegateTask.getExecutionTimeout());
 
         // Metrics and logs
@@ -1011,6 +1029,9 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
       String taskType = delegateTask.getData() != null ? delegateTask.getData().getTaskType()
                                                        : delegateTask.getTaskDataV2().getTaskType();
       try (AutoLogContext ignore = DelegateLogContextHelper.getLogContext(delegateTask)) {
+        if (delegateTask.getDelegateId() == null && isOfferedToOtherDelegates(delegateTask, delegateId)) {
+          return DelegateTaskPackage.builder().build();
+        }
         if (assignDelegateService.shouldValidate(delegateTask, delegateId)) {
           setValidationStarted(delegateId, delegateTask);
           return resolvePreAssignmentExpressions(delegateTask, SecretManagerMode.APPLY);
@@ -1025,6 +1046,17 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
     }
   }
 
+  private boolean isOfferedToOtherDelegates(DelegateTask delegateTask, String delegateId) {
+    if (isEmpty(delegateTask.getOfferedDelegateIds()) || delegateTask.getOfferedDelegateIds().contains(delegateId)
+        || delegateTask.getOfferExpiry() == null || delegateTask.getOfferExpiry() <= clock.millis()) {
+      return false;
+    }
+    delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_ACQUIRE_NOT_OFFERED);
+    log.info("Task is offered to delegates {} until {}", delegateTask.getOfferedDelegateIds(),
+        delegateTask.getOfferExpiry());
+    return true;
+  }
+
   @VisibleForTesting
   void setValidationStarted(String delegateId, DelegateTask delegateTask) {
     delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_VALIDATION);
@@ -1106,6 +1138,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
         }
         log.debug("Task not available for delegate - it was assigned to {} instance id {} and has status {}",
             delegateTask.getDelegateId(), delegateTask.getDelegateInstanceId(), delegateTask.getStatus());
+        delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_ACQUIRE_CONTENTION);
       }
     } else {
       log.info("Task no longer exists");
@@ -1464,6 +1497,8 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
           DelayLogContext ignore = new DelayLogContext(task.getLastUpdatedAt() - task.getCreatedAt(), OVERRIDE_ERROR)) {
         log.info("Task assigned to delegate");
       }
+      delegateMetricsService.recordDelegateTaskDuration(
+          task, DELEGATE_TASK_TIME_TO_ASSIGN, Duration.ofMillis(task.getLastUpdatedAt() - task.getCreatedAt()));
       return;
     }
     task = persistence.createQuery(DelegateTask.class, migrationEnabledForDelegateTask)
@@ -1476,6 +1511,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
                .get();
     if (task == null) {
       log.debug("Task no longer available for delegate");
+      delegateMetricsService.recordDelegateTaskMetrics(accountId, DELEGATE_TASK_ACQUIRE_CONTENTION);
     }
   }
 
@@ -1515,6 +1551,8 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
       }
       task.getData().setParameters(delegateTask.getData().getParameters());
       delegateSelectionLogsService.logTaskAssigned(delegateId, task);
+      delegateMetricsService.recordDelegateTaskDuration(
+          task, DELEGATE_TASK_TIME_TO_ASSIGN, Duration.ofMillis(task.getLastUpdatedAt() - task.getCreatedAt()));
 
       if (delegateTask.isEmitEvent()) {
         Map<String, String> eventData = new HashMap<>();
@@ -1541,6 +1579,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
                .get();
     if (task == null) {
       log.debug("Task no longer available for delegate");
+      delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_ACQUIRE_CONTENTION);
       return null;
     }
 
@@ -8,18 +8,30 @@
 package io.harness.delegate.service;
 
 import static io.harness.rule.OwnerRule.ARPIT;
+import static io.harness.rule.OwnerRule.MARKO;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.DelegateGroup;
+import io.harness.delegate.beans.DelegateGroup.DelegateGroupKeys;
 import io.harness.delegate.beans.UpgradeCheckResult;
 import io.harness.delegate.service.impl.DelegateUpgraderServiceImpl;
 import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
+import io.harness.service.intfc.DelegateCache;
 
+import dev.morphia.Key;
+import dev.morphia.query.Query;
+import dev.morphia.query.UpdateOperations;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -41,10 +53,13 @@ public class DelegateUpgraderServiceTest {
 
   @Mock private DelegateVersionService delegateVersionService;
   @Mock private HPersistence persistence;
+  @Mock private DelegateCache delegateCache;
+  @Mock private Query<DelegateGroup> delegateGroupQuery;
+  @Mock private UpdateOperations<DelegateGroup> updateOperations;
 
   @Before
   public void setUp() {
-    underTest = new DelegateUpgraderServiceImpl(delegateVersionService, persistence);
+    underTest = new DelegateUpgraderServiceImpl(delegateVersionService, persistence, delegateCache);
   }
 
   @Test
@@ -90,4 +105,22 @@ public class DelegateUpgraderServiceTest {
     assertThat(upgradeCheckResult1.isShouldUpgrade()).isFalse();
     assertThat(upgradeCheckResult1.getImageTag()).isEqualTo(UPGRADER_IMAGE_TAG_1);
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldInvalidateDelegateGroupOnUpgraderCheck() {
+    when(delegateVersionService.getImmutableDelegateImageTag(TEST_ACCOUNT_ID1)).thenReturn(DELEGATE_IMAGE_TAG_1);
+    when(persistence.createQuery(DelegateGroup.class)).thenReturn(delegateGroupQuery);
+    when(delegateGroupQuery.filter(anyString(), anyString())).thenReturn(delegateGroupQuery);
+    when(delegateGroupQuery.asKeyList())
+        .thenReturn(List.of(new Key<>(DelegateGroup.class, "delegateGroups", "groupId")));
+    when(persistence.createUpdateOperations(DelegateGroup.class)).thenReturn(updateOperations);
+    when(updateOperations.set(eq(DelegateGroupKeys.upgraderLastUpdated), anyLong())).thenReturn(updateOperations);
+
+    underTest.getDelegateImageTag(TEST_ACCOUNT_ID1, DELEGATE_IMAGE_TAG_1, "delegate-group");
+
+    verify(persistence).update(delegateGroupQuery, updateOperations);
+    verify(delegateCache).invalidateDelegateGroup(TEST_ACCOUNT_ID1, "groupId");
+  }
 }
@@ -9,11 +9,16 @@ package software.wings.app;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.rule.OwnerRule.JENNY;
+import static io.harness.rule.OwnerRule.MARKO;
 
 import static software.wings.utils.WingsTestConstants.ACCOUNT_ID;
 import static software.wings.utils.WingsTestConstants.DELEGATE_ID;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -34,13 +39,19 @@ import software.wings.WingsBaseTest;
 import software.wings.beans.DelegateTaskBroadcast;
 import software.wings.beans.TaskType;
 import software.wings.service.impl.DelegateTaskBroadcastHelper;
+import software.wings.service.impl.DelegateTaskOfferHelper;
+import software.wings.service.intfc.AssignDelegateService;
 import software.wings.service.intfc.DelegateService;
 import software.wings.service.intfc.DelegateTaskServiceClassic;
 
 import com.google.inject.Inject;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.atmosphere.cpr.Broadcaster;
 import org.atmosphere.cpr.BroadcasterFactory;
 import org.junit.Test;
@@ -54,6 +65,8 @@ public class DelegateQueueTaskTest extends WingsBaseTest {
   @Mock private FeatureFlagService featureFlagService;
   @Mock private DelegateTaskServiceClassic delegateTaskServiceClassic;
   @Mock private DelegateService delegateService;
+  @Mock private AssignDelegateService assignDelegateService;
+  @Mock private DelegateTaskOfferHelper delegateTaskOfferHelper;
   @InjectMocks @Inject DelegateQueueTask delegateQueueTask;
   @Inject private BroadcasterFactory broadcasterFactory;
 
@@ -61,6 +74,56 @@ public class DelegateQueueTaskTest extends WingsBaseTest {
   @Inject private VersionInfoManager versionInfoManager;
   private static final String DELEGATE_TASK_UUID_NEW = "delegateTask-NEW";
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testRebroadcastWidensExpiredOfferToUntriedDelegates() {
+    List<String> delegateIds = IntStream.range(0, 10).mapToObj(i -> "delegate" + i).collect(toList());
+    DelegateTask delegateTask = DelegateTask.builder()
+                                    .accountId(ACCOUNT_ID)
+                                    .version(versionInfoManager.getVersionInfo().getVersion())
+                                    .status(Status.QUEUED)
+                                    .expiry(System.currentTimeMillis() + 60000)
+                                    .data(TaskData.builder().taskType(TaskType.HTTP.name()).async(true).build())
+                                    .build();
+    delegateTask.setBroadcastCount(0);
+    delegateTask.setNextBroadcast(System.currentTimeMillis());
+    delegateTask.setEligibleToExecuteDelegateIds(new LinkedList<>(delegateIds));
+    delegateTask.setAlreadyTriedDelegates(new HashSet<>(Arrays.asList("delegate0", "delegate1")));
+    delegateTask.setOfferedDelegateIds(new HashSet<>(Arrays.asList("delegate0", "delegate1")));
+    delegateTask.setOfferExpiry(System.currentTimeMillis() - 1);
+    persistence.save(delegateTask);
+    Broadcaster broadcaster = mock(Broadcaster.class);
+    when(broadcasterFactory.lookup(anyString(), eq(true))).thenReturn(broadcaster);
+    when(delegateTaskOfferHelper.isEnabled(any())).thenReturn(true);
+    when(assignDelegateService.getConnectedDelegateList(anyList(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(delegateTaskOfferHelper.offer(any(), anyList(), anyInt())).thenAnswer(invocation -> {
+      DelegateTask task = invocation.getArgument(0);
+      List<String> candidates = invocation.getArgument(1);
+      int offerSize = invocation.getArgument(2);
+      List<String> offered = new ArrayList<>(candidates.subList(0, offerSize));
+      task.setOfferedDelegateIds(new HashSet<>(offered));
+      task.setOfferExpiry(System.currentTimeMillis() + DelegateTaskOfferHelper.OFFER_LEASE_MILLIS);
+      return offered;
+    });
+
+    delegateQueueTask.rebroadcastUnassignedTasks(false);
+
+    ArgumentCaptor<List<String>> candidatesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(delegateTaskOfferHelper).offer(any(), candidatesCaptor.capture(), eq(4));
+    assertThat(candidatesCaptor.getValue()).hasSize(8).doesNotContain("delegate0", "delegate1");
+    DelegateTask savedTask = persistence.get(DelegateTask.class, delegateTask.getUuid());
+    assertThat(savedTask.getOfferedDelegateIds())
+        .containsExactlyInAnyOrder("delegate2", "delegate3", "delegate4", "delegate5");
+    assertThat(savedTask.getOfferExpiry()).isGreaterThan(System.currentTimeMillis());
+
+    ArgumentCaptor<DelegateTaskBroadcast> argumentCaptor = ArgumentCaptor.forClass(DelegateTaskBroadcast.class);
+    verify(broadcaster, times(1)).broadcast(argumentCaptor.capture());
+    assertThat(argumentCaptor.getValue().getBroadcastToDelegatesIds())
+        .containsExactlyInAnyOrder("delegate2", "delegate3", "delegate4", "delegate5");
+  }
+
   // TODO: ARPIT remove all tests with name "*_newDB" once delegate task migration is complete
   @Test
   @Owner(developers = JENNY)
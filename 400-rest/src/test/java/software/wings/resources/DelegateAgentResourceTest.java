@@ -93,6 +93,7 @@ import com.google.protobuf.Any;
 import com.google.protobuf.TextFormat;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -148,9 +149,9 @@ public class DelegateAgentResourceTest extends JerseyTest {
     final ResourceConfig resourceConfig = new ResourceConfig();
     resourceConfig.register(new DelegateAgentResource(delegateService, accountService, wingsPersistence,
         subdomainUrlHelper, artifactCollectionResponseHandler, instanceSyncResponseHandler,
-        manifestCollectionResponseHandler, connectorHearbeatPublisher, kryoSerializer, configurationController,
-        delegateTaskServiceClassic, pollResourceClient, instanceSyncResponsePublisher, delegatePollingHeartbeatService,
-        delegateCapacityManagementService, delegateRingService, loggingTokenCache));
+        manifestCollectionResponseHandler, connectorHearbeatPublisher, kryoSerializer, kryoSerializer,
+        configurationController, delegateTaskServiceClassic, pollResourceClient, instanceSyncResponsePublisher,
+        delegatePollingHeartbeatService, delegateCapacityManagementService, delegateRingService, loggingTokenCache));
     resourceConfig.register(new AbstractBinder() {
       @Override
       protected void configure() {
@@ -531,6 +532,31 @@ public class DelegateAgentResourceTest extends JerseyTest {
     verify(delegateTaskServiceClassic, atLeastOnce()).acquireDelegateTask(ACCOUNT_ID, DELEGATE_ID, taskId, null);
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAcquireDelegateTasksInBatch() {
+    String acquiredTaskId = generateUuid();
+    String takenTaskId = generateUuid();
+    when(delegateTaskServiceClassic.acquireDelegateTask(ACCOUNT_ID, DELEGATE_ID, acquiredTaskId, null))
+        .thenReturn(DelegateTaskPackage.builder().delegateTaskId(acquiredTaskId).build());
+    when(delegateTaskServiceClassic.acquireDelegateTask(ACCOUNT_ID, DELEGATE_ID, takenTaskId, null))
+        .thenReturn(DelegateTaskPackage.builder().build());
+    when(kryoSerializer.asBytes(any())).thenReturn(new byte[] {1, 2, 3});
+
+    byte[] frames = client()
+                        .target("/agent/delegates/" + DELEGATE_ID + "/tasks/acquire/batch?accountId=" + ACCOUNT_ID)
+                        .request()
+                        .put(entity(Arrays.asList(acquiredTaskId, takenTaskId, acquiredTaskId),
+                                 MediaType.APPLICATION_JSON),
+                            byte[].class);
+
+    // only the acquired task is streamed back, as one length prefixed frame
+    assertThat(frames).containsExactly(0, 0, 0, 3, 1, 2, 3);
+    verify(delegateTaskServiceClassic).acquireDelegateTask(ACCOUNT_ID, DELEGATE_ID, acquiredTaskId, null);
+    verify(delegateTaskServiceClassic).acquireDelegateTask(ACCOUNT_ID, DELEGATE_ID, takenTaskId, null);
+  }
+
   @Test
   @Owner(developers = DEEPAK)
   @Category(UnitTests.class)
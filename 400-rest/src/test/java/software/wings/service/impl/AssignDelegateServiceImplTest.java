@@ -54,6 +54,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.annotations.dev.BreakDependencyOn;
@@ -64,6 +66,7 @@ import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.Cd1SetupFields;
 import io.harness.beans.DelegateTask;
 import io.harness.beans.DelegateTask.DelegateTaskBuilder;
+import io.harness.beans.FeatureName;
 import io.harness.category.element.UnitTests;
 import io.harness.common.NGTaskType;
 import io.harness.delegate.beans.Delegate;
@@ -122,6 +125,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.Builder;
@@ -133,6 +137,7 @@ import org.assertj.core.util.Sets;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
@@ -1868,6 +1873,37 @@ public class AssignDelegateServiceImplTest extends WingsBaseTest {
     assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(task)).contains(delegate.getUuid());
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void testEligibilityIndexIsRebuiltOnDelegateCacheInvalidation() throws ExecutionException {
+    Delegate delegate = createAccountDelegate();
+    delegate.setSupportedTaskTypes(emptyList());
+    when(featureFlagService.isEnabled(eq(FeatureName.DEL_ELIGIBILITY_INDEX), anyString())).thenReturn(true);
+    when(accountDelegatesCache.get(ACCOUNT_ID)).thenReturn(asList(delegate));
+    when(delegateCache.get(ACCOUNT_ID, delegate.getUuid())).thenReturn(delegate);
+
+    assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(
+                   constructDelegateTask(false, Collections.emptySet(), DelegateTask.Status.QUEUED)))
+        .isEmpty();
+
+    ArgumentCaptor<Consumer<String>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+    verify(delegateCache, times(1)).addAccountInvalidationListener(listenerCaptor.capture());
+
+    // The delegate starts supporting the task type, the cached index keeps rejecting it until invalidated
+    delegate.setSupportedTaskTypes(supportedTasks);
+    assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(
+                   constructDelegateTask(false, Collections.emptySet(), DelegateTask.Status.QUEUED)))
+        .isEmpty();
+
+    listenerCaptor.getValue().accept(ACCOUNT_ID);
+    assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(
+                   constructDelegateTask(false, Collections.emptySet(), DelegateTask.Status.QUEUED)))
+        .containsExactly(delegate.getUuid());
+    verify(delegateCache, times(1)).addAccountInvalidationListener(any());
+  }
+
   @Test
   @Owner(developers = JENNY)
   @Category(UnitTests.class)
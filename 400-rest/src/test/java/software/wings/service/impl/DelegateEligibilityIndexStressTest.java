@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.data.structure.CollectionUtils.trimmedLowercaseSet;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.delegate.beans.Delegate;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Compares checking the task type and selectors of every delegate of an account, as before the index, to the
+ * eligibility index lookups, and measures how long rebuilding the index takes after an invalidation.
+ */
+@Slf4j
+public class DelegateEligibilityIndexStressTest extends CategoryTest {
+  private static final int DELEGATES = 2000;
+  private static final int TASK_TYPES = 400;
+  private static final int SELECTORS = 200;
+  private static final int TASKS = 2000;
+  private static final int REBUILDS = 200;
+
+  private final Random random = new Random(42);
+  private final List<Delegate> delegates = new ArrayList<>();
+  private final Map<String, Set<String>> delegateSelectors = new HashMap<>();
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareLinearScanWithIndex() {
+    createDelegates();
+    DelegateEligibilityIndex index = DelegateEligibilityIndex.build(delegates, this::selectors);
+
+    // warm up the jit with a tenth of the tasks
+    linearScan(TASKS / 10);
+    indexLookup(index, TASKS / 10);
+
+    long start = System.nanoTime();
+    long linearMatches = linearScan(TASKS);
+    double linearMicros = (System.nanoTime() - start) / 1e3;
+
+    start = System.nanoTime();
+    long indexMatches = indexLookup(index, TASKS);
+    double indexMicros = (System.nanoTime() - start) / 1e3;
+
+    start = System.nanoTime();
+    for (int i = 0; i < REBUILDS; i++) {
+      DelegateEligibilityIndex.build(delegates, this::selectors);
+    }
+    double rebuildMicros = (System.nanoTime() - start) / 1e3;
+
+    log.info("{} delegates, {} tasks: linear scan {} us per task ({} matches), index {} us per task ({} matches), "
+            + "rebuild after invalidation {} us",
+        DELEGATES, TASKS, String.format("%.2f", linearMicros / TASKS), linearMatches,
+        String.format("%.2f", indexMicros / TASKS), indexMatches, String.format("%.2f", rebuildMicros / REBUILDS));
+  }
+
+  private void createDelegates() {
+    for (int i = 0; i < DELEGATES; i++) {
+      List<String> taskTypes = new ArrayList<>();
+      for (int j = 0; j < TASK_TYPES; j++) {
+        if (random.nextInt(4) != 0) {
+          taskTypes.add("TASK_" + j);
+        }
+      }
+      Set<String> selectors = new HashSet<>();
+      for (int j = 0; j < 5; j++) {
+        selectors.add("selector-" + random.nextInt(SELECTORS));
+      }
+      Delegate delegate = Delegate.builder().uuid("delegate-" + i).supportedTaskTypes(taskTypes).build();
+      delegates.add(delegate);
+      delegateSelectors.put(delegate.getUuid(), selectors);
+    }
+  }
+
+  private Set<String> selectors(Delegate delegate) {
+    return delegateSelectors.get(delegate.getUuid());
+  }
+
+  private Set<String> taskSelectors(int task) {
+    return task % 2 == 0 ? new HashSet<>() : Set.of("selector-" + task % SELECTORS);
+  }
+
+  private long linearScan(int tasks) {
+    long matches = 0;
+    for (int task = 0; task < tasks; task++) {
+      String taskType = "TASK_" + task % TASK_TYPES;
+      Set<String> taskSelectors = trimmedLowercaseSet(taskSelectors(task));
+      for (Delegate delegate : delegates) {
+        if (delegate.getSupportedTaskTypes().contains(taskType)
+            && trimmedLowercaseSet(selectors(delegate)).containsAll(taskSelectors)) {
+          matches++;
+        }
+      }
+    }
+    return matches;
+  }
+
+  private long indexLookup(DelegateEligibilityIndex index, int tasks) {
+    long matches = 0;
+    for (int task = 0; task < tasks; task++) {
+      BitSet supporting = index.supportingTaskType("TASK_" + task % TASK_TYPES);
+      BitSet havingSelectors = index.havingAllSelectors(taskSelectors(task));
+      for (Delegate delegate : delegates) {
+        if (index.isSet(supporting, delegate.getUuid()) && index.isSet(havingSelectors, delegate.getUuid())) {
+          matches++;
+        }
+      }
+    }
+    return matches;
+  }
+}
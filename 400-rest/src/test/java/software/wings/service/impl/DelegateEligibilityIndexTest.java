@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.rule.OwnerRule.VUK;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.Delegate;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class DelegateEligibilityIndexTest extends CategoryTest {
+  private final Delegate shellDelegate =
+      Delegate.builder().uuid("d1").supportedTaskTypes(asList("SHELL_SCRIPT_TASK", "HTTP")).build();
+  private final Delegate k8sDelegate =
+      Delegate.builder().uuid("d2").supportedTaskTypes(asList("K8S_COMMAND_TASK", "HTTP")).build();
+  private final Delegate legacyDelegate = Delegate.builder().uuid("d3").build();
+
+  private final Map<String, Set<String>> selectors = ImmutableMap.of("d1", Sets.newHashSet(" Prod ", "linux"), "d2",
+      Sets.newHashSet("prod", "k8s"), "d3", Collections.emptySet());
+
+  private final DelegateEligibilityIndex index = DelegateEligibilityIndex.build(
+      asList(shellDelegate, k8sDelegate, legacyDelegate), delegate -> selectors.get(delegate.getUuid()));
+
+  @Test
+  @Owner(developers = VUK)
+  @Category(UnitTests.class)
+  public void testSupportingTaskType() {
+    assertThat(index.size()).isEqualTo(3);
+
+    BitSet http = index.supportingTaskType("HTTP");
+    assertThat(index.isSet(http, "d1")).isTrue();
+    assertThat(index.isSet(http, "d2")).isTrue();
+    assertThat(index.isSet(http, "d3")).isFalse();
+
+    BitSet shell = index.supportingTaskType("SHELL_SCRIPT_TASK");
+    assertThat(index.isSet(shell, "d1")).isTrue();
+    assertThat(index.isSet(shell, "d2")).isFalse();
+
+    assertThat(index.supportingTaskType("UNKNOWN").isEmpty()).isTrue();
+  }
+
+  @Test
+  @Owner(developers = VUK)
+  @Category(UnitTests.class)
+  public void testHavingAllSelectors() {
+    BitSet prod = index.havingAllSelectors(asList("PROD"));
+    assertThat(index.isSet(prod, "d1")).isTrue();
+    assertThat(index.isSet(prod, "d2")).isTrue();
+    assertThat(index.isSet(prod, "d3")).isFalse();
+
+    BitSet prodK8s = index.havingAllSelectors(asList("prod", " k8s"));
+    assertThat(index.isSet(prodK8s, "d1")).isFalse();
+    assertThat(index.isSet(prodK8s, "d2")).isTrue();
+
+    assertThat(index.havingAllSelectors(asList("prod", "missing")).isEmpty()).isTrue();
+    assertThat(index.havingAllSelectors(Collections.emptyList()).cardinality()).isEqualTo(3);
+  }
+
+  @Test
+  @Owner(developers = VUK)
+  @Category(UnitTests.class)
+  public void testResultsAreNotShared() {
+    BitSet http = index.supportingTaskType("HTTP");
+    http.clear();
+
+    assertThat(index.isSet(index.supportingTaskType("HTTP"), "d1")).isTrue();
+    assertThat(index.contains("unknown")).isFalse();
+    assertThat(index.isSet(index.supportingTaskType("HTTP"), "unknown")).isFalse();
+  }
+}
@@ -236,6 +236,30 @@ public class DelegateServiceImplTest extends WingsBaseTest {
         .lastHeartBeat(System.currentTimeMillis());
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldOnlyInvalidateDelegateOnTaskAssignmentChanges() {
+    Delegate previousDelegate = createDelegateBuilder().uuid(DELEGATE_ID).tags(singletonList("tag")).build();
+    Delegate reconnectedDelegate = createDelegateBuilder()
+                                       .uuid(DELEGATE_ID)
+                                       .tags(singletonList("tag"))
+                                       .version("2.0")
+                                       .lastHeartBeat(previousDelegate.getLastHeartBeat() + 1000)
+                                       .build();
+    Delegate retaggedDelegate = createDelegateBuilder().uuid(DELEGATE_ID).tags(singletonList("otherTag")).build();
+    Delegate unapprovedDelegate = createDelegateBuilder()
+                                      .uuid(DELEGATE_ID)
+                                      .tags(singletonList("tag"))
+                                      .status(DelegateInstanceStatus.WAITING_FOR_APPROVAL)
+                                      .build();
+
+    assertThat(DelegateServiceImpl.affectsTaskAssignment(previousDelegate, reconnectedDelegate)).isFalse();
+    assertThat(DelegateServiceImpl.affectsTaskAssignment(previousDelegate, retaggedDelegate)).isTrue();
+    assertThat(DelegateServiceImpl.affectsTaskAssignment(previousDelegate, unapprovedDelegate)).isTrue();
+    assertThat(DelegateServiceImpl.affectsTaskAssignment(null, reconnectedDelegate)).isTrue();
+  }
+
   @Test
   @Owner(developers = BRETT)
   @Category(UnitTests.class)
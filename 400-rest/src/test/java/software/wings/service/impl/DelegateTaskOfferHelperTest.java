@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.beans.FeatureName.DEL_TARGETED_TASK_DISPATCH;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.beans.DelegateTask;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.DelegateCapacity;
+import io.harness.delegate.beans.TaskData;
+import io.harness.ff.FeatureFlagService;
+import io.harness.queueservice.impl.FilterByDelegateCapacity;
+import io.harness.queueservice.impl.OrderByTotalNumberOfTaskAssignedCriteria;
+import io.harness.rule.Owner;
+import io.harness.service.intfc.DelegateCache;
+
+import software.wings.beans.TaskType;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+public class DelegateTaskOfferHelperTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final Instant NOW = Instant.parse("2023-01-01T00:00:00Z");
+
+  @Mock private OrderByTotalNumberOfTaskAssignedCriteria orderByTotalNumberOfTaskAssignedCriteria;
+  @Spy private FilterByDelegateCapacity filterByDelegateCapacity;
+  @Mock private DelegateCache delegateCache;
+  @Mock private FeatureFlagService featureFlagService;
+  @Mock private Clock clock;
+  @InjectMocks private DelegateTaskOfferHelper delegateTaskOfferHelper;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(clock.millis()).thenReturn(NOW.toEpochMilli());
+    when(delegateCache.get(eq(ACCOUNT_ID), anyString()))
+        .thenAnswer(invocation -> Delegate.builder().uuid(invocation.getArgument(1)).build());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetOfferSizeWidensUntilMax() {
+    assertThat(DelegateTaskOfferHelper.getOfferSize(0)).isEqualTo(2);
+    assertThat(DelegateTaskOfferHelper.getOfferSize(1)).isEqualTo(4);
+    assertThat(DelegateTaskOfferHelper.getOfferSize(3)).isEqualTo(16);
+    assertThat(DelegateTaskOfferHelper.getOfferSize(4)).isEqualTo(DelegateTaskOfferHelper.MAX_OFFER_SIZE);
+    assertThat(DelegateTaskOfferHelper.getOfferSize(100)).isEqualTo(DelegateTaskOfferHelper.MAX_OFFER_SIZE);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testOfferToRankedDelegates() {
+    DelegateTask delegateTask = createTask();
+    givenStartedTasks("delegate1", 2);
+    givenStartedTasks("delegate2", 3);
+    givenStartedTasks("delegate3", 0);
+
+    List<String> offered =
+        delegateTaskOfferHelper.offer(delegateTask, asList("delegate1", "delegate2", "delegate3"), 2);
+
+    assertThat(offered).containsExactly("delegate3", "delegate1");
+    assertThat(delegateTask.getOfferedDelegateIds()).containsExactlyInAnyOrder("delegate3", "delegate1");
+    assertThat(delegateTask.getOfferExpiry())
+        .isEqualTo(NOW.toEpochMilli() + DelegateTaskOfferHelper.OFFER_LEASE_MILLIS);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testOfferWhenAllDelegatesAtCapacity() {
+    DelegateTask delegateTask = createTask();
+    when(delegateCache.get(eq(ACCOUNT_ID), anyString()))
+        .thenAnswer(invocation
+            -> Delegate.builder()
+                   .uuid(invocation.getArgument(1))
+                   .delegateCapacity(DelegateCapacity.builder().maximumNumberOfBuilds(1).build())
+                   .build());
+    givenStartedTasks("delegate1", 2);
+    givenStartedTasks("delegate2", 2);
+    givenStartedTasks("delegate3", 2);
+
+    assertThat(delegateTaskOfferHelper.offer(delegateTask, asList("delegate1", "delegate2", "delegate3"), 2))
+        .containsExactly("delegate1", "delegate2");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testCountsStartedTasksOncePerLease() {
+    givenStartedTasks("delegate1", 1);
+    givenStartedTasks("delegate2", 0);
+
+    for (int i = 0; i < 3; i++) {
+      delegateTaskOfferHelper.offer(createTask(), asList("delegate1", "delegate2"), 1);
+    }
+
+    verify(orderByTotalNumberOfTaskAssignedCriteria, times(1))
+        .getTotalNumberOfTaskAssignedInDelegate(ACCOUNT_ID, TaskType.HTTP, "delegate1");
+    verify(orderByTotalNumberOfTaskAssignedCriteria, times(1))
+        .getTotalNumberOfTaskAssignedInDelegate(ACCOUNT_ID, TaskType.HTTP, "delegate2");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testSpreadsOffersOfABurstAcrossDelegates() {
+    List<String> candidates = asList("delegate1", "delegate2", "delegate3", "delegate4", "delegate5");
+    givenStartedTasks("delegate1", 0);
+    givenStartedTasks("delegate2", 0);
+    givenStartedTasks("delegate3", 0);
+    givenStartedTasks("delegate4", 0);
+    givenStartedTasks("delegate5", 6);
+
+    Map<String, Integer> offers = new HashMap<>();
+    for (int i = 0; i < 8; i++) {
+      delegateTaskOfferHelper.offer(createTask(), candidates, 2)
+          .forEach(delegateId -> offers.merge(delegateId, 1, Integer::sum));
+    }
+
+    // the 16 offers go 4 to each idle delegate instead of all 8 tasks to the first two
+    assertThat(offers).containsOnly(
+        entry("delegate1", 4), entry("delegate2", 4), entry("delegate3", 4), entry("delegate4", 4));
+    verify(orderByTotalNumberOfTaskAssignedCriteria, times(1))
+        .getTotalNumberOfTaskAssignedInDelegate(ACCOUNT_ID, TaskType.HTTP, "delegate1");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testNotEnabledForPreAssignedTask() {
+    when(featureFlagService.isEnabled(DEL_TARGETED_TASK_DISPATCH, ACCOUNT_ID)).thenReturn(true);
+    DelegateTask delegateTask = createTask();
+    assertThat(delegateTaskOfferHelper.isEnabled(delegateTask)).isTrue();
+
+    delegateTask.setPreAssignedDelegateId("delegate1");
+    assertThat(delegateTaskOfferHelper.isEnabled(delegateTask)).isFalse();
+  }
+
+  private void givenStartedTasks(String delegateId, int count) {
+    when(orderByTotalNumberOfTaskAssignedCriteria.getTotalNumberOfTaskAssignedInDelegate(
+             ACCOUNT_ID, TaskType.HTTP, delegateId))
+        .thenReturn(Collections.nCopies(count, DelegateTask.builder().delegateId(delegateId).build()));
+  }
+
+  private static DelegateTask createTask() {
+    return DelegateTask.builder()
+        .uuid("taskId")
+        .accountId(ACCOUNT_ID)
+        .data(TaskData.builder().taskType(TaskType.HTTP.name()).build())
+        .build();
+  }
+}
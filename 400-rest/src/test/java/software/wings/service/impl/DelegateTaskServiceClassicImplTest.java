@@ -9,6 +9,7 @@ package software.wings.service.impl;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.rule.OwnerRule.JENNY;
+import static io.harness.rule.OwnerRule.MARKO;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,6 +21,7 @@ import io.harness.category.element.UnitTests;
 import io.harness.delegate.beans.Delegate;
 import io.harness.delegate.beans.Delegate.DelegateBuilder;
 import io.harness.delegate.beans.DelegateInstanceStatus;
+import io.harness.delegate.beans.DelegateTaskPackage;
 import io.harness.delegate.beans.TaskDataV2;
 import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
@@ -39,6 +41,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import org.junit.Before;
 import org.junit.Rule;
@@ -257,6 +260,50 @@ public class DelegateTaskServiceClassicImplTest extends WingsBaseTest {
     assertThatCode(() -> delegateTaskServiceClassic.checkParkedTaskRateLimit(delegateTask)).doesNotThrowAnyException();
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testAcquireDelegateTaskRejectedWhenOfferedToOtherDelegates() {
+    String accountId = generateUuid();
+    Delegate delegate = createDelegate(accountId, "delegate");
+    when(delegateCache.get(accountId, delegate.getUuid())).thenReturn(delegate);
+    DelegateTask delegateTask = createOfferedTask(accountId, "otherDelegate");
+
+    assertThat(delegateTaskServiceClassic.acquireDelegateTask(
+                   accountId, delegate.getUuid(), delegateTask.getUuid(), generateUuid()))
+        .isEqualTo(DelegateTaskPackage.builder().build());
+    assertThat(persistence.get(DelegateTask.class, delegateTask.getUuid()).getDelegateId()).isNull();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testAcquireTaskRejectedWhenOfferedToOtherDelegates() {
+    String accountId = generateUuid();
+    Delegate delegate = createDelegate(accountId, "delegate");
+    when(delegateCache.get(accountId, delegate.getUuid())).thenReturn(delegate);
+    DelegateTask delegateTask = createOfferedTask(accountId, "otherDelegate");
+
+    assertThat(
+        delegateTaskServiceClassic.acquireTask(accountId, delegate.getUuid(), delegateTask.getUuid(), generateUuid()))
+        .isEmpty();
+    DelegateTask savedTask = persistence.get(DelegateTask.class, delegateTask.getUuid());
+    assertThat(savedTask.getDelegateId()).isNull();
+    assertThat(savedTask.getStatus()).isEqualTo(DelegateTask.Status.QUEUED);
+  }
+
+  private DelegateTask createOfferedTask(String accountId, String offeredDelegateId) {
+    DelegateTask delegateTask = DelegateTask.builder()
+                                    .accountId(accountId)
+                                    .status(DelegateTask.Status.QUEUED)
+                                    .taskDataV2(TaskDataV2.builder().taskType(TaskType.HTTP.name()).build())
+                                    .offeredDelegateIds(Collections.singleton(offeredDelegateId))
+                                    .offerExpiry(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1))
+                                    .build();
+    persistence.save(delegateTask);
+    return delegateTask;
+  }
+
   private Delegate createDelegate(String accountId, String des) {
     Delegate delegate = createDelegateBuilder(accountId).build();
     delegate.setDescription(des);
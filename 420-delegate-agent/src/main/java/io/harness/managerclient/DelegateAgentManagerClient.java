@@ -35,6 +35,8 @@ import io.harness.delegate.core.beans.SetupInfraResponse;
 import io.harness.delegate.task.validation.DelegateConnectionResultDetail;
 import io.harness.perpetualtask.HeartbeatRequest;
 import io.harness.perpetualtask.HeartbeatResponse;
+import io.harness.perpetualtask.PerpetualTaskAssignmentsRequest;
+import io.harness.perpetualtask.PerpetualTaskAssignmentsResponse;
 import io.harness.perpetualtask.PerpetualTaskContextResponse;
 import io.harness.perpetualtask.PerpetualTaskFailureRequest;
 import io.harness.perpetualtask.PerpetualTaskFailureResponse;
@@ -50,6 +52,7 @@ import io.harness.serializer.kryo.KryoResponse;
 import software.wings.beans.configfile.ConfigFileDto;
 
 import java.util.List;
+import java.util.Map;
 import javax.ws.rs.Consumes;
 import okhttp3.MultipartBody;
 import okhttp3.RequestBody;
@@ -64,6 +67,7 @@ import retrofit2.http.PUT;
 import retrofit2.http.Part;
 import retrofit2.http.Path;
 import retrofit2.http.Query;
+import retrofit2.http.Streaming;
 
 @OwnedBy(HarnessTeam.DEL)
 public interface DelegateAgentManagerClient {
@@ -198,6 +202,11 @@ public interface DelegateAgentManagerClient {
   Call<DelegateTaskPackage> acquireTask(@Path("delegateId") String delegateId, @Path("taskId") String uuid,
       @Query("accountId") String accountId, @Query("delegateInstanceId") String delegateInstanceId);
 
+  @Streaming
+  @PUT("agent/delegates/{delegateId}/tasks/acquire/batch")
+  Call<ResponseBody> acquireTasks(@Path("delegateId") String delegateId, @Query("accountId") String accountId,
+      @Query("delegateInstanceId") String delegateInstanceId, @Body List<String> taskIds);
+
   @POST("agent/delegates/heartbeat-with-polling")
   Call<RestResponse<DelegateHeartbeatResponse>> delegateHeartbeat(
       @Query("accountId") String accountId, @Body DelegateParams delegateParams);
@@ -213,6 +222,12 @@ public interface DelegateAgentManagerClient {
       @Query("accountId") String accountId, @Query("delegateInstanceId") String delegateInstanceId,
       @Body List<DelegateConnectionResultDetail> results);
 
+  @Streaming
+  @POST("agent/delegates/{delegateId}/tasks/report/batch")
+  Call<ResponseBody> reportConnectionResults(@Path("delegateId") String delegateId,
+      @Query("accountId") String accountId, @Query("delegateInstanceId") String delegateInstanceId,
+      @Body Map<String, List<DelegateConnectionResultDetail>> resultsByTaskId);
+
   @GET("version/watcher") Call<RestResponse<String>> getWatcherVersion(@Query("accountId") String accountId);
 
   @Consumes({"application/x-protobuf"})
@@ -220,6 +235,11 @@ public interface DelegateAgentManagerClient {
   Call<PerpetualTaskListResponse> perpetualTaskList(
       @Query("delegateId") String delegateId, @Query("accountId") String accountId);
 
+  @Consumes({"application/x-protobuf"})
+  @PUT("agent/delegates/perpetual-task/assignments")
+  Call<PerpetualTaskAssignmentsResponse> perpetualTaskAssignments(@Query("delegateId") String delegateId,
+      @Query("accountId") String accountId, @Body PerpetualTaskAssignmentsRequest perpetualTaskAssignmentsRequest);
+
   @Consumes({"application/x-protobuf"})
   @GET("agent/delegates/perpetual-task/context")
   Call<PerpetualTaskContextResponse> perpetualTaskContext(
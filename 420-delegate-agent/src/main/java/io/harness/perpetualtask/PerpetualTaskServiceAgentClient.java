@@ -38,6 +38,22 @@ public class PerpetualTaskServiceAgentClient {
     return null;
   }
 
+  public PerpetualTaskAssignmentsResponse perpetualTaskAssignments(String delegateId, String accountId,
+      List<PerpetualTaskAssignDetails> runningTasks, List<PerpetualTaskAssignDetails> cachedTasks) {
+    try {
+      PerpetualTaskAssignmentsRequest request = PerpetualTaskAssignmentsRequest.newBuilder()
+                                                    .addAllRunningTasks(runningTasks)
+                                                    .addAllCachedTasks(cachedTasks)
+                                                    .build();
+      Call<PerpetualTaskAssignmentsResponse> call =
+          delegateAgentManagerClient.perpetualTaskAssignments(delegateId, accountId, request);
+      return DelegateRestUtils.executeRestCall(call);
+    } catch (Exception e) {
+      log.error("Error while getting perpetualTaskAssignments ", e);
+    }
+    return null;
+  }
+
   public PerpetualTaskExecutionContext perpetualTaskContext(PerpetualTaskId taskId, String accountId) {
     try {
       Call<PerpetualTaskContextResponse> perpetualTaskContextResponseCall =
@@ -14,6 +14,8 @@ import io.harness.grpc.utils.HTimestamps;
 import io.harness.perpetualtask.HeartbeatRequest;
 import io.harness.perpetualtask.HeartbeatResponse;
 import io.harness.perpetualtask.PerpetualTaskAssignDetails;
+import io.harness.perpetualtask.PerpetualTaskAssignmentsRequest;
+import io.harness.perpetualtask.PerpetualTaskAssignmentsResponse;
 import io.harness.perpetualtask.PerpetualTaskContextResponse;
 import io.harness.perpetualtask.PerpetualTaskFailureRequest;
 import io.harness.perpetualtask.PerpetualTaskFailureResponse;
@@ -60,6 +62,21 @@ public class PerpetualTaskResource {
     return Response.ok(perpetualTaskListResponse).build();
   }
 
+  @PUT
+  @Path("/assignments")
+  @Timed
+  @ExceptionMetered
+  @DelegateAuth
+  @ApiOperation(value = "Get changes of the perpetual tasks assigned to delegate compared to the ones it runs",
+      nickname = "perpetualTaskAssignments")
+  public Response
+  perpetualTaskAssignments(@QueryParam("delegateId") String delegateId, @QueryParam("accountId") String accountId,
+      PerpetualTaskAssignmentsRequest request) {
+    PerpetualTaskAssignmentsResponse response = perpetualTaskService.listAssignmentChanges(
+        delegateId, accountId, request.getRunningTasksList(), request.getCachedTasksList());
+    return Response.ok(response).build();
+  }
+
   @GET
   @Path("/context")
   @Timed
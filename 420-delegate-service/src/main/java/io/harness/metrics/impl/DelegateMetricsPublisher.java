@@ -30,6 +30,7 @@ import io.harness.delegate.beans.Delegate.DelegateKeys;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
 import io.harness.metrics.beans.DelegateAccountMetricContext;
+import io.harness.metrics.beans.DelegateCacheMetricContext;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
 import io.harness.perpetualtask.PerpetualTaskState;
@@ -46,6 +47,7 @@ import dev.morphia.aggregation.AggregationPipeline;
 import dev.morphia.query.Query;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -56,6 +58,10 @@ import org.apache.commons.lang3.StringUtils;
 @Singleton
 public class DelegateMetricsPublisher implements MetricsPublisher {
   private static final String ACTIVE_DELEGATES_COUNT = "active_delegate_count";
+  private static final String DELEGATE_CACHE_HIT_COUNT = "delegate_cache_hit_count";
+  private static final String DELEGATE_CACHE_MISS_COUNT = "delegate_cache_miss_count";
+  private static final String DELEGATE_CACHE_EVICTION_COUNT = "delegate_cache_eviction_count";
+  private static final String DELEGATE_CACHE_AVERAGE_LOAD_TIME = "delegate_cache_average_load_time";
 
   public static final String ACTIVE_DELEGATE_TASK = "active_delegate_task";
 
@@ -97,12 +103,27 @@ public class DelegateMetricsPublisher implements MetricsPublisher {
       }
     }
 
+    recordDelegateCacheMetrics();
+
     if (log.isDebugEnabled()) {
       log.debug("Total time taken to collect metrics for active delegates count: {} (ms)",
           Instant.now().toEpochMilli() - startTime);
     }
   }
 
+  private void recordDelegateCacheMetrics() {
+    // Cache stats are per manager instance, so they are recorded by every instance without taking the lock
+    delegateCache.getCacheStats().forEach((cacheName, stats) -> {
+      try (DelegateCacheMetricContext ignore = new DelegateCacheMetricContext(cacheName)) {
+        metricService.recordMetric(DELEGATE_CACHE_HIT_COUNT, stats.hitCount());
+        metricService.recordMetric(DELEGATE_CACHE_MISS_COUNT, stats.missCount());
+        metricService.recordMetric(DELEGATE_CACHE_EVICTION_COUNT, stats.evictionCount());
+        metricService.recordMetric(
+            DELEGATE_CACHE_AVERAGE_LOAD_TIME, TimeUnit.NANOSECONDS.toMillis((long) stats.averageLoadPenalty()));
+      }
+    });
+  }
+
   private void recordActiveDelegateMetrics() {
     try {
       long activeDelegatesCount = persistence.createQuery(Delegate.class, excludeAuthority)
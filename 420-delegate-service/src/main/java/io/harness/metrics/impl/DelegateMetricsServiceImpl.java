@@ -26,6 +26,7 @@ import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.time.Duration;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +41,9 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
   public static final String DELEGATE_TASK_RESPONSE = "delegate_response";
   public static final String DELEGATE_TASK_ACQUIRE = "delegate_task_acquire";
   public static final String DELEGATE_TASK_ACQUIRE_FAILED = "delegate_task_acquire_failed";
+  public static final String DELEGATE_TASK_ACQUIRE_CONTENTION = "delegate_task_acquire_contention";
+  public static final String DELEGATE_TASK_ACQUIRE_NOT_OFFERED = "delegate_task_acquire_not_offered";
+  public static final String DELEGATE_TASK_TIME_TO_ASSIGN = "delegate_task_time_to_assign";
   public static final String DELEGATE_TASK_EXPIRED = "delegate_task_expired";
   public static final String DELEGATE_TASK_ACQUIRE_LIMIT_EXCEEDED = "delegate_task_acquire_limit_exceeded";
   public static final String DELEGATE_TASK_REBROADCAST = "delegate_task_rebroadcast";
@@ -115,6 +119,13 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
     }
   }
 
+  @Override
+  public void recordDelegateTaskDuration(DelegateTask task, String metricName, Duration duration) {
+    try (DelegateAccountMetricContext ignore = new DelegateAccountMetricContext(task.getAccountId())) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
+
   @Override
   public void recordDelegateTaskMetrics(String accountId, String metricName) {
     try (DelegateAccountMetricContext ignore = new DelegateAccountMetricContext(accountId)) {
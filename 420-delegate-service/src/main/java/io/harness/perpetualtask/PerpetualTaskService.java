@@ -31,6 +31,13 @@ public interface PerpetualTaskService {
 
   List<PerpetualTaskAssignDetails> listAssignedTasks(String delegateId, String accountId);
 
+  /**
+   * Compares the tasks assigned to the delegate with the ones it runs and only returns the differences, along with
+   * the contexts the delegate does not have yet.
+   */
+  PerpetualTaskAssignmentsResponse listAssignmentChanges(String delegateId, String accountId,
+      List<PerpetualTaskAssignDetails> runningTasks, List<PerpetualTaskAssignDetails> cachedTasks);
+
   List<PerpetualTaskRecord> listAllTasksForAccount(String accountId);
 
   PerpetualTaskRecord getTaskRecord(String taskId);
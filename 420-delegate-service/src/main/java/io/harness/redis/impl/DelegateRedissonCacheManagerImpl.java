@@ -18,7 +18,9 @@ import com.google.inject.name.Named;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.LocalCachedMapOptions;
 import org.redisson.api.RLocalCachedMap;
+import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 
 @OwnedBy(DEL)
 @Slf4j
@@ -38,4 +40,9 @@ public class DelegateRedissonCacheManagerImpl implements DelegateRedissonCacheMa
       String cacheName, Class<K> keyType, Class<V> valueType, LocalCachedMapOptions<K, V> localCachedMapOptions) {
     return redissonClient.getLocalCachedMap(cacheName, localCachedMapOptions);
   }
+
+  @Override
+  public RTopic getTopic(String topicName) {
+    return redissonClient.getTopic(topicName, StringCodec.INSTANCE);
+  }
 }
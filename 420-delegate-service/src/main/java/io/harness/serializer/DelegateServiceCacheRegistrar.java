@@ -34,6 +34,7 @@ public class DelegateServiceCacheRegistrar extends AbstractModule {
   public static final String DELEGATE_GROUP_CACHE = "delegate_group";
   public static final String DELEGATES_FROM_GROUP_CACHE = "delegates_from_group";
   public static final String ABORTED_TASK_LIST_CACHE = "aborted_task_list";
+  public static final String DELEGATE_CACHE_INVALIDATION_TOPIC = "delegate_cache_invalidation";
   private static final Integer CACHE_SIZE = 10000;
 
   @Provides
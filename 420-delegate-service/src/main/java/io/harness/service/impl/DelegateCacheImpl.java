@@ -9,10 +9,12 @@ package io.harness.service.impl;
 
 import static io.harness.beans.DelegateTask.Status.runningStatuses;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.delegate.utils.DelegateServiceConstants.HEARTBEAT_EXPIRY_TIME_FIVE_MINS;
 import static io.harness.serializer.DelegateServiceCacheRegistrar.ABORTED_TASK_LIST_CACHE;
 import static io.harness.serializer.DelegateServiceCacheRegistrar.DELEGATES_FROM_GROUP_CACHE;
 import static io.harness.serializer.DelegateServiceCacheRegistrar.DELEGATE_CACHE;
+import static io.harness.serializer.DelegateServiceCacheRegistrar.DELEGATE_CACHE_INVALIDATION_TOPIC;
 import static io.harness.serializer.DelegateServiceCacheRegistrar.DELEGATE_GROUP_CACHE;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -37,8 +39,10 @@ import io.harness.service.intfc.DelegateCache;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -47,12 +51,18 @@ import com.mongodb.MongoTimeoutException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import javax.validation.constraints.NotNull;
 import javax.validation.executable.ValidateOnExecution;
 import lombok.extern.slf4j.Slf4j;
@@ -60,6 +70,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.redisson.api.LocalCachedMapOptions;
 import org.redisson.api.RLocalCachedMap;
+import org.redisson.api.RTopic;
 
 @Singleton
 @ValidateOnExecution
@@ -68,6 +79,7 @@ import org.redisson.api.RLocalCachedMap;
 public class DelegateCacheImpl implements DelegateCache {
   private static final int MAX_DELEGATE_META_INFO_ENTRIES = 10000;
   private static final String MONGO_TIMEOUT_MESSAGE = "Failed to connect to mongodb when fetching delegate from cache.";
+  private static final String INVALIDATION_SEPARATOR = "|";
 
   @Inject private HPersistence persistence;
   @Inject private DelegateTaskMigrationHelper delegateTaskMigrationHelper;
@@ -81,23 +93,40 @@ public class DelegateCacheImpl implements DelegateCache {
 
   @Inject DelegateRedissonCacheManager delegateRedissonCacheManager;
 
+  private final ExecutorService cacheRefreshExecutor = Executors.newFixedThreadPool(
+      2, new ThreadFactoryBuilder().setNameFormat("delegate-cache-refresh-%d").setDaemon(true).build());
+  private final String instanceId = generateUuid();
+  private final AtomicBoolean invalidationSubscribed = new AtomicBoolean();
+  private volatile long lastSubscriptionFailureMillis;
+  @VisibleForTesting long subscriptionRetryIntervalMillis = TimeUnit.MINUTES.toMillis(1);
+  private volatile RTopic invalidationTopic;
+  private final List<Consumer<String>> accountInvalidationListeners = new CopyOnWriteArrayList<>();
+
+  private enum InvalidationType { DELEGATE, DELEGATE_GROUP, DELEGATE_PROFILE }
+
+  // Entries are refreshed in the background once stale and invalidated across managers on change, so the expiry
+  // below is only a safety net for missed invalidations.
   private LoadingCache<String, Optional<Delegate>> delegateCache =
       CacheBuilder.newBuilder()
           .maximumSize(MAX_DELEGATE_META_INFO_ENTRIES)
-          .expireAfterWrite(1, TimeUnit.MINUTES)
-          .build(new CacheLoader<String, Optional<Delegate>>() {
+          .refreshAfterWrite(1, TimeUnit.MINUTES)
+          .expireAfterWrite(10, TimeUnit.MINUTES)
+          .recordStats()
+          .build(refreshingAsync(new CacheLoader<String, Optional<Delegate>>() {
             @Override
             public Optional<Delegate> load(String delegateId) {
               return Optional.ofNullable(
                   persistence.createQuery(Delegate.class).filter(DelegateKeys.uuid, delegateId).get());
             }
-          });
+          }));
 
   private LoadingCache<ImmutablePair<String, String>, DelegateGroup> delegateGroupCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
-          .expireAfterWrite(30, TimeUnit.SECONDS)
-          .build(new CacheLoader<ImmutablePair<String, String>, DelegateGroup>() {
+          .refreshAfterWrite(5, TimeUnit.MINUTES)
+          .expireAfterWrite(30, TimeUnit.MINUTES)
+          .recordStats()
+          .build(refreshingAsync(new CacheLoader<ImmutablePair<String, String>, DelegateGroup>() {
             @Override
             public DelegateGroup load(ImmutablePair<String, String> delegateGroupKey) {
               return persistence.createQuery(DelegateGroup.class)
@@ -105,13 +134,15 @@ public class DelegateCacheImpl implements DelegateCache {
                   .filter(DelegateGroupKeys.uuid, delegateGroupKey.getRight())
                   .get();
             }
-          });
+          }));
 
   private LoadingCache<ImmutablePair<String, String>, DelegateProfile> delegateProfilesCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
-          .expireAfterWrite(30, TimeUnit.SECONDS)
-          .build(new CacheLoader<ImmutablePair<String, String>, DelegateProfile>() {
+          .refreshAfterWrite(5, TimeUnit.MINUTES)
+          .expireAfterWrite(30, TimeUnit.MINUTES)
+          .recordStats()
+          .build(refreshingAsync(new CacheLoader<ImmutablePair<String, String>, DelegateProfile>() {
             @Override
             public DelegateProfile load(ImmutablePair<String, String> delegateProfileKey) {
               return persistence.createQuery(DelegateProfile.class)
@@ -119,13 +150,15 @@ public class DelegateCacheImpl implements DelegateCache {
                   .filter(DelegateProfileKeys.uuid, delegateProfileKey.getRight())
                   .get();
             }
-          });
+          }));
 
   private LoadingCache<ImmutablePair<String, String>, List<Delegate>> delegatesFromGroupCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
-          .expireAfterWrite(5, TimeUnit.MINUTES)
-          .build(new CacheLoader<ImmutablePair<String, String>, List<Delegate>>() {
+          .refreshAfterWrite(5, TimeUnit.MINUTES)
+          .expireAfterWrite(30, TimeUnit.MINUTES)
+          .recordStats()
+          .build(refreshingAsync(new CacheLoader<ImmutablePair<String, String>, List<Delegate>>() {
             @Override
             public List<Delegate> load(ImmutablePair<String, String> delegateGroupKey) {
               return persistence.createQuery(Delegate.class)
@@ -134,46 +167,54 @@ public class DelegateCacheImpl implements DelegateCache {
                   .filter(DelegateKeys.delegateGroupId, delegateGroupKey.getRight())
                   .asList();
             }
-          });
+          }));
 
   private LoadingCache<String, Set<String>> activeDelegateSupportedTaskTypesCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
-          .expireAfterWrite(10, TimeUnit.MINUTES)
-          .build(new CacheLoader<String, Set<String>>() {
+          .refreshAfterWrite(10, TimeUnit.MINUTES)
+          .expireAfterWrite(1, TimeUnit.HOURS)
+          .recordStats()
+          .build(refreshingAsync(new CacheLoader<String, Set<String>>() {
             @Override
             public Set<String> load(@NotNull String accountId) {
               return getIntersectionOfSupportedTaskTypes(accountId);
             }
-          });
+          }));
 
   private LoadingCache<String, Long> optionalDelegateTasksCountCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
-          .expireAfterWrite(1, TimeUnit.MINUTES)
-          .build(new CacheLoader<String, Long>() {
+          .refreshAfterWrite(1, TimeUnit.MINUTES)
+          .expireAfterWrite(5, TimeUnit.MINUTES)
+          .recordStats()
+          .build(refreshingAsync(new CacheLoader<String, Long>() {
             @Override
             public Long load(@NotNull String accountId) {
               return populateDelegateTaskCount(accountId, DelegateTaskRank.OPTIONAL);
             }
-          });
+          }));
 
   private LoadingCache<String, Long> importantDelegateTasksCountCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
-          .expireAfterWrite(1, TimeUnit.MINUTES)
-          .build(new CacheLoader<String, Long>() {
+          .refreshAfterWrite(1, TimeUnit.MINUTES)
+          .expireAfterWrite(5, TimeUnit.MINUTES)
+          .recordStats()
+          .build(refreshingAsync(new CacheLoader<String, Long>() {
             @Override
             public Long load(@NotNull String accountId) {
               return populateDelegateTaskCount(accountId, DelegateTaskRank.IMPORTANT);
             }
-          });
+          }));
 
   private LoadingCache<String, Long> parkedDelegateTasksCountCache =
       CacheBuilder.newBuilder()
           .maximumSize(10000)
-          .expireAfterWrite(1, TimeUnit.MINUTES)
-          .build(new CacheLoader<String, Long>() {
+          .refreshAfterWrite(1, TimeUnit.MINUTES)
+          .expireAfterWrite(5, TimeUnit.MINUTES)
+          .recordStats()
+          .build(refreshingAsync(new CacheLoader<String, Long>() {
             @Override
             public Long load(@NotNull String accountId) {
               return persistence.createQuery(DelegateTask.class, true)
@@ -181,7 +222,11 @@ public class DelegateCacheImpl implements DelegateCache {
                   .filter(DelegateTaskKeys.status, DelegateTask.Status.PARKED)
                   .count();
             }
-          });
+          }));
+
+  private <K, V> CacheLoader<K, V> refreshingAsync(CacheLoader<K, V> loader) {
+    return CacheLoader.asyncReloading(loader, cacheRefreshExecutor);
+  }
 
   @Override
   public Delegate get(String accountId, String delegateId, boolean forceRefresh) {
@@ -189,10 +234,12 @@ public class DelegateCacheImpl implements DelegateCache {
       if (enableRedisForDelegateService) {
         return getDelegateFromRedisCache(delegateId, forceRefresh);
       }
+      subscribeToInvalidations();
       Delegate delegate = delegateCache.get(delegateId).orElse(null);
 
       if (forceRefresh || delegate == null) {
-        delegateCache.refresh(delegateId);
+        // Refresh reloads in the background, invalidate so that the fresh value is loaded before returning
+        delegateCache.invalidate(delegateId);
       }
 
       delegate = delegateCache.get(delegateId).orElse(null);
@@ -233,6 +280,7 @@ public class DelegateCacheImpl implements DelegateCache {
       if (enableRedisForDelegateService) {
         return getDelegateGroupRedisCache(accountId, delegateGroupId);
       }
+      subscribeToInvalidations();
       return delegateGroupCache.get(ImmutablePair.of(accountId, delegateGroupId));
     } catch (ExecutionException | CacheLoader.InvalidCacheLoadException e) {
       return null;
@@ -246,6 +294,7 @@ public class DelegateCacheImpl implements DelegateCache {
     }
 
     try {
+      subscribeToInvalidations();
       return delegateProfilesCache.get(ImmutablePair.of(accountId, delegateProfileId));
     } catch (ExecutionException | CacheLoader.InvalidCacheLoadException e) {
       return null;
@@ -255,6 +304,128 @@ public class DelegateCacheImpl implements DelegateCache {
   @Override
   public void invalidateDelegateProfileCache(String accountId, String delegateProfileId) {
     delegateProfilesCache.invalidate(ImmutablePair.of(accountId, delegateProfileId));
+    notifyAccountInvalidationListeners(accountId);
+    publishInvalidation(InvalidationType.DELEGATE_PROFILE, accountId, delegateProfileId);
+  }
+
+  @Override
+  public void invalidateDelegate(String accountId, String delegateId) {
+    if (enableRedisForDelegateService) {
+      // Local cached map propagates the change to the other managers, the topic is still needed for the listeners
+      getDelegateFromRedisCache(delegateId, true);
+    } else {
+      delegateCache.invalidate(delegateId);
+    }
+    notifyAccountInvalidationListeners(accountId);
+    publishInvalidation(InvalidationType.DELEGATE, accountId, delegateId);
+  }
+
+  @Override
+  public void invalidateDelegateGroup(String accountId, String delegateGroupId) {
+    if (isBlank(delegateGroupId)) {
+      return;
+    }
+    if (enableRedisForDelegateService) {
+      delegateGroupRedisCache.fastRemove(delegateGroupId);
+      delegatesFromGroupRedisCache.fastRemove(delegateGroupId);
+    } else {
+      invalidateLocalDelegateGroup(accountId, delegateGroupId);
+    }
+    notifyAccountInvalidationListeners(accountId);
+    publishInvalidation(InvalidationType.DELEGATE_GROUP, accountId, delegateGroupId);
+  }
+
+  @Override
+  public void addAccountInvalidationListener(Consumer<String> listener) {
+    accountInvalidationListeners.add(listener);
+    subscribeToInvalidations();
+  }
+
+  @Override
+  public Map<String, CacheStats> getCacheStats() {
+    Map<String, CacheStats> cacheStats = new LinkedHashMap<>();
+    cacheStats.put(DELEGATE_CACHE, delegateCache.stats());
+    cacheStats.put(DELEGATE_GROUP_CACHE, delegateGroupCache.stats());
+    cacheStats.put("delegate_profile", delegateProfilesCache.stats());
+    cacheStats.put(DELEGATES_FROM_GROUP_CACHE, delegatesFromGroupCache.stats());
+    cacheStats.put("supported_task_types", activeDelegateSupportedTaskTypesCache.stats());
+    cacheStats.put("optional_task_count", optionalDelegateTasksCountCache.stats());
+    cacheStats.put("important_task_count", importantDelegateTasksCountCache.stats());
+    cacheStats.put("parked_task_count", parkedDelegateTasksCountCache.stats());
+    return cacheStats;
+  }
+
+  private void invalidateLocalDelegateGroup(String accountId, String delegateGroupId) {
+    ImmutablePair<String, String> delegateGroupKey = ImmutablePair.of(accountId, delegateGroupId);
+    delegateGroupCache.invalidate(delegateGroupKey);
+    delegatesFromGroupCache.invalidate(delegateGroupKey);
+  }
+
+  private void notifyAccountInvalidationListeners(String accountId) {
+    for (Consumer<String> listener : accountInvalidationListeners) {
+      try {
+        listener.accept(accountId);
+      } catch (Exception e) {
+        log.warn("Delegate cache invalidation listener failed for account {}", accountId, e);
+      }
+    }
+  }
+
+  private void publishInvalidation(InvalidationType type, String accountId, String entityId) {
+    subscribeToInvalidations();
+    RTopic topic = invalidationTopic;
+    if (topic == null) {
+      return;
+    }
+    try {
+      topic.publish(String.join(INVALIDATION_SEPARATOR, instanceId, type.name(), accountId, entityId));
+    } catch (Exception e) {
+      log.warn("Unable to publish delegate cache invalidation for {} {}", type, entityId, e);
+    }
+  }
+
+  private void subscribeToInvalidations() {
+    if (invalidationSubscribed.get()
+        || System.currentTimeMillis() - lastSubscriptionFailureMillis < subscriptionRetryIntervalMillis
+        || !invalidationSubscribed.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      RTopic topic = delegateRedissonCacheManager.getTopic(DELEGATE_CACHE_INVALIDATION_TOPIC);
+      topic.addListener(String.class, (channel, message) -> onInvalidation(message));
+      invalidationTopic = topic;
+    } catch (Exception e) {
+      // Let a later cache access retry the subscription, without hammering redis while it is unavailable
+      lastSubscriptionFailureMillis = System.currentTimeMillis();
+      invalidationSubscribed.set(false);
+      log.warn("Unable to subscribe to delegate cache invalidations, falling back to cache expiry", e);
+    }
+  }
+
+  @VisibleForTesting
+  void onInvalidation(String message) {
+    String[] parts = StringUtils.splitPreserveAllTokens(message, INVALIDATION_SEPARATOR);
+    if (parts == null || parts.length != 4 || instanceId.equals(parts[0])) {
+      return;
+    }
+    try {
+      switch (InvalidationType.valueOf(parts[1])) {
+        case DELEGATE:
+          delegateCache.invalidate(parts[3]);
+          break;
+        case DELEGATE_GROUP:
+          invalidateLocalDelegateGroup(parts[2], parts[3]);
+          break;
+        case DELEGATE_PROFILE:
+          delegateProfilesCache.invalidate(ImmutablePair.of(parts[2], parts[3]));
+          break;
+        default:
+          break;
+      }
+      notifyAccountInvalidationListeners(parts[2]);
+    } catch (IllegalArgumentException e) {
+      log.warn("Ignoring unknown delegate cache invalidation {}", message);
+    }
   }
 
   @Override
@@ -266,6 +437,7 @@ public class DelegateCacheImpl implements DelegateCache {
       if (enableRedisForDelegateService) {
         return getDelegatesForGroupRedisCache(accountId, delegateGroupId);
       }
+      subscribeToInvalidations();
       return delegatesFromGroupCache.get(ImmutablePair.of(accountId, delegateGroupId));
     } catch (ExecutionException | CacheLoader.InvalidCacheLoadException e) {
       log.warn("Unable to getDelegates from cache based on group id");
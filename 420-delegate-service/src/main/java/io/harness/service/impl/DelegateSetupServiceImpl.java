@@ -351,6 +351,7 @@ public class DelegateSetupServiceImpl implements DelegateSetupService, OwnedByAc
 
     DelegateGroup updatedDelegateGroup =
         persistence.findAndModify(updateQuery, updateOperations, HPersistence.returnNewOptions);
+    delegateCache.invalidateDelegateGroup(accountId, delegateGroupId);
 
     return buildDelegateGroupDetails(accountId, updatedDelegateGroup, null, delegateGroupId);
   }
@@ -379,6 +380,7 @@ public class DelegateSetupServiceImpl implements DelegateSetupService, OwnedByAc
         persistence.findAndModify(updateQuery, updateOperations, HPersistence.returnNewOptions);
 
     String delegateGroupId = updatedDelegateGroup != null ? updatedDelegateGroup.getUuid() : null;
+    delegateCache.invalidateDelegateGroup(accountId, delegateGroupId);
     return buildDelegateGroupDetails(accountId, updatedDelegateGroup, null, delegateGroupId);
   }
 
@@ -835,6 +837,7 @@ public class DelegateSetupServiceImpl implements DelegateSetupService, OwnedByAc
 
     DelegateGroup updatedDelegateGroup =
         persistence.findAndModify(updateQuery, updateOperations, HPersistence.returnNewOptions);
+    delegateCache.invalidateDelegateGroup(accountId, updatedDelegateGroup.getUuid());
 
     outboxService.save(DelegateUpsertEvent.builder()
                            .accountIdentifier(accountId)
@@ -907,6 +910,7 @@ public class DelegateSetupServiceImpl implements DelegateSetupService, OwnedByAc
 
       DelegateGroup updatedDelegateGroup =
           persistence.findAndModify(updateQuery, updateOperations, HPersistence.returnNewOptions);
+      delegateCache.invalidateDelegateGroup(accountIdentifier, updatedDelegateGroup.getUuid());
 
       outboxService.save(DelegateUpsertEvent.builder()
                              .accountIdentifier(accountIdentifier)
@@ -944,7 +948,9 @@ public class DelegateSetupServiceImpl implements DelegateSetupService, OwnedByAc
                                      .filter(DelegateGroupKeys.ng, true)
                                      .filter(DelegateGroupKeys.owner, owner);
 
+    List<String> delegateGroupIds = query.asKeyList().stream().map(key -> (String) key.getId()).collect(toList());
     persistence.delete(query);
+    delegateGroupIds.forEach(delegateGroupId -> delegateCache.invalidateDelegateGroup(accountId, delegateGroupId));
   }
 
   @Override
@@ -14,9 +14,11 @@ import io.harness.delegate.beans.DelegateGroup;
 import io.harness.delegate.beans.DelegateProfile;
 import io.harness.delegate.beans.DelegateTaskRank;
 
+import com.google.common.cache.CacheStats;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import javax.validation.constraints.NotNull;
 
 @OwnedBy(HarnessTeam.DEL)
@@ -31,6 +33,20 @@ public interface DelegateCache {
 
   void invalidateDelegateProfileCache(String accountId, String delegateProfileId);
 
+  /**
+   * Drops the delegate from this manager's cache and asks the other managers to do the same. Should be called after
+   * changes that affect task assignment (tags, scopes, profile, approval).
+   */
+  void invalidateDelegate(String accountId, String delegateId);
+
+  void invalidateDelegateGroup(String accountId, String delegateGroupId);
+
+  /**
+   * Registers a listener called with the account id whenever a delegate, delegate group or delegate profile of the
+   * account is invalidated, either by this manager or by another one. Used by caches derived from these entities.
+   */
+  void addAccountInvalidationListener(Consumer<String> listener);
+
   List<Delegate> getDelegatesForGroup(String accountId, String delegateGroupId);
 
   Set<String> getDelegateSupportedTaskTypes(@NotNull String accountId);
@@ -48,4 +64,6 @@ public interface DelegateCache {
   void removeFromAbortedTaskList(String accountId, String delegateTaskId);
 
   List<Delegate> getAllDelegatesFromRedisCache();
+
+  Map<String, CacheStats> getCacheStats();
 }
@@ -20,6 +20,8 @@ import static io.harness.rule.OwnerRule.VUK;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -771,6 +773,7 @@ public class DelegateSetupServiceTest extends DelegateServiceTestBase {
 
     assertThat(delegateGroupDetails).isNotNull();
     assertThat(delegateGroupDetails.getGroupCustomSelectors()).isNull();
+    verify(delegateCache, times(3)).invalidateDelegateGroup(accountId, delegateGroup1.getUuid());
   }
 
   @Test
@@ -817,6 +820,7 @@ public class DelegateSetupServiceTest extends DelegateServiceTestBase {
 
     assertThat(delegateGroupDetails).isNotNull();
     assertThat(delegateGroupDetails.getGroupCustomSelectors()).isNull();
+    verify(delegateCache, times(3)).invalidateDelegateGroup(accountId, delegateGroup1.getUuid());
   }
 
   private DelegateBuilder createDelegateBuilder() {
@@ -1321,6 +1325,27 @@ public class DelegateSetupServiceTest extends DelegateServiceTestBase {
     assertThat(updatedDelegateGroup).isPresent();
     assertThat(updatedDelegateGroup.get().getIdentifier()).isEqualTo("identifier1");
     assertThat(updatedDelegateGroup.get().getTags()).containsExactlyInAnyOrder("tag123", "tag456");
+    verify(delegateCache).invalidateDelegateGroup(TEST_ACCOUNT_ID, TEST_DELEGATE_GROUP_ID_1);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldInvalidateDelegateGroupsDeletedWithOwner() {
+    DelegateEntityOwner owner = DelegateEntityOwner.builder().identifier("orgId/projectId").build();
+    DelegateGroup delegateGroup = DelegateGroup.builder()
+                                      .uuid(TEST_DELEGATE_GROUP_ID_1)
+                                      .name("grp1")
+                                      .accountId(TEST_ACCOUNT_ID)
+                                      .owner(owner)
+                                      .ng(true)
+                                      .build();
+    persistence.save(delegateGroup);
+
+    delegateSetupService.deleteDelegateGroupsOnDeletingOwner(TEST_ACCOUNT_ID, owner);
+
+    assertThat(persistence.get(DelegateGroup.class, TEST_DELEGATE_GROUP_ID_1)).isNull();
+    verify(delegateCache).invalidateDelegateGroup(TEST_ACCOUNT_ID, TEST_DELEGATE_GROUP_ID_1);
   }
 
   @Test
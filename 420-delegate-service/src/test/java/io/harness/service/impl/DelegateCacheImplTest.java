@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static io.harness.rule.OwnerRule.MARKO;
+import static io.harness.serializer.DelegateServiceCacheRegistrar.DELEGATE_CACHE_INVALIDATION_TOPIC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.DelegateGroup;
+import io.harness.persistence.HPersistence;
+import io.harness.redis.intfc.DelegateRedissonCacheManager;
+import io.harness.rule.Owner;
+
+import dev.morphia.query.Query;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.redisson.api.RTopic;
+
+public class DelegateCacheImplTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+
+  @Mock private HPersistence persistence;
+  @Mock private DelegateRedissonCacheManager delegateRedissonCacheManager;
+  @Mock private RTopic invalidationTopic;
+  @Mock private Query<DelegateGroup> delegateGroupQuery;
+  @InjectMocks private DelegateCacheImpl delegateCache;
+
+  private final List<String> invalidatedAccounts = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(delegateRedissonCacheManager.getTopic(DELEGATE_CACHE_INVALIDATION_TOPIC)).thenReturn(invalidationTopic);
+    when(persistence.createQuery(DelegateGroup.class)).thenReturn(delegateGroupQuery);
+    when(delegateGroupQuery.filter(anyString(), any())).thenReturn(delegateGroupQuery);
+    when(delegateGroupQuery.get()).thenReturn(DelegateGroup.builder().uuid("delegateGroupId").build());
+    delegateCache.addAccountInvalidationListener(invalidatedAccounts::add);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testLocalInvalidationsNotifyAccountListeners() {
+    delegateCache.invalidateDelegate(ACCOUNT_ID, "delegateId");
+    delegateCache.invalidateDelegateGroup(ACCOUNT_ID, "delegateGroupId");
+    delegateCache.invalidateDelegateProfileCache(ACCOUNT_ID, "delegateProfileId");
+
+    assertThat(invalidatedAccounts).containsExactly(ACCOUNT_ID, ACCOUNT_ID, ACCOUNT_ID);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testRemoteInvalidationsNotifyAccountListeners() {
+    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+    delegateCache.invalidateDelegate(ACCOUNT_ID, "delegateId");
+    verify(invalidationTopic).publish(messageCaptor.capture());
+    invalidatedAccounts.clear();
+
+    // Own messages come back through the topic as well and are ignored
+    delegateCache.onInvalidation(messageCaptor.getValue());
+    assertThat(invalidatedAccounts).isEmpty();
+
+    delegateCache.onInvalidation("otherManager|DELEGATE_GROUP|otherAccountId|delegateGroupId");
+    delegateCache.onInvalidation("otherManager|UNKNOWN|anotherAccountId|entityId");
+    assertThat(invalidatedAccounts).containsExactly("otherAccountId");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testFailingListenerDoesNotBreakInvalidation() {
+    delegateCache.addAccountInvalidationListener(accountId -> { throw new IllegalStateException("failed"); });
+
+    delegateCache.invalidateDelegate(ACCOUNT_ID, "delegateId");
+
+    assertThat(invalidatedAccounts).containsExactly(ACCOUNT_ID);
+    verify(invalidationTopic).publish(anyString());
+    verify(invalidationTopic).addListener(eq(String.class), any());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testDelegateGroupInvalidationReloadsGroup() {
+    delegateCache.getDelegateGroup(ACCOUNT_ID, "delegateGroupId");
+    delegateCache.getDelegateGroup(ACCOUNT_ID, "delegateGroupId");
+    verify(delegateGroupQuery, times(1)).get();
+
+    delegateCache.invalidateDelegateGroup(ACCOUNT_ID, "delegateGroupId");
+    delegateCache.getDelegateGroup(ACCOUNT_ID, "delegateGroupId");
+    verify(delegateGroupQuery, times(2)).get();
+    verify(invalidationTopic).publish(endsWith("|DELEGATE_GROUP|" + ACCOUNT_ID + "|delegateGroupId"));
+
+    delegateCache.onInvalidation("otherManager|DELEGATE_GROUP|" + ACCOUNT_ID + "|delegateGroupId");
+    delegateCache.getDelegateGroup(ACCOUNT_ID, "delegateGroupId");
+    verify(delegateGroupQuery, times(3)).get();
+
+    delegateCache.onInvalidation("otherManager|DELEGATE_GROUP|" + ACCOUNT_ID + "|otherDelegateGroupId");
+    delegateCache.getDelegateGroup(ACCOUNT_ID, "delegateGroupId");
+    verify(delegateGroupQuery, times(3)).get();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testFailedSubscriptionIsRetried() {
+    DelegateRedissonCacheManager unavailableCacheManager = mock(DelegateRedissonCacheManager.class);
+    RTopic topic = mock(RTopic.class);
+    when(unavailableCacheManager.getTopic(DELEGATE_CACHE_INVALIDATION_TOPIC))
+        .thenThrow(new IllegalStateException("redis is down"))
+        .thenReturn(topic);
+    DelegateCacheImpl cache = new DelegateCacheImpl();
+    cache.delegateRedissonCacheManager = unavailableCacheManager;
+
+    cache.invalidateDelegate(ACCOUNT_ID, "delegateId");
+    cache.invalidateDelegate(ACCOUNT_ID, "delegateId");
+    verify(unavailableCacheManager, times(1)).getTopic(DELEGATE_CACHE_INVALIDATION_TOPIC);
+    verify(topic, never()).publish(anyString());
+
+    cache.subscriptionRetryIntervalMillis = 0;
+    cache.invalidateDelegate(ACCOUNT_ID, "delegateId");
+    cache.invalidateDelegate(ACCOUNT_ID, "delegateId");
+    verify(unavailableCacheManager, times(2)).getTopic(DELEGATE_CACHE_INVALIDATION_TOPIC);
+    verify(topic, times(2)).publish(anyString());
+  }
+}
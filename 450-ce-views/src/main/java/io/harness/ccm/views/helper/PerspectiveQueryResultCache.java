@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.helper;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
+import io.harness.ccm.commons.dao.CEMetadataRecordDao;
+import io.harness.ccm.commons.entities.batch.CEMetadataRecord;
+import io.harness.ff.FeatureFlagService;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.cloud.PageImpl;
+import com.google.cloud.bigquery.FieldValueList;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.TableResult;
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches the results of perspective queries for accounts with {@link FeatureName#CCM_PERSPECTIVE_QUERY_RESULT_CACHE},
+ * so a dashboard refreshed by many users runs its queries once per data sync. Results are keyed by the generated query
+ * and the last update of the account's {@link CEMetadataRecord}, read on every lookup, which is bumped when ingestion
+ * writes new data, and expire after a while regardless. Concurrent identical queries wait for the one in flight
+ * instead of running again. The rows are fetched once when a result is cached, every caller gets its own
+ * {@link TableResult} over them. The cache is bounded by the number of cached rows, results with more rows than
+ * {@link #MAX_ROWS_PER_CACHED_RESULT} are handed to the callers waiting for them but not kept.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(CE)
+public class PerspectiveQueryResultCache {
+  static final int MAX_CACHED_ROWS = 1_000_000;
+  static final int MAX_ROWS_PER_CACHED_RESULT = 50_000;
+
+  @Inject private CEMetadataRecordDao ceMetadataRecordDao;
+  @Inject private FeatureFlagService featureFlagService;
+
+  private final AsyncCache<CacheKey, CachedResult> queryResultCache =
+      Caffeine.newBuilder()
+          .maximumWeight(MAX_CACHED_ROWS)
+          .<CacheKey, CachedResult>weigher((cacheKey, cachedResult) -> 1 + cachedResult.getRows().size())
+          .expireAfterWrite(15, TimeUnit.MINUTES)
+          .buildAsync();
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong coalescedCount = new AtomicLong();
+  private final AtomicLong savedQueryMillis = new AtomicLong();
+
+  @FunctionalInterface
+  public interface QueryRunner {
+    TableResult run() throws InterruptedException;
+  }
+
+  public TableResult getQueryResults(String accountId, String query, QueryRunner queryRunner)
+      throws InterruptedException {
+    if (accountId == null || !featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_QUERY_RESULT_CACHE, accountId)) {
+      return queryRunner.run();
+    }
+    CacheKey cacheKey = new CacheKey(accountId, query, getDataSyncWatermark(accountId));
+
+    CompletableFuture<CachedResult> loading = new CompletableFuture<>();
+    CompletableFuture<CachedResult> cached = queryResultCache.asMap().putIfAbsent(cacheKey, loading);
+    if (cached == null) {
+      missCount.incrementAndGet();
+      return load(cacheKey, loading, queryRunner);
+    }
+
+    AtomicLong counter = cached.isDone() ? hitCount : coalescedCount;
+    try {
+      CachedResult cachedResult = cached.get();
+      counter.incrementAndGet();
+      long totalSavedQueryMillis = savedQueryMillis.addAndGet(cachedResult.getQueryMillis());
+      log.debug("Perspective query for account {} served from cache, saved {} ms (hits: {}, coalesced: {}, misses: {}, "
+              + "saved in total: {} ms)",
+          accountId, cachedResult.getQueryMillis(), hitCount.get(), coalescedCount.get(), missCount.get(),
+          totalSavedQueryMillis);
+      return cachedResult.toTableResult();
+    } catch (ExecutionException e) {
+      // the query we waited for failed; run our own so the caller sees its own outcome
+      return queryRunner.run();
+    }
+  }
+
+  private TableResult load(CacheKey cacheKey, CompletableFuture<CachedResult> loading, QueryRunner queryRunner)
+      throws InterruptedException {
+    long startTime = System.currentTimeMillis();
+    try {
+      TableResult result = queryRunner.run();
+      if (result == null) {
+        queryResultCache.asMap().remove(cacheKey, loading);
+        loading.completeExceptionally(new IllegalStateException("Perspective query returned no result"));
+        return null;
+      }
+      // iterateAll fetches the remaining pages, so it runs once here instead of once per caller
+      List<FieldValueList> rows = ImmutableList.copyOf(result.iterateAll());
+      long queryMillis = System.currentTimeMillis() - startTime;
+      log.info("Perspective query for account {} took {} ms", cacheKey.getAccountId(), queryMillis);
+      CachedResult cachedResult = new CachedResult(result.getSchema(), result.getTotalRows(), rows, queryMillis);
+      if (rows.size() > MAX_ROWS_PER_CACHED_RESULT) {
+        queryResultCache.asMap().remove(cacheKey, loading);
+      }
+      loading.complete(cachedResult);
+      return cachedResult.toTableResult();
+    } catch (Throwable e) {
+      // errors too, such as running out of memory while fetching the rows, or the waiting callers never return
+      queryResultCache.asMap().remove(cacheKey, loading);
+      loading.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private long getDataSyncWatermark(String accountId) {
+    CEMetadataRecord ceMetadataRecord = ceMetadataRecordDao.getByAccountId(accountId);
+    return ceMetadataRecord == null ? 0L : ceMetadataRecord.getLastUpdatedAt();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getCoalescedCount() {
+    return coalescedCount.get();
+  }
+
+  @Value
+  private static class CacheKey {
+    String accountId;
+    String query;
+    long dataSyncWatermark;
+  }
+
+  @Value
+  private static class CachedResult {
+    Schema schema;
+    long totalRows;
+    List<FieldValueList> rows;
+    long queryMillis;
+
+    TableResult toTableResult() {
+      return new TableResult(schema, totalRows, new PageImpl<>(null, null, rows));
+    }
+  }
+}
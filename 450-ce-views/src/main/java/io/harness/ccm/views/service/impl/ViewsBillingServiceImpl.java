@@ -90,6 +90,7 @@ import io.harness.ccm.views.helper.AwsAccountFieldHelper;
 import io.harness.ccm.views.helper.BusinessMappingDataSourceHelper;
 import io.harness.ccm.views.helper.BusinessMappingSharedCostHelper;
 import io.harness.ccm.views.helper.InstanceDetailsHelper;
+import io.harness.ccm.views.helper.PerspectiveQueryResultCache;
 import io.harness.ccm.views.helper.ViewBillingServiceHelper;
 import io.harness.ccm.views.helper.ViewBusinessMappingResponseHelper;
 import io.harness.ccm.views.helper.ViewParametersHelper;
@@ -159,6 +160,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   @Inject private BusinessMappingSharedCostHelper businessMappingSharedCostHelper;
   @Inject private LabelFlattenedService labelFlattenedService;
   @Inject private ModuleLicenseHelper moduleLicenseHelper;
+  @Inject private PerspectiveQueryResultCache perspectiveQueryResultCache;
 
   // ----------------------------------------------------------------------------------------------------------------
   // Methods to get data for filter panel
@@ -319,9 +321,11 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     log.info("Query for grid (with limit as {}): {}", modifiedLimit, query);
     TableResult result;
     try {
-      Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
-      log.info("Job id {} for grid query (with limit as {}): {}", job.getJobId(), modifiedLimit, query);
-      result = job.getQueryResults();
+      result = perspectiveQueryResultCache.getQueryResults(queryParams.getAccountId(), query.toString(), () -> {
+        Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
+        log.info("Job id {} for grid query (with limit as {}): {}", job.getJobId(), modifiedLimit, query);
+        return job.getQueryResults();
+      });
     } catch (InterruptedException e) {
       log.error("Failed to getEntityStatsDataPoints for query {}", query, e);
       Thread.currentThread().interrupt();
@@ -350,7 +354,8 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
       SelectQuery query = businessMappingSharedCostHelper.getEntityStatsSharedCostDataQueryForCostTrend(filters,
           groupBy, aggregateFunction, sort, cloudProviderTableName, queryParams, sharedCostBusinessMappings, viewRules,
           labelsKeyAndColumnMapping, viewPreferences);
-      final TableResult result = getTableResultWithLimitAndOffset(bigQuery, query, limit, offset);
+      final TableResult result =
+          getTableResultWithLimitAndOffset(bigQuery, queryParams.getAccountId(), query, limit, offset);
       costTrendData =
           convertToEntityStatsCostTrendData(result, isClusterPerspective, queryParams.isSkipRoundOff(), groupBy);
     } else {
@@ -381,7 +386,8 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     if (Objects.isNull(query)) {
       return null;
     }
-    final TableResult result = getTableResultWithLimitAndOffset(bigQuery, query, limit, offset);
+    final TableResult result =
+        getTableResultWithLimitAndOffset(bigQuery, queryParams.getAccountId(), query, limit, offset);
     return convertToEntityStatsData(result, costTrendData, startTimeForTrendData, isClusterPerspective,
         queryParams.isUsedByTimeSeriesStats(), queryParams.isSkipRoundOff(), conversionField,
         queryParams.getAccountId(), groupBy, businessMapping, false);
@@ -577,9 +583,11 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     log.info("Query for cost trend (with limit as {}): {}", limit, query);
     TableResult result;
     try {
-      Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
-      log.info("Job id {} for cost trend query (with limit as {}): {}", job.getJobId(), limit, query);
-      result = job.getQueryResults();
+      result = perspectiveQueryResultCache.getQueryResults(queryParams.getAccountId(), query.toString(), () -> {
+        Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
+        log.info("Job id {} for cost trend query (with limit as {}): {}", job.getJobId(), limit, query);
+        return job.getQueryResults();
+      });
     } catch (InterruptedException e) {
       log.error("Failed to getEntityStatsDataForCostTrend for account {}", queryParams.getAccountId(), e);
       Thread.currentThread().interrupt();
@@ -696,9 +704,11 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
 
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     try {
-      Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
-      log.info("Job id {} for timeSeriesStats query (with limit as {}): {}", job.getJobId(), limit, query);
-      return job.getQueryResults();
+      return perspectiveQueryResultCache.getQueryResults(queryParams.getAccountId(), query.toString(), () -> {
+        Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
+        log.info("Job id {} for timeSeriesStats query (with limit as {}): {}", job.getJobId(), limit, query);
+        return job.getQueryResults();
+      });
     } catch (InterruptedException e) {
       log.error("Failed to getTimeSeriesStats for query: {}", query, e);
       Thread.currentThread().interrupt();
@@ -966,10 +976,11 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     double prevSharedCostFromRulesAndFilters = getTotalSharedCostFromFilters(bigQuery, filtersForPrevPeriod, groupBy,
         aggregateFunction, Collections.emptyList(), cloudProviderTableName, queryParams, sharedCostBusinessMappings,
         labelsKeyAndColumnMapping, viewPreferences);
-    ViewCostData costData = getViewTrendStatsCostData(
-        bigQuery, query, isClusterTableQuery, businessMapping, addSharedCostFromGroupBy, sharedCostFromRulesAndFilters);
-    ViewCostData prevCostData = getViewTrendStatsCostData(bigQuery, prevTrendStatsQuery, isClusterTableQuery,
-        businessMapping, addSharedCostFromGroupBy, prevSharedCostFromRulesAndFilters);
+    ViewCostData costData = getViewTrendStatsCostData(bigQuery, queryParams.getAccountId(), query,
+        isClusterTableQuery, businessMapping, addSharedCostFromGroupBy, sharedCostFromRulesAndFilters);
+    ViewCostData prevCostData =
+        getViewTrendStatsCostData(bigQuery, queryParams.getAccountId(), prevTrendStatsQuery, isClusterTableQuery,
+            businessMapping, addSharedCostFromGroupBy, prevSharedCostFromRulesAndFilters);
 
     EfficiencyScoreStats efficiencyScoreStats = null;
     if (isClusterTableQuery) {
@@ -1093,19 +1104,21 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     double sharedCostFromFiltersAndRules = getTotalSharedCostFromFilters(bigQuery, filters, groupBy, aggregateFunction,
         Collections.emptyList(), cloudProviderTableName, queryParams, sharedCostBusinessMappings,
         labelsKeyAndColumnMapping, viewPreferences);
-    return getViewTrendStatsCostData(
-        bigQuery, query, isClusterTableQuery, businessMapping, addSharedCostFromGroupBy, sharedCostFromFiltersAndRules);
+    return getViewTrendStatsCostData(bigQuery, queryParams.getAccountId(), query, isClusterTableQuery, businessMapping,
+        addSharedCostFromGroupBy, sharedCostFromFiltersAndRules);
   }
 
-  private ViewCostData getViewTrendStatsCostData(BigQuery bigQuery, SelectQuery query, boolean isClusterTableQuery,
-      BusinessMapping businessMappingFromGroupBy, boolean addSharedCostFromGroupBy,
+  private ViewCostData getViewTrendStatsCostData(BigQuery bigQuery, String accountId, SelectQuery query,
+      boolean isClusterTableQuery, BusinessMapping businessMappingFromGroupBy, boolean addSharedCostFromGroupBy,
       double sharedCostFromFiltersAndRules) {
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     TableResult result;
     try {
-      Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
-      log.info("Job id {} for trend stats cost data query: {}", job.getJobId(), query);
-      result = job.getQueryResults();
+      result = perspectiveQueryResultCache.getQueryResults(accountId, query.toString(), () -> {
+        Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
+        log.info("Job id {} for trend stats cost data query: {}", job.getJobId(), query);
+        return job.getQueryResults();
+      });
     } catch (InterruptedException e) {
       log.error("Failed to getTrendStatsData.", e);
       Thread.currentThread().interrupt();
@@ -1444,7 +1457,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
           viewsQueryHelper.removeBusinessMappingFilter(filters, sharedCostBusinessMapping.getUuid()), groupBy,
           businessMappingGroupBy, aggregateFunction, sort, cloudProviderTableName, modifiedQueryParams,
           sharedCostBusinessMapping, Collections.emptyList(), labelsKeyAndColumnMapping, viewPreferences);
-      TableResult result = getTableResultWithLimitAndOffset(bigQuery, query, limit, offset);
+      TableResult result = getTableResultWithLimitAndOffset(bigQuery, queryParams.getAccountId(), query, limit, offset);
 
       if (Objects.isNull(result)) {
         return Collections.emptyMap();
@@ -1520,17 +1533,19 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     return sharedCostsFromFilters;
   }
 
-  private TableResult getTableResultWithLimitAndOffset(
-      final BigQuery bigQuery, final SelectQuery query, final Integer limit, final Integer offset) {
+  private TableResult getTableResultWithLimitAndOffset(final BigQuery bigQuery, final String accountId,
+      final SelectQuery query, final Integer limit, final Integer offset) {
     query.addCustomization(new PgLimitClause(limit));
     query.addCustomization(new PgOffsetClause(offset));
     final QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     log.info("Query for shared cost (with limit as {}): {}", limit, query);
     TableResult result = null;
     try {
-      Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
-      log.info("Job id {} for shared cost query (with limit as {}): {}", job.getJobId(), limit, query);
-      result = job.getQueryResults();
+      result = perspectiveQueryResultCache.getQueryResults(accountId, query.toString(), () -> {
+        Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
+        log.info("Job id {} for shared cost query (with limit as {}): {}", job.getJobId(), limit, query);
+        return job.getQueryResults();
+      });
     } catch (final InterruptedException e) {
       log.error("Failed to get query result", e);
       Thread.currentThread().interrupt();
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.helper;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+import static io.harness.rule.OwnerRule.SAHILDEEP;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
+import io.harness.category.element.UnitTests;
+import io.harness.ccm.commons.dao.CEMetadataRecordDao;
+import io.harness.ccm.commons.entities.batch.CEMetadataRecord;
+import io.harness.ff.FeatureFlagService;
+import io.harness.rule.Owner;
+
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.FieldList;
+import com.google.cloud.bigquery.FieldValue;
+import com.google.cloud.bigquery.FieldValueList;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.StandardSQLTypeName;
+import com.google.cloud.bigquery.TableResult;
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@OwnedBy(CE)
+@RunWith(MockitoJUnitRunner.class)
+public class PerspectiveQueryResultCacheTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final String QUERY = "SELECT SUM(cost) FROM unifiedTable WHERE startTime >= '2023-01-01'";
+
+  @Mock private CEMetadataRecordDao ceMetadataRecordDao;
+  @Mock private FeatureFlagService featureFlagService;
+  @InjectMocks private PerspectiveQueryResultCache perspectiveQueryResultCache;
+
+  private TableResult tableResult;
+  private List<FieldValueList> rows;
+  private AtomicInteger queries;
+
+  @Before
+  public void setUp() {
+    Schema schema = Schema.of(Field.of("cost", StandardSQLTypeName.FLOAT64));
+    rows = ImmutableList.of(FieldValueList.of(
+        ImmutableList.of(FieldValue.of(FieldValue.Attribute.PRIMITIVE, "10.5")), FieldList.of(schema.getFields())));
+    queries = new AtomicInteger();
+    when(featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_QUERY_RESULT_CACHE, ACCOUNT_ID)).thenReturn(true);
+    // the flag disabled test never reads the rows or the watermark
+    tableResult = mock(TableResult.class);
+    lenient().when(tableResult.getSchema()).thenReturn(schema);
+    lenient().when(tableResult.getTotalRows()).thenReturn(1L);
+    lenient().when(tableResult.iterateAll()).thenReturn(rows);
+    lenient()
+        .when(ceMetadataRecordDao.getByAccountId(ACCOUNT_ID))
+        .thenReturn(CEMetadataRecord.builder().accountId(ACCOUNT_ID).lastUpdatedAt(1000L).build());
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testCachesResultsOfIdenticalQueries() throws InterruptedException {
+    assertThat(perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery).iterateAll())
+        .containsExactlyElementsOf(rows);
+    assertThat(perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery).iterateAll())
+        .containsExactlyElementsOf(rows);
+    perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY + " LIMIT 10", this::runQuery);
+
+    assertThat(queries.get()).isEqualTo(2);
+    assertThat(perspectiveQueryResultCache.getHitCount()).isEqualTo(1);
+    assertThat(perspectiveQueryResultCache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testFetchesRowsOnceForAllCallers() throws InterruptedException {
+    TableResult first = perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery);
+    TableResult second = perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery);
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(first.iterateAll()).containsExactlyElementsOf(rows);
+    assertThat(second.iterateAll()).containsExactlyElementsOf(rows);
+    assertThat(second.getSchema()).isEqualTo(tableResult.getSchema());
+    assertThat(second.getTotalRows()).isEqualTo(1L);
+    verify(tableResult, times(1)).iterateAll();
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testKeysOnRawQueryText() throws InterruptedException {
+    perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY + " AND label = 'a  b'", this::runQuery);
+    perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY + " AND label = 'a b'", this::runQuery);
+
+    assertThat(queries.get()).isEqualTo(2);
+    assertThat(perspectiveQueryResultCache.getHitCount()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testRunsQueryAgainAfterDataSync() throws InterruptedException {
+    perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery);
+    when(ceMetadataRecordDao.getByAccountId(ACCOUNT_ID))
+        .thenReturn(CEMetadataRecord.builder().accountId(ACCOUNT_ID).lastUpdatedAt(2000L).build());
+    perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery);
+
+    assertThat(queries.get()).isEqualTo(2);
+    assertThat(perspectiveQueryResultCache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testDoesNotCacheWhenFeatureFlagIsDisabled() throws InterruptedException {
+    when(featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_QUERY_RESULT_CACHE, ACCOUNT_ID)).thenReturn(false);
+
+    assertThat(perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery)).isSameAs(tableResult);
+    assertThat(perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery)).isSameAs(tableResult);
+
+    assertThat(queries.get()).isEqualTo(2);
+    assertThat(perspectiveQueryResultCache.getMissCount()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testDoesNotCacheFailedQueries() throws InterruptedException {
+    assertThatThrownBy(() -> perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, () -> {
+      queries.incrementAndGet();
+      throw new IllegalStateException("query failed");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery).iterateAll())
+        .containsExactlyElementsOf(rows);
+    assertThat(queries.get()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testCoalescesConcurrentIdenticalQueries() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    PerspectiveQueryResultCache.QueryRunner blockingQuery = () -> {
+      release.await(10, TimeUnit.SECONDS);
+      return runQuery();
+    };
+
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      Future<TableResult> first = executorService.submit(
+          () -> perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, blockingQuery));
+      while (perspectiveQueryResultCache.getMissCount() == 0) {
+        Thread.sleep(5);
+      }
+      Future<TableResult> second = executorService.submit(
+          () -> perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, blockingQuery));
+      Thread.sleep(50);
+      release.countDown();
+
+      assertThat(first.get(10, TimeUnit.SECONDS).iterateAll()).containsExactlyElementsOf(rows);
+      assertThat(second.get(10, TimeUnit.SECONDS).iterateAll()).containsExactlyElementsOf(rows);
+      assertThat(queries.get()).isEqualTo(1);
+      assertThat(perspectiveQueryResultCache.getCoalescedCount()).isEqualTo(1);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testReleasesWaitingCallersWhenLoadingFailsWithError() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    PerspectiveQueryResultCache.QueryRunner failingQuery = () -> {
+      release.await(10, TimeUnit.SECONDS);
+      queries.incrementAndGet();
+      throw new OutOfMemoryError("Java heap space");
+    };
+
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      Future<TableResult> first = executorService.submit(
+          () -> perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, failingQuery));
+      while (perspectiveQueryResultCache.getMissCount() == 0) {
+        Thread.sleep(5);
+      }
+      Future<TableResult> second = executorService.submit(
+          () -> perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery));
+      Thread.sleep(50);
+      release.countDown();
+
+      assertThatThrownBy(() -> first.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(OutOfMemoryError.class);
+      assertThat(second.get(10, TimeUnit.SECONDS).iterateAll()).containsExactlyElementsOf(rows);
+      assertThat(queries.get()).isEqualTo(2);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  @Owner(developers = SAHILDEEP)
+  @Category(UnitTests.class)
+  public void testDoesNotCacheResultsWithTooManyRows() throws InterruptedException {
+    List<FieldValueList> manyRows =
+        Collections.nCopies(PerspectiveQueryResultCache.MAX_ROWS_PER_CACHED_RESULT + 1, rows.get(0));
+    when(tableResult.iterateAll()).thenReturn(manyRows);
+
+    assertThat(perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery).iterateAll())
+        .hasSize(manyRows.size());
+    assertThat(perspectiveQueryResultCache.getQueryResults(ACCOUNT_ID, QUERY, this::runQuery).iterateAll())
+        .hasSize(manyRows.size());
+
+    assertThat(queries.get()).isEqualTo(2);
+    assertThat(perspectiveQueryResultCache.getHitCount()).isEqualTo(0);
+  }
+
+  private TableResult runQuery() {
+    queries.incrementAndGet();
+    return tableResult;
+  }
+}
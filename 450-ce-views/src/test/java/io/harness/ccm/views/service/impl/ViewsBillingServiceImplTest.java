@@ -74,6 +74,7 @@ import io.harness.ccm.views.graphql.ViewsQueryHelper;
 import io.harness.ccm.views.helper.AwsAccountFieldHelper;
 import io.harness.ccm.views.helper.BusinessMappingDataSourceHelper;
 import io.harness.ccm.views.helper.BusinessMappingSharedCostHelper;
+import io.harness.ccm.views.helper.PerspectiveQueryResultCache;
 import io.harness.ccm.views.helper.ViewBillingServiceHelper;
 import io.harness.ccm.views.helper.ViewBusinessMappingResponseHelper;
 import io.harness.ccm.views.helper.ViewParametersHelper;
@@ -156,6 +157,7 @@ public class ViewsBillingServiceImplTest extends CategoryTest {
   @InjectMocks @Spy private ViewBusinessMappingResponseHelper viewBusinessMappingResponseHelper;
   @InjectMocks @Spy private ViewsQueryBuilder viewsQueryBuilder;
   @InjectMocks @Spy private BusinessMappingSharedCostHelper businessMappingSharedCostHelper;
+  @InjectMocks @Spy private PerspectiveQueryResultCache perspectiveQueryResultCache;
   @Mock private DataResponseService dataResponseService;
   @Mock private ViewsQueryHelper viewsQueryHelper;
   @Mock private FeatureFlagService featureFlagService;
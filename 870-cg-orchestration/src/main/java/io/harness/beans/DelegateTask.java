@@ -201,6 +201,9 @@ public class DelegateTask implements PersistentEntity, UuidAware, CreatedAtAware
   private boolean shouldSkipOpenStream;
   private String baseLogKey;
   private int broadcastRound;
+  // delegates the task is offered to, only they may acquire it until the offer expires
+  private Set<String> offeredDelegateIds;
+  private Long offerExpiry;
 
   @FdIndex private long expiry;
 
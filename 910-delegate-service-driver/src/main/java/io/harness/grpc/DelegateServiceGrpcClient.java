@@ -171,8 +171,7 @@ public class DelegateServiceGrpcClient {
             capabilities.stream()
                 .map(capability
                     -> Capability.newBuilder()
-                           .setKryoCapability(
-                               ByteString.copyFrom(referenceFalseKryoSerializer.asDeflatedBytes(capability)))
+                           .setKryoCapability(referenceFalseKryoSerializer.asFastDeflatedByteString(capability))
                            .build())
                 .collect(toList()));
       }
@@ -231,8 +230,7 @@ public class DelegateServiceGrpcClient {
         throw new InvalidRequestException("Could not serialize the task request", e);
       }
     } else {
-      taskDetailsBuilder.setKryoParameters(
-          ByteString.copyFrom(referenceFalseKryoSerializer.asDeflatedBytes(taskParameters)));
+      taskDetailsBuilder.setKryoParameters(referenceFalseKryoSerializer.asFastDeflatedByteString(taskParameters));
     }
     TaskLogAbstractions.Builder builder =
         TaskLogAbstractions.newBuilder().putAllValues(getAbstractionsMap(taskRequest.getLogStreamingAbstractions()));
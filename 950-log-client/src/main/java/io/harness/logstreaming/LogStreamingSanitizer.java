@@ -8,19 +8,16 @@
 package io.harness.logstreaming;
 
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
-import static io.harness.expression.SecretString.SECRET_MASK;
 import static io.harness.windows.CmdUtils.WIN_RM_MARKER;
 
-import static org.apache.commons.lang3.StringUtils.replaceEach;
-
 import io.harness.annotations.dev.CodePulse;
 import io.harness.annotations.dev.HarnessModuleComponent;
 import io.harness.annotations.dev.ProductModule;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.logging.LogSanitizerHelper;
+import io.harness.logging.SecretMasker;
 import io.harness.windows.CmdUtils;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -29,11 +26,15 @@ import lombok.Builder;
 
 @CodePulse(
     module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_COMMON_STEPS})
-@Builder
 public class LogStreamingSanitizer {
   private final Set<String> secrets;
+  private final SecretMasker secretMasker;
+  private volatile SecretMasker winRmSecretMasker;
+
+  @Builder
   public LogStreamingSanitizer(Set<String> secrets) {
     this.secrets = calculateSecretLines(secrets);
+    this.secretMasker = SecretMasker.compile(withQuotesRemoved(this.secrets));
   }
 
   public void sanitizeLogMessage(LogLine logLine) {
@@ -49,21 +50,7 @@ public class LogStreamingSanitizer {
 
     if (!isEmpty(secrets)) {
       boolean isWinRm = markers != null && markers.contains(WIN_RM_MARKER);
-      Set<String> allSecrets = isWinRm ? new HashSet<>(secrets) : secrets;
-      if (isWinRm) {
-        secrets.stream().map(CmdUtils::escapeEnvValueSpecialChars).collect(Collectors.toCollection(() -> allSecrets));
-      }
-
-      ArrayList<String> secretMasks = new ArrayList<>();
-      ArrayList<String> secretValues = new ArrayList<>();
-      for (String secret : allSecrets) {
-        secretMasks.add(SECRET_MASK);
-        secretValues.add(secret);
-
-        addSecretMasksWithQuotesRemoved(secret, secretMasks, secretValues);
-      }
-      sanitizedLogMessage = replaceEach(
-          logLine.getMessage(), secretValues.toArray(new String[] {}), secretMasks.toArray(new String[] {}));
+      sanitizedLogMessage = (isWinRm ? getWinRmSecretMasker() : secretMasker).mask(sanitizedLogMessage);
     }
 
     // JWT mask
@@ -71,6 +58,15 @@ public class LogStreamingSanitizer {
     logLine.setMessage(sanitizedLogMessage);
   }
 
+  private SecretMasker getWinRmSecretMasker() {
+    if (winRmSecretMasker == null) {
+      Set<String> allSecrets = new HashSet<>(secrets);
+      secrets.stream().map(CmdUtils::escapeEnvValueSpecialChars).collect(Collectors.toCollection(() -> allSecrets));
+      winRmSecretMasker = SecretMasker.compile(withQuotesRemoved(allSecrets));
+    }
+    return winRmSecretMasker;
+  }
+
   private static Set<String> calculateSecretLines(Set<String> secrets) {
     if (isEmpty(secrets)) {
       return new HashSet<>();
@@ -83,17 +79,15 @@ public class LogStreamingSanitizer {
         .collect(Collectors.toSet());
   }
 
-  private void addSecretMasksWithQuotesRemoved(
-      String secret, ArrayList<String> secretMasks, ArrayList<String> secretValues) {
-    String secretWithDoubleQuoteRemoved = secret.replaceAll("\"", "");
-    if (!secretWithDoubleQuoteRemoved.equals(secret)) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secretWithDoubleQuoteRemoved);
-    }
-    String secretWithSingleQuoteRemoved = secret.replaceAll("\'", "");
-    if (!secretWithSingleQuoteRemoved.equals(secret)) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secretWithSingleQuoteRemoved);
+  /**
+   * The secrets along with their variants without double quotes and without single quotes.
+   */
+  private static Set<String> withQuotesRemoved(Set<String> secrets) {
+    Set<String> variants = new HashSet<>(secrets);
+    for (String secret : secrets) {
+      variants.add(secret.replace("\"", ""));
+      variants.add(secret.replace("\'", ""));
     }
+    return variants;
   }
 }
@@ -28,6 +28,7 @@ import io.harness.waiter.persistence.PersistenceWrapper;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -35,9 +36,13 @@ import com.mongodb.DuplicateKeyException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
@@ -52,6 +57,7 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.DEL)
 public class WaitNotifyEngine {
   public static final int MIN_WAIT_INSTANCE_TIMEOUT = 3;
+  private static final int MAX_CORRELATION_IDS_PER_UPDATE = 500;
 
   @Inject private PersistenceWrapper persistenceWrapper;
   @Inject private KryoSerializer kryoSerializer;
@@ -142,10 +148,83 @@ public class WaitNotifyEngine {
     }
   }
 
+  /**
+   * Bulk version of {@link #progressOn(String, ProgressData)}, the progress updates are stored with a single insert.
+   */
+  public void progressOnAll(Map<String, ? extends ProgressData> progressDataMap) {
+    if (isEmpty(progressDataMap)) {
+      return;
+    }
+    List<ProgressUpdate> progressUpdates = new ArrayList<>(progressDataMap.size());
+    progressDataMap.forEach((correlationId, progressData) -> {
+      Preconditions.checkArgument(isNotBlank(correlationId), "correlationId is null or empty");
+      try {
+        progressUpdates.add(ProgressUpdate.builder()
+                                .uuid(generateUuid())
+                                .correlationId(correlationId)
+                                .createdAt(currentTimeMillis())
+                                .usingKryoWithoutReference(true)
+                                .progressData(referenceFalseKryoSerializer.asDeflatedBytes(progressData))
+                                .build());
+      } catch (Exception exception) {
+        log.error("Failed to notify for progress of type " + progressData.getClass().getSimpleName(), exception);
+      }
+    });
+
+    try {
+      persistenceWrapper.saveAllIgnoringDuplicateKeys(progressUpdates);
+    } catch (Exception exception) {
+      log.error("Failed to notify for progress of {} correlation ids", progressUpdates.size(), exception);
+    }
+  }
+
   public String doneWith(String correlationId, ResponseData response) {
     return doneWith(correlationId, response, response instanceof ErrorResponseData);
   }
 
+  /**
+   * Bulk version of {@link #doneWith(String, ResponseData)}. The responses are stored with a single insert, every
+   * affected wait instance is updated once and notified at most once, with one publish per publisher.
+   *
+   * @return the correlation ids whose responses got stored, duplicates of already stored responses are skipped
+   */
+  public List<String> doneWithAll(Map<String, ? extends ResponseData> responses) {
+    if (isEmpty(responses)) {
+      return Collections.emptyList();
+    }
+    List<NotifyResponse> notifyResponses = new ArrayList<>(responses.size());
+    responses.forEach((correlationId, response) -> {
+      Preconditions.checkArgument(isNotBlank(correlationId), "correlationId is null or empty");
+      try {
+        notifyResponses.add(NotifyResponse.builder()
+                                .uuid(correlationId)
+                                .createdAt(currentTimeMillis())
+                                .usingKryoWithoutReference(true)
+                                .responseData(referenceFalseKryoSerializer.asDeflatedBytes(response))
+                                .error(response instanceof ErrorResponseData)
+                                .build());
+      } catch (Exception exception) {
+        log.error("Failed to notify for response of type " + response.getClass().getSimpleName(), exception);
+      }
+    });
+
+    List<String> savedCorrelationIds;
+    try {
+      final Stopwatch stopwatch = Stopwatch.createStarted();
+      savedCorrelationIds = persistenceWrapper.saveAllIgnoringDuplicateKeys(notifyResponses);
+      if (log.isDebugEnabled()) {
+        log.debug("Process {} NotifyResponses mongo queryTime {}", notifyResponses.size(),
+            stopwatch.elapsed(TimeUnit.MILLISECONDS));
+      }
+    } catch (Exception exception) {
+      log.error("Failed to notify for {} responses", notifyResponses.size(), exception);
+      return Collections.emptyList();
+    }
+
+    handleNotifyResponses(savedCorrelationIds);
+    return savedCorrelationIds;
+  }
+
   private String doneWith(String correlationId, ResponseData response, boolean error) {
     Preconditions.checkArgument(isNotBlank(correlationId), "correlationId is null or empty");
 
@@ -195,6 +274,35 @@ public class WaitNotifyEngine {
     }
   }
 
+  public void handleNotifyResponses(List<String> correlationIds) {
+    // Keyed by wait instance id, so a wait instance waiting on several of the correlation ids is notified once
+    Map<String, WaitInstance> readyWaitInstances = new LinkedHashMap<>();
+    for (List<String> batch : Lists.partition(correlationIds, MAX_CORRELATION_IDS_PER_UPDATE)) {
+      for (WaitInstance waitInstance : persistenceWrapper.modifyAndFetchWaitInstances(batch)) {
+        if (isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+          readyWaitInstances.putIfAbsent(waitInstance.getUuid(), waitInstance);
+        }
+      }
+    }
+    sendNotifications(readyWaitInstances.values());
+  }
+
+  private void sendNotifications(Collection<WaitInstance> waitInstances) {
+    Map<String, List<NotifyEvent>> notifyEventsPerPublisher = new HashMap<>();
+    for (WaitInstance waitInstance : waitInstances) {
+      notifyEventsPerPublisher.computeIfAbsent(waitInstance.getPublisher(), publisher -> new ArrayList<>())
+          .add(aNotifyEvent().waitInstanceId(waitInstance.getUuid()).build());
+    }
+    notifyEventsPerPublisher.forEach((publisher, notifyEvents) -> {
+      final NotifyQueuePublisher notifyQueuePublisher = publisherRegister.obtain(publisher);
+      if (notifyQueuePublisher == null) {
+        log.error("Unknown publisher {}", publisher);
+        return;
+      }
+      notifyQueuePublisher.sendAll(notifyEvents);
+    });
+  }
+
   public void handleNotifyResponse(String uuid) {
     WaitInstance waitInstance;
     while ((waitInstance = persistenceWrapper.modifyAndFetchWaitInstance(uuid)) != null) {
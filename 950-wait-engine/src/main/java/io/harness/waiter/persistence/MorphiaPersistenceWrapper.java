@@ -61,6 +61,11 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return hPersistence.save(entity);
   }
 
+  @Override
+  public <T extends WaitEngineEntity> List<String> saveAllIgnoringDuplicateKeys(List<T> entities) {
+    return hPersistence.insertAllIgnoringDuplicateKeys(new ArrayList<>(entities));
+  }
+
   @Override
   public void delete(WaitEngineEntity entity) {
     boolean deleted = hPersistence.delete(entity);
@@ -202,6 +207,32 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
   }
 
+  @Override
+  public List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds) {
+    List<WaitInstance> waitInstances = new ArrayList<>();
+    if (isEmpty(waitingOnCorrelationIds)) {
+      return waitInstances;
+    }
+    List<Key<WaitInstance>> keys = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                       .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                       .in(waitingOnCorrelationIds)
+                                       .asKeyList();
+    for (Key<WaitInstance> key : keys) {
+      final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                            .filter(WaitInstanceKeys.uuid, key.getId())
+                                            .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                            .in(waitingOnCorrelationIds);
+      final UpdateOperations<WaitInstance> operations =
+          hPersistence.createUpdateOperations(WaitInstance.class)
+              .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds);
+      WaitInstance waitInstance = hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
+      if (waitInstance != null) {
+        waitInstances.add(waitInstance);
+      }
+    }
+    return waitInstances;
+  }
+
   @Override
   public String saveWithTimeout(WaitInstance waitInstance, Duration timeout) {
     if (!timeout.isZero()) {
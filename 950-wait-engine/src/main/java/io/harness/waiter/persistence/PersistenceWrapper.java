@@ -22,12 +22,27 @@ import java.util.Set;
 public interface PersistenceWrapper {
   String save(WaitEngineEntity entity);
 
+  /**
+   * Inserts all the entities in one go, skipping the ones whose key already exists.
+   *
+   * @return the keys of the entities which are stored
+   */
+  <T extends WaitEngineEntity> List<String> saveAllIgnoringDuplicateKeys(List<T> entities);
+
   void delete(WaitEngineEntity entity);
 
   void deleteWaitInstance(WaitInstance entity);
 
   WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId);
 
+  /**
+   * Removes the given correlation ids from every wait instance waiting on any of them, with a single update per wait
+   * instance.
+   *
+   * @return the updated wait instances
+   */
+  List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds);
+
   WaitInstance modifyAndFetchWaitInstanceForExistingResponse(String waitInstanceId, List<String> notifyResponseIds);
 
   WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now);
@@ -42,9 +42,13 @@ import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.result.DeleteResult;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -54,6 +58,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -197,6 +203,32 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return savedEntity.getUuid();
   }
 
+  @Override
+  public <T extends WaitEngineEntity> List<String> saveAllIgnoringDuplicateKeys(List<T> entities) {
+    if (isEmpty(entities)) {
+      return new ArrayList<>();
+    }
+    Set<Integer> skippedIndexes = new HashSet<>();
+    try {
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, entities.get(0).getClass()).insert(entities).execute();
+    } catch (BulkOperationException ex) {
+      for (BulkWriteError error : ex.getErrors()) {
+        if (error.getCategory() != ErrorCategory.DUPLICATE_KEY) {
+          throw ex;
+        }
+        skippedIndexes.add(error.getIndex());
+      }
+      log.warn("Skipped {} entities with duplicate keys", skippedIndexes.size());
+    }
+    List<String> savedKeys = new ArrayList<>(entities.size() - skippedIndexes.size());
+    for (int i = 0; i < entities.size(); i++) {
+      if (!skippedIndexes.contains(i)) {
+        savedKeys.add(entities.get(i).getUuid());
+      }
+    }
+    return savedKeys;
+  }
+
   @Override
   public WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId) {
     Query query = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationId));
@@ -204,6 +236,32 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
   }
 
+  @Override
+  public List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds) {
+    List<WaitInstance> waitInstances = new ArrayList<>();
+    if (isEmpty(waitingOnCorrelationIds)) {
+      return waitInstances;
+    }
+    // Uses - waitingOnCorrelationIds_1 idx
+    Query query = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds));
+    query.fields().include(WaitInstanceKeys.uuid);
+    List<WaitInstance> candidates = mongoTemplate.find(query, WaitInstance.class);
+
+    String[] correlationIds = waitingOnCorrelationIds.toArray(new String[0]);
+    for (WaitInstance candidate : candidates) {
+      // Matching on the correlation ids again makes sure only one caller sees the list becoming empty
+      Query wiQuery = query(where(WaitInstanceKeys.uuid).is(candidate.getUuid()))
+                          .addCriteria(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds));
+      Update wiUpdate = new Update().pullAll(WaitInstanceKeys.waitingOnCorrelationIds, correlationIds);
+      WaitInstance waitInstance =
+          mongoTemplate.findAndModify(wiQuery, wiUpdate, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
+      if (waitInstance != null) {
+        waitInstances.add(waitInstance);
+      }
+    }
+    return waitInstances;
+  }
+
   @Override
   public WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now) {
     final Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
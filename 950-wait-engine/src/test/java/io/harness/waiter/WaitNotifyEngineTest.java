@@ -345,6 +345,49 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyOnceForBulkDoneWith() {
+    shouldNotifyOnceForBulkDoneWithInternal();
+  }
+
+  @Test
+  @SpringWaiter
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyOnceForBulkDoneWithSpring() {
+    shouldNotifyOnceForBulkDoneWithInternal();
+  }
+
+  private void shouldNotifyOnceForBulkDoneWithInternal() {
+    String uuid1 = generateUuid();
+    String uuid2 = generateUuid();
+    String uuid3 = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid2, uuid3);
+
+      ResponseData data1 = StringNotifyResponseData.builder().data("response-" + uuid1).build();
+      ResponseData data2 = StringNotifyResponseData.builder().data("response-" + uuid2).build();
+      ResponseData data3 = StringNotifyResponseData.builder().data("response-" + uuid3).build();
+
+      assertThat(waitNotifyEngine.doneWithAll(of(uuid1, data1))).containsExactly(uuid1);
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+      assertThat(responseMap).hasSize(0);
+
+      // The response for uuid1 is already stored, so it is skipped
+      assertThat(waitNotifyEngine.doneWithAll(of(uuid1, data1, uuid2, data2, uuid3, data3)))
+          .containsExactlyInAnyOrder(uuid2, uuid3);
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> callCount.get() == 1);
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(responseMap).hasSize(3).containsAllEntriesOf(of(uuid1, data1, uuid2, data2, uuid3, data3));
+      assertThat(callCount.get()).isEqualTo(1);
+    }
+  }
+
   /**
    * Should wait forx correlation id for multiple wait instances.
    */
@@ -9,7 +9,20 @@ package io.harness.eventsframework.api;
 
 import io.harness.eventsframework.producer.Message;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface Producer {
   String send(Message message);
+
+  /**
+   * Publishes all the messages in a single round trip where the underlying implementation supports it.
+   *
+   * @return the message ids, in the same order as the messages passed in
+   */
+  List<String> sendBatch(List<Message> messages);
+
+  CompletableFuture<String> sendAsync(Message message);
+
   void shutdown();
 }
@@ -13,6 +13,10 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.AbstractProducer;
 import io.harness.eventsframework.producer.Message;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @OwnedBy(PL)
 public class NoOpProducer extends AbstractProducer {
   public NoOpProducer(String topicName) {
@@ -24,6 +28,16 @@ public class NoOpProducer extends AbstractProducer {
     return "dummy-message-id";
   }
 
+  @Override
+  public List<String> sendBatch(List<Message> messages) {
+    return Collections.nCopies(messages.size(), "dummy-message-id");
+  }
+
+  @Override
+  public CompletableFuture<String> sendAsync(Message message) {
+    return CompletableFuture.completedFuture("dummy-message-id");
+  }
+
   @Override
   public void shutdown() {
     // Nothing required to shutdown
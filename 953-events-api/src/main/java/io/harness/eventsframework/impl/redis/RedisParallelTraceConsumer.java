@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METRICS_KEY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_TYPE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.consumer.Message;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consumer which dispatches every batch read from the stream across a bounded pool of workers.
+ *
+ * Messages are partitioned by {@link #getPartitionKey(Message)}: messages sharing a key are always handled by the
+ * same worker in stream order, while different keys are processed in parallel. If a message fails, the remaining
+ * messages with the same key in that batch are left unacknowledged, so no later message of the key is processed
+ * before it within the batch. Unacknowledged messages are only redelivered after they were pending for the max
+ * processing time of the consumer, and new messages are read before that, so redelivery does not keep the order of a
+ * key across batches and the listeners still have to tolerate it. Processed message ids are acknowledged with a
+ * single call once the whole batch is done.
+ *
+ * Note that {@link #processMessage(Message)} is invoked on the worker threads, so any thread local context (e.g.
+ * security context) needed by the listeners has to be set up in {@link #initWorkerThread()}.
+ */
+@OwnedBy(PL)
+@Slf4j
+public abstract class RedisParallelTraceConsumer extends RedisTraceConsumer {
+  private static final String KEY_SEPARATOR = "/";
+
+  private final int workerCount;
+  private final ExecutorService workerPool;
+
+  protected RedisParallelTraceConsumer(String consumerName, int workerCount) {
+    this.workerCount = Math.max(1, workerCount);
+    this.workerPool = Executors.newFixedThreadPool(this.workerCount,
+        new ThreadFactoryBuilder().setNameFormat(consumerName + "-worker-%d").setDaemon(true).build());
+  }
+
+  protected void pollAndProcessMessagesInParallel(Consumer redisConsumer, Duration maxWaitTime)
+      throws InterruptedException {
+    List<Message> messages = redisConsumer.read(maxWaitTime);
+    if (isEmpty(messages)) {
+      return;
+    }
+    List<String> processedMessageIds = processInPartitions(messages);
+    if (!processedMessageIds.isEmpty()) {
+      redisConsumer.acknowledge(processedMessageIds.toArray(new String[0]));
+    }
+  }
+
+  List<String> processInPartitions(List<Message> messages) throws InterruptedException {
+    List<Map<String, List<Message>>> lanes = partition(messages);
+    List<Future<List<String>>> futures = new ArrayList<>(lanes.size());
+    for (Map<String, List<Message>> lane : lanes) {
+      if (!lane.isEmpty()) {
+        futures.add(workerPool.submit(() -> processLane(lane)));
+      }
+    }
+
+    List<String> processedMessageIds = new ArrayList<>(messages.size());
+    for (Future<List<String>> future : futures) {
+      try {
+        processedMessageIds.addAll(future.get());
+      } catch (ExecutionException ex) {
+        log.error("Unexpected error while processing a partition of messages for the consumer", ex.getCause());
+      }
+    }
+    return processedMessageIds;
+  }
+
+  private List<Map<String, List<Message>>> partition(List<Message> messages) {
+    List<Map<String, List<Message>>> lanes = new ArrayList<>(workerCount);
+    for (int i = 0; i < workerCount; i++) {
+      lanes.add(new LinkedHashMap<>());
+    }
+    for (Message message : messages) {
+      String partitionKey = getPartitionKey(message);
+      lanes.get(Math.floorMod(partitionKey.hashCode(), workerCount))
+          .computeIfAbsent(partitionKey, key -> new ArrayList<>())
+          .add(message);
+    }
+    return lanes;
+  }
+
+  private List<String> processLane(Map<String, List<Message>> lane) {
+    initWorkerThread();
+    try {
+      List<String> processedMessageIds = new ArrayList<>();
+      for (List<Message> partitionMessages : lane.values()) {
+        for (Message message : partitionMessages) {
+          if (!handleMessage(message)) {
+            // Stop here so that the later messages for the same key are not processed before this one
+            break;
+          }
+          processedMessageIds.add(message.getId());
+        }
+      }
+      return processedMessageIds;
+    } finally {
+      cleanupWorkerThread();
+    }
+  }
+
+  /**
+   * Key used to keep the relative order of messages. Defaults to account and entity type from the message metadata;
+   * messages without these are treated as independent of each other.
+   */
+  protected String getPartitionKey(Message message) {
+    if (message.hasMessage()) {
+      Map<String, String> metadataMap = message.getMessage().getMetadataMap();
+      String accountId = metadataMap.get(ACCOUNT_IDENTIFIER_METRICS_KEY);
+      String entityType = metadataMap.get(ENTITY_TYPE);
+      if (accountId != null || entityType != null) {
+        return accountId + KEY_SEPARATOR + entityType;
+      }
+    }
+    return message.getId();
+  }
+
+  protected void initWorkerThread() {
+    // Nothing to initialise by default
+  }
+
+  protected void cleanupWorkerThread() {
+    // Nothing to cleanup by default
+  }
+
+  public void shutdownWorkers() throws InterruptedException {
+    workerPool.shutdown();
+    workerPool.awaitTermination(30, TimeUnit.SECONDS);
+  }
+}
@@ -14,25 +14,42 @@ import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_TRAC
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.AbstractProducer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
 import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTOMapper;
 import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 import io.harness.eventsframework.producer.Message;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.opentelemetry.api.trace.Span;
 import io.vavr.control.Try;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchOptions.ExecutionMode;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
 import org.slf4j.MDC;
 
 @OwnedBy(PL)
@@ -40,7 +57,12 @@ import org.slf4j.MDC;
 public class RedisProducer extends AbstractProducer {
   private static final String PRODUCER = "producer";
   private static final String REDIS_PRODUCER_EVENT_METRIC = "redis_producer_event_metric";
+  private static final String REDIS_PRODUCER_FAILURE_METRIC = "redis_producer_failure_metric";
+  // Only waits between the retries of asynchronous sends, the sends themselves run on the redisson event loop
+  private static final ScheduledExecutorService ASYNC_RETRY_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("redis-producer-async-retry-%d").setDaemon(true).build());
   private RStream<String, String> stream;
+  private String streamName;
   private RedissonClient redissonClient;
   @Inject private RedisEventMetricPublisher redisEventMetricPublisher;
   // This is used when the consumer for the event are no longer accepting due to some failure and
@@ -69,6 +91,7 @@ public class RedisProducer extends AbstractProducer {
     this.maxTopicSize = maxTopicSize;
     this.redissonClient = redissonClient;
     this.stream = RedisUtils.getStream(topicName, redissonClient, envNamespace);
+    this.streamName = RedisUtils.getStreamName(envNamespace, topicName);
     RetryConfig retryConfig =
         RetryConfig.custom().intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5)).maxAttempts(6).build();
 
@@ -80,12 +103,51 @@ public class RedisProducer extends AbstractProducer {
     return handleMessage(message);
   }
 
+  @Override
+  public List<String> sendBatch(List<Message> messages) {
+    if (messages == null || messages.isEmpty()) {
+      return Collections.emptyList();
+    }
+    long startTime = System.currentTimeMillis();
+    Supplier<List<String>> retryingSendBatch = Retry.decorateSupplier(retry, () -> sendBatchInternal(messages));
+
+    List<String> messageIds = Try.ofSupplier(retryingSendBatch)
+                                  .recover(throwable -> {
+                                    // Exhausted exponential backoff to try operating on redis
+                                    messages.forEach(this::addFailureMonitoring);
+                                    throw new EventsFrameworkDownException(throwable.getMessage());
+                                  })
+                                  .get();
+    addBatchMonitoring(messages, Duration.ofMillis(System.currentTimeMillis() - startTime));
+    return messageIds;
+  }
+
+  @Override
+  public CompletableFuture<String> sendAsync(Message message) {
+    Map<String, String> redisData = prepareRedisData(message);
+    Supplier<CompletionStage<StreamMessageId>> retryingSendAsync = Retry.decorateCompletionStage(
+        retry, ASYNC_RETRY_EXECUTOR, () -> stream.addAllAsync(redisData, maxTopicSize, false));
+
+    CompletableFuture<String> messageIdFuture = new CompletableFuture<>();
+    retryingSendAsync.get().whenComplete((messageId, throwable) -> {
+      if (throwable != null) {
+        // Exhausted exponential backoff to try operating on redis
+        log.warn("Exception occurred while sending message asynchronously in the topic: {}", getTopicName(), throwable);
+        addFailureMonitoring(message);
+        messageIdFuture.completeExceptionally(new EventsFrameworkDownException(throwable.getMessage()));
+        return;
+      }
+      redisData.remove(REDIS_STREAM_INTERNAL_KEY);
+      log.info("Events framework message inserted - messageId: {}, metaData: {} in the topic: {}", messageId, redisData,
+          getTopicName());
+      messageIdFuture.complete(messageId.toString());
+    });
+    return messageIdFuture;
+  }
+
   private String sendInternal(Message message) {
     try {
-      Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
-      addTraceId(redisData);
-      redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
-      populateOtherProducerSpecificData(redisData);
+      Map<String, String> redisData = prepareRedisData(message);
 
       StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
       redisData.remove(REDIS_STREAM_INTERNAL_KEY);
@@ -98,6 +160,39 @@ public class RedisProducer extends AbstractProducer {
     }
   }
 
+  private List<String> sendBatchInternal(List<Message> messages) {
+    try {
+      // The batch is executed atomically (MULTI/EXEC) so that a retry of a failed batch never
+      // leaves a partially published set of messages behind in the stream
+      RBatch batch = redissonClient.createBatch(BatchOptions.defaults().executionMode(ExecutionMode.IN_MEMORY_ATOMIC));
+      RStreamAsync<String, String> batchStream = batch.getStream(streamName, new StringCodec("UTF-8"));
+      List<RFuture<StreamMessageId>> futures = new ArrayList<>(messages.size());
+      for (Message message : messages) {
+        futures.add(batchStream.addAllAsync(prepareRedisData(message), maxTopicSize, false));
+      }
+      BatchResult<?> batchResult = batch.execute();
+
+      List<String> messageIds = new ArrayList<>(futures.size());
+      for (RFuture<StreamMessageId> future : futures) {
+        messageIds.add(future.getNow().toString());
+      }
+      log.info("Events framework batch of {} messages inserted in the topic: {}, responses: {}", messageIds.size(),
+          this.getTopicName(), batchResult.getResponses().size());
+      return messageIds;
+    } catch (Exception ex) {
+      log.warn("Exception occurred in sendBatchInternal", ex);
+      throw ex;
+    }
+  }
+
+  private Map<String, String> prepareRedisData(Message message) {
+    Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
+    addTraceId(redisData);
+    redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
+    populateOtherProducerSpecificData(redisData);
+    return redisData;
+  }
+
   protected void populateOtherProducerSpecificData(Map<String, String> redisData) {
     redisData.put(PRODUCER, this.getProducerName());
   }
@@ -110,6 +205,7 @@ public class RedisProducer extends AbstractProducer {
     return Try.ofSupplier(retryingSendMessage)
         .recover(throwable -> {
           // Exhausted exponential backoff to try operating on redis
+          addFailureMonitoring(message);
           throw new EventsFrameworkDownException(throwable.getMessage());
         })
         .get();
@@ -134,6 +230,36 @@ public class RedisProducer extends AbstractProducer {
     }
   }
 
+  private void addBatchMonitoring(List<Message> messages, Duration batchDuration) {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      // a batch may hold messages of several accounts, each of them gets the count of its own messages
+      Map<RedisEventMetricDTO, Integer> messageCounts = new HashMap<>();
+      for (Message message : messages) {
+        messageCounts.merge(
+            RedisEventMetricDTOMapper.prepareRedisEventMetricDTO(message, getTopicName()), 1, Integer::sum);
+      }
+      redisEventMetricPublisher.sendBatchMetricWithEventContext(
+          RedisEventMetricDTO.builder().streamName(getTopicName()).build(), messageCounts, batchDuration);
+    } catch (Exception ex) {
+      log.warn("Error while sending metrics for redis producer batch events :", ex);
+    }
+  }
+
+  private void addFailureMonitoring(Message message) {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      redisEventMetricPublisher.sendMetricWithEventContext(
+          RedisEventMetricDTOMapper.prepareRedisEventMetricDTO(message, getTopicName()), REDIS_PRODUCER_FAILURE_METRIC);
+    } catch (Exception ex) {
+      log.warn("Error while sending failure metrics for redis producer events :", ex);
+    }
+  }
+
   private void addTraceId(Map<String, String> redisData) {
     try {
       if (!Span.getInvalid().equals(Span.current())) {
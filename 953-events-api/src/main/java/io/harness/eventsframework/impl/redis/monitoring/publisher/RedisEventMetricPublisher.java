@@ -14,6 +14,8 @@ import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
 import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
+import java.time.Duration;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,6 +23,10 @@ import lombok.extern.slf4j.Slf4j;
 @AllArgsConstructor(onConstructor = @__({ @Inject }))
 @Slf4j
 public class RedisEventMetricPublisher {
+  private static final String REDIS_PRODUCER_BATCH_SIZE_METRIC = "redis_producer_batch_size";
+  private static final String REDIS_PRODUCER_BATCH_DURATION_METRIC = "redis_producer_batch_duration";
+  private static final String REDIS_PRODUCER_BATCH_EVENT_METRIC = "redis_producer_batch_event_metric";
+
   private final MetricService metricService;
 
   public void sendMetricWithEventContext(RedisEventMetricDTO redisEventMetricDTO, String metricName) {
@@ -28,4 +34,21 @@ public class RedisEventMetricPublisher {
       metricService.incCounter(metricName);
     }
   }
+
+  /**
+   * Records one published batch and its duration for the stream, and the number of its messages for each account they
+   * belong to.
+   */
+  public void sendBatchMetricWithEventContext(RedisEventMetricDTO batchMetricDTO,
+      Map<RedisEventMetricDTO, Integer> messageCounts, Duration batchDuration) {
+    try (RedisEventMetricContext context = new RedisEventMetricContext(batchMetricDTO)) {
+      metricService.incCounter(REDIS_PRODUCER_BATCH_EVENT_METRIC);
+      metricService.recordDuration(REDIS_PRODUCER_BATCH_DURATION_METRIC, batchDuration);
+    }
+    messageCounts.forEach((accountMetricDTO, messageCount) -> {
+      try (RedisEventMetricContext context = new RedisEventMetricContext(accountMetricDTO)) {
+        metricService.recordMetric(REDIS_PRODUCER_BATCH_SIZE_METRIC, messageCount);
+      }
+    });
+  }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METRICS_KEY;
+import static io.harness.metrics.MetricConstants.METRIC_LABEL_PREFIX;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
+import io.harness.eventsframework.producer.Message;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.rule.Owner;
+
+import com.google.protobuf.ByteString;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.Codec;
+import org.redisson.misc.RedissonPromise;
+
+public class RedisProducerTest extends CategoryTest {
+  private static final String TOPIC = "topic";
+
+  @Mock private RedissonClient redissonClient;
+  @Mock private RStream<String, String> stream;
+  @Mock private MetricService metricService;
+  private RedisProducer redisProducer;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    doReturn(stream).when(redissonClient).getStream(anyString(), any(Codec.class));
+    redisProducer = new RedisProducer(
+        TOPIC, redissonClient, 1000, "producer", "", new RedisEventMetricPublisher(metricService));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testSendAsyncRetriesUntilPublished() throws Exception {
+    when(stream.addAllAsync(anyMap(), anyInt(), anyBoolean()))
+        .thenReturn(RedissonPromise.newFailedFuture(new IllegalStateException("redis is down")))
+        .thenReturn(RedissonPromise.newSucceededFuture(new StreamMessageId(1, 0)));
+
+    String messageId = redisProducer.sendAsync(message("account")).get(10, TimeUnit.SECONDS);
+
+    assertThat(messageId).isEqualTo("1-0");
+    verify(stream, times(2)).addAllAsync(anyMap(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testSendBatchRecordsMessageCountsPerAccount() {
+    RBatch batch = mock(RBatch.class);
+    RStreamAsync<String, String> batchStream = mock(RStreamAsync.class);
+    when(redissonClient.createBatch(any(BatchOptions.class))).thenReturn(batch);
+    doReturn(batchStream).when(batch).getStream(anyString(), any(Codec.class));
+    when(batchStream.addAllAsync(anyMap(), anyInt(), anyBoolean()))
+        .thenReturn(RedissonPromise.newSucceededFuture(new StreamMessageId(1, 0)))
+        .thenReturn(RedissonPromise.newSucceededFuture(new StreamMessageId(1, 1)))
+        .thenReturn(RedissonPromise.newSucceededFuture(new StreamMessageId(1, 2)));
+    doReturn(mock(BatchResult.class)).when(batch).execute();
+    Map<String, Double> batchSizes = new HashMap<>();
+    doAnswer(invocation -> {
+      String accountId = ThreadContext.get(METRIC_LABEL_PREFIX + ACCOUNT_IDENTIFIER_METRICS_KEY);
+      batchSizes.put(accountId, invocation.getArgument(1));
+      return null;
+    })
+        .when(metricService)
+        .recordMetric(eq("redis_producer_batch_size"), anyDouble());
+
+    List<String> messageIds =
+        redisProducer.sendBatch(Arrays.asList(message("account1"), message("account2"), message("account1")));
+
+    assertThat(messageIds).containsExactly("1-0", "1-1", "1-2");
+    assertThat(batchSizes).containsOnly(entry("account1", 2.0), entry("account2", 1.0));
+    verify(metricService).incCounter("redis_producer_batch_event_metric");
+  }
+
+  private static Message message(String accountId) {
+    return Message.newBuilder()
+        .putMetadata(ACCOUNT_IDENTIFIER_METRICS_KEY, accountId)
+        .setData(ByteString.copyFromUtf8("data"))
+        .build();
+  }
+}
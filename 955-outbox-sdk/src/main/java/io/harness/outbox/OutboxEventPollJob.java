@@ -11,6 +11,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.maintenance.MaintenanceController.getMaintenanceFlag;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_MAX_EVENTS_POLLED;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENT_END_TO_END_TIME_METRIC_NAME;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENT_PROCESSING_TIME_METRIC_NAME;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENT_WAITING_TIME_METRIC_NAME;
 import static io.harness.outbox.TransactionOutboxModule.SERVICE_ID_FOR_OUTBOX;
@@ -26,6 +27,7 @@ import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.outbox.monitor.OutboxMetricsServiceImpl;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import io.github.resilience4j.core.IntervalFunction;
@@ -34,7 +36,14 @@ import io.github.resilience4j.retry.RetryConfig;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.extern.slf4j.Slf4j;
 
 @OwnedBy(PL)
@@ -50,6 +59,7 @@ public class OutboxEventPollJob implements Runnable {
   private final String outboxLockId;
   private final OutboxMetricsServiceImpl outboxMetricsService;
   private final String serviceId;
+  private final ExecutorService handlerExecutorService;
 
   @Inject
   public OutboxEventPollJob(OutboxService outboxService, OutboxEventHandler outboxEventHandler,
@@ -68,65 +78,156 @@ public class OutboxEventPollJob implements Runnable {
                                   .maxAttempts(this.outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent())
                                   .build();
     this.retry = Retry.of("outboxEventHandleRetry", retryConfig);
+    if (this.outboxPollConfiguration.getHandlerThreadCount() > 1) {
+      this.handlerExecutorService = Executors.newFixedThreadPool(this.outboxPollConfiguration.getHandlerThreadCount(),
+          new ThreadFactoryBuilder()
+              .setNameFormat("outbox-handler-" + this.outboxPollConfiguration.getLockId() + "-%d")
+              .build());
+    } else {
+      this.handlerExecutorService = null;
+    }
   }
 
   @Override
   public void run() {
+    runOnce();
+  }
+
+  /**
+   * Polls and handles one page of outbox events.
+   *
+   * @return the number of events polled, callers may poll again straight away when a full page was returned
+   */
+  public int runOnce() {
     try {
       if (!getMaintenanceFlag()) {
-        pollAndHandleOutboxEvents();
+        return pollAndHandleOutboxEvents();
       }
     } catch (Exception exception) {
       log.error("Unexpected error occurred during the execution of OutboxPollJob", exception);
     }
+    return 0;
+  }
+
+  public void shutdown() {
+    if (handlerExecutorService != null) {
+      handlerExecutorService.shutdownNow();
+    }
   }
 
-  private void pollAndHandleOutboxEvents() {
+  private int pollAndHandleOutboxEvents() {
     try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, Duration.ofMinutes(2))) {
       if (lock == null) {
         log.warn("Could not acquire lock for outbox poll job");
-        return;
+        return 0;
       }
       List<OutboxEvent> outboxEvents;
       try {
         outboxEvents = outboxService.list(outboxEventFilter);
       } catch (InstantiationError error) {
         log.error("InstantiationError occurred while fetching entries from the outbox", error);
-        return;
+        return 0;
+      }
+
+      if (handlerExecutorService != null) {
+        handleInParallel(outboxEvents);
+        return outboxEvents.size();
       }
 
       for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
-        OutboxEvent outbox = outboxEvents.get(i);
-        long startTime = System.currentTimeMillis();
-        long outboxEventWaitingTime = startTime - outbox.getCreatedAt();
-        boolean success = handle(outbox);
-        long outboxEventProcessingTime = System.currentTimeMillis() - startTime;
-        log.info(String.format(
-            "[OutboxEventPollJob] id: %s, eventType: %s, resourceType: %s, waitingTime: %d, processingTime: %d",
-            outbox.getId(), outbox.getEventType(), outbox.getResource().getType(), outboxEventWaitingTime,
-            outboxEventProcessingTime));
-        outboxMetricsService.recordMetricsWithDuration(serviceId, outbox.getEventType(), outbox.getResource().getType(),
-            ofMillis(outboxEventProcessingTime), OUTBOX_EVENT_PROCESSING_TIME_METRIC_NAME);
-        outboxMetricsService.recordMetricsWithDuration(serviceId, outbox.getEventType(), outbox.getResource().getType(),
-            ofMillis(outboxEventWaitingTime), OUTBOX_EVENT_WAITING_TIME_METRIC_NAME);
-        try {
-          if (success) {
-            outboxService.delete(outbox.getId());
-          } else {
-            outbox.setBlocked(true);
-            outbox.setNextUnblockAttemptAt(
-                Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
-            outboxService.update(outbox);
+        handleAndDelete(outboxEvents.get(i));
+      }
+      return outboxEvents.size();
+    }
+  }
+
+  /**
+   * Events of the same resource are handled one after the other in creation order, events of different resources are
+   * handled in parallel. Each event is deleted as soon as it is handled, so a crash mid page only replays the events
+   * that were still in flight.
+   */
+  private void handleInParallel(List<OutboxEvent> outboxEvents) {
+    Map<String, List<OutboxEvent>> outboxEventsPerResource = new LinkedHashMap<>();
+    for (OutboxEvent outbox : outboxEvents) {
+      outboxEventsPerResource.computeIfAbsent(getOrderingKey(outbox), key -> new ArrayList<>()).add(outbox);
+    }
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (List<OutboxEvent> resourceOutboxEvents : outboxEventsPerResource.values()) {
+      futures.add(handlerExecutorService.submit(() -> {
+        for (OutboxEvent outbox : resourceOutboxEvents) {
+          if (Thread.currentThread().isInterrupted()) {
+            return;
           }
-        } catch (Exception exception) {
-          log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
-                        outbox.getId(), outbox.getEventType()),
-              exception);
+          handleAndDelete(outbox);
         }
+      }));
+    }
+
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ExecutionException exception) {
+        log.error("Unexpected error occurred while handling outbox events", exception.getCause());
+      }
+    }
+  }
+
+  private void handleAndDelete(OutboxEvent outbox) {
+    if (handleAndRecord(outbox)) {
+      try {
+        outboxService.delete(outbox.getId());
+      } catch (Exception exception) {
+        log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
+                      outbox.getId(), outbox.getEventType()),
+            exception);
       }
     }
   }
 
+  private String getOrderingKey(OutboxEvent outbox) {
+    return outbox.getResource().getType() + "/" + outbox.getResource().getIdentifier();
+  }
+
+  /**
+   * Handles the event and records its metrics, blocks the event if it could not be handled.
+   *
+   * @return true if the event was handled and can be deleted
+   */
+  private boolean handleAndRecord(OutboxEvent outbox) {
+    long startTime = System.currentTimeMillis();
+    long outboxEventWaitingTime = startTime - outbox.getCreatedAt();
+    boolean success = handle(outbox);
+    long endTime = System.currentTimeMillis();
+    long outboxEventProcessingTime = endTime - startTime;
+    log.info(String.format(
+        "[OutboxEventPollJob] id: %s, eventType: %s, resourceType: %s, waitingTime: %d, processingTime: %d",
+        outbox.getId(), outbox.getEventType(), outbox.getResource().getType(), outboxEventWaitingTime,
+        outboxEventProcessingTime));
+    outboxMetricsService.recordMetricsWithDuration(serviceId, outbox.getEventType(), outbox.getResource().getType(),
+        ofMillis(outboxEventProcessingTime), OUTBOX_EVENT_PROCESSING_TIME_METRIC_NAME);
+    outboxMetricsService.recordMetricsWithDuration(serviceId, outbox.getEventType(), outbox.getResource().getType(),
+        ofMillis(outboxEventWaitingTime), OUTBOX_EVENT_WAITING_TIME_METRIC_NAME);
+    if (success) {
+      outboxMetricsService.recordMetricsWithDuration(serviceId, outbox.getEventType(), outbox.getResource().getType(),
+          ofMillis(endTime - outbox.getCreatedAt()), OUTBOX_EVENT_END_TO_END_TIME_METRIC_NAME);
+      return true;
+    }
+    try {
+      outbox.setBlocked(true);
+      outbox.setNextUnblockAttemptAt(Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
+      outboxService.update(outbox);
+    } catch (Exception exception) {
+      log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s", outbox.getId(),
+                    outbox.getEventType()),
+          exception);
+    }
+    return false;
+  }
+
   private boolean handle(OutboxEvent outboxEvent) {
     boolean success = false;
     try {
@@ -8,44 +8,126 @@
 package io.harness.outbox;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.DEFAULT_MAX_EVENTS_POLLED;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.changestreams.ChangeTrackingTask;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
+import com.mongodb.DBObject;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import io.dropwizard.lifecycle.Managed;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
 
 @OwnedBy(PL)
+@Slf4j
 public class OutboxEventPollService implements Managed {
+  // Only the notification matters, the events themselves are read by the poll job
+  private static final List<Bson> OUTBOX_INSERT_PIPELINE =
+      Arrays.asList(Aggregates.match(Filters.eq("operationType", "insert")),
+          Aggregates.project(Projections.include("operationType", "documentKey", "ns")));
+
   private final OutboxEventPollJob outboxEventPollJob;
   private final OutboxPollConfiguration outboxPollConfiguration;
+  private final MongoTemplate mongoTemplate;
   private final ScheduledExecutorService executorService;
+  private final ExecutorService changeStreamExecutorService;
+  // Released by the change stream on every insert to the outbox collection
+  private final Semaphore outboxEventsInserted = new Semaphore(0);
   private Future<?> outboxPollJobFuture;
+  private Future<?> changeStreamFuture;
 
   @Inject
-  public OutboxEventPollService(
-      OutboxEventPollJob outboxEventPollJob, OutboxPollConfiguration outboxPollConfiguration) {
+  public OutboxEventPollService(OutboxEventPollJob outboxEventPollJob, OutboxPollConfiguration outboxPollConfiguration,
+      MongoTemplate mongoTemplate) {
     this.outboxEventPollJob = outboxEventPollJob;
     this.outboxPollConfiguration = outboxPollConfiguration;
+    this.mongoTemplate = mongoTemplate;
     String threadName = "outbox-poll-service-thread-" + outboxPollConfiguration.getLockId();
     this.executorService =
         Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(threadName).build());
+    this.changeStreamExecutorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("outbox-change-stream-thread-" + outboxPollConfiguration.getLockId())
+            .build());
   }
 
   @Override
   public void start() {
+    if (outboxPollConfiguration.isChangeStreamEnabled()) {
+      outboxPollJobFuture = executorService.schedule(
+          this::dispatchOnChange, outboxPollConfiguration.getInitialDelayInSeconds(), TimeUnit.SECONDS);
+      return;
+    }
     outboxPollJobFuture =
         executorService.scheduleAtFixedRate(outboxEventPollJob, outboxPollConfiguration.getInitialDelayInSeconds(),
             outboxPollConfiguration.getPollingIntervalInSeconds(), TimeUnit.SECONDS);
   }
 
+  /**
+   * Handles the outbox as soon as the change stream reports an insert. The polling interval is kept as an upper bound
+   * on the wait, so events are still picked up if the change stream is down or a wake up was missed while another pod
+   * held the lock.
+   */
+  private void dispatchOnChange() {
+    while (!Thread.currentThread().isInterrupted()) {
+      ensureChangeStreamIsOpen();
+      int polled = outboxEventPollJob.runOnce();
+      if (polled >= DEFAULT_MAX_EVENTS_POLLED) {
+        // There may be more events waiting, keep going without waiting for a notification
+        continue;
+      }
+      try {
+        outboxEventsInserted.tryAcquire(outboxPollConfiguration.getPollingIntervalInSeconds(), TimeUnit.SECONDS);
+        // A single pass handles all the inserts we were notified about so far
+        outboxEventsInserted.drainPermits();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void ensureChangeStreamIsOpen() {
+    if (changeStreamFuture != null && !changeStreamFuture.isDone()) {
+      return;
+    }
+    if (changeStreamFuture != null) {
+      log.warn("Outbox change stream is not running, reopening it");
+    }
+    try {
+      MongoCollection<DBObject> collection =
+          mongoTemplate.getCollection(mongoTemplate.getCollectionName(OutboxEvent.class))
+              .withDocumentClass(DBObject.class);
+      changeStreamFuture = changeStreamExecutorService.submit(
+          new ChangeTrackingTask(changeStreamDocument -> outboxEventsInserted.release(), collection, null,
+              new CountDownLatch(1), null, OUTBOX_INSERT_PIPELINE));
+    } catch (Exception exception) {
+      log.error("Could not open the outbox change stream, falling back to polling", exception);
+    }
+  }
+
   @Override
   public void stop() {
     outboxPollJobFuture.cancel(false);
     executorService.shutdownNow();
+    if (changeStreamFuture != null) {
+      changeStreamFuture.cancel(true);
+    }
+    changeStreamExecutorService.shutdownNow();
+    outboxEventPollJob.shutdown();
   }
 }
@@ -27,4 +27,8 @@ public class OutboxPollConfiguration {
   int pollingIntervalInSeconds;
   int maximumRetryAttemptsForAnEvent;
   String lockId;
+  // Wake up on inserts to the outbox collection instead of waiting for the next poll
+  boolean changeStreamEnabled;
+  // Events of different resources are handled in parallel when greater than one
+  int handlerThreadCount;
 }
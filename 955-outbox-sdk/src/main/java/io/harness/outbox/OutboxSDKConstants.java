@@ -49,5 +49,7 @@ public class OutboxSDKConstants {
 
   public static final String OUTBOX_EVENT_WAITING_TIME_METRIC_NAME = "outbox_event_waiting_time";
 
+  public static final String OUTBOX_EVENT_END_TO_END_TIME_METRIC_NAME = "outbox_event_end_to_end_time";
+
   public static final String ALL_EVENT_TYPES = "AllEventTypes";
 }
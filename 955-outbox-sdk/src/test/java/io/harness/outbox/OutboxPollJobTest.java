@@ -11,6 +11,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.rule.OwnerRule.KARAN;
 
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
@@ -34,6 +35,10 @@ import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.monitor.OutboxMetricsServiceImpl;
 import io.harness.rule.Owner;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -114,4 +119,51 @@ public class OutboxPollJobTest extends CategoryTest {
     assertTrue(updateOutboxEvent.getBlocked());
     assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testParallelHandlingKeepsResourceOrderAndDeletesEachHandledEvent() {
+    OutboxPollConfiguration outboxPollConfiguration = OutboxPollConfiguration.builder()
+                                                          .maximumRetryAttemptsForAnEvent(2)
+                                                          .lockId("LOCK_ID")
+                                                          .handlerThreadCount(4)
+                                                          .build();
+    OutboxEventPollJob parallelOutboxEventPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler,
+        persistentLocker, outboxPollConfiguration, outboxMetricsServiceImpl, "service-id");
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_"
+                                               + "LOCK_ID"),
+             any()))
+        .thenReturn(mock(AcquiredLock.class));
+    List<OutboxEvent> outboxEvents = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      outboxEvents.add(OutboxEvent.builder()
+                           .eventType("emptyEvent")
+                           .blocked(false)
+                           .id("event" + i)
+                           .resource(Resource.builder().type("resource").identifier("resource" + (i % 2)).build())
+                           .createdAt(123456789L + i)
+                           .build());
+    }
+    List<String> handledEventIds = Collections.synchronizedList(new ArrayList<>());
+    when(outboxService.list(any())).thenReturn(outboxEvents);
+    when(outboxEventHandler.handle(any())).thenAnswer(invocation -> {
+      OutboxEvent outboxEvent = invocation.getArgument(0);
+      handledEventIds.add(outboxEvent.getId());
+      return !"event3".equals(outboxEvent.getId());
+    });
+
+    assertEquals(10, parallelOutboxEventPollJob.runOnce());
+    parallelOutboxEventPollJob.shutdown();
+
+    final ArgumentCaptor<String> deletedIdCaptor = ArgumentCaptor.forClass(String.class);
+    verify(outboxService, times(9)).delete(deletedIdCaptor.capture());
+    verify(outboxService, times(1)).update(any());
+    assertThat(deletedIdCaptor.getAllValues())
+        .containsExactlyInAnyOrder(
+            "event0", "event1", "event2", "event4", "event5", "event6", "event7", "event8", "event9");
+    List<String> firstResourceEvents =
+        handledEventIds.stream().filter(id -> Integer.parseInt(id.substring(5)) % 2 == 0).collect(Collectors.toList());
+    assertThat(firstResourceEvents).containsExactly("event0", "event2", "event4", "event6", "event8");
+  }
 }
@@ -70,6 +70,8 @@ public enum FeatureName {
   CCM_INSTANCE_DATA_CLUSTERID_FILTER("Query from instanceData collection based on clusterId", HarnessTeam.CE),
   CCM_LABELS_FLATTENING("Use flattened label's columns in BigQuery", HarnessTeam.CE),
   CCM_MSP("To enable margin obfuscation for CCM MSP accounts", HarnessTeam.CE),
+  CCM_PERSPECTIVE_QUERY_RESULT_CACHE(
+      "Serve repeated perspective queries from a cache until the next data sync", HarnessTeam.CE),
   CCM_SUNSETTING_CG("Sunsetting CCM CG Features", HarnessTeam.CE),
   CCM_SUSTAINABILITY("Sustainability Feature in CCM Module", HarnessTeam.CE),
   CCM_WORKLOAD_LABELS_OPTIMISATION("Use workload labels from instance data instead of k8sworkload", HarnessTeam.CE),
@@ -329,10 +331,15 @@ public enum FeatureName {
   DEFAULT_ARTIFACT,
   DELEGATE_TASK_CAPACITY_CHECK("Enable delegate task capacity check", HarnessTeam.DEL),
   DELEGATE_TASK_LOAD_DISTRIBUTION("Delegate task load distribution among delegates", HarnessTeam.DEL),
+  DEL_ELIGIBILITY_INDEX(
+      "FF to pre-filter delegates by supported task types and selectors using a per account index", HarnessTeam.DEL),
   DEL_FETCH_TASK_LOG_API("FF to enable fetch delegate task logs from stackdriver", HarnessTeam.DEL),
   DEL_NOTIFICATION("FF to enable notifications for delegate events", HarnessTeam.DEL),
   DEL_SELECTION_LOGS_READ_FROM_GOOGLE_DATA_STORE(
       "Enables the fetching of delegate selection records from google data store instead of mongo", HarnessTeam.DEL),
+  DEL_TARGETED_TASK_DISPATCH(
+      "Offers delegate tasks to a few delegates with free capacity at a time instead of letting many race to acquire",
+      HarnessTeam.DEL),
   DEPLOYMENT_RECONCILIATION_LOGIC_QUERY_OPTIMIZATIONS(
       "Used to modify logic for reconciliation queries", HarnessTeam.CDC),
   DEPLOYMENT_SUBFORMIK_APPLICATION_DROPDOWN,
@@ -14,6 +14,8 @@ import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.
 
 import static java.lang.String.format;
 import static java.time.Duration.ofSeconds;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 import io.harness.annotations.dev.CodePulse;
 import io.harness.annotations.dev.HarnessModuleComponent;
@@ -34,6 +36,7 @@ import io.harness.timeout.TimeoutInstance.TimeoutInstanceKeys;
 import io.harness.timeout.contracts.Dimension;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutParameters;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTrackerFactory;
+import io.harness.timeout.wheel.TimeoutWheelScheduler;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -42,7 +45,9 @@ import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
@@ -50,7 +55,11 @@ import java.util.concurrent.TimeUnit;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_FIRST_GEN})
 @OwnedBy(CDC)
@@ -59,6 +68,11 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<TimeoutInstance> {
   private static final Duration MAX_CALLBACK_PROCESSING_TIME = Duration.ofMinutes(1);
   private static final Integer MAX_BATCH_SIZE = 500;
+  private static final int TIMING_WHEEL_SHARDS = 16;
+  private static final Duration TIMING_WHEEL_TICK = Duration.ofMillis(10);
+  private static final Duration TIMING_WHEEL_HORIZON = Duration.ofMinutes(2);
+  private static final Duration TIMING_WHEEL_RELOAD_INTERVAL = Duration.ofMinutes(1);
+  private static final int TIMING_WHEEL_MAX_LOAD = 10000;
 
   @Inject private TimeoutInstanceRepository timeoutInstanceRepository;
   @Inject private PersistenceIteratorFactory persistenceIteratorFactory;
@@ -66,6 +80,8 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
   @Inject private Injector injector;
   @Inject private TimeoutRegistry timeoutRegistry;
 
+  private volatile TimeoutWheelScheduler timingWheel;
+
   public TimeoutInstance registerTimeout(@NotNull Dimension dimension, @NotNull TimeoutParameters timeoutParameters,
       @NotNull TimeoutCallback timeoutCallback) {
     TimeoutTrackerFactory timeoutTrackerFactory = timeoutRegistry.obtain(dimension);
@@ -87,6 +103,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     log.info(format("Registered timeout with uuid: %s, currentTime: %d, expiryTime: %d, diff: %d",
         timeoutInstance.getUuid(), System.currentTimeMillis(), timeoutInstance.getNextIteration(),
         timeoutInstance.getNextIteration() - System.currentTimeMillis()));
+    scheduleInTimingWheel(savedTimeoutInstance);
     if (iterator != null) {
       iterator.wakeup();
     }
@@ -101,11 +118,19 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     for (List<String> batchTimeInstanceIds : partition) {
       timeoutInstanceRepository.deleteByUuidIn(batchTimeInstanceIds);
     }
+    TimeoutWheelScheduler wheel = timingWheel;
+    if (wheel != null) {
+      timeoutInstanceIds.forEach(wheel::cancel);
+    }
   }
 
   public void deleteTimeout(@NonNull String timeoutInstanceId) {
     // equal operator is better than in operator
     timeoutInstanceRepository.deleteById(timeoutInstanceId);
+    TimeoutWheelScheduler wheel = timingWheel;
+    if (wheel != null) {
+      wheel.cancel(timeoutInstanceId);
+    }
   }
 
   public void onEvent(List<String> timeoutInstanceIds, TimeoutEvent event) {
@@ -117,6 +142,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
       if (timeoutInstance.tracker.onEvent(event)) {
         timeoutInstance.resetNextIteration();
         timeoutInstanceRepository.save(timeoutInstance);
+        scheduleInTimingWheel(timeoutInstance);
         if (iterator != null) {
           iterator.wakeup();
         }
@@ -124,6 +150,80 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     }
   }
 
+  /**
+   * Starts firing timeouts from an in memory timing wheel with millisecond precision. Timeouts expiring soon are loaded
+   * from mongo periodically, so the wheel is rebuilt on startup and covers timeouts registered on other pods. Mongo
+   * stays the durable record: a timeout is only fired after it is claimed there, and the iterator keeps firing anything
+   * the wheel missed.
+   */
+  public synchronized void startTimingWheel(int poolSize) {
+    if (timingWheel != null) {
+      return;
+    }
+    TimeoutWheelScheduler wheel = new TimeoutWheelScheduler(TIMING_WHEEL_SHARDS, TIMING_WHEEL_TICK,
+        TIMING_WHEEL_HORIZON, TIMING_WHEEL_RELOAD_INTERVAL, TIMING_WHEEL_MAX_LOAD, this::loadUpcomingTimeouts,
+        this::handleExpired);
+    wheel.start(poolSize);
+    timingWheel = wheel;
+  }
+
+  public synchronized void stopTimingWheel() {
+    if (timingWheel != null) {
+      timingWheel.stop();
+      timingWheel = null;
+    }
+  }
+
+  private void scheduleInTimingWheel(TimeoutInstance timeoutInstance) {
+    TimeoutWheelScheduler wheel = timingWheel;
+    if (wheel == null || timeoutInstance == null) {
+      return;
+    }
+    if (timeoutInstance.getNextIteration() == Long.MAX_VALUE) {
+      wheel.cancel(timeoutInstance.getUuid());
+    } else {
+      wheel.schedule(timeoutInstance.getUuid(), timeoutInstance.getNextIteration());
+    }
+  }
+
+  @VisibleForTesting
+  Map<String, Long> loadUpcomingTimeouts(long expiringAfter, long expiringBefore, int limit) {
+    Query query = query(where(TimeoutInstanceKeys.nextIteration).gt(expiringAfter).lte(expiringBefore))
+                      .with(Sort.by(TimeoutInstanceKeys.nextIteration))
+                      .limit(limit);
+    query.fields().include(TimeoutInstanceKeys.uuid).include(TimeoutInstanceKeys.nextIteration);
+    Map<String, Long> upcoming = new HashMap<>();
+    for (TimeoutInstance timeoutInstance : mongoTemplate.find(query, TimeoutInstance.class)) {
+      upcoming.put(timeoutInstance.getUuid(), timeoutInstance.getNextIteration());
+    }
+    return upcoming;
+  }
+
+  /**
+   * Claims the timeout the same way the iterator does, by moving nextIteration forward only if it is still due, so a
+   * timeout is fired once even if several pods or the iterator see it expire at the same time. If the timeout is not
+   * due anymore, it was pushed back on another pod and is put back in the wheel at its new expiry.
+   */
+  @VisibleForTesting
+  void handleExpired(String timeoutInstanceId) {
+    long now = System.currentTimeMillis();
+    TimeoutInstance timeoutInstance = mongoTemplate.findAndModify(
+        query(where(TimeoutInstanceKeys.uuid).is(timeoutInstanceId).and(TimeoutInstanceKeys.nextIteration).lte(now)),
+        new Update().set(TimeoutInstanceKeys.nextIteration, now + MAX_CALLBACK_PROCESSING_TIME.toMillis()),
+        FindAndModifyOptions.options().returnNew(true), TimeoutInstance.class);
+    if (timeoutInstance != null) {
+      handle(timeoutInstance);
+      return;
+    }
+
+    Query query = query(where(TimeoutInstanceKeys.uuid).is(timeoutInstanceId));
+    query.fields().include(TimeoutInstanceKeys.uuid).include(TimeoutInstanceKeys.nextIteration);
+    TimeoutInstance current = mongoTemplate.findOne(query, TimeoutInstance.class);
+    if (current != null && current.getNextIteration() > now) {
+      scheduleInTimingWheel(current);
+    }
+  }
+
   @Override
   public void createAndStartRedisBatchIterator(
       PersistenceIteratorFactory.RedisBatchExecutorOptions executorOptions, Duration targetInterval) {
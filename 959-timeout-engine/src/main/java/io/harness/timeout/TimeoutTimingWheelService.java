@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import io.dropwizard.lifecycle.Managed;
+
+/**
+ * Ties the timing wheel of the {@link TimeoutEngine} to the service lifecycle, so its threads are stopped on shutdown.
+ */
+@OwnedBy(PIPELINE)
+public class TimeoutTimingWheelService implements Managed {
+  private final TimeoutEngine timeoutEngine;
+  private final int poolSize;
+
+  public TimeoutTimingWheelService(TimeoutEngine timeoutEngine, int poolSize) {
+    this.timeoutEngine = timeoutEngine;
+    this.poolSize = poolSize;
+  }
+
+  @Override
+  public void start() {
+    timeoutEngine.startTimingWheel(poolSize);
+  }
+
+  @Override
+  public void stop() {
+    timeoutEngine.stopTimingWheel();
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * In memory hierarchical timing wheel keyed by timeout instance id.
+ *
+ * Level 0 has one slot per tick, every level above covers a full revolution of the level below in each of its slots.
+ * Scheduling and cancelling are O(1), advancing costs O(1) per tick plus the cost of moving entries down a level when
+ * a higher level slot comes due. Entries scheduled beyond the range of the top level are parked in its farthest slot
+ * and re-placed when that slot comes due.
+ */
+@OwnedBy(PIPELINE)
+public class HierarchicalTimingWheel {
+  private final long tickMillis;
+  private final int slotBits;
+  private final int slotMask;
+  private final int levels;
+  private final ArrayDeque<Entry>[][] wheel;
+  // The latest expiry of every scheduled id, entries in the wheel not matching it are stale and dropped lazily
+  private final Map<String, Long> deadlines = new HashMap<>();
+  private final List<Entry> due = new ArrayList<>();
+  private long currentTick;
+
+  @Value
+  private static class Entry {
+    String id;
+    long expiryMillis;
+  }
+
+  @SuppressWarnings("unchecked")
+  public HierarchicalTimingWheel(long tickMillis, int slotBits, int levels, long startMillis) {
+    this.tickMillis = Math.max(1, tickMillis);
+    this.slotBits = slotBits;
+    this.slotMask = (1 << slotBits) - 1;
+    this.levels = levels;
+    this.wheel = new ArrayDeque[levels][1 << slotBits];
+    this.currentTick = startMillis / this.tickMillis;
+  }
+
+  public synchronized void schedule(String id, long expiryMillis) {
+    deadlines.put(id, expiryMillis);
+    place(new Entry(id, expiryMillis));
+  }
+
+  public synchronized boolean cancel(String id) {
+    return deadlines.remove(id) != null;
+  }
+
+  public synchronized boolean isScheduled(String id) {
+    return deadlines.containsKey(id);
+  }
+
+  public synchronized int size() {
+    return deadlines.size();
+  }
+
+  /**
+   * Moves the wheel up to the given time.
+   *
+   * @return the ids which expired, each id is returned once per schedule call
+   */
+  public synchronized List<String> advanceTo(long nowMillis) {
+    List<String> expired = new ArrayList<>();
+    drainDue(expired);
+
+    long targetTick = nowMillis / tickMillis;
+    while (currentTick < targetTick) {
+      currentTick++;
+      cascade();
+      drainDue(expired);
+      int slot = (int) (currentTick & slotMask);
+      ArrayDeque<Entry> entries = wheel[0][slot];
+      if (entries != null) {
+        wheel[0][slot] = null;
+        collect(entries, expired);
+      }
+    }
+    return expired;
+  }
+
+  private void drainDue(List<String> expired) {
+    if (!due.isEmpty()) {
+      collect(due, expired);
+      due.clear();
+    }
+  }
+
+  private void collect(Iterable<Entry> entries, List<String> expired) {
+    for (Entry entry : entries) {
+      Long deadline = deadlines.get(entry.getId());
+      if (deadline != null && deadline == entry.getExpiryMillis()) {
+        deadlines.remove(entry.getId());
+        expired.add(entry.getId());
+      }
+    }
+  }
+
+  /**
+   * When a level completes a revolution, the next slot of the level above is spread over the levels below.
+   */
+  private void cascade() {
+    for (int level = 1; level < levels; level++) {
+      if ((currentTick & ((1L << (slotBits * level)) - 1)) != 0) {
+        return;
+      }
+      int slot = (int) ((currentTick >> (slotBits * level)) & slotMask);
+      ArrayDeque<Entry> entries = wheel[level][slot];
+      if (entries != null) {
+        wheel[level][slot] = null;
+        for (Entry entry : entries) {
+          Long deadline = deadlines.get(entry.getId());
+          if (deadline != null && deadline == entry.getExpiryMillis()) {
+            place(entry);
+          }
+        }
+      }
+    }
+  }
+
+  private void place(Entry entry) {
+    // Round up, so an entry never fires before its expiry
+    long expiryTick = (entry.getExpiryMillis() + tickMillis - 1) / tickMillis;
+    if (expiryTick <= currentTick) {
+      due.add(entry);
+      return;
+    }
+    long delta = expiryTick - currentTick;
+    for (int level = 0; level < levels; level++) {
+      if (delta < (1L << (slotBits * (level + 1)))) {
+        int slot = (int) ((expiryTick >> (slotBits * level)) & slotMask);
+        add(level, slot, entry);
+        return;
+      }
+    }
+    // Beyond the range of the wheel, park it in the farthest slot of the top level
+    int topLevel = levels - 1;
+    int slot = (int) (((currentTick >> (slotBits * topLevel)) + slotMask) & slotMask);
+    add(topLevel, slot, entry);
+  }
+
+  private void add(int level, int slot, Entry entry) {
+    if (wheel[level][slot] == null) {
+      wheel[level][slot] = new ArrayDeque<>();
+    }
+    wheel[level][slot].add(entry);
+  }
+}
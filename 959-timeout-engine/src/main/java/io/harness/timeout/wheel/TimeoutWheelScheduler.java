@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives a set of {@link HierarchicalTimingWheel}s, sharded by timeout instance id to keep lock contention low.
+ *
+ * Only timeouts expiring within the horizon are kept in memory. The loader is called on start and then periodically,
+ * each time for the part of the horizon which was not loaded yet, so timeouts registered on other pods or scheduled
+ * before a restart are picked up as they come close to expiry. Expired ids are handed to the expiry handler on the
+ * handler pool, which is responsible for claiming the timeout atomically before firing it.
+ */
+@OwnedBy(PIPELINE)
+@Slf4j
+public class TimeoutWheelScheduler {
+  private static final int SLOT_BITS = 6;
+  private static final int LEVELS = 4;
+
+  private final HierarchicalTimingWheel[] shards;
+  private final Duration tick;
+  private final Duration horizon;
+  private final Duration reloadInterval;
+  private final int maxLoad;
+  private final UpcomingTimeoutLoader loader;
+  private final Consumer<String> expiryHandler;
+
+  private ScheduledExecutorService scheduler;
+  private volatile ExecutorService handlerPool;
+  // Timeouts expiring up to this time were already loaded
+  private long loadedUntil;
+
+  /**
+   * Loads the expiry of the timeouts expiring after the first and no later than the second time, at most limit of them
+   * in expiry order.
+   */
+  @FunctionalInterface
+  public interface UpcomingTimeoutLoader {
+    Map<String, Long> load(long expiringAfter, long expiringBefore, int limit);
+  }
+
+  public TimeoutWheelScheduler(int shardCount, Duration tick, Duration horizon, Duration reloadInterval, int maxLoad,
+      UpcomingTimeoutLoader loader, Consumer<String> expiryHandler) {
+    this.tick = tick;
+    this.horizon = horizon;
+    this.reloadInterval = reloadInterval;
+    this.maxLoad = maxLoad;
+    this.loader = loader;
+    this.expiryHandler = expiryHandler;
+    this.shards = new HierarchicalTimingWheel[Math.max(1, shardCount)];
+    long now = System.currentTimeMillis();
+    // Timeouts which are already due are left to the iterator
+    this.loadedUntil = now;
+    for (int i = 0; i < shards.length; i++) {
+      shards[i] = new HierarchicalTimingWheel(tick.toMillis(), SLOT_BITS, LEVELS, now);
+    }
+  }
+
+  public synchronized void start(int poolSize) {
+    if (scheduler != null) {
+      return;
+    }
+    scheduler = Executors.newScheduledThreadPool(
+        2, new ThreadFactoryBuilder().setNameFormat("timeout-wheel-scheduler-%d").build());
+    handlerPool = Executors.newFixedThreadPool(
+        poolSize, new ThreadFactoryBuilder().setNameFormat("timeout-wheel-handler-%d").build());
+    scheduler.scheduleWithFixedDelay(this::reload, 0, reloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+    scheduler.scheduleAtFixedRate(this::advance, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public synchronized void stop() {
+    if (scheduler == null) {
+      return;
+    }
+    scheduler.shutdownNow();
+    handlerPool.shutdown();
+    scheduler = null;
+    handlerPool = null;
+  }
+
+  /**
+   * Schedules or reschedules the given timeout. Timeouts beyond the horizon are dropped from memory and left to the
+   * periodic reload.
+   */
+  public void schedule(String timeoutInstanceId, long expiryMillis) {
+    HierarchicalTimingWheel shard = shardFor(timeoutInstanceId);
+    if (expiryMillis > System.currentTimeMillis() + horizon.toMillis()) {
+      shard.cancel(timeoutInstanceId);
+      return;
+    }
+    shard.schedule(timeoutInstanceId, expiryMillis);
+  }
+
+  public void cancel(String timeoutInstanceId) {
+    shardFor(timeoutInstanceId).cancel(timeoutInstanceId);
+  }
+
+  public int size() {
+    int size = 0;
+    for (HierarchicalTimingWheel shard : shards) {
+      size += shard.size();
+    }
+    return size;
+  }
+
+  /**
+   * Loads only the timeouts entering the horizon since the last reload, the ones already in memory are kept up to date
+   * by schedule and cancel. A timeout moved into the loaded part of the horizon by another pod is left to the
+   * iterator.
+   */
+  synchronized void reload() {
+    try {
+      long expiringBefore = System.currentTimeMillis() + horizon.toMillis();
+      if (expiringBefore <= loadedUntil) {
+        return;
+      }
+      Map<String, Long> upcoming = loader.load(loadedUntil, expiringBefore, maxLoad);
+      upcoming.forEach(this::schedule);
+      if (upcoming.size() < maxLoad) {
+        loadedUntil = expiringBefore;
+      } else {
+        // Truncated, continue after the latest loaded expiry on the next reload
+        loadedUntil = upcoming.values().stream().mapToLong(Long::longValue).max().orElse(expiringBefore);
+      }
+    } catch (Exception ex) {
+      log.error("Failed to load upcoming timeouts into the timing wheel", ex);
+    }
+  }
+
+  void advance() {
+    ExecutorService pool = handlerPool;
+    if (pool == null) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    for (HierarchicalTimingWheel shard : shards) {
+      List<String> expired = shard.advanceTo(now);
+      for (String timeoutInstanceId : expired) {
+        try {
+          pool.submit(() -> {
+            try {
+              expiryHandler.accept(timeoutInstanceId);
+            } catch (Exception ex) {
+              log.error("Failed to handle expired timeout instance {}", timeoutInstanceId, ex);
+            }
+          });
+        } catch (RejectedExecutionException ex) {
+          // Shutting down, the iterator fires whatever was left behind
+          return;
+        }
+      }
+    }
+  }
+
+  private HierarchicalTimingWheel shardFor(String timeoutInstanceId) {
+    return shards[Math.floorMod(timeoutInstanceId.hashCode(), shards.length)];
+  }
+}
@@ -14,9 +14,14 @@ import static io.harness.rule.OwnerRule.PRASHANT;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.joor.Reflect.on;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import io.harness.TimeoutEngineTestBase;
 import io.harness.annotations.dev.HarnessTeam;
@@ -25,15 +30,23 @@ import io.harness.category.element.UnitTests;
 import io.harness.persistence.HPersistence;
 import io.harness.repositories.TimeoutInstanceRepository;
 import io.harness.rule.Owner;
+import io.harness.timeout.TimeoutInstance.TimeoutInstanceKeys;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTracker;
+import io.harness.timeout.wheel.TimeoutWheelScheduler;
 
 import com.google.inject.Inject;
 import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
@@ -86,6 +99,81 @@ public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
     verify(timeoutInstanceRepository, times(2)).deleteByUuidIn(any());
   }
 
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testHandleExpiredFiresClaimedTimeout() {
+    MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    on(timeoutEngine).set("mongoTemplate", mongoTemplate);
+    TestTimeoutCallback callback = new TestTimeoutCallback();
+    TimeoutInstance instance = TimeoutInstance.builder()
+                                   .uuid("timeoutInstanceId")
+                                   .tracker(new AbsoluteTimeoutTracker(1000))
+                                   .callback(callback)
+                                   .build();
+    when(mongoTemplate.findAndModify(
+             any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(TimeoutInstance.class)))
+        .thenReturn(instance);
+
+    timeoutEngine.handleExpired("timeoutInstanceId");
+
+    assertThat(callback.getTimeoutInstance()).isEqualTo(instance);
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate)
+        .findAndModify(
+            queryCaptor.capture(), any(Update.class), any(FindAndModifyOptions.class), eq(TimeoutInstance.class));
+    assertThat(queryCaptor.getValue().getQueryObject())
+        .containsEntry(TimeoutInstanceKeys.uuid, "timeoutInstanceId")
+        .containsKey(TimeoutInstanceKeys.nextIteration);
+    verify(mongoTemplate, never()).findOne(any(Query.class), eq(TimeoutInstance.class));
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testHandleExpiredReschedulesTimeoutNotDueAnymore() {
+    MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    TimeoutWheelScheduler timingWheel = mock(TimeoutWheelScheduler.class);
+    on(timeoutEngine).set("mongoTemplate", mongoTemplate);
+    on(timeoutEngine).set("timingWheel", timingWheel);
+    long nextIteration = System.currentTimeMillis() + 60000;
+    when(mongoTemplate.findAndModify(
+             any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(TimeoutInstance.class)))
+        .thenReturn(null);
+    when(mongoTemplate.findOne(any(Query.class), eq(TimeoutInstance.class)))
+        .thenReturn(TimeoutInstance.builder().uuid("timeoutInstanceId").nextIteration(nextIteration).build());
+
+    timeoutEngine.handleExpired("timeoutInstanceId");
+    verify(timingWheel).schedule("timeoutInstanceId", nextIteration);
+
+    // Already fired and deleted by another pod
+    when(mongoTemplate.findOne(any(Query.class), eq(TimeoutInstance.class))).thenReturn(null);
+    timeoutEngine.handleExpired("timeoutInstanceId");
+    verifyNoMoreInteractions(timingWheel);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testLoadUpcomingTimeouts() {
+    long now = System.currentTimeMillis();
+    TimeoutInstance soon = timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(30000), new TestTimeoutCallback());
+    TimeoutInstance later =
+        timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(90000), new TestTimeoutCallback());
+    TimeoutInstance beyond =
+        timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(600000), new TestTimeoutCallback());
+
+    Map<String, Long> firstWindow = timeoutEngine.loadUpcomingTimeouts(now, now + 60000, 100);
+    assertThat(firstWindow).containsEntry(soon.getUuid(), soon.getNextIteration());
+    assertThat(firstWindow).doesNotContainKeys(later.getUuid(), beyond.getUuid());
+
+    Map<String, Long> secondWindow = timeoutEngine.loadUpcomingTimeouts(now + 60000, now + 120000, 100);
+    assertThat(secondWindow).containsEntry(later.getUuid(), later.getNextIteration());
+    assertThat(secondWindow).doesNotContainKeys(soon.getUuid(), beyond.getUuid());
+
+    assertThat(timeoutEngine.loadUpcomingTimeouts(now, now + 120000, 1)).hasSize(1);
+  }
+
   public static class TestTimeoutCallback implements TimeoutCallback {
     private TimeoutInstance timeoutInstance;
     public TimeoutInstance getTimeoutInstance() {
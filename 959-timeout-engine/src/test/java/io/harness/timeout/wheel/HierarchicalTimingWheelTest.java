@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PIPELINE)
+public class HierarchicalTimingWheelTest extends CategoryTest {
+  private static final long START = 1_000_000L;
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFiresOnTheExpiryTick() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 2, 3, START);
+    wheel.schedule("a", START + 25);
+    wheel.schedule("b", START + 500);
+
+    assertThat(wheel.advanceTo(START + 10)).isEmpty();
+    assertThat(wheel.advanceTo(START + 20)).isEmpty();
+    assertThat(wheel.advanceTo(START + 30)).containsExactly("a");
+    assertThat(wheel.advanceTo(START + 490)).isEmpty();
+    assertThat(wheel.advanceTo(START + 500)).containsExactly("b");
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testCascadesAndParksBeyondTheRange() {
+    // 4 slots and 2 levels of 10ms ticks cover 160ms
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 2, 2, START);
+    List<String> expected = new ArrayList<>();
+    for (int i = 1; i <= 50; i++) {
+      wheel.schedule("t" + i, START + i * 10L);
+      expected.add("t" + i);
+    }
+
+    List<String> fired = new ArrayList<>();
+    for (long now = START; now <= START + 500; now += 10) {
+      List<String> expired = wheel.advanceTo(now);
+      for (String id : expired) {
+        assertThat(START + Long.parseLong(id.substring(1)) * 10L).isEqualTo(now);
+      }
+      fired.addAll(expired);
+    }
+    assertThat(fired).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testRescheduleAndCancel() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 6, 4, START);
+    wheel.schedule("a", START + 100);
+    wheel.schedule("a", START + 300);
+    wheel.schedule("b", START + 100);
+    assertThat(wheel.cancel("b")).isTrue();
+    assertThat(wheel.cancel("b")).isFalse();
+
+    assertThat(wheel.advanceTo(START + 200)).isEmpty();
+    assertThat(wheel.isScheduled("a")).isTrue();
+    assertThat(wheel.advanceTo(START + 300)).containsExactly("a");
+    assertThat(wheel.isScheduled("a")).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testAlreadyExpiredFiresOnNextAdvance() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 6, 4, START);
+    wheel.schedule("a", START - 5000);
+
+    assertThat(wheel.advanceTo(START)).containsExactly("a");
+    assertThat(wheel.advanceTo(START + 10)).isEmpty();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofMinutes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PIPELINE)
+public class TimeoutWheelSchedulerTest extends CategoryTest {
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testReloadLoadsEachPartOfTheHorizonOnce() throws InterruptedException {
+    long start = System.currentTimeMillis();
+    List<long[]> windows = new ArrayList<>();
+    TimeoutWheelScheduler scheduler =
+        new TimeoutWheelScheduler(2, ofMillis(10), ofMinutes(2), ofMinutes(1), 100, (after, before, limit) -> {
+          windows.add(new long[] {after, before});
+          return Map.of("a", start + 1000);
+        }, id -> {});
+
+    scheduler.reload();
+    Thread.sleep(5);
+    scheduler.reload();
+
+    assertThat(windows).hasSize(2);
+    assertThat(windows.get(0)[0]).isGreaterThanOrEqualTo(start);
+    assertThat(windows.get(0)[1]).isGreaterThanOrEqualTo(start + ofMinutes(2).toMillis());
+    assertThat(windows.get(1)[0]).isEqualTo(windows.get(0)[1]);
+    assertThat(windows.get(1)[1]).isGreaterThan(windows.get(1)[0]);
+    assertThat(scheduler.size()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testTruncatedReloadContinuesAfterTheLatestLoadedExpiry() {
+    long start = System.currentTimeMillis();
+    List<Long> windowStarts = new ArrayList<>();
+    TimeoutWheelScheduler scheduler =
+        new TimeoutWheelScheduler(2, ofMillis(10), ofMinutes(2), ofMinutes(1), 2, (after, before, limit) -> {
+          windowStarts.add(after);
+          return Map.of("a", start + 1000, "b", start + 2000);
+        }, id -> {});
+
+    scheduler.reload();
+    scheduler.reload();
+
+    assertThat(windowStarts).hasSize(2);
+    assertThat(windowStarts.get(1)).isEqualTo(start + 2000);
+    assertThat(scheduler.size()).isEqualTo(2);
+  }
+}
@@ -60,6 +60,17 @@ public class DelegateConfiguration {
   private boolean clientToolsDownloadDisabled;
   private boolean installClientToolsInBackground;
   private boolean dynamicHandlingOfRequestEnabled;
+  /*
+   * If true, tasks run on virtual threads and the number of tasks is limited by the CPU and memory of the delegate
+   * instead of the number of task threads. Ignored on JVMs without virtual threads.
+   */
+  private boolean virtualThreadTaskExecutionEnabled;
+
+  /**
+   * If true, the delegate only gets the changes of its perpetual tasks from the manager, together with the contexts of
+   * the new and updated tasks, instead of listing all of them and getting the contexts one by one.
+   */
+  private boolean perpetualTaskAssignmentChangesEnabled;
 
   private String clientCertificateFilePath;
   private String clientCertificateKeyFilePath;
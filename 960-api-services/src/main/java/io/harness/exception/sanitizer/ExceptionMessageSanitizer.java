@@ -8,22 +8,20 @@
 package io.harness.exception.sanitizer;
 
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
-import static io.harness.expression.SecretString.SECRET_MASK;
 import static io.harness.reflection.ReflectionUtils.getFieldByName;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
-import static org.apache.commons.lang3.StringUtils.replaceEach;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.DecryptableEntity;
 import io.harness.encryption.SecretRefData;
 import io.harness.exception.WingsException;
+import io.harness.logging.SecretMasker;
 import io.harness.secret.SecretSanitizerThreadLocal;
 import io.harness.security.encryption.EncryptedDataDetail;
 
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,9 +35,10 @@ public class ExceptionMessageSanitizer {
     if (isEmpty(secrets)) {
       return ex;
     }
+    SecretMasker secretMasker = SecretMasker.forSecrets(secrets);
     Exception exception = ex;
     while (exception != null) {
-      sanitizeExceptionInternal(exception, secrets);
+      sanitizeExceptionInternal(exception, secretMasker);
       exception = (Exception) exception.getCause();
     }
     return ex;
@@ -50,28 +49,26 @@ public class ExceptionMessageSanitizer {
     return sanitizeException(exception, secrets);
   }
 
-  @SneakyThrows
   protected static void sanitizeExceptionInternal(Exception exception, Set<String> secrets) {
+    sanitizeExceptionInternal(exception, SecretMasker.forSecrets(secrets));
+  }
+
+  @SneakyThrows
+  private static void sanitizeExceptionInternal(Exception exception, SecretMasker secretMasker) {
     if (exception instanceof WingsException) {
-      updateWingsExceptionMessage((WingsException) exception, secrets);
+      updateWingsExceptionMessage((WingsException) exception, secretMasker);
     }
 
     String message = exception.getMessage();
-    String updatedMessage = sanitizeMessage(message, secrets);
+    String updatedMessage = secretMasker.mask(message);
     updateExceptionMessage(exception, updatedMessage);
   }
 
   protected static String sanitizeMessage(String message, Set<String> secrets) {
-    ArrayList<String> secretMasks = new ArrayList<>();
-    ArrayList<String> secretValues = new ArrayList<>();
     if (isEmpty(secrets)) {
       return message;
     }
-    for (String secret : secrets) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secret);
-    }
-    return replaceEach(message, secretValues.toArray(new String[] {}), secretMasks.toArray(new String[] {}));
+    return SecretMasker.forSecrets(secrets).mask(message);
   }
 
   protected static void updateExceptionMessage(Throwable exception, String message)
@@ -96,6 +93,10 @@ public class ExceptionMessageSanitizer {
   }
 
   public static void updateWingsExceptionMessage(WingsException exception, Set<String> secrets) {
+    updateWingsExceptionMessage(exception, SecretMasker.forSecrets(secrets));
+  }
+
+  private static void updateWingsExceptionMessage(WingsException exception, SecretMasker secretMasker) {
     if (isEmpty(exception.getParams())) {
       return;
     }
@@ -103,7 +104,7 @@ public class ExceptionMessageSanitizer {
     for (Map.Entry<String, Object> entry : params.entrySet()) {
       Object errorMessage = entry.getValue();
       if (errorMessage instanceof String) {
-        String updatedErrorMessage = sanitizeMessage((String) errorMessage, secrets);
+        String updatedErrorMessage = secretMasker.mask((String) errorMessage);
         exception.getParams().put(entry.getKey(), updatedErrorMessage);
       }
     }
@@ -25,6 +25,7 @@ import static io.harness.git.Constants.GIT_YAML_LOG_PREFIX;
 import static io.harness.git.Constants.HARNESS_IO_KEY_;
 import static io.harness.git.Constants.HARNESS_SUPPORT_EMAIL_KEY;
 import static io.harness.git.Constants.PATH_DELIMITER;
+import static io.harness.git.Constants.REPOSITORY;
 import static io.harness.git.model.PushResultGit.pushResultBuilder;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.validation.Validator.notEmptyCheck;
@@ -76,10 +77,12 @@ import io.harness.git.model.RevertAndPushRequest;
 import io.harness.git.model.RevertAndPushResult;
 import io.harness.git.model.RevertRequest;
 
-import software.wings.misc.CustomUserGitConfigSystemReader;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.io.File;
@@ -102,10 +105,14 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -116,6 +123,7 @@ import net.jodah.failsafe.FailsafeException;
 import net.jodah.failsafe.RetryPolicy;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.eclipse.jgit.api.CheckoutCommand;
 import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.CreateBranchCommand.SetupUpstreamMode;
@@ -153,7 +161,6 @@ import org.eclipse.jgit.transport.TransportHttp;
 import org.eclipse.jgit.transport.http.HttpConnectionFactory;
 import org.eclipse.jgit.transport.http.apache.HttpClientConnectionFactory;
 import org.eclipse.jgit.treewalk.CanonicalTreeParser;
-import org.eclipse.jgit.util.SystemReader;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true,
     components = {HarnessModuleComponent.CDS_FIRST_GEN, HarnessModuleComponent.CDS_GITOPS})
@@ -171,8 +178,21 @@ public class GitClientV2Impl implements GitClientV2 {
   private static final String ORIGIN = "origin/";
   private static final String REPOSITORY_NOT_FOUND = "Repository not found";
   private static final String INVALID_PRIVATE_KEY = "invalid privatekey";
+  // local repos are at ${ACCOUNT_ID}/${CONNECTOR_ID}/${REPO_NAME}/${REPO_URL_HASH} of their repo type directory
+  private static final int REPO_DIR_DEPTH = 4;
+  private static final long REPO_EVICTION_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+  // local repos are evicted least recently used first down to this size, eviction is off unless it is set
+  private static final long REPO_CACHE_MAX_SIZE_BYTES =
+      NumberUtils.toLong(System.getenv("GIT_REPO_CACHE_MAX_SIZE_MB")) * 1024 * 1024;
 
+  /**
+   * Locks of the local repo directories. Git operations only wait for the ones on the same repo, and the locks are
+   * reentrant as commitAndPush and commit update the repo first.
+   */
+  private static final LoadingCache<String, ReentrantLock> repoLocks =
+      CacheBuilder.newBuilder().weakValues().build(CacheLoader.from(key -> new ReentrantLock()));
   @Inject private GitClientHelper gitClientHelper;
+  private final AtomicLong lastRepoEvictionMillis = new AtomicLong();
   /**
    * factory for creating HTTP connections. By default, JGit uses JDKHttpConnectionFactory which doesn't work well with
    * proxy. See:
@@ -193,9 +213,23 @@ public class GitClientV2Impl implements GitClientV2 {
    * @param request GitBaseRequest
    */
   @Override
-  public synchronized void ensureRepoLocallyClonedAndUpdated(GitBaseRequest request) {
+  public void ensureRepoLocallyClonedAndUpdated(GitBaseRequest request) {
     notNullCheck("Repo update request cannot be null", request);
     cleanup(request);
+    String repoDirectory = gitClientHelper.getRepoDirectory(request);
+    ReentrantLock repoLock = getRepoLock(repoDirectory);
+    repoLock.lock();
+    try {
+      updateLocalRepo(request);
+      // the last modified time of the repo directory tells when it was used last for the eviction
+      new File(repoDirectory).setLastModified(System.currentTimeMillis());
+    } finally {
+      repoLock.unlock();
+    }
+    evictLeastRecentlyUsedReposIfDue();
+  }
+
+  private void updateLocalRepo(GitBaseRequest request) {
     File repoDir = new File(gitClientHelper.getRepoDirectory(request));
     boolean executionFailed = false;
     if (repoDir.exists()) {
@@ -206,7 +240,16 @@ public class GitClientV2Impl implements GitClientV2 {
             + "Repo exist. do hard sync with remote branch");
         printCommitId(request, git);
 
-        ((FetchCommand) (getAuthConfiguredCommand(git.fetch(), request))).setTagOpt(TagOpt.FETCH_TAGS).call();
+        FetchCommand fetchCommand =
+            ((FetchCommand) (getAuthConfiguredCommand(git.fetch(), request))).setTagOpt(TagOpt.FETCH_TAGS);
+        if (isNotEmpty(request.getBranch()) && isEmpty(request.getCommitId())
+            && !request.isUnsureOrNonExistentBranch()) {
+          // The repo is reset to the head of the branch, so only the branch is fetched instead of all the refs.
+          String branch = request.getBranch();
+          fetchCommand.setRefSpecs(new RefSpec(format("+%s%s:refs/remotes/%s%s", REFS_HEADS, branch, ORIGIN, branch)))
+              .setTagOpt(TagOpt.AUTO_FOLLOW);
+        }
+        fetchCommand.call();
         checkout(request);
 
         // Do not sync to the HEAD of the branch if a specific commit SHA is provided
@@ -237,8 +280,8 @@ public class GitClientV2Impl implements GitClientV2 {
       } finally {
         if (executionFailed) {
           // ensureRepoLocallyClonedAndUpdated is called before any git op (commitAndPush, diff)
-          // This is synchronized on this singleton class object. So if we are inside in this method, there is
-          // no other method inside this one at the same time. Also all callers are synchronized as well.
+          // This holds the lock of the repo directory. So if we are inside in this method, there is no other
+          // git operation on this repo at the same time. Also all callers hold the lock as well.
           // Means if we fail due to existing index.lock it has to be orphan lock file
           // and needs to be deleted.
           gitClientHelper.releaseLock(request, gitClientHelper.getRepoDirectory(request));
@@ -270,7 +313,17 @@ public class GitClientV2Impl implements GitClientV2 {
   }
 
   @VisibleForTesting
-  synchronized void clone(GitBaseRequest request, String gitRepoDirectory, boolean noCheckout) {
+  void clone(GitBaseRequest request, String gitRepoDirectory, boolean noCheckout) {
+    ReentrantLock repoLock = getRepoLock(gitRepoDirectory);
+    repoLock.lock();
+    try {
+      cloneRepo(request, gitRepoDirectory, noCheckout);
+    } finally {
+      repoLock.unlock();
+    }
+  }
+
+  private void cloneRepo(GitBaseRequest request, String gitRepoDirectory, boolean noCheckout) {
     try {
       if (new File(gitRepoDirectory).exists()) {
         deleteDirectoryAndItsContentIfExists(gitRepoDirectory);
@@ -303,7 +356,7 @@ public class GitClientV2Impl implements GitClientV2 {
       cloneCommand.setBranch(branchToClone);
       cloneCommand.setBranchesToClone(Collections.singleton(branchToClone));
     }
-    try (Git git = cloneCommand.call()) {
+    try (Git git = cloneRepository(cloneCommand, request.getDisableUserGitConfig())) {
     } catch (GitAPIException ex) {
       log.error(GIT_YAML_LOG_PREFIX + "Error in cloning repo: " + ExceptionSanitizer.sanitizeForLogging(ex));
       gitClientHelper.checkIfGitConnectivityIssue(ex);
@@ -311,7 +364,7 @@ public class GitClientV2Impl implements GitClientV2 {
     }
   }
 
-  private synchronized void checkout(GitBaseRequest request) throws IOException, GitAPIException {
+  private void checkout(GitBaseRequest request) throws IOException, GitAPIException {
     Git git = openGit(new File(gitClientHelper.getRepoDirectory(request)), request.getDisableUserGitConfig());
     try {
       if (isNotEmpty(request.getBranch())) {
@@ -494,6 +547,17 @@ public class GitClientV2Impl implements GitClientV2 {
   }
   @Override
   public DiffResult diff(DiffRequest request) {
+    // the repo is read after it is updated, so it is kept locked until then against eviction
+    ReentrantLock repoLock = getRepoLock(gitClientHelper.getRepoDirectory(request));
+    repoLock.lock();
+    try {
+      return diffCommits(request);
+    } finally {
+      repoLock.unlock();
+    }
+  }
+
+  private DiffResult diffCommits(DiffRequest request) {
     String startCommitIdStr = request.getLastProcessedCommitId();
     final String endCommitIdStr = StringUtils.defaultIfEmpty(request.getEndCommitId(), "HEAD");
 
@@ -640,19 +704,26 @@ public class GitClientV2Impl implements GitClientV2 {
   }
 
   @Override
-  public synchronized CommitAndPushResult commitAndPush(CommitAndPushRequest commitAndPushRequest) {
-    CommitResult commitResult = commit(commitAndPushRequest);
-    CommitAndPushResult gitCommitAndPushResult = CommitAndPushResult.builder().gitCommitResult(commitResult).build();
-    if (isNotBlank(commitResult.getCommitId())) {
-      gitCommitAndPushResult.setGitPushResult(push(commitAndPushRequest));
-      List<GitFileChange> gitFileChanges = getFilesCommited(commitResult.getCommitId(), commitAndPushRequest);
-      gitCommitAndPushResult.setFilesCommittedToGit(gitFileChanges);
-    } else {
-      log.warn(gitClientHelper.getGitLogMessagePrefix(commitAndPushRequest.getRepoType())
-              + "Null commitId. Nothing to push for request [{}]",
-          commitAndPushRequest);
+  public CommitAndPushResult commitAndPush(CommitAndPushRequest commitAndPushRequest) {
+    ReentrantLock repoLock = getRepoLock(gitClientHelper.getRepoDirectory(commitAndPushRequest));
+    repoLock.lock();
+    try {
+      CommitResult commitResult = commit(commitAndPushRequest);
+      CommitAndPushResult gitCommitAndPushResult =
+          CommitAndPushResult.builder().gitCommitResult(commitResult).build();
+      if (isNotBlank(commitResult.getCommitId())) {
+        gitCommitAndPushResult.setGitPushResult(push(commitAndPushRequest));
+        List<GitFileChange> gitFileChanges = getFilesCommited(commitResult.getCommitId(), commitAndPushRequest);
+        gitCommitAndPushResult.setFilesCommittedToGit(gitFileChanges);
+      } else {
+        log.warn(gitClientHelper.getGitLogMessagePrefix(commitAndPushRequest.getRepoType())
+                + "Null commitId. Nothing to push for request [{}]",
+            commitAndPushRequest);
+      }
+      return gitCommitAndPushResult;
+    } finally {
+      repoLock.unlock();
     }
-    return gitCommitAndPushResult;
   }
 
   /**
@@ -671,6 +742,16 @@ public class GitClientV2Impl implements GitClientV2 {
   }
 
   protected CommitResult revert(RevertRequest request) {
+    ReentrantLock repoLock = getRepoLock(gitClientHelper.getRepoDirectory(request));
+    repoLock.lock();
+    try {
+      return revertChanges(request);
+    } finally {
+      repoLock.unlock();
+    }
+  }
+
+  private CommitResult revertChanges(RevertRequest request) {
     String localCommitId = request.getCommitId();
 
     // Setting this null so the ensureRepoLocallyClonedAndUpdated method checkouts the branch instead of a commit which
@@ -700,7 +781,17 @@ public class GitClientV2Impl implements GitClientV2 {
   }
 
   @VisibleForTesting
-  synchronized CommitResult commit(CommitAndPushRequest commitRequest) {
+  CommitResult commit(CommitAndPushRequest commitRequest) {
+    ReentrantLock repoLock = getRepoLock(gitClientHelper.getRepoDirectory(commitRequest));
+    repoLock.lock();
+    try {
+      return commitChanges(commitRequest);
+    } finally {
+      repoLock.unlock();
+    }
+  }
+
+  private CommitResult commitChanges(CommitAndPushRequest commitRequest) {
     boolean pushOnlyIfHeadSeen = commitRequest.isPushOnlyIfHeadSeen();
     String lastProcessedCommit = commitRequest.getLastProcessedGitCommit();
 
@@ -1013,7 +1104,17 @@ public class GitClientV2Impl implements GitClientV2 {
   }
 
   @VisibleForTesting
-  synchronized PushResultGit push(CommitAndPushRequest commitAndPushRequest) {
+  PushResultGit push(CommitAndPushRequest commitAndPushRequest) {
+    ReentrantLock repoLock = getRepoLock(gitClientHelper.getRepoDirectory(commitAndPushRequest));
+    repoLock.lock();
+    try {
+      return pushChanges(commitAndPushRequest);
+    } finally {
+      repoLock.unlock();
+    }
+  }
+
+  private PushResultGit pushChanges(CommitAndPushRequest commitAndPushRequest) {
     boolean forcePush = commitAndPushRequest.isForcePush();
 
     log.info(gitClientHelper.getGitLogMessagePrefix(commitAndPushRequest.getRepoType())
@@ -1375,15 +1476,22 @@ public class GitClientV2Impl implements GitClientV2 {
       try (FileOutputStream fileOutputStream = new FileOutputStream(lockFile);
            FileLock ignored = fileOutputStream.getChannel().lock()) {
         log.info("Successfully acquired lock on {}", lockFile);
-        ensureRepoLocallyClonedAndUpdated(request);
         String repoPath = gitClientHelper.getRepoDirectory(request);
-        File src = new File(repoPath);
-        File dest = new File(request.getDestinationDirectory());
-        deleteDirectoryAndItsContentIfExists(dest.getAbsolutePath());
-        FileUtils.copyDirectory(src, dest);
-        FileIo.waitForDirectoryToBeAccessibleOutOfProcess(dest.getPath(), 10);
-
-        return getLatestCommitReference(repoPath);
+        // the connector lock does not keep the repo from being evicted while it is copied
+        ReentrantLock repoLock = getRepoLock(repoPath);
+        repoLock.lock();
+        try {
+          ensureRepoLocallyClonedAndUpdated(request);
+          File src = new File(repoPath);
+          File dest = new File(request.getDestinationDirectory());
+          deleteDirectoryAndItsContentIfExists(dest.getAbsolutePath());
+          FileUtils.copyDirectory(src, dest);
+          FileIo.waitForDirectoryToBeAccessibleOutOfProcess(dest.getPath(), 10);
+
+          return getLatestCommitReference(repoPath);
+        } finally {
+          repoLock.unlock();
+        }
       } catch (WingsException e) {
         tryResetWorkingDir(request);
         throw e;
@@ -1559,11 +1667,12 @@ public class GitClientV2Impl implements GitClientV2 {
   }
 
   /**
-   * Ensure repo locally cloned. This is called before performing any git operation with remote
+   * Ensure repo locally cloned. This is called before performing any git operation with remote. Callers hold the lock
+   * of the connector, which the file download repo directory belongs to.
    *
    * @param request
    */
-  private synchronized void cloneRepoForFilePathCheckout(GitBaseRequest request) {
+  private void cloneRepoForFilePathCheckout(GitBaseRequest request) {
     log.info(new StringBuilder(64)
                  .append(gitClientHelper.getGitLogMessagePrefix(request.getRepoType()))
                  .append("Cloning repo without checkout for file fetch op, for GitConfig: ")
@@ -1647,7 +1756,7 @@ public class GitClientV2Impl implements GitClientV2 {
           // Without proper timeout socket can get hang (ref: java.net.SocketInputStream.socketRead0) indefinitely
           // during packet loss. In some scenarios even if connection is established back this may still remain stuck.
           // Since socketRead0 ignores the thread interruptions, the original task thread will remain in running state
-          // forever. As all of our operations are synchronized stuck thread will block other git tasks to execute
+          // forever. As all of our operations on a repo are locked stuck thread will block other git tasks to execute
           // This timeout is used for setting connection and read timeout based on current implementation. A better
           // option for further improvements is to have a custom connection factory where will use a more granular
           // configuration of these timeouts parameters
@@ -1665,13 +1774,75 @@ public class GitClientV2Impl implements GitClientV2 {
     return gitCommand;
   }
 
+  @VisibleForTesting
+  static ReentrantLock getRepoLock(String repoDirectory) {
+    // the same repo directory is used with relative and absolute paths
+    return repoLocks.getUnchecked(
+        new File(String.valueOf(repoDirectory)).getAbsoluteFile().toPath().normalize().toString());
+  }
+
+  private void evictLeastRecentlyUsedReposIfDue() {
+    long now = System.currentTimeMillis();
+    long lastEvictionMillis = lastRepoEvictionMillis.get();
+    if (REPO_CACHE_MAX_SIZE_BYTES <= 0 || now - lastEvictionMillis < REPO_EVICTION_INTERVAL_MILLIS
+        || !lastRepoEvictionMillis.compareAndSet(lastEvictionMillis, now)) {
+      return;
+    }
+    try {
+      evictLeastRecentlyUsedRepos(new File(REPOSITORY), REPO_CACHE_MAX_SIZE_BYTES);
+    } catch (Exception e) {
+      log.warn("Failed to evict least recently used git repos", e);
+    }
+  }
+
+  /**
+   * Deletes the least recently used local repos until the rest of them fits into the given size. Repos which are in
+   * use are kept, they are among the most recently used ones anyway.
+   */
+  @VisibleForTesting
+  void evictLeastRecentlyUsedRepos(File repositoryDir, long maxSizeBytes) throws IOException {
+    List<File> repoDirs = new ArrayList<>();
+    for (GitRepositoryType repoType : GitRepositoryType.values()) {
+      Path repoTypeDir = repositoryDir.toPath().resolve(repoType.name().toLowerCase());
+      if (!Files.isDirectory(repoTypeDir)) {
+        continue;
+      }
+      try (Stream<Path> paths = Files.find(repoTypeDir, REPO_DIR_DEPTH,
+               (path, attributes)
+                   -> attributes.isDirectory() && repoTypeDir.relativize(path).getNameCount() == REPO_DIR_DEPTH)) {
+        paths.map(Path::toFile).forEach(repoDirs::add);
+      }
+    }
+    repoDirs.sort(Comparator.comparingLong(File::lastModified).reversed());
+
+    long sizeBytes = 0;
+    for (File repoDir : repoDirs) {
+      long repoSizeBytes = FileUtils.sizeOfDirectory(repoDir);
+      ReentrantLock repoLock = getRepoLock(repoDir.getPath());
+      if (sizeBytes + repoSizeBytes <= maxSizeBytes || repoLock.isHeldByCurrentThread() || !repoLock.tryLock()) {
+        sizeBytes += repoSizeBytes;
+        continue;
+      }
+      try {
+        log.info("Evicting least recently used git repo {} of {} bytes", repoDir.getPath(), repoSizeBytes);
+        deleteDirectoryAndItsContentIfExists(repoDir.getPath());
+      } finally {
+        repoLock.unlock();
+      }
+    }
+  }
+
   private Git openGit(File repoDir, Boolean disableUserConfig) throws IOException {
-    if (disableUserConfig != null && disableUserConfig) {
-      SystemReader.setInstance(new CustomUserGitConfigSystemReader(null));
-    } else {
-      SystemReader.setInstance(null);
+    try (UserGitConfigSystemReader.Scope ignored = UserGitConfigSystemReader.useUserGitConfig(disableUserConfig)) {
+      return Git.open(repoDir);
+    }
+  }
+
+  private Git cloneRepository(CloneCommand cloneCommand, Boolean disableUserConfig) throws GitAPIException {
+    // the repository is created within the clone, on this thread
+    try (UserGitConfigSystemReader.Scope ignored = UserGitConfigSystemReader.useUserGitConfig(disableUserConfig)) {
+      return cloneCommand.call();
     }
-    return Git.open(repoDir);
   }
 
   private String getLatestCommitReference(String repoDir) {
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.git;
+
+import static io.harness.annotations.dev.HarnessTeam.CDP;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import software.wings.misc.CustomUserGitConfigSystemReader;
+
+import java.io.IOException;
+import org.eclipse.jgit.errors.ConfigInvalidException;
+import org.eclipse.jgit.lib.Config;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.storage.file.FileBasedConfig;
+import org.eclipse.jgit.util.FS;
+import org.eclipse.jgit.util.SystemReader;
+
+/**
+ * The jgit SystemReader is JVM-global and a repository takes its user git config from it when it is opened or
+ * created. Instead of swapping the reader per request, this one is installed once and hands out the user and system
+ * git config of the default reader, or none like {@link CustomUserGitConfigSystemReader}, depending on what the
+ * request of the current thread asked for.
+ */
+@OwnedBy(CDP)
+class UserGitConfigSystemReader extends SystemReader {
+  private static final ThreadLocal<Boolean> USER_GIT_CONFIG_DISABLED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+  private static UserGitConfigSystemReader instance;
+
+  private final SystemReader defaultReader;
+  private final SystemReader noUserGitConfigReader;
+
+  private UserGitConfigSystemReader(SystemReader defaultReader) {
+    this.defaultReader = defaultReader;
+    this.noUserGitConfigReader = new CustomUserGitConfigSystemReader(null);
+  }
+
+  /**
+   * Makes sure this reader is the installed one, other code may still replace the jgit SystemReader, and disables the
+   * user git config for the current thread until the returned scope is closed.
+   */
+  static Scope useUserGitConfig(Boolean disableUserGitConfig) {
+    install();
+    boolean previouslyDisabled = USER_GIT_CONFIG_DISABLED.get();
+    USER_GIT_CONFIG_DISABLED.set(disableUserGitConfig != null && disableUserGitConfig);
+    return () -> USER_GIT_CONFIG_DISABLED.set(previouslyDisabled);
+  }
+
+  private static synchronized void install() {
+    if (instance == null) {
+      SystemReader.setInstance(null);
+      instance = new UserGitConfigSystemReader(SystemReader.getInstance());
+    }
+    if (SystemReader.getInstance() != instance) {
+      SystemReader.setInstance(instance);
+    }
+  }
+
+  private SystemReader getReader() {
+    return USER_GIT_CONFIG_DISABLED.get() ? noUserGitConfigReader : defaultReader;
+  }
+
+  @Override
+  public String getHostname() {
+    return defaultReader.getHostname();
+  }
+
+  @Override
+  public String getenv(String variable) {
+    return defaultReader.getenv(variable);
+  }
+
+  @Override
+  public String getProperty(String key) {
+    return defaultReader.getProperty(key);
+  }
+
+  @Override
+  public long getCurrentTime() {
+    return defaultReader.getCurrentTime();
+  }
+
+  @Override
+  public int getTimezone(long when) {
+    return defaultReader.getTimezone(when);
+  }
+
+  @Override
+  public FileBasedConfig openJGitConfig(Config parent, FS fs) {
+    return defaultReader.openJGitConfig(parent, fs);
+  }
+
+  @Override
+  public FileBasedConfig openUserConfig(Config parent, FS fs) {
+    return getReader().openUserConfig(parent, fs);
+  }
+
+  @Override
+  public FileBasedConfig openSystemConfig(Config parent, FS fs) {
+    return getReader().openSystemConfig(parent, fs);
+  }
+
+  // the readers load the configs once and keep them, so the ones already loaded are handed out as well
+
+  @Override
+  public StoredConfig getUserConfig() throws ConfigInvalidException, IOException {
+    return getReader().getUserConfig();
+  }
+
+  @Override
+  public StoredConfig getSystemConfig() throws ConfigInvalidException, IOException {
+    return getReader().getSystemConfig();
+  }
+
+  @Override
+  public StoredConfig getJGitConfig() throws ConfigInvalidException, IOException {
+    return defaultReader.getJGitConfig();
+  }
+
+  interface Scope extends AutoCloseable {
+    @Override void close();
+  }
+}
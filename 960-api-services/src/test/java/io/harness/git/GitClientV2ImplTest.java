@@ -17,6 +17,7 @@ import static io.harness.git.model.PushResultGit.pushResultBuilder;
 import static io.harness.rule.OwnerRule.ABHINAV;
 import static io.harness.rule.OwnerRule.ARVIND;
 import static io.harness.rule.OwnerRule.LUCAS_SALES;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.SATHISH;
 import static io.harness.rule.OwnerRule.TARUN_UBA;
 import static io.harness.rule.OwnerRule.VINICIUS;
@@ -83,8 +84,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -99,6 +104,7 @@ import org.eclipse.jgit.api.errors.NoFilepatternException;
 import org.eclipse.jgit.api.errors.TransportException;
 import org.eclipse.jgit.api.errors.WrongRepositoryStateException;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.storage.file.FileBasedConfig;
 import org.eclipse.jgit.util.SystemReader;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -1036,6 +1042,54 @@ public class GitClientV2ImplTest extends CategoryTest {
     SystemReader.setInstance(null);
   }
 
+  @Test
+  @Owner(developers = VINICIUS)
+  @Category(UnitTests.class)
+  public void testCloneAppliesUserGitConfigSettingOfRequest() throws Exception {
+    String remoteRepo = addRemote(repoPath);
+    String cloneRepoPath = Files.createTempDirectory(UUID.randomUUID().toString()).toString();
+    GitBaseRequest request = GitBaseRequest.builder()
+                                 .repoUrl(remoteRepo)
+                                 .authRequest(new UsernamePasswordAuthRequest(USERNAME, PASSWORD.toCharArray()))
+                                 .branch("master")
+                                 .disableUserGitConfig(true)
+                                 .build();
+    gitClient.clone(request, cloneRepoPath, false);
+    assertThat(new File(cloneRepoPath, ".git")).exists();
+    // the user git config is only disabled while the request opens or clones the repo
+    assertThat(SystemReader.getInstance()).isInstanceOf(UserGitConfigSystemReader.class);
+    assertThat(getUserConfigFile()).isNotNull();
+
+    request.setDisableUserGitConfig(false);
+    gitClient.clone(request, cloneRepoPath, false);
+    assertThat(new File(cloneRepoPath, ".git")).exists();
+  }
+
+  @Test
+  @Owner(developers = VINICIUS)
+  @Category(UnitTests.class)
+  public void testUserGitConfigIsDisabledPerThread() throws Exception {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try (UserGitConfigSystemReader.Scope ignored = UserGitConfigSystemReader.useUserGitConfig(true)) {
+      assertThat(getUserConfigFile()).isNull();
+      // another request running at the same time keeps its user git config
+      Future<File> userConfigFileOfOtherRequest = executorService.submit(() -> {
+        try (UserGitConfigSystemReader.Scope otherRequest = UserGitConfigSystemReader.useUserGitConfig(false)) {
+          return getUserConfigFile();
+        }
+      });
+      assertThat(userConfigFileOfOtherRequest.get(10, TimeUnit.SECONDS)).isNotNull();
+      assertThat(getUserConfigFile()).isNull();
+    } finally {
+      executorService.shutdownNow();
+    }
+    assertThat(getUserConfigFile()).isNotNull();
+  }
+
+  private static File getUserConfigFile() throws Exception {
+    return ((FileBasedConfig) SystemReader.getInstance().getUserConfig()).getFile();
+  }
+
   @Test
   @Owner(developers = SATHISH)
   @Category(UnitTests.class)
@@ -1161,4 +1215,36 @@ public class GitClientV2ImplTest extends CategoryTest {
     doReturn(null).when(gitClientHelper).getFileDownloadRepoDirectory(any());
     assertThatThrownBy(() -> gitClient.downloadFiles(request)).isInstanceOf(YamlException.class);
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testEvictLeastRecentlyUsedRepos() throws Exception {
+    File repositoryDir = Files.createTempDirectory(UUID.randomUUID().toString()).toFile();
+    File oldRepo = createRepoDir(repositoryDir, "yaml", "repo1", 100, 1000L);
+    File inUseRepo = createRepoDir(repositoryDir, "terraform", "repo2", 100, 2000L);
+    File recentRepo = createRepoDir(repositoryDir, "yaml", "repo3", 100, 3000L);
+
+    gitClient.evictLeastRecentlyUsedRepos(repositoryDir, 1000);
+    assertThat(oldRepo).exists();
+
+    ReentrantLock inUseRepoLock = GitClientV2Impl.getRepoLock(inUseRepo.getPath());
+    inUseRepoLock.lock();
+    try {
+      gitClient.evictLeastRecentlyUsedRepos(repositoryDir, 150);
+    } finally {
+      inUseRepoLock.unlock();
+    }
+    assertThat(oldRepo).doesNotExist();
+    assertThat(inUseRepo).exists();
+    assertThat(recentRepo).exists();
+  }
+
+  private File createRepoDir(File repositoryDir, String repoType, String repoName, int sizeBytes, long lastModified)
+      throws IOException {
+    File repoDir = Paths.get(repositoryDir.getPath(), repoType, "accountId", "connectorId", repoName, "hash").toFile();
+    FileUtils.writeByteArrayToFile(new File(repoDir, "file"), new byte[sizeBytes]);
+    repoDir.setLastModified(lastModified);
+    return repoDir;
+  }
 }
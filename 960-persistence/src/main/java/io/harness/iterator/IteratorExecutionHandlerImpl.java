@@ -27,6 +27,7 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
   private static final int BATCH_SIZE_MULTIPLY_FACTOR = 2; // The factor by how much the batchSize should be increased
   private static final int REDIS_LOCK_TIMEOUT_SECONDS = 5; // The lockTimeout is the duration a lock is held
   public static final String REDIS_BATCH = "REDIS_BATCH";
+  public static final String ADAPTIVE_BATCH = "ADAPTIVE_BATCH";
 
   /**
    * Enum represents the different states that an iterator can be at -
@@ -173,7 +174,8 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
     if (configOption.isEnabled()) {
       log.info("Iterator {} is enabled - starting it up", configOption.getName());
 
-      if (REDIS_BATCH.equals(configOption.getIteratorMode())) {
+      if (REDIS_BATCH.equals(configOption.getIteratorMode())
+          || ADAPTIVE_BATCH.equals(configOption.getIteratorMode())) {
         createAndStartRedisBatchModeIterator(configOption);
       } else {
         createAndStartPumpLoopModeIterator(configOption);
@@ -242,6 +244,7 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
                                               .batchSize(redisBatchSize)
                                               .lockTimeout(redisLockTimeout)
                                               .interval(getIntervalDuration(config.getThreadPoolIntervalInSeconds()))
+                                              .adaptiveBatchSize(ADAPTIVE_BATCH.equals(config.getIteratorMode()))
                                               .build(),
             getNextIterationInterval(config));
   }
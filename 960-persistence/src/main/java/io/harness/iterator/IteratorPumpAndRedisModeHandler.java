@@ -44,7 +44,8 @@ public abstract class IteratorPumpAndRedisModeHandler extends IteratorBaseHandle
     }
 
     stopMainExecutor();
-    if (PersistenceIterator.ProcessMode.REDIS_BATCH.equals(iterator.getMode())) {
+    if (PersistenceIterator.ProcessMode.REDIS_BATCH.equals(iterator.getMode())
+        || PersistenceIterator.ProcessMode.ADAPTIVE_BATCH.equals(iterator.getMode())) {
       stopWorkerExecutor();
     }
   }
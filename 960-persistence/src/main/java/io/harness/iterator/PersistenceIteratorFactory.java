@@ -8,6 +8,7 @@
 package io.harness.iterator;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.iterator.PersistenceIterator.ProcessMode.ADAPTIVE_BATCH;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.LOOP;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.REDIS_BATCH;
@@ -18,6 +19,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.config.WorkersConfiguration;
 import io.harness.lock.PersistentLocker;
 import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.mongo.iterator.AdaptiveBatchSizer;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
 import io.harness.mongo.iterator.filter.FilterExpander;
@@ -67,6 +69,8 @@ public final class PersistenceIteratorFactory {
     private int batchSize;
     private int lockTimeout;
     private Duration interval;
+    // Claim size adapts to the handler latency and worker backlog, batchSize becomes the upper bound
+    private boolean adaptiveBatchSize;
   }
 
   private String getWorkerDisabledLog(String className) {
@@ -202,7 +206,7 @@ public final class PersistenceIteratorFactory {
         Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(iteratorName + "-Main").build());
 
     MongoPersistenceIterator<T, F> iterator =
-        builder.mode(REDIS_BATCH)
+        builder.mode(options.isAdaptiveBatchSize() ? ADAPTIVE_BATCH : REDIS_BATCH)
             .executorService(mainExecutor)
             .workerThreadPoolExecutor(executor)
             .semaphore(new Semaphore(options.poolSize))
@@ -210,6 +214,10 @@ public final class PersistenceIteratorFactory {
             .threadPoolIntervalInSeconds(options.interval)
             .redisModeBatchSize(options.getBatchSize())
             .redisLockTimeout(options.getLockTimeout())
+            .adaptiveBatchSizer(options.isAdaptiveBatchSize()
+                    ? new AdaptiveBatchSizer(options.poolSize, options.getBatchSize(), options.poolSize,
+                        options.interval.toMillis())
+                    : null)
             .persistentLocker(injector.getInstance(Key.get(PersistentLocker.class)))
             .build();
     injector.injectMembers(iterator);
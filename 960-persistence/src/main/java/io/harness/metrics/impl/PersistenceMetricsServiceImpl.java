@@ -29,6 +29,8 @@ public class PersistenceMetricsServiceImpl {
   public static final String ITERATOR_WORKING_ON_ENTITY = "iterator_working_on_entity";
   public static final String ITERATOR_PROCESSING_TIME = "iterator_processing_time";
   public static final String ITERATOR_REDIS_LOCK_ACQUIRE_FAIL = "iterator_redis_lock_acq_fail";
+  public static final String ITERATOR_BATCH_SIZE = "iterator_batch_size";
+  public static final String ITERATOR_LAG = "iterator_lag";
   public static final String REDIS_SUBSCRIPTION_CNT = "redis_subscription_count";
 
   private final MetricService metricService;
@@ -44,6 +46,12 @@ public class PersistenceMetricsServiceImpl {
     }
   }
 
+  public void recordIteratorMetricsWithValue(String iteratorName, double value, String metricName) {
+    try (IteratorMetricContext ignore = new IteratorMetricContext(iteratorName)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+
   public void recordRedisMetric(final String metric, final String topicName, final double value) {
     try (RedisTopicContext ignore = new RedisTopicContext(topicName)) {
       metricService.recordMetric(metric, value);
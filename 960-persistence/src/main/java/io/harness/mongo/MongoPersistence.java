@@ -46,9 +46,13 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
+import com.mongodb.BulkWriteOperation;
 import com.mongodb.DBCollection;
 import com.mongodb.DBObject;
 import com.mongodb.DuplicateKeyException;
+import com.mongodb.ErrorCategory;
 import com.mongodb.MongoExecutionTimeoutException;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteResult;
@@ -471,6 +475,47 @@ public class MongoPersistence implements HPersistence {
     }
   }
 
+  @Override
+  public <T extends PersistentEntity> List<String> insertAllIgnoringDuplicateKeys(List<T> ts) {
+    ts.removeIf(Objects::isNull);
+    if (isEmpty(ts)) {
+      return new ArrayList<>();
+    }
+
+    BulkWriteOperation bulkWriteOperation = getCollection(ts.get(0).getClass()).initializeUnorderedBulkOperation();
+    List<String> ids = new ArrayList<>(ts.size());
+    for (T entity : ts) {
+      onSave(entity);
+      DBObject dbObject = morphia.toDBObject(entity);
+      ids.add(dbObject.get(ID_KEY).toString());
+      bulkWriteOperation.insert(dbObject);
+    }
+
+    // The bulk operation is not retried, an unordered bulk write can not be executed twice
+    Set<Integer> skippedIndexes = new HashSet<>();
+    try {
+      bulkWriteOperation.execute();
+    } catch (BulkWriteException exception) {
+      if (exception.getWriteConcernError() != null) {
+        throw exception;
+      }
+      for (BulkWriteError error : exception.getWriteErrors()) {
+        if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+          throw exception;
+        }
+        skippedIndexes.add(error.getIndex());
+      }
+    }
+
+    List<String> insertedIds = new ArrayList<>(ids.size() - skippedIndexes.size());
+    for (int i = 0; i < ids.size(); i++) {
+      if (!skippedIndexes.contains(i)) {
+        insertedIds.add(ids.get(i));
+      }
+    }
+    return insertedIds;
+  }
+
   @Override
   public <T extends PersistentEntity> String insert(T entity) {
     onSave(entity);
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Computes the number of documents the adaptive batch iterator claims per round trip.
+ *
+ *  1. A new batch is only claimed once the workers drained at least half of the current batch, and it tops the worker
+ *     queue back up to the batch size. Claims stay large, instead of claiming whatever room was freed since the
+ *     previous claim, and claimed documents never wait behind more than one batch.
+ *  2. The batch grows (doubles) while every claimed batch comes back full, i.e. there is a backlog.
+ *  3. The batch never exceeds what the worker pool can process within one polling interval, based on the moving
+ *     average of the handler latency, so that claimed documents are not left waiting in the queue for long.
+ */
+@OwnedBy(HarnessTeam.PL)
+public class AdaptiveBatchSizer {
+  private static final int SIMPLE_MOVING_AVG_MULTIPLIER = 15; // The multiplier to be used for SMA
+  private static final int SIMPLE_MOVING_AVG_DIVISOR = 16; // The divisor to be used for SMA
+  private static final long MIN_DRAIN_PAUSE_MILLIS = 10;
+
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private final int poolSize;
+  private final long intervalMillis;
+  private final AtomicLong averageHandlerLatencyMillis = new AtomicLong();
+  private int batchSize;
+
+  public AdaptiveBatchSizer(int minBatchSize, int maxBatchSize, int poolSize, long intervalMillis) {
+    this.minBatchSize = Math.max(1, minBatchSize);
+    this.maxBatchSize = Math.max(this.minBatchSize, maxBatchSize);
+    this.poolSize = Math.max(1, poolSize);
+    this.intervalMillis = Math.max(1, intervalMillis);
+    this.batchSize = this.minBatchSize;
+  }
+
+  /**
+   * Called by the workers after handling an entity.
+   */
+  public void recordHandlerLatency(long latencyMillis) {
+    averageHandlerLatencyMillis.getAndUpdate(current
+        -> current == 0 ? latencyMillis
+                        : (SIMPLE_MOVING_AVG_MULTIPLIER * current + latencyMillis) / SIMPLE_MOVING_AVG_DIVISOR);
+  }
+
+  public long getAverageHandlerLatencyMillis() {
+    return averageHandlerLatencyMillis.get();
+  }
+
+  /**
+   * Number of documents to claim given the worker queue depth, or 0 when the workers should drain the queue first.
+   */
+  public synchronized int claimLimit(int queued) {
+    int currentBatchSize = currentBatchSize();
+    return queued > currentBatchSize / 2 ? 0 : currentBatchSize - queued;
+  }
+
+  /**
+   * How long to wait for the workers to drain half of the batch when {@link #claimLimit} returned 0.
+   */
+  public long drainPauseMillis(int queued) {
+    long latency = averageHandlerLatencyMillis.get();
+    if (latency <= 0) {
+      return MIN_DRAIN_PAUSE_MILLIS;
+    }
+    long toDrain = Math.max(0, queued - currentBatchSize() / 2);
+    return Math.max(MIN_DRAIN_PAUSE_MILLIS, Math.min(intervalMillis, toDrain * latency / poolSize));
+  }
+
+  /**
+   * Called by the main thread after each claim with the limit used and the number of documents claimed. Returns the
+   * batch size to use for the next claim.
+   */
+  public synchronized int nextBatchSize(int limit, int claimed) {
+    if (claimed >= limit) {
+      batchSize = Math.min(maxBatchSize, batchSize * 2);
+    }
+    return currentBatchSize();
+  }
+
+  public synchronized int currentBatchSize() {
+    return Math.min(batchSize, latencyBound());
+  }
+
+  private int latencyBound() {
+    long latency = averageHandlerLatencyMillis.get();
+    if (latency <= 0) {
+      return maxBatchSize;
+    }
+    long bound = poolSize * intervalMillis / latency;
+    return (int) Math.max(minBatchSize, Math.min(maxBatchSize, bound));
+  }
+}
@@ -11,8 +11,10 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_BATCH_SIZE;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_DELAY;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_ERROR;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_LAG;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PROCESSING_TIME;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_REDIS_LOCK_ACQUIRE_FAIL;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_WORKING_ON_ENTITY;
@@ -93,6 +95,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private Duration throttleInterval;
   private int redisModeBatchSize;
   private int redisLockTimeout;
+  private AdaptiveBatchSizer adaptiveBatchSizer;
   private Handler<T> handler;
   @Getter private ExecutorService executorService;
   @Getter private ScheduledThreadPoolExecutor workerThreadPoolExecutor;
@@ -118,6 +121,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         break;
       case LOOP:
       case REDIS_BATCH:
+      case ADAPTIVE_BATCH:
         notifyAll();
         break;
       default:
@@ -332,7 +336,15 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
       // Compute a limit value that takes into account the number of unprocessed
       // docs in the jobQ to ensure that the Q doesn't overflow.
-      int limit = Math.min(redisModeBatchSize, redisModeBatchSize - workerThreadPoolExecutor.getQueue().size());
+      int queued = workerThreadPoolExecutor.getQueue().size();
+      int limit = adaptiveBatchSizer == null ? Math.min(redisModeBatchSize, redisModeBatchSize - queued)
+                                             : adaptiveBatchSizer.claimLimit(queued);
+
+      if (limit <= 0 && adaptiveBatchSizer != null) {
+        // Let the workers drain half of the batch, so that the next claim is a large one
+        sleep(ofMillis(adaptiveBatchSizer.drainPauseMillis(queued)));
+        continue;
+      }
 
       if (limit <= 0) {
         // The Queue is full, so try after sometime
@@ -363,6 +375,10 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         // Iterate over the fetched documents - submit it to workers and prepare bulkWrite operations
         while (docItr.hasNext()) {
           T entity = docItr.next();
+          if (adaptiveBatchSizer != null && docIds.isEmpty()) {
+            // Documents come sorted by next iteration, so the first one is the most delayed
+            recordIteratorLag(entity);
+          }
           submitEntityForProcessingWithoutWait(entity);
           docIds.add(entity.getUuid());
         }
@@ -380,6 +396,11 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         log.debug("Redis Batch Iterator Mode - time to carryout the entire processing is {}", processTime);
       }
 
+      if (adaptiveBatchSizer != null) {
+        int nextBatchSize = adaptiveBatchSizer.nextBatchSize(limit, docIds.size());
+        iteratorMetricsService.recordIteratorMetricsWithValue(iteratorName, nextBatchSize, ITERATOR_BATCH_SIZE);
+      }
+
       // If there were no docs available then sleep for
       // the configured threadPool interval duration.
       if (docIds.isEmpty()) {
@@ -457,6 +478,9 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
         long processTime = currentTimeMillis() - startTime;
         log.debug("Done with entity");
+        if (adaptiveBatchSizer != null) {
+          adaptiveBatchSizer.recordHandlerLatency(processTime);
+        }
 
         // Update the iterator metric for ITERATOR_PROCESSING_TIME
         updateIteratorMetricProcessingTime(processTime);
@@ -464,6 +488,15 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  private void recordIteratorLag(T entity) {
+    Long nextIteration = entity.obtainNextIteration(fieldName);
+    long now = currentTimeMillis();
+    if (nextIteration != null && nextIteration > 0 && now > nextIteration) {
+      iteratorMetricsService.recordIteratorMetricsWithDuration(
+          iteratorName, ofMillis(now - nextIteration), ITERATOR_LAG);
+    }
+  }
+
   /**
    * Method to acquire the lock and return it.
    * @return AcquiredLock
@@ -133,7 +133,8 @@ public class MorphiaPersistenceProvider<T extends PersistentIterable>
     long now = currentTimeMillis();
     Query<T> query = createQuery(now, clazz, fieldName, filterExpander, unsorted, isDelegateTaskMigrationEnabled);
 
-    return query.fetch(new FindOptions().limit(limit));
+    // Fetch the whole batch in a single cursor round trip
+    return query.fetch(new FindOptions().limit(limit).batchSize(limit));
   }
 
   @Override
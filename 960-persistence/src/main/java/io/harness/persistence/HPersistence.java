@@ -329,6 +329,15 @@ public interface HPersistence extends HealthMonitor {
    */
   <T extends PersistentEntity> void saveIgnoringDuplicateKeys(List<T> entityList);
 
+  /**
+   * Insert all ignoring duplicate key errors.
+   * Unlike saveIgnoringDuplicateKeys this reports which of the records were new
+   *
+   * @param entityList list of entities to insert
+   * @return the keys of the inserted entities, the skipped existing records are left out
+   */
+  <T extends PersistentEntity> List<String> insertAllIgnoringDuplicateKeys(List<T> entityList);
+
   /**
    * Insert.
    *
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timescaledb;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Collection;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Streams rows into a table with COPY ... FROM STDIN instead of batched INSERTs, which saves the parse, bind and
+ * round trip of every row. Rows are copied into a temporary staging table and moved into the target table with a
+ * single INSERT ... SELECT in the same transaction, so the conflict clause of the target still applies and a rerun of
+ * the same rows stays idempotent.
+ */
+@UtilityClass
+@Slf4j
+public class TimescaleBulkLoader {
+  public static final String ON_CONFLICT_DO_NOTHING = "ON CONFLICT DO NOTHING";
+  private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+  public interface RowEncoder<T> {
+    void encode(T row, CopyRow copyRow);
+  }
+
+  /**
+   * Whether COPY can be used on the connection, which is only the case for connections of the postgres driver.
+   */
+  public static boolean isSupported(Connection connection) {
+    try {
+      return connection.isWrapperFor(PGConnection.class);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Copies the rows into the table and returns the number of rows which were inserted or updated by the conflict
+   * clause.
+   *
+   * @param columns comma separated columns, in the order in which the encoder adds them
+   * @param conflictClause the ON CONFLICT clause applied when moving the rows out of the staging table
+   */
+  public static <T> int load(Connection connection, String table, String columns, String conflictClause,
+      Collection<T> rows, RowEncoder<T> encoder) throws SQLException {
+    long startTime = System.nanoTime();
+    String stagingTable = "staging_" + table;
+    boolean autoCommit = connection.getAutoCommit();
+    connection.setAutoCommit(false);
+    try {
+      try (Statement statement = connection.createStatement()) {
+        statement.execute(
+            format("CREATE TEMP TABLE %s (LIKE %s INCLUDING DEFAULTS) ON COMMIT DROP", stagingTable, table));
+      }
+      copy(connection, format("COPY %s (%s) FROM STDIN", stagingTable, columns), rows, encoder);
+      int affectedRows;
+      try (Statement statement = connection.createStatement()) {
+        affectedRows = statement.executeUpdate(
+            format("INSERT INTO %s (%s) SELECT %s FROM %s %s", table, columns, columns, stagingTable, conflictClause));
+      }
+      connection.commit();
+
+      long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+      log.info("Bulk loaded {} rows into {}, {} affected, in {} ms ({} rows/sec)", rows.size(), table, affectedRows,
+          elapsedMillis, rows.size() * 1000L / elapsedMillis);
+      return affectedRows;
+    } catch (SQLException | RuntimeException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+  }
+
+  private static <T> void copy(Connection connection, String copySql, Collection<T> rows, RowEncoder<T> encoder)
+      throws SQLException {
+    CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql);
+    try {
+      CopyRow copyRow = new CopyRow();
+      for (T row : rows) {
+        encoder.encode(row, copyRow);
+        copyRow.endRow();
+        if (copyRow.buffer.length() >= FLUSH_THRESHOLD) {
+          write(copyIn, copyRow);
+        }
+      }
+      write(copyIn, copyRow);
+      copyIn.endCopy();
+    } finally {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    }
+  }
+
+  private static void write(CopyIn copyIn, CopyRow copyRow) throws SQLException {
+    if (copyRow.buffer.length() == 0) {
+      return;
+    }
+    byte[] bytes = copyRow.buffer.toString().getBytes(UTF_8);
+    copyRow.buffer.setLength(0);
+    copyIn.writeToCopy(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Encodes the columns of a row in the text format of COPY.
+   */
+  public static class CopyRow {
+    private static final String NULL = "\\N";
+
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+    private boolean firstColumn = true;
+
+    public CopyRow add(String value) {
+      startColumn();
+      if (value == null) {
+        buffer.append(NULL);
+        return this;
+      }
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        switch (c) {
+          case '\\':
+            buffer.append("\\\\");
+            break;
+          case '\t':
+            buffer.append("\\t");
+            break;
+          case '\n':
+            buffer.append("\\n");
+            break;
+          case '\r':
+            buffer.append("\\r");
+            break;
+          default:
+            buffer.append(c);
+        }
+      }
+      return this;
+    }
+
+    public CopyRow add(Number value) {
+      startColumn();
+      if (value == null) {
+        buffer.append(NULL);
+      } else if (value instanceof BigDecimal) {
+        buffer.append(((BigDecimal) value).toPlainString());
+      } else {
+        buffer.append(value);
+      }
+      return this;
+    }
+
+    public CopyRow add(Instant value) {
+      startColumn();
+      buffer.append(value == null ? NULL : value.toString());
+      return this;
+    }
+
+    public CopyRow addTimestamp(long epochMillis) {
+      return add(Instant.ofEpochMilli(epochMillis));
+    }
+
+    private void startColumn() {
+      if (!firstColumn) {
+        buffer.append('\t');
+      }
+      firstColumn = false;
+    }
+
+    private void endRow() {
+      buffer.append('\n');
+      firstColumn = true;
+    }
+  }
+}
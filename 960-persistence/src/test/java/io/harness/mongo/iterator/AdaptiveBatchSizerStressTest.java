@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Replays the redis batch claim loop of MongoPersistenceIterator against a simulated collection with a permanent
+ * backlog, once with the fixed batch size and once with the adaptive batch sizer. Each claim costs a fixed round trip
+ * (lock, query and bulk write) plus a small per document cost, and every document takes a fixed time to handle.
+ * Reports the throughput, the number of claims and how long claimed documents waited in the worker queue.
+ */
+@Slf4j
+public class AdaptiveBatchSizerStressTest extends CategoryTest {
+  private static final int POOL_SIZE = 8;
+  private static final int BATCH_SIZE = 500;
+  private static final long INTERVAL_MILLIS = 1000;
+  private static final long CLAIM_ROUND_TRIP_MICROS = 12000;
+  private static final long CLAIM_PER_DOCUMENT_MICROS = 20;
+  private static final long HANDLER_MICROS = 20000;
+  private static final long DURATION_MILLIS = 10000;
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void fixedBatchSize() throws InterruptedException {
+    run("fixed batch", null);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void adaptiveBatchSize() throws InterruptedException {
+    run("adaptive batch", new AdaptiveBatchSizer(POOL_SIZE, BATCH_SIZE, POOL_SIZE, INTERVAL_MILLIS));
+  }
+
+  private void run(String mode, AdaptiveBatchSizer sizer) throws InterruptedException {
+    ScheduledThreadPoolExecutor workers = new ScheduledThreadPoolExecutor(POOL_SIZE);
+    AtomicLong handled = new AtomicLong();
+    AtomicLong totalWaitMicros = new AtomicLong();
+    AtomicLong maxWaitMicros = new AtomicLong();
+    long claims = 0;
+    long claimed = 0;
+
+    long end = System.currentTimeMillis() + DURATION_MILLIS;
+    while (System.currentTimeMillis() < end) {
+      // Same limit computation as the redis batch loop
+      int queued = workers.getQueue().size();
+      int limit = sizer == null ? Math.min(BATCH_SIZE, BATCH_SIZE - queued) : sizer.claimLimit(queued);
+      if (limit <= 0) {
+        Thread.sleep(sizer == null ? 100 : sizer.drainPauseMillis(queued));
+        continue;
+      }
+
+      simulateClaim(CLAIM_ROUND_TRIP_MICROS + limit * CLAIM_PER_DOCUMENT_MICROS);
+      claims++;
+      claimed += limit;
+      for (int i = 0; i < limit; i++) {
+        long claimedAtNanos = System.nanoTime();
+        workers.submit(() -> {
+          long waitMicros = (System.nanoTime() - claimedAtNanos) / 1000;
+          totalWaitMicros.addAndGet(waitMicros);
+          maxWaitMicros.accumulateAndGet(waitMicros, Math::max);
+          LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(HANDLER_MICROS));
+          if (sizer != null) {
+            sizer.recordHandlerLatency(TimeUnit.MICROSECONDS.toMillis(HANDLER_MICROS));
+          }
+          handled.incrementAndGet();
+        });
+      }
+      if (sizer != null) {
+        sizer.nextBatchSize(limit, limit);
+      }
+    }
+    workers.shutdownNow();
+    workers.awaitTermination(1, TimeUnit.SECONDS);
+
+    log.info("[{}] handled {} per second, {} claims, {} documents per claim, queue wait avg {} ms max {} ms", mode,
+        handled.get() * 1000 / DURATION_MILLIS, claims, claims == 0 ? 0 : claimed / claims,
+        handled.get() == 0 ? 0 : totalWaitMicros.get() / handled.get() / 1000, maxWaitMicros.get() / 1000);
+  }
+
+  private static void simulateClaim(long micros) {
+    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+  }
+}
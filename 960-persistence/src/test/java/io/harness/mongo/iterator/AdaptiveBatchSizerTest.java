@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class AdaptiveBatchSizerTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBatchGrowsWhileFullAndWorkersKeepUp() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 100, 10, 1000);
+    assertThat(sizer.currentBatchSize()).isEqualTo(10);
+
+    assertThat(sizer.nextBatchSize(10, 10)).isEqualTo(20);
+    assertThat(sizer.nextBatchSize(15, 15)).isEqualTo(40);
+    assertThat(sizer.nextBatchSize(40, 40)).isEqualTo(80);
+    assertThat(sizer.nextBatchSize(80, 80)).isEqualTo(100);
+    assertThat(sizer.nextBatchSize(100, 100)).isEqualTo(100);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBatchStaysWhenNotFull() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 100, 10, 1000);
+    sizer.nextBatchSize(10, 10);
+
+    assertThat(sizer.nextBatchSize(20, 3)).isEqualTo(20);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testClaimWaitsForWorkersToDrainHalfTheBatch() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 100, 10, 1000);
+    sizer.nextBatchSize(10, 10);
+    sizer.nextBatchSize(20, 20);
+    assertThat(sizer.currentBatchSize()).isEqualTo(40);
+
+    assertThat(sizer.claimLimit(0)).isEqualTo(40);
+    assertThat(sizer.claimLimit(20)).isEqualTo(20);
+    assertThat(sizer.claimLimit(21)).isEqualTo(0);
+
+    // Without latency samples the main thread polls, afterwards it waits for the surplus to be handled
+    assertThat(sizer.drainPauseMillis(30)).isEqualTo(10);
+    sizer.recordHandlerLatency(100);
+    assertThat(sizer.drainPauseMillis(30)).isEqualTo(100);
+    assertThat(sizer.drainPauseMillis(1000)).isEqualTo(1000);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBatchIsBoundedByHandlerLatency() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 1000, 10, 1000);
+    for (int i = 0; i < 10; i++) {
+      sizer.nextBatchSize(sizer.currentBatchSize(), sizer.currentBatchSize());
+    }
+    assertThat(sizer.currentBatchSize()).isEqualTo(1000);
+
+    // 10 workers at 200ms per entity can handle 50 entities per second
+    sizer.recordHandlerLatency(200);
+    assertThat(sizer.getAverageHandlerLatencyMillis()).isEqualTo(200);
+    assertThat(sizer.currentBatchSize()).isEqualTo(50);
+
+    // Slow handlers never push the batch below the minimum
+    sizer.recordHandlerLatency(1000000);
+    assertThat(sizer.currentBatchSize()).isEqualTo(10);
+  }
+}
@@ -112,6 +112,25 @@ public class HPersistenceTest extends PersistenceTestBase {
     assertThat(testEntities).hasSize(5);
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldInsertAllIgnoringDuplicateKeys() {
+    List<TestEntity> list = Lists.newArrayList();
+    IntStream.range(0, 5).forEach(
+        i -> list.add(TestEntity.builder().uuid(generateUuid()).test("shouldInsertAllIgnoringDuplicateKeys").build()));
+
+    persistence.save(list.get(0));
+    persistence.save(list.get(3));
+    List<String> ids = persistence.insertAllIgnoringDuplicateKeys(list);
+
+    assertThat(ids).containsExactly(list.get(1).getUuid(), list.get(2).getUuid(), list.get(4).getUuid());
+    assertThat(persistence.createQuery(TestEntity.class, excludeAuthority)
+                   .filter(TestEntityKeys.test, "shouldInsertAllIgnoringDuplicateKeys")
+                   .asList())
+        .hasSize(5);
+  }
+
   @Test
   @Owner(developers = GEORGE)
   @Category(UnitTests.class)
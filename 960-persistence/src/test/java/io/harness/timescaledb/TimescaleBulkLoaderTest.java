@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timescaledb;
+
+import static io.harness.rule.OwnerRule.UTSAV;
+import static io.harness.timescaledb.TimescaleBulkLoader.ON_CONFLICT_DO_NOTHING;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+public class TimescaleBulkLoaderTest extends CategoryTest {
+  private static final String COLUMNS = "STARTTIME, ACCOUNTID, COST";
+
+  private Connection connection;
+  private Statement statement;
+  private CopyManager copyManager;
+  private CopyIn copyIn;
+  private ByteArrayOutputStream copied;
+
+  @Before
+  public void setup() throws SQLException {
+    connection = mock(Connection.class);
+    statement = mock(Statement.class);
+    PGConnection pgConnection = mock(PGConnection.class);
+    copyManager = mock(CopyManager.class);
+    copyIn = mock(CopyIn.class);
+    copied = new ByteArrayOutputStream();
+
+    when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+    when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+    when(connection.getAutoCommit()).thenReturn(true);
+    when(connection.createStatement()).thenReturn(statement);
+    when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+    when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+    when(statement.executeUpdate(anyString())).thenReturn(2);
+    doAnswer(invocation -> {
+      copied.write(invocation.<byte[]>getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+      return null;
+    }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testLoad() throws SQLException {
+    List<Object[]> rows = ImmutableList.of(new Object[] {0L, "account\t1", new BigDecimal("1E+2")},
+        new Object[] {1000L, null, null});
+
+    int affectedRows = TimescaleBulkLoader.load(connection, "billing_data", COLUMNS, ON_CONFLICT_DO_NOTHING, rows,
+        (row, copyRow) -> copyRow.addTimestamp((long) row[0]).add((String) row[1]).add((BigDecimal) row[2]));
+
+    assertThat(affectedRows).isEqualTo(2);
+    assertThat(new String(copied.toByteArray(), UTF_8))
+        .isEqualTo(Instant.ofEpochMilli(0) + "\taccount\\t1\t100\n" + Instant.ofEpochMilli(1000) + "\t\\N\t\\N\n");
+    verify(statement).execute(
+        "CREATE TEMP TABLE staging_billing_data (LIKE billing_data INCLUDING DEFAULTS) ON COMMIT DROP");
+    verify(copyManager).copyIn("COPY staging_billing_data (" + COLUMNS + ") FROM STDIN");
+    verify(statement).executeUpdate("INSERT INTO billing_data (" + COLUMNS + ") SELECT " + COLUMNS
+        + " FROM staging_billing_data ON CONFLICT DO NOTHING");
+    verify(copyIn).endCopy();
+    verify(connection).commit();
+    verify(connection).setAutoCommit(true);
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testLoadRollsBackOnFailure() throws SQLException {
+    doThrow(new SQLException("copy failed")).when(copyIn).endCopy();
+    when(copyIn.isActive()).thenReturn(true);
+
+    assertThatThrownBy(()
+                           -> TimescaleBulkLoader.load(connection, "billing_data", COLUMNS, ON_CONFLICT_DO_NOTHING,
+                               ImmutableList.of("row"), (row, copyRow) -> copyRow.add(row)))
+        .isInstanceOf(SQLException.class);
+    verify(copyIn).cancelCopy();
+    verify(connection).rollback();
+    verify(connection).setAutoCommit(true);
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testIsSupported() throws SQLException {
+    assertThat(TimescaleBulkLoader.isSupported(connection)).isTrue();
+    assertThat(TimescaleBulkLoader.isSupported(mock(Connection.class))).isFalse();
+  }
+}
@@ -16,6 +16,9 @@ import io.harness.exceptions.RecasterException;
 import io.harness.utils.RecastReflectionUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -31,12 +34,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Getter
 @Slf4j
 public class CastedField {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
   private final Map<Class<? extends Annotation>, Annotation> foundAnnotations = new HashMap<>();
   private final List<CastedField> typeParameters = new ArrayList<>();
   private Class<?> persistedClass;
@@ -53,10 +60,14 @@ public class CastedField {
   private boolean isArray; // indicated if it is an Array
   private boolean isCollection; // indicated if the collection is a list)
   private Type genericType;
+  // Resolved once per field, null when the field can only be accessed through reflection
+  @Getter(AccessLevel.NONE) private MethodHandle getter;
+  @Getter(AccessLevel.NONE) private MethodHandle setter;
 
   CastedField(final Field f, final Class<?> clazz, final Recaster recaster) {
     f.setAccessible(true);
     field = f;
+    discoverAccessors();
     recasterFieldName = getRecasterFieldNameFromField(f);
     persistedClass = clazz;
     realType = field.getType();
@@ -80,6 +91,21 @@ public class CastedField {
     return null;
   }
 
+  private void discoverAccessors() {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      log.debug("Falling back to reflection to read {}", getFullName(), e);
+    }
+    try {
+      setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      // final fields can only be written through reflection
+      log.debug("Falling back to reflection to write {}", getFullName(), e);
+    }
+  }
+
   /**
    * @param clazz the annotation to search for
    * @param <T>   the type of the annotation
@@ -359,6 +385,15 @@ public class CastedField {
   }
 
   public Object getFieldValue(final Object instance) {
+    if (getter != null) {
+      try {
+        return (Object) getter.invokeExact(instance);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
     try {
       return field.get(instance);
     } catch (IllegalAccessException e) {
@@ -367,6 +402,21 @@ public class CastedField {
   }
 
   public void setFieldValue(final Object instance, final Object value) {
+    if (setter != null) {
+      try {
+        setter.invokeExact(instance, value);
+        return;
+      } catch (ClassCastException | NullPointerException e) {
+        if (instance == null) {
+          throw e;
+        }
+        // Field.set also applies widening conversions and reports mismatches as IllegalArgumentException
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
     try {
       field.set(instance, value);
     } catch (IllegalAccessException e) {
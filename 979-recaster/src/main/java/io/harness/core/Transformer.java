@@ -21,6 +21,8 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -28,6 +30,9 @@ public abstract class Transformer {
   Recaster recaster;
   Map<Class<?>, RecastTransformer> converterMap = new HashMap<>();
   private final List<RecastTransformer> untypedTypeTransformers = new LinkedList<>();
+  // Transformer resolved for each field or value type, so that the untyped transformers are scanned once per type.
+  // Types without a transformer are kept as well, every entity class is looked up before being recast
+  private final Map<Class<?>, Optional<RecastTransformer>> resolvedTransformers = new ConcurrentHashMap<>();
 
   public Transformer(Recaster recaster) {
     this.recaster = recaster;
@@ -50,6 +55,7 @@ public abstract class Transformer {
     } else {
       untypedTypeTransformers.add(recastTransformer);
     }
+    resolvedTransformers.clear();
     recastTransformer.setRecaster(recaster);
   }
 
@@ -117,6 +123,18 @@ public abstract class Transformer {
   }
 
   protected RecastTransformer getTransformer(final Class<?> c) {
+    if (c == null) {
+      return resolveTransformer(null);
+    }
+    Optional<RecastTransformer> recastTransformer = resolvedTransformers.get(c);
+    if (recastTransformer == null) {
+      recastTransformer = Optional.ofNullable(resolveTransformer(c));
+      resolvedTransformers.put(c, recastTransformer);
+    }
+    return recastTransformer.orElse(null);
+  }
+
+  private RecastTransformer resolveTransformer(final Class<?> c) {
     RecastTransformer recastTransformer = converterMap.get(c);
     if (recastTransformer != null) {
       return recastTransformer;
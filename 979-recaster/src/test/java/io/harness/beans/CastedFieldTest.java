@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.core.Recaster;
+import io.harness.rule.Owner;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class CastedFieldTest extends CategoryTest {
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldReadAndWriteFieldsThroughAccessors() {
+    Map<String, CastedField> fields = fields();
+    Dummy dummy = new Dummy("initial");
+
+    fields.get("name").setFieldValue(dummy, "name");
+    fields.get("count").setFieldValue(dummy, 5L);
+    fields.get("finalValue").setFieldValue(dummy, "updated");
+
+    assertThat(fields.get("name").getFieldValue(dummy)).isEqualTo("name");
+    assertThat(fields.get("count").getFieldValue(dummy)).isEqualTo(5L);
+    assertThat(fields.get("finalValue").getFieldValue(dummy)).isEqualTo("updated");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldKeepReflectionSemanticsForMismatchingValues() {
+    Map<String, CastedField> fields = fields();
+    Dummy dummy = new Dummy("initial");
+
+    fields.get("count").setFieldValue(dummy, 7);
+    assertThat(fields.get("count").getFieldValue(dummy)).isEqualTo(7L);
+
+    assertThatThrownBy(() -> fields.get("count").setFieldValue(dummy, null))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> fields.get("name").setFieldValue(dummy, 1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static Map<String, CastedField> fields() {
+    return new Recaster()
+        .getCastedClass(Dummy.class)
+        .getPersistenceFields()
+        .stream()
+        .collect(Collectors.toMap(cf -> cf.getField().getName(), Function.identity()));
+  }
+
+  private static class Dummy {
+    private String name;
+    private long count;
+    private final String finalValue;
+
+    Dummy(String finalValue) {
+      this.finalValue = finalValue;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.core;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.CastedField;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.transformers.DefaultRecastTransformer;
+import io.harness.transformers.RecastTransformer;
+import io.harness.transformers.simplevalue.CustomValueTransformer;
+import io.harness.transformers.simplevalue.EnumRecastTransformer;
+import io.harness.transformers.simplevalue.IterableRecastTransformer;
+import io.harness.transformers.simplevalue.MapRecastTransformer;
+import io.harness.transformers.simplevalue.StringRecastTransformer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class TransformerTest extends CategoryTest {
+  private final Recaster recaster = new Recaster();
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldResolveSameTransformerForSubclassesOnEveryLookup() {
+    DefaultTransformer transformer = new DefaultTransformer(recaster);
+
+    for (int i = 0; i < 2; i++) {
+      assertThat(transformer.getTransformer(HashMap.class)).isInstanceOf(MapRecastTransformer.class);
+      assertThat(transformer.getTransformer(Parameters.class)).isInstanceOf(MapRecastTransformer.class);
+      assertThat(transformer.getTransformer(LinkedList.class)).isInstanceOf(IterableRecastTransformer.class);
+      assertThat(transformer.getTransformer(Values.class)).isInstanceOf(IterableRecastTransformer.class);
+      assertThat(transformer.getTransformer(Color.class)).isInstanceOf(EnumRecastTransformer.class);
+      assertThat(transformer.getTransformer(String.class)).isInstanceOf(StringRecastTransformer.class);
+      assertThat(transformer.getTransformer(Dummy.class)).isNull();
+    }
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldResolveUnregisteredTypesOnceTransformerIsAdded() {
+    CustomTransformer transformer = new CustomTransformer(recaster);
+    assertThat(transformer.getTransformer(Dummy.class)).isInstanceOf(DefaultRecastTransformer.class);
+    assertThat(transformer.hasCustomTransformer(Dummy.class)).isFalse();
+
+    DummyTransformer dummyTransformer = new DummyTransformer(Dummy.class);
+    transformer.addCustomTransformer(dummyTransformer);
+
+    assertThat(transformer.getTransformer(Dummy.class)).isSameAs(dummyTransformer);
+    assertThat(transformer.hasCustomTransformer(Dummy.class)).isTrue();
+    // Typed transformers only apply to the exact types they were registered for
+    assertThat(transformer.getTransformer(SubDummy.class)).isInstanceOf(DefaultRecastTransformer.class);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldForgetResolvedTransformersWhenTransformerIsAdded() {
+    DefaultTransformer transformer = new DefaultTransformer(recaster);
+    assertThat(transformer.getTransformer(Values.class)).isInstanceOf(IterableRecastTransformer.class);
+
+    DummyTransformer valuesTransformer = new DummyTransformer(Values.class);
+    transformer.addTransformer(valuesTransformer);
+
+    assertThat(transformer.getTransformer(Values.class)).isSameAs(valuesTransformer);
+    assertThat(transformer.getTransformer(ArrayList.class)).isInstanceOf(IterableRecastTransformer.class);
+  }
+
+  private enum Color { RED, GREEN }
+
+  private static class Parameters extends HashMap<String, Object> {}
+
+  private static class Values extends ArrayList<String> {}
+
+  private static class Dummy {}
+
+  private static class SubDummy extends Dummy {}
+
+  private static class DummyTransformer extends RecastTransformer implements CustomValueTransformer {
+    DummyTransformer(Class<?> type) {
+      super(Collections.singletonList(type));
+    }
+
+    @Override
+    public Object decode(Class<?> targetClass, Object fromObject, CastedField castedField) {
+      return fromObject;
+    }
+
+    @Override
+    public Object encode(Object value, CastedField castedField) {
+      return value;
+    }
+  }
+}
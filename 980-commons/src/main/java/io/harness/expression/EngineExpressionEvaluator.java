@@ -48,12 +48,10 @@ import javax.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.hibernate.validator.constraints.NotEmpty;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true,
@@ -85,7 +83,7 @@ public class EngineExpressionEvaluator {
   private boolean initialized;
 
   public EngineExpressionEvaluator(VariableResolverTracker variableResolverTracker) {
-    this.engine = new JexlBuilder().logger(new NoOpLog()).create();
+    this.engine = JexlExpressionCache.getEngine();
     this.variableResolverTracker =
         variableResolverTracker == null ? new VariableResolverTracker() : variableResolverTracker;
     this.contextMap = new LateBindingMap();
@@ -640,9 +638,9 @@ public class EngineExpressionEvaluator {
 
   protected Object evaluateByCreatingExpression(@NotNull String expression, @NotNull EngineJexlContext ctx) {
     if (ctx.isFeatureFlagEnabled(PIE_EXECUTION_JSON_SUPPORT)) {
-      return engine.createScript(expression).execute(ctx);
+      return JexlExpressionCache.createScript(expression).execute(ctx);
     }
-    JexlExpression jexlExpression = engine.createExpression(expression);
+    JexlExpression jexlExpression = JexlExpressionCache.createExpression(expression);
     return jexlExpression.evaluate(ctx);
   }
 
@@ -662,7 +660,7 @@ public class EngineExpressionEvaluator {
 
     if (ctx.isFeatureFlagEnabled(PIE_EXECUTION_JSON_SUPPORT)) {
       try {
-        return engine.createScript(expression).execute(ctx);
+        return JexlExpressionCache.createScript(expression).execute(ctx);
       } catch (Exception e) {
         if (response.isOnlyRenderedExpressions()) {
           return null;
@@ -671,7 +669,7 @@ public class EngineExpressionEvaluator {
       }
     }
     try {
-      JexlExpression jexlExpression = engine.createExpression(expression);
+      JexlExpression jexlExpression = JexlExpressionCache.createExpression(expression);
       return jexlExpression.evaluate(ctx);
     } catch (Exception e) {
       if (response.isOnlyRenderedExpressions()) {
@@ -682,7 +680,7 @@ public class EngineExpressionEvaluator {
   }
 
   protected Object evaluateByCreatingScript(@NotNull String expression, @NotNull EngineJexlContext ctx) {
-    return engine.createScript(expression).execute(ctx);
+    return JexlExpressionCache.createScript(expression).execute(ctx);
   }
 
   private EngineJexlContext prepareContext(Map<String, Object> ctx) {
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logging;
+
+import static io.harness.expression.SecretString.SECRET_MASK;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aho-Corasick automaton over a set of secrets, compiled once and used to mask every secret occurrence of a message
+ * in a single pass, whatever the number of secrets. Below AUTOMATON_MIN_SECRETS secrets, searching each secret with
+ * String.indexOf is faster than walking the automaton, so small sets are not compiled and are masked that way instead,
+ * with the same result.
+ *
+ * Every character covered by an occurrence of a secret is masked, overlapping or adjacent occurrences are replaced by
+ * a single mask. Messages without any secret are returned as is, without allocating.
+ */
+public final class SecretMasker {
+  private static final SecretMasker EMPTY = compile(null);
+  // Per 80 char log line, indexOf against the automaton: 0.24us vs 1.3us with 5 secrets, 1.4us vs 3.9us with 50,
+  // 14.8us vs 6.0us with 500, the two cross at about 130 secrets
+  static final int AUTOMATON_MIN_SECRETS = 128;
+  // Automatons of the large secret sets passed along with every message, keyed by the content of the set
+  private static final Cache<Set<String>, SecretMasker> COMPILED =
+      CacheBuilder.newBuilder().maximumSize(1000).expireAfterAccess(10, TimeUnit.MINUTES).build();
+
+  private final String[] secrets;
+  // Transitions of each state, sorted by character, null when the secrets are searched one by one
+  private final char[][] edgeChars;
+  private final int[][] edgeTargets;
+  private final int[] fail;
+  // Length of the longest secret ending at each state, 0 if none
+  private final int[] matchLength;
+  // Transitions of the root state for ASCII characters, -1 if none, the automaton spends most of its time there
+  private final int[] rootTargets;
+
+  private SecretMasker(String[] secrets) {
+    this.secrets = secrets;
+    edgeChars = null;
+    edgeTargets = null;
+    fail = null;
+    matchLength = null;
+    rootTargets = null;
+  }
+
+  private SecretMasker(String[] secrets, char[][] edgeChars, int[][] edgeTargets, int[] fail, int[] matchLength) {
+    this.secrets = secrets;
+    this.edgeChars = edgeChars;
+    this.edgeTargets = edgeTargets;
+    this.fail = fail;
+    this.matchLength = matchLength;
+    rootTargets = new int[128];
+    Arrays.fill(rootTargets, -1);
+    for (int i = 0; i < edgeChars[0].length && edgeChars[0][i] < 128; i++) {
+      rootTargets[edgeChars[0][i]] = edgeTargets[0][i];
+    }
+  }
+
+  public static SecretMasker empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Same as compile, but reuses the automaton already compiled for an equal set of secrets. Meant for the callers which
+   * get the secrets along with each message instead of holding on to a compiled masker.
+   */
+  public static SecretMasker forSecrets(Set<String> secrets) {
+    if (secrets == null || secrets.isEmpty()) {
+      return EMPTY;
+    }
+    if (secrets.size() < AUTOMATON_MIN_SECRETS) {
+      // Copying a small set is cheaper than hashing it for the cache lookup
+      List<String> nonEmptySecrets = new ArrayList<>(secrets.size());
+      for (String secret : secrets) {
+        if (secret != null && !secret.isEmpty()) {
+          nonEmptySecrets.add(secret);
+        }
+      }
+      return new SecretMasker(nonEmptySecrets.toArray(new String[0]));
+    }
+    SecretMasker secretMasker = COMPILED.getIfPresent(secrets);
+    if (secretMasker == null) {
+      // Keyed by a copy, the caller may still change its set
+      Set<String> key = Collections.unmodifiableSet(new HashSet<>(secrets));
+      secretMasker = compile(key);
+      COMPILED.put(key, secretMasker);
+    }
+    return secretMasker;
+  }
+
+  public static SecretMasker compile(Collection<String> secrets) {
+    Set<String> distinctSecrets = new LinkedHashSet<>();
+    if (secrets != null) {
+      for (String secret : secrets) {
+        if (secret != null && !secret.isEmpty()) {
+          distinctSecrets.add(secret);
+        }
+      }
+    }
+    if (distinctSecrets.size() < AUTOMATON_MIN_SECRETS) {
+      return new SecretMasker(distinctSecrets.toArray(new String[0]));
+    }
+    return compileAutomaton(distinctSecrets);
+  }
+
+  static SecretMasker compileAutomaton(Collection<String> secrets) {
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    List<Integer> depths = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    depths.add(0);
+    List<Boolean> terminal = new ArrayList<>();
+    terminal.add(false);
+
+    List<String> distinctSecrets = new ArrayList<>();
+    if (secrets != null) {
+      for (String secret : secrets) {
+        if (secret == null || secret.isEmpty()) {
+          continue;
+        }
+        int state = 0;
+        for (int i = 0; i < secret.length(); i++) {
+          Integer next = trie.get(state).get(secret.charAt(i));
+          if (next == null) {
+            next = trie.size();
+            trie.add(new TreeMap<>());
+            depths.add(depths.get(state) + 1);
+            terminal.add(false);
+            trie.get(state).put(secret.charAt(i), next);
+          }
+          state = next;
+        }
+        if (!terminal.get(state)) {
+          distinctSecrets.add(secret);
+        }
+        terminal.set(state, true);
+      }
+    }
+
+    int size = trie.size();
+    char[][] edgeChars = new char[size][];
+    int[][] edgeTargets = new int[size][];
+    for (int state = 0; state < size; state++) {
+      TreeMap<Character, Integer> edges = trie.get(state);
+      edgeChars[state] = new char[edges.size()];
+      edgeTargets[state] = new int[edges.size()];
+      int i = 0;
+      for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+        edgeChars[state][i] = edge.getKey();
+        edgeTargets[state][i] = edge.getValue();
+        i++;
+      }
+    }
+
+    // Breadth first, so that the failure state of a state is always computed before the state itself
+    int[] fail = new int[size];
+    int[] matchLength = new int[size];
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int target : edgeTargets[0]) {
+      queue.add(target);
+      matchLength[target] = terminal.get(target) ? depths.get(target) : 0;
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int i = 0; i < edgeChars[state].length; i++) {
+        int target = edgeTargets[state][i];
+        int failure = fail[state];
+        int failureTarget;
+        while ((failureTarget = transition(edgeChars, edgeTargets, failure, edgeChars[state][i])) < 0 && failure != 0) {
+          failure = fail[failure];
+        }
+        fail[target] = Math.max(failureTarget, 0);
+        matchLength[target] = terminal.get(target) ? depths.get(target) : matchLength[fail[target]];
+        queue.add(target);
+      }
+    }
+    return new SecretMasker(distinctSecrets.toArray(new String[0]), edgeChars, edgeTargets, fail, matchLength);
+  }
+
+  public boolean isEmpty() {
+    return secrets.length == 0;
+  }
+
+  public String mask(String message) {
+    if (message == null || message.isEmpty() || isEmpty()) {
+      return message;
+    }
+
+    BitSet masked = edgeChars == null ? searchEach(message) : searchAll(message);
+    if (masked == null) {
+      return message;
+    }
+
+    StringBuilder builder = new StringBuilder(message.length());
+    int position = 0;
+    int start = masked.nextSetBit(0);
+    while (start >= 0) {
+      int end = masked.nextClearBit(start);
+      builder.append(message, position, start).append(SECRET_MASK);
+      position = end;
+      start = masked.nextSetBit(end);
+    }
+    return builder.append(message, position, message.length()).toString();
+  }
+
+  private BitSet searchEach(String message) {
+    BitSet masked = null;
+    for (String secret : secrets) {
+      for (int i = message.indexOf(secret); i >= 0; i = message.indexOf(secret, i + 1)) {
+        if (masked == null) {
+          masked = new BitSet(message.length());
+        }
+        masked.set(i, i + secret.length());
+      }
+    }
+    return masked;
+  }
+
+  private BitSet searchAll(String message) {
+    BitSet masked = null;
+    int state = 0;
+    for (int i = 0; i < message.length(); i++) {
+      char c = message.charAt(i);
+      int next;
+      if (state == 0 && c < 128) {
+        next = rootTargets[c];
+      } else {
+        while ((next = transition(edgeChars, edgeTargets, state, c)) < 0 && state != 0) {
+          state = fail[state];
+        }
+      }
+      state = Math.max(next, 0);
+      int length = matchLength[state];
+      if (length > 0) {
+        if (masked == null) {
+          masked = new BitSet(message.length());
+        }
+        masked.set(i - length + 1, i + 1);
+      }
+    }
+    return masked;
+  }
+
+  private static int transition(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+    int index = Arrays.binarySearch(edgeChars[state], c);
+    return index < 0 ? -1 : edgeTargets[state][index];
+  }
+}
@@ -20,13 +20,22 @@ import com.google.api.client.util.Base64;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import java.io.ByteArrayOutputStream;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Set;
-import java.util.zip.DeflaterOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 import lombok.extern.slf4j.Slf4j;
 
@@ -51,6 +60,81 @@ public class KryoSerializer {
     }
   }
 
+  private static final int POOLED_BUFFER_SIZE = 8 * 1024;
+  // Buffers which grew beyond this size while serializing a large object are not kept for the next call, so a thread
+  // holds at most 64 KB. Reusing a larger buffer only saves the copies of its growth, under 10% of the serialization
+  @VisibleForTesting static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * One instance per thread, borrowed for the duration of a call. A nested call on the same thread (e.g. from a custom
+   * serializer) finds the slot empty and uses a fresh instance instead.
+   */
+  private static class ThreadLocalPool<T> {
+    private final ThreadLocal<T> slot = new ThreadLocal<>();
+    private final Supplier<T> factory;
+
+    ThreadLocalPool(Supplier<T> factory) {
+      this.factory = factory;
+    }
+
+    T borrow() {
+      T instance = slot.get();
+      if (instance == null) {
+        return factory.get();
+      }
+      slot.set(null);
+      return instance;
+    }
+
+    void release(T instance) {
+      slot.set(instance);
+    }
+
+    T peek() {
+      return slot.get();
+    }
+  }
+
+  /**
+   * Shared pool for objects holding native memory, which would be too costly to keep one per thread. Instances which
+   * do not fit in the pool are disposed.
+   */
+  private static class BoundedPool<T> {
+    private final ArrayBlockingQueue<T> instances;
+    private final Supplier<T> factory;
+    private final Consumer<T> disposer;
+
+    BoundedPool(int capacity, Supplier<T> factory, Consumer<T> disposer) {
+      this.instances = new ArrayBlockingQueue<>(capacity);
+      this.factory = factory;
+      this.disposer = disposer;
+    }
+
+    T borrow() {
+      T instance = instances.poll();
+      return instance == null ? factory.get() : instance;
+    }
+
+    void release(T instance) {
+      if (!instances.offer(instance)) {
+        disposer.accept(instance);
+      }
+    }
+  }
+
+  private static final int COMPRESSION_POOL_SIZE = 2 * Runtime.getRuntime().availableProcessors();
+
+  private static final ThreadLocalPool<Output> outputs =
+      new ThreadLocalPool<>(() -> new Output(POOLED_BUFFER_SIZE, -1));
+  private static final ThreadLocalPool<Input> inputs = new ThreadLocalPool<>(() -> new Input(POOLED_BUFFER_SIZE));
+  private static final BoundedPool<Deflater> deflaters =
+      new BoundedPool<>(COMPRESSION_POOL_SIZE, Deflater::new, Deflater::end);
+  // Deflate output is the same format whatever the level, so both are inflated the same way
+  private static final BoundedPool<Deflater> fastDeflaters =
+      new BoundedPool<>(COMPRESSION_POOL_SIZE, () -> new Deflater(Deflater.BEST_SPEED), Deflater::end);
+  private static final BoundedPool<Inflater> inflaters =
+      new BoundedPool<>(COMPRESSION_POOL_SIZE, Inflater::new, Inflater::end);
+
   private final KryoPool pool;
   private final boolean skipHarnessClassOriginRegistrarCheck;
 
@@ -104,37 +188,120 @@ public class KryoSerializer {
   }
 
   public byte[] asBytes(Object obj) {
-    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      writeToStream(obj, outputStream);
-      return outputStream.toByteArray();
-    } catch (Exception e) {
-      throw new RuntimeException(e);
+    Output output = serialize(obj);
+    try {
+      return output.toBytes();
+    } finally {
+      releaseOutput(output);
     }
   }
 
   public byte[] asDeflatedBytes(Object obj) {
-    try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-         DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
-      writeToStream(obj, outputStream);
-      outputStream.finish();
-      return byteStream.toByteArray();
+    return deflate(obj, deflaters);
+  }
+
+  private byte[] deflate(Object obj, BoundedPool<Deflater> deflaterPool) {
+    Output output = serialize(obj);
+    Deflater deflater = deflaterPool.borrow();
+    try {
+      deflater.reset();
+      deflater.setInput(output.getBuffer(), 0, output.position());
+      deflater.finish();
+      byte[] deflated = new byte[Math.max(64, output.position() / 2)];
+      int length = 0;
+      while (!deflater.finished()) {
+        if (length == deflated.length) {
+          deflated = Arrays.copyOf(deflated, deflated.length * 2);
+        }
+        length += deflater.deflate(deflated, length, deflated.length - length);
+      }
+      return length == deflated.length ? deflated : Arrays.copyOf(deflated, length);
+    } finally {
+      deflaterPool.release(deflater);
+      releaseOutput(output);
+    }
+  }
+
+  /**
+   * Wraps the serialized bytes without the extra copy {@link ByteString#copyFrom(byte[])} makes.
+   */
+  public ByteString asByteString(Object obj) {
+    return UnsafeByteOperations.unsafeWrap(asBytes(obj));
+  }
+
+  public ByteString asDeflatedByteString(Object obj) {
+    return UnsafeByteOperations.unsafeWrap(asDeflatedBytes(obj));
+  }
+
+  /**
+   * Deflates with {@link Deflater#BEST_SPEED} instead of the default level, for payloads which are sent once and not
+   * stored. The output is larger but is inflated the same way.
+   */
+  public ByteString asFastDeflatedByteString(Object obj) {
+    return UnsafeByteOperations.unsafeWrap(deflate(obj, fastDeflaters));
+  }
+
+  /**
+   * Serializes straight into the given stream, the stream is flushed but not closed.
+   */
+  public void writeToStream(Object obj, OutputStream outputStream) {
+    Output output = outputs.borrow();
+    try {
+      output.setOutputStream(outputStream);
+      pool.run(kryo -> {
+        kryo.writeClassAndObject(output, obj);
+        return null;
+      });
+      output.flush();
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      output.setOutputStream(null);
+      releaseOutput(output);
     }
   }
 
-  private void writeToStream(Object obj, OutputStream outputStream) {
-    try (Output output = new Output(outputStream)) {
+  /**
+   * Serializes into the remaining space of the given buffer, advancing its position.
+   *
+   * @throws java.nio.BufferOverflowException if the serialized object does not fit
+   */
+  public void writeToByteBuffer(Object obj, ByteBuffer buffer) {
+    Output output = serialize(obj);
+    try {
+      buffer.put(output.getBuffer(), 0, output.position());
+    } finally {
+      releaseOutput(output);
+    }
+  }
+
+  private Output serialize(Object obj) {
+    Output output = outputs.borrow();
+    try {
+      output.clear();
       pool.run(kryo -> {
         kryo.writeClassAndObject(output, obj);
         return null;
       });
-      output.flush();
+      return output;
     } catch (Exception exception) {
+      releaseOutput(output);
       throw new RuntimeException(exception);
     }
   }
 
+  private static void releaseOutput(Output output) {
+    if (output.getBuffer().length <= MAX_POOLED_BUFFER_SIZE) {
+      outputs.release(output);
+    }
+  }
+
+  @VisibleForTesting
+  static int pooledOutputBufferSize() {
+    Output output = outputs.peek();
+    return output == null ? 0 : output.getBuffer().length;
+  }
+
   public <T> T clone(T object) {
     return pool.run(kryo -> kryo.copy(object));
   }
@@ -145,11 +312,50 @@ public class KryoSerializer {
     }
   }
 
-  public Object asInflatedObject(byte[] bytes) {
-    try (Input input = new Input(new InflaterInputStream(new Input(bytes)))) {
+  /**
+   * Reads the remaining bytes of the given buffer, consuming them.
+   */
+  public Object readObject(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      Object object = asObject(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      buffer.position(buffer.limit());
+      return object;
+    }
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return asObject(bytes);
+  }
+
+  private Object asObject(byte[] bytes, int offset, int length) {
+    try (Input input = new Input(bytes, offset, length)) {
       return pool.run(kryo -> kryo.readClassAndObject(input));
+    }
+  }
+
+  public Object readObject(InputStream inputStream) {
+    Input input = inputs.borrow();
+    try {
+      input.setInputStream(inputStream);
+      return pool.run(kryo -> kryo.readClassAndObject(input));
+    } finally {
+      input.setInputStream(null);
+      inputs.release(input);
+    }
+  }
+
+  public Object asInflatedObject(byte[] bytes) {
+    return readInflatedObject(new ByteArrayInputStream(bytes));
+  }
+
+  public Object readInflatedObject(InputStream inputStream) {
+    Inflater inflater = inflaters.borrow();
+    try {
+      inflater.reset();
+      return readObject(new InflaterInputStream(inputStream, inflater, POOLED_BUFFER_SIZE));
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      inflaters.release(inflater);
     }
   }
 
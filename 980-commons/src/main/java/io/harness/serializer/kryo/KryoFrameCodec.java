@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer.kryo;
+
+import io.harness.serializer.KryoSerializer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Streams several kryo serialized objects in one response body. Every object is written as a length prefixed frame
+ * and flushed right away, so the reader can handle an object while the writer is still producing the next one.
+ */
+@UtilityClass
+public class KryoFrameCodec {
+  public static final String MEDIA_TYPE = "application/x-kryo-frames";
+
+  public void writeFrame(KryoSerializer kryoSerializer, Object object, OutputStream outputStream) throws IOException {
+    byte[] bytes = kryoSerializer.asBytes(object);
+    DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+    dataOutputStream.writeInt(bytes.length);
+    dataOutputStream.write(bytes);
+    dataOutputStream.flush();
+  }
+
+  /**
+   * Hands every object of the stream to the consumer as soon as its frame is read, until the stream ends.
+   */
+  public void readFrames(KryoSerializer kryoSerializer, InputStream inputStream, Consumer<Object> consumer)
+      throws IOException {
+    DataInputStream dataInputStream = new DataInputStream(inputStream);
+    while (true) {
+      int length;
+      try {
+        length = dataInputStream.readInt();
+      } catch (EOFException e) {
+        return;
+      }
+      byte[] bytes = new byte[length];
+      dataInputStream.readFully(bytes);
+      consumer.accept(kryoSerializer.asObject(bytes));
+    }
+  }
+}
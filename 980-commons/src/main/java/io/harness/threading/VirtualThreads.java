@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.threading;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Virtual threads are only final from java 21 on, while our services still build and run on older versions, so they
+ * are looked up reflectively.
+ */
+@UtilityClass
+@Slf4j
+public class VirtualThreads {
+  /**
+   * Returns a factory of virtual threads named with the given prefix and a counter, or empty when the running JVM has
+   * no virtual threads.
+   */
+  public Optional<ThreadFactory> newThreadFactory(String namePrefix) {
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+      return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // java 19 and 20 have them as preview feature only, which is disabled unless the JVM is started with it
+      log.info("Virtual threads are not available on java {}", System.getProperty("java.version"));
+      return Optional.empty();
+    }
+  }
+}
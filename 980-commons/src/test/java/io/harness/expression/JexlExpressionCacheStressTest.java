@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.ARCHIT;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.logging.impl.NoOpLog;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Compares compiling every expression with an engine per evaluator, as before the cache, to the shared compiled
+ * expression cache. Every evaluator of a step renders the same few expressions, which is what the loop simulates.
+ */
+@Slf4j
+public class JexlExpressionCacheStressTest extends CategoryTest {
+  private static final int EVALUATORS = 20000;
+  private static final String[] EXPRESSIONS = {"__engine.resolve('pipeline.variables.region') == 'us-east-1'",
+      "stage.spec.replicas > 2 && stage.spec.replicas < 10", "__engine.resolve('stage.name') + '-' + step.index",
+      "empty(step.output) ? 'none' : step.output.status"};
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compileWithEnginePerEvaluator() {
+    run("engine per evaluator", () -> {
+      JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
+      return engine::createExpression;
+    });
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compileWithSharedCache() {
+    run("shared cache", () -> JexlExpressionCache::createExpression);
+  }
+
+  private void run(String mode, Supplier<Function<String, JexlExpression>> evaluatorFactory) {
+    // warm up the jit with a tenth of the evaluators
+    compile(evaluatorFactory, EVALUATORS / 10);
+    long start = System.nanoTime();
+    compile(evaluatorFactory, EVALUATORS);
+    double micros = (System.nanoTime() - start) / 1e3;
+    log.info("[{}] {} evaluators x {} expressions: {} us per evaluator", mode, EVALUATORS, EXPRESSIONS.length,
+        String.format("%.2f", micros / EVALUATORS));
+  }
+
+  private static void compile(Supplier<Function<String, JexlExpression>> evaluatorFactory, int count) {
+    for (int i = 0; i < count; i++) {
+      Function<String, JexlExpression> evaluator = evaluatorFactory.get();
+      for (String expression : EXPRESSIONS) {
+        evaluator.apply(expression);
+      }
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.ARCHIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import org.apache.commons.jexl3.JexlException;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.jexl3.MapContext;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class JexlExpressionCacheTest extends CategoryTest {
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testCompiledExpressionIsReused() {
+    JexlExpression expression = JexlExpressionCache.createExpression("cacheTestVar + 1");
+    long hitCount = JexlExpressionCache.getStats().hitCount();
+
+    assertThat(JexlExpressionCache.createExpression(" cacheTestVar + 1 ")).isSameAs(expression);
+    assertThat(JexlExpressionCache.getStats().hitCount()).isGreaterThan(hitCount);
+
+    MapContext context = new MapContext();
+    context.set("cacheTestVar", 41);
+    assertThat(expression.evaluate(context)).isEqualTo(42);
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testExpressionAndScriptAreCachedSeparately() {
+    JexlExpression expression = JexlExpressionCache.createExpression("cacheTestScriptVar");
+    JexlScript script = JexlExpressionCache.createScript("cacheTestScriptVar");
+
+    assertThat(script).isNotSameAs(expression);
+    assertThat(JexlExpressionCache.createScript("cacheTestScriptVar")).isSameAs(script);
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testParsingErrorIsNotWrapped() {
+    assertThatThrownBy(() -> JexlExpressionCache.createExpression("a +* b")).isInstanceOf(JexlException.class);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logging;
+
+import static io.harness.expression.SecretString.SECRET_MASK;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Masks the lines of a task output one message at a time, the way the callers passing the secret set with every
+ * message do, with StringUtils.replaceEach as before the masker, with a masker compiled for every message and with the
+ * masker reused for the secret set. Also masks the whole output with a masker compiled once, the way the log streaming
+ * sanitizer does. One line in a hundred contains a secret. Compiling for every message only runs over a hundredth of
+ * the messages, it takes minutes otherwise.
+ */
+@Slf4j
+public class SecretMaskerStressTest extends CategoryTest {
+  private static final int MESSAGES = 200000;
+  private static final int[] SECRET_COUNTS = {5, 50, 500};
+
+  private final Random random = new Random(42);
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareMaskingPerMessage() {
+    for (int secretCount : SECRET_COUNTS) {
+      Set<String> secrets = new HashSet<>();
+      for (int i = 0; i < secretCount; i++) {
+        secrets.add(randomString(16 + random.nextInt(24)));
+      }
+      List<String> secretList = new ArrayList<>(secrets);
+      List<String> messages = new ArrayList<>();
+      for (int i = 0; i < MESSAGES; i++) {
+        String line = "INFO deployment/app-" + i + " rollout step " + randomString(60);
+        messages.add(i % 100 == 0 ? line + " token=" + secretList.get(i % secretList.size()) : line);
+      }
+      String[] masks = new String[secretList.size()];
+      Arrays.fill(masks, SECRET_MASK);
+      String[] secretArray = secretList.toArray(new String[0]);
+      SecretMasker compiledOnce = SecretMasker.compile(secrets);
+
+      run(secretCount, "replaceEach", messages, secrets,
+          (message, secretSet) -> StringUtils.replaceEach(message, secretArray, masks));
+      run(secretCount, "compile per message", messages.subList(0, MESSAGES / 100), secrets,
+          (message, secretSet) -> SecretMasker.compile(secretSet).mask(message));
+      run(secretCount, "cached per secret set", messages, secrets,
+          (message, secretSet) -> SecretMasker.forSecrets(secretSet).mask(message));
+      run(secretCount, "compiled once", messages, secrets, (message, secretSet) -> compiledOnce.mask(message));
+    }
+  }
+
+  private void run(int secretCount, String mode, List<String> messages, Set<String> secrets,
+      BiFunction<String, Set<String>, String> masker) {
+    // warm up the jit with a tenth of the messages
+    long checksum = mask(messages.subList(0, messages.size() / 10), secrets, masker);
+    long start = System.nanoTime();
+    checksum += mask(messages, secrets, masker);
+    double nanosPerMessage = (double) (System.nanoTime() - start) / messages.size();
+    log.info("{} secrets, {}: {} ns per message (checksum {})", secretCount, mode,
+        String.format("%.0f", nanosPerMessage), checksum);
+  }
+
+  private long mask(List<String> messages, Set<String> secrets, BiFunction<String, Set<String>, String> masker) {
+    long checksum = 0;
+    for (String message : messages) {
+      checksum += masker.apply(message, secrets).length();
+    }
+    return checksum;
+  }
+
+  private String randomString(int length) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(26)));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logging;
+
+import static io.harness.expression.SecretString.SECRET_MASK;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class SecretMaskerTest extends CategoryTest {
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldMaskEveryOccurrenceOfEverySecret() {
+    SecretMasker secretMasker = SecretMasker.compile(ImmutableList.of("secret1", "password", "key"));
+
+    assertThat(secretMasker.mask("secret1 is the password, key and secret1 again"))
+        .isEqualTo(SECRET_MASK + " is the " + SECRET_MASK + ", " + SECRET_MASK + " and " + SECRET_MASK + " again");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldMaskOverlappingSecretsAsOne() {
+    SecretMasker secretMasker = SecretMasker.compile(ImmutableList.of("ab", "cd", "abcdef", "efg"));
+
+    assertThat(secretMasker.mask("--abcdefg--ab--c")).isEqualTo("--" + SECRET_MASK + "--" + SECRET_MASK + "--c");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldFindSecretsAfterPartialMatches() {
+    SecretMasker secretMasker = SecretMasker.compile(ImmutableList.of("aab", "abc"));
+
+    assertThat(secretMasker.mask("aaab abc")).isEqualTo("a" + SECRET_MASK + " " + SECRET_MASK);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldReturnSameMessageWhenNothingMatches() {
+    String message = "nothing to mask here";
+
+    assertThat(SecretMasker.compile(ImmutableList.of("secret")).mask(message)).isSameAs(message);
+    assertThat(SecretMasker.compile(Collections.singletonList("")).isEmpty()).isTrue();
+    assertThat(SecretMasker.empty().mask(message)).isSameAs(message);
+    assertThat(SecretMasker.empty().mask(null)).isNull();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldReuseAutomatonForEqualSecrets() {
+    Set<String> secrets = new HashSet<>();
+    for (int i = 0; i < SecretMasker.AUTOMATON_MIN_SECRETS; i++) {
+      secrets.add("secret" + i + "x");
+    }
+    SecretMasker secretMasker = SecretMasker.forSecrets(secrets);
+
+    assertThat(SecretMasker.forSecrets(new HashSet<>(secrets))).isSameAs(secretMasker);
+    secrets.add("key");
+    assertThat(SecretMasker.forSecrets(secrets)).isNotSameAs(secretMasker);
+    assertThat(SecretMasker.forSecrets(secrets).mask("key")).isEqualTo(SECRET_MASK);
+    assertThat(secretMasker.mask("key")).isEqualTo("key");
+    assertThat(SecretMasker.forSecrets(ImmutableSet.of("key", "")).mask("a key")).isEqualTo("a " + SECRET_MASK);
+    assertThat(SecretMasker.forSecrets(Collections.emptySet())).isSameAs(SecretMasker.empty());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldMaskSameWithIndexOfAndAutomaton() {
+    Random random = new Random(7);
+    for (int run = 0; run < 10000; run++) {
+      List<String> secrets = new ArrayList<>();
+      for (int i = 1 + random.nextInt(6); i > 0; i--) {
+        secrets.add(randomString(random, 1 + random.nextInt(4)));
+      }
+      String message = randomString(random, random.nextInt(30));
+
+      assertThat(SecretMasker.compileAutomaton(secrets).mask(message))
+          .as("%s in %s", secrets, message)
+          .isEqualTo(SecretMasker.compile(secrets).mask(message));
+    }
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldMaskLargeSecretSetsWithAutomaton() {
+    List<String> secrets = new ArrayList<>();
+    for (int i = 0; i < SecretMasker.AUTOMATON_MIN_SECRETS; i++) {
+      secrets.add("secret" + i + "x");
+    }
+
+    assertThat(SecretMasker.compile(secrets).mask("secret7x and secret127x but not secret128x"))
+        .isEqualTo(SECRET_MASK + " and " + SECRET_MASK + " but not secret128x");
+  }
+
+  private static String randomString(Random random, int length) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(3)));
+    }
+    return builder.toString();
+  }
+}
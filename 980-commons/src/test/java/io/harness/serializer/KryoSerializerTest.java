@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class KryoSerializerTest extends CategoryTest {
+  private final KryoSerializer kryoSerializer = new KryoSerializer(new HashSet<>(), true);
+
+  private static HashMap<String, Object> sample(int size) {
+    HashMap<String, Object> sample = new HashMap<>();
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      values.add("value-" + i);
+    }
+    sample.put("values", values);
+    sample.put("name", "sample");
+    return sample;
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRoundTripThroughAllSinksAndSources() {
+    HashMap<String, Object> sample = sample(10);
+
+    byte[] bytes = kryoSerializer.asBytes(sample);
+    assertThat(kryoSerializer.asObject(bytes)).isEqualTo(sample);
+    assertThat(kryoSerializer.readObject(new ByteArrayInputStream(bytes))).isEqualTo(sample);
+    assertThat(kryoSerializer.asByteString(sample).toByteArray()).isEqualTo(bytes);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    kryoSerializer.writeToStream(sample, outputStream);
+    assertThat(outputStream.toByteArray()).isEqualTo(bytes);
+
+    for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(1024), ByteBuffer.allocateDirect(1024)}) {
+      buffer.putInt(42);
+      kryoSerializer.writeToByteBuffer(sample, buffer);
+      buffer.flip();
+      assertThat(buffer.getInt()).isEqualTo(42);
+      assertThat(kryoSerializer.readObject(buffer)).isEqualTo(sample);
+      assertThat(buffer.hasRemaining()).isFalse();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReuseBuffersAcrossCallsOfDifferentSizes() {
+    HashMap<String, Object> large = sample(100000);
+    HashMap<String, Object> small = sample(1);
+
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(large))).isEqualTo(large);
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(small))).isEqualTo(small);
+    assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(large))).isEqualTo(large);
+    assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(small))).isEqualTo(small);
+    assertThat(kryoSerializer.readInflatedObject(kryoSerializer.asDeflatedByteString(small).newInput()))
+        .isEqualTo(small);
+    assertThat(kryoSerializer.readInflatedObject(kryoSerializer.asFastDeflatedByteString(large).newInput()))
+        .isEqualTo(large);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotKeepBuffersOfLargeObjects() {
+    kryoSerializer.asBytes(sample(1000));
+    assertThat(KryoSerializer.pooledOutputBufferSize()).isBetween(1, KryoSerializer.MAX_POOLED_BUFFER_SIZE);
+
+    assertThat(kryoSerializer.asBytes(sample(100000)).length).isGreaterThan(KryoSerializer.MAX_POOLED_BUFFER_SIZE);
+    assertThat(KryoSerializer.pooledOutputBufferSize()).isZero();
+
+    kryoSerializer.asBytes(sample(1));
+    assertThat(KryoSerializer.pooledOutputBufferSize()).isBetween(1, KryoSerializer.MAX_POOLED_BUFFER_SIZE);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldInflateBytesDeflatedWithTheDefaultLevel() throws Exception {
+    HashMap<String, Object> sample = sample(100);
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
+      outputStream.write(kryoSerializer.asBytes(sample));
+    }
+
+    assertThat(kryoSerializer.asInflatedObject(byteStream.toByteArray())).isEqualTo(sample);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldDeflateWithTheDefaultLevel() throws Exception {
+    HashMap<String, Object> sample = sample(10000);
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
+      outputStream.write(kryoSerializer.asBytes(sample));
+    }
+
+    assertThat(kryoSerializer.asDeflatedBytes(sample)).isEqualTo(byteStream.toByteArray());
+  }
+}
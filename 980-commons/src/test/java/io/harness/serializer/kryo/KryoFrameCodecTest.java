@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer.kryo;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.serializer.KryoSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class KryoFrameCodecTest extends CategoryTest {
+  private final KryoSerializer kryoSerializer = new KryoSerializer(new HashSet<>(), true);
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldReadEveryFrameInOrder() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    KryoFrameCodec.writeFrame(kryoSerializer, "first", outputStream);
+    KryoFrameCodec.writeFrame(kryoSerializer, new ArrayList<>(Arrays.asList("second", "third")), outputStream);
+
+    List<Object> objects = new ArrayList<>();
+    KryoFrameCodec.readFrames(kryoSerializer, new ByteArrayInputStream(outputStream.toByteArray()), objects::add);
+
+    assertThat(objects).containsExactly("first", Arrays.asList("second", "third"));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldFailOnTruncatedFrame() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    KryoFrameCodec.writeFrame(kryoSerializer, "first", outputStream);
+    byte[] bytes = Arrays.copyOf(outputStream.toByteArray(), outputStream.size() - 1);
+
+    assertThatThrownBy(() -> KryoFrameCodec.readFrames(kryoSerializer, new ByteArrayInputStream(bytes), object -> {}))
+        .isInstanceOf(EOFException.class);
+  }
+}
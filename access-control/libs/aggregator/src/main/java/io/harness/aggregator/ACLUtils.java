@@ -12,6 +12,7 @@ import static io.harness.accesscontrol.scopes.core.Scope.PATH_DELIMITER;
 import static io.harness.accesscontrol.scopes.core.Scope.SCOPE_DELIMITER;
 
 import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.engine.ACLGrant;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.SourceMetadata;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceGroup;
@@ -21,6 +22,7 @@ import io.harness.accesscontrol.scopes.core.Scope;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
+import java.util.Set;
 import lombok.experimental.UtilityClass;
 
 @OwnedBy(HarnessTeam.PL)
@@ -64,6 +66,28 @@ public class ACLUtils {
         .build();
   }
 
+  public static ACLGrant buildACLGrant(RoleAssignmentDBO roleAssignment, ResourceSelector resourceSelector,
+      String principalType, Set<String> principalIdentifiers, Set<String> permissions) {
+    String scopeIdentifier, selector;
+    if (resourceSelector.getSelector().contains("$")) {
+      scopeIdentifier = resourceSelector.getSelector().split("\\$")[0];
+      selector = resourceSelector.getSelector().split("\\$")[1];
+    } else {
+      scopeIdentifier = roleAssignment.getScopeIdentifier();
+      selector = resourceSelector.getSelector();
+    }
+
+    return ACLGrant.builder()
+        .scopeIdentifier(scopeIdentifier)
+        .resourceSelector(selector)
+        .principalType(principalType)
+        .principalIdentifiers(principalIdentifiers)
+        .permissions(permissions)
+        .conditional(resourceSelector.isConditional())
+        .condition(resourceSelector.getCondition())
+        .build();
+  }
+
   public static String buildResourceSelector(Scope scope) {
     return new StringBuilder(scope.toString())
         .append(SCOPE_DELIMITER)
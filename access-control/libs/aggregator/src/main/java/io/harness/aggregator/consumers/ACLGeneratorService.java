@@ -7,11 +7,13 @@
 
 package io.harness.aggregator.consumers;
 
+import io.harness.accesscontrol.acl.engine.ACLGrant;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
 import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
+import java.util.List;
 import java.util.Set;
 
 @OwnedBy(HarnessTeam.PL)
@@ -35,4 +37,10 @@ public interface ACLGeneratorService {
 
   long createACLs(RoleAssignmentDBO roleAssignmentDBO, Set<String> principals, Set<String> permissions,
       Set<ResourceSelector> resourceSelectors);
+
+  /**
+   * The same ACLs as created for the role assignment, including the implicit ones, without expanding them into one ACL
+   * per principal and permission.
+   */
+  List<ACLGrant> getACLGrantsForRoleAssignment(RoleAssignmentDBO roleAssignment);
 }
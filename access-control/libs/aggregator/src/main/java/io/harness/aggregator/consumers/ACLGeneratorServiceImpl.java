@@ -12,10 +12,12 @@ import static io.harness.accesscontrol.principals.PrincipalType.USER;
 import static io.harness.accesscontrol.principals.PrincipalType.USER_GROUP;
 import static io.harness.accesscontrol.scopes.core.ScopeHelper.toParentScope;
 import static io.harness.aggregator.ACLUtils.buildACL;
+import static io.harness.aggregator.ACLUtils.buildACLGrant;
 import static io.harness.aggregator.ACLUtils.buildResourceSelector;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
 import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.engine.ACLGrant;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
@@ -168,6 +170,55 @@ public class ACLGeneratorServiceImpl implements ACLGeneratorService {
     return numberOfACLsCreated;
   }
 
+  @Override
+  public List<ACLGrant> getACLGrantsForRoleAssignment(RoleAssignmentDBO roleAssignment) {
+    List<ACLGrant> grants = new ArrayList<>();
+    Set<String> principals = getPrincipalsFromRoleAssignment(roleAssignment);
+    Set<String> permissions = getPermissionsFromRole(roleAssignment);
+    if (principals.isEmpty() || permissions.isEmpty()) {
+      return grants;
+    }
+    String principalType = SERVICE_ACCOUNT.equals(roleAssignment.getPrincipalType()) ? SERVICE_ACCOUNT.name()
+                                                                                       : USER.name();
+    for (ResourceSelector resourceSelector : getResourceSelectorsFromRoleAssignment(roleAssignment)) {
+      addACLGrant(grants, roleAssignment, resourceSelector, principalType, principals, permissions);
+    }
+
+    Optional<ResourceGroup> resourceGroup = resourceGroupService.get(
+        roleAssignment.getResourceGroupIdentifier(), roleAssignment.getScopeIdentifier(), ManagedFilter.NO_FILTER);
+    if (!resourceGroup.isPresent() || resourceGroup.get().getScopeSelectors() == null) {
+      return grants;
+    }
+    for (ScopeSelector scopeSelector : resourceGroup.get().getScopeSelectors()) {
+      Scope currentScope = scopeSelector.getScopeIdentifier() == null
+          ? scopeService.buildScopeFromScopeIdentifier(roleAssignment.getScopeIdentifier())
+          : scopeService.buildScopeFromScopeIdentifier(scopeSelector.getScopeIdentifier());
+      boolean givePermissionOnChildScopes = scopeSelector.isIncludingChildScopes();
+      while (currentScope != null) {
+        ResourceSelector resourceSelector =
+            ResourceSelector.builder().selector(buildResourceSelector(currentScope)).build();
+        addACLGrant(grants, roleAssignment, resourceSelector, principalType, principals,
+            getPermissions(currentScope, givePermissionOnChildScopes, permissions));
+        givePermissionOnChildScopes = false;
+        currentScope = currentScope.getParentScope();
+      }
+    }
+    return grants;
+  }
+
+  private void addACLGrant(List<ACLGrant> grants, RoleAssignmentDBO roleAssignment, ResourceSelector resourceSelector,
+      String principalType, Set<String> principals, Set<String> permissions) {
+    Set<String> compatiblePermissions =
+        permissions.stream()
+            .filter(permission
+                -> inMemoryPermissionRepository.isPermissionCompatibleWithResourceSelector(
+                    permission, resourceSelector.getSelector()))
+            .collect(Collectors.toSet());
+    if (!compatiblePermissions.isEmpty()) {
+      grants.add(buildACLGrant(roleAssignment, resourceSelector, principalType, principals, compatiblePermissions));
+    }
+  }
+
   private boolean isEnabled(RoleAssignmentDBO roleAssignmentDBO) {
     return !roleAssignmentDBO.isDisabled();
   }
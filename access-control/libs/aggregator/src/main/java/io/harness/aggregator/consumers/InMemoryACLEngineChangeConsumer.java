@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.aggregator.consumers;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies the changes handled by a {@link ChangeConsumer} to the in memory ACL engine once the ACL collection has been
+ * updated. A failure to update the engine leaves the ACL collection authoritative until the next rebuild.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class InMemoryACLEngineChangeConsumer<T extends AccessControlEntity> implements ChangeConsumer<T> {
+  private final ChangeConsumer<T> delegate;
+  private final InMemoryACLEngineSyncer inMemoryACLEngineSyncer;
+  private final Consumer<String> onChange;
+  private final Consumer<String> onDelete;
+
+  public InMemoryACLEngineChangeConsumer(ChangeConsumer<T> delegate, InMemoryACLEngineSyncer inMemoryACLEngineSyncer,
+      Consumer<String> onChange, Consumer<String> onDelete) {
+    this.delegate = delegate;
+    this.inMemoryACLEngineSyncer = inMemoryACLEngineSyncer;
+    this.onChange = onChange;
+    this.onDelete = onDelete;
+  }
+
+  @Override
+  public boolean consumeUpdateEvent(String id, T updatedEntity) {
+    boolean result = delegate.consumeUpdateEvent(id, updatedEntity);
+    if (result) {
+      sync(onChange, id);
+    }
+    return result;
+  }
+
+  @Override
+  public boolean consumeDeleteEvent(String id) {
+    boolean result = delegate.consumeDeleteEvent(id);
+    sync(onDelete, id);
+    return result;
+  }
+
+  @Override
+  public boolean consumeCreateEvent(String id, T createdEntity) {
+    boolean result = delegate.consumeCreateEvent(id, createdEntity);
+    sync(onChange, id);
+    return result;
+  }
+
+  private void sync(Consumer<String> action, String id) {
+    try {
+      action.accept(id);
+    } catch (Exception exception) {
+      log.error("Failed to apply change of {} to the in memory ACL engine, marking it stale", id, exception);
+      inMemoryACLEngineSyncer.markStale();
+    }
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.aggregator.consumers;
+
+import static io.harness.accesscontrol.principals.PrincipalType.USER_GROUP;
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.harness.accesscontrol.acl.engine.InMemoryACLEngine;
+import io.harness.accesscontrol.acl.engine.InMemoryACLEngineMode;
+import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
+import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
+import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupDBO;
+import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupRepository;
+import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
+import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO.RoleAssignmentDBOKeys;
+import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAssignmentRepository;
+import io.harness.accesscontrol.roles.persistence.RoleDBO;
+import io.harness.accesscontrol.roles.persistence.repositories.RoleRepository;
+import io.harness.accesscontrol.scopes.core.ScopeLevel;
+import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Keeps the {@link InMemoryACLEngine} in sync with role assignments, roles, resource groups and user groups.
+ *
+ * Every change re-reads the affected role assignments and replaces their grants, so replaying a change that was
+ * already applied, which happens when the change stream resumes from an older offset after a rebuild, is harmless.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class InMemoryACLEngineSyncer {
+  private static final int REBUILD_BATCH_SIZE = 1000;
+
+  private final InMemoryACLEngine inMemoryACLEngine;
+  private final RoleAssignmentRepository roleAssignmentRepository;
+  private final RoleRepository roleRepository;
+  private final ResourceGroupRepository resourceGroupRepository;
+  private final UserGroupRepository userGroupRepository;
+  private final ScopeService scopeService;
+  private final ACLGeneratorService aclGeneratorService;
+
+  @Inject
+  public InMemoryACLEngineSyncer(InMemoryACLEngine inMemoryACLEngine,
+      RoleAssignmentRepository roleAssignmentRepository, RoleRepository roleRepository,
+      ResourceGroupRepository resourceGroupRepository, UserGroupRepository userGroupRepository,
+      ScopeService scopeService, ACLGeneratorService aclGeneratorService) {
+    this.inMemoryACLEngine = inMemoryACLEngine;
+    this.roleAssignmentRepository = roleAssignmentRepository;
+    this.roleRepository = roleRepository;
+    this.resourceGroupRepository = resourceGroupRepository;
+    this.userGroupRepository = userGroupRepository;
+    this.scopeService = scopeService;
+    this.aclGeneratorService = aclGeneratorService;
+  }
+
+  public boolean isEnabled() {
+    return inMemoryACLEngine.getMode() != null && inMemoryACLEngine.getMode() != InMemoryACLEngineMode.DISABLED;
+  }
+
+  public void markStale() {
+    inMemoryACLEngine.markStale();
+  }
+
+  /**
+   * Replaces the role assignments of the engine with the ones in the database, which drops the ones deleted while
+   * another pod was syncing. Changes made meanwhile have to be replayed afterwards.
+   */
+  public void rebuild() {
+    if (!isEnabled()) {
+      return;
+    }
+    long startTime = System.currentTimeMillis();
+    inMemoryACLEngine.markStale();
+    AtomicLong numberOfRoleAssignments = new AtomicLong();
+    inMemoryACLEngine.replaceRoleAssignments(putRoleAssignment -> {
+      String lastId = null;
+      List<RoleAssignmentDBO> roleAssignments;
+      do {
+        Criteria criteria = lastId == null ? new Criteria() : where(RoleAssignmentDBOKeys.id).gt(lastId);
+        roleAssignments = roleAssignmentRepository
+                              .findAll(criteria, PageRequest.of(0, REBUILD_BATCH_SIZE),
+                                  Sort.by(Sort.Direction.ASC, RoleAssignmentDBOKeys.id))
+                              .getContent();
+        for (RoleAssignmentDBO roleAssignment : roleAssignments) {
+          // ACLs of disabled role assignments are kept disabled in the ACL collection and never match
+          if (!roleAssignment.isDisabled()) {
+            putRoleAssignment.accept(
+                roleAssignment.getId(), aclGeneratorService.getACLGrantsForRoleAssignment(roleAssignment));
+          }
+          lastId = roleAssignment.getId();
+        }
+        numberOfRoleAssignments.addAndGet(roleAssignments.size());
+      } while (roleAssignments.size() == REBUILD_BATCH_SIZE);
+    });
+    inMemoryACLEngine.markReady();
+    log.info("Loaded {} role assignments into the in memory ACL engine in {} ms", numberOfRoleAssignments.get(),
+        System.currentTimeMillis() - startTime);
+  }
+
+  public void onRoleAssignmentChange(String id) {
+    Optional<RoleAssignmentDBO> roleAssignment = roleAssignmentRepository.findById(id);
+    if (roleAssignment.isPresent()) {
+      refresh(roleAssignment.get());
+    } else {
+      inMemoryACLEngine.removeRoleAssignment(id);
+    }
+  }
+
+  public void onRoleAssignmentDelete(String id) {
+    inMemoryACLEngine.removeRoleAssignment(id);
+  }
+
+  public void onRoleChange(String id) {
+    Optional<RoleDBO> role = roleRepository.findById(id);
+    if (!role.isPresent()) {
+      return;
+    }
+    Criteria criteria = where(RoleAssignmentDBOKeys.roleIdentifier).is(role.get().getIdentifier());
+    if (!StringUtils.isEmpty(role.get().getScopeIdentifier())) {
+      criteria.and(RoleAssignmentDBOKeys.scopeIdentifier).is(role.get().getScopeIdentifier());
+    }
+    refresh(criteria);
+  }
+
+  public void onResourceGroupChange(String id) {
+    Optional<ResourceGroupDBO> resourceGroup = resourceGroupRepository.findById(id);
+    if (!resourceGroup.isPresent()) {
+      return;
+    }
+    Criteria criteria = where(RoleAssignmentDBOKeys.resourceGroupIdentifier).is(resourceGroup.get().getIdentifier());
+    if (!StringUtils.isEmpty(resourceGroup.get().getScopeIdentifier())) {
+      criteria.and(RoleAssignmentDBOKeys.scopeIdentifier).is(resourceGroup.get().getScopeIdentifier());
+    }
+    refresh(criteria);
+  }
+
+  public void onUserGroupChange(String id) {
+    Optional<UserGroupDBO> userGroup = userGroupRepository.findById(id);
+    if (!userGroup.isPresent()) {
+      return;
+    }
+    Pattern startsWithScope = Pattern.compile("^".concat(userGroup.get().getScopeIdentifier()).concat("/"));
+    ScopeLevel principalScopeLevel =
+        scopeService.buildScopeFromScopeIdentifier(userGroup.get().getScopeIdentifier()).getLevel();
+    Criteria criteria = where(RoleAssignmentDBOKeys.principalType)
+                            .is(USER_GROUP)
+                            .and(RoleAssignmentDBOKeys.principalIdentifier)
+                            .is(userGroup.get().getIdentifier())
+                            .and(RoleAssignmentDBOKeys.principalScopeLevel)
+                            .is(principalScopeLevel.toString())
+                            .andOperator(new Criteria().orOperator(
+                                where(RoleAssignmentDBOKeys.scopeIdentifier).is(userGroup.get().getScopeIdentifier()),
+                                where(RoleAssignmentDBOKeys.scopeIdentifier).regex(startsWithScope)));
+    refresh(criteria);
+  }
+
+  private void refresh(Criteria criteria) {
+    roleAssignmentRepository.findAll(criteria, Pageable.unpaged()).forEach(this::refresh);
+  }
+
+  private void refresh(RoleAssignmentDBO roleAssignment) {
+    // ACLs of disabled role assignments are kept disabled in the ACL collection and never match
+    if (roleAssignment.isDisabled()) {
+      inMemoryACLEngine.removeRoleAssignment(roleAssignment.getId());
+    } else {
+      inMemoryACLEngine.putRoleAssignment(
+          roleAssignment.getId(), aclGeneratorService.getACLGrantsForRoleAssignment(roleAssignment));
+    }
+  }
+}
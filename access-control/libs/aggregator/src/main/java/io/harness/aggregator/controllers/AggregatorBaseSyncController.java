@@ -26,6 +26,8 @@ import io.harness.aggregator.consumers.ACLGeneratorService;
 import io.harness.aggregator.consumers.AccessControlDebeziumChangeConsumer;
 import io.harness.aggregator.consumers.ChangeConsumer;
 import io.harness.aggregator.consumers.ChangeEventFailureHandler;
+import io.harness.aggregator.consumers.InMemoryACLEngineChangeConsumer;
+import io.harness.aggregator.consumers.InMemoryACLEngineSyncer;
 import io.harness.aggregator.consumers.ResourceGroupChangeConsumerImpl;
 import io.harness.aggregator.consumers.RoleAssignmentCRUDEventHandler;
 import io.harness.aggregator.consumers.RoleAssignmentChangeConsumerImpl;
@@ -145,6 +147,26 @@ public abstract class AggregatorBaseSyncController implements Runnable {
     this.enableAclProcessingThroughOutbox = enableAclProcessingThroughOutbox;
   }
 
+  /**
+   * Makes the change consumers also apply the changes to the in memory ACL engine.
+   */
+  protected void syncInMemoryACLEngine(InMemoryACLEngineSyncer syncer) {
+    collectionToConsumerMap.computeIfPresent(ROLE_ASSIGNMENTS,
+        (collection, consumer)
+            -> new InMemoryACLEngineChangeConsumer<>(
+                consumer, syncer, syncer::onRoleAssignmentChange, syncer::onRoleAssignmentDelete));
+    // deleting a role, resource group or user group is followed by deleting its role assignments
+    collectionToConsumerMap.computeIfPresent(ROLES,
+        (collection, consumer)
+            -> new InMemoryACLEngineChangeConsumer<>(consumer, syncer, syncer::onRoleChange, id -> {}));
+    collectionToConsumerMap.computeIfPresent(RESOURCE_GROUPS,
+        (collection, consumer)
+            -> new InMemoryACLEngineChangeConsumer<>(consumer, syncer, syncer::onResourceGroupChange, id -> {}));
+    collectionToConsumerMap.computeIfPresent(USER_GROUPS,
+        (collection, consumer)
+            -> new InMemoryACLEngineChangeConsumer<>(consumer, syncer, syncer::onUserGroupChange, id -> {}));
+  }
+
   protected DebeziumEngine<ChangeEvent<String, String>> getEngine(
       DebeziumConfig debeziumConfig, AccessControlDebeziumChangeConsumer changeConsumer) {
     Properties props = new Properties();
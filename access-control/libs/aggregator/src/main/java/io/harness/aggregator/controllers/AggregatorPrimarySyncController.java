@@ -21,6 +21,7 @@ import io.harness.aggregator.AggregatorConfiguration;
 import io.harness.aggregator.consumers.ACLGeneratorService;
 import io.harness.aggregator.consumers.AccessControlDebeziumChangeConsumer;
 import io.harness.aggregator.consumers.ChangeEventFailureHandler;
+import io.harness.aggregator.consumers.InMemoryACLEngineSyncer;
 import io.harness.aggregator.consumers.RoleAssignmentCRUDEventHandler;
 import io.harness.aggregator.consumers.UserGroupCRUDEventHandler;
 import io.harness.aggregator.models.MongoReconciliationOffset;
@@ -43,6 +44,8 @@ import org.redisson.api.RLock;
 @Singleton
 @Slf4j
 public class AggregatorPrimarySyncController extends AggregatorBaseSyncController implements Runnable {
+  private final InMemoryACLEngineSyncer inMemoryACLEngineSyncer;
+
   @Inject
   public AggregatorPrimarySyncController(@Named(ACL.PRIMARY_COLLECTION) ACLRepository primaryAclRepository,
       RoleAssignmentRepository roleAssignmentRepository, RoleRepository roleRepository,
@@ -52,11 +55,16 @@ public class AggregatorPrimarySyncController extends AggregatorBaseSyncControlle
       RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
       UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService,
       AccessControlAdminService accessControlAdminService,
-      @Named("enableAclProcessingThroughOutbox") boolean enableAclProcessingThroughOutbox) {
+      @Named("enableAclProcessingThroughOutbox") boolean enableAclProcessingThroughOutbox,
+      InMemoryACLEngineSyncer inMemoryACLEngineSyncer) {
     super(primaryAclRepository, roleAssignmentRepository, roleRepository, resourceGroupRepository, userGroupRepository,
         aggregatorConfiguration, persistentLocker, changeEventFailureHandler, AggregatorJobType.PRIMARY,
         aclGeneratorService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler, scopeService,
         accessControlAdminService, enableAclProcessingThroughOutbox);
+    this.inMemoryACLEngineSyncer = inMemoryACLEngineSyncer;
+    if (inMemoryACLEngineSyncer.isEnabled()) {
+      syncInMemoryACLEngine(inMemoryACLEngineSyncer);
+    }
   }
 
   @Override
@@ -68,6 +76,7 @@ public class AggregatorPrimarySyncController extends AggregatorBaseSyncControlle
       }
       log.info("Acquired lock, initiating primary sync.");
       RLock rLock = (RLock) aggregatorLock.getLock();
+      rebuildInMemoryACLEngine();
       AccessControlDebeziumChangeConsumer accessControlDebeziumChangeConsumer = buildDebeziumChangeConsumer();
       debeziumEngine = getEngine(aggregatorConfiguration.getDebeziumConfig(), accessControlDebeziumChangeConsumer);
       Future<?> debeziumEngineFuture = executorService.submit(debeziumEngine);
@@ -84,6 +93,8 @@ public class AggregatorPrimarySyncController extends AggregatorBaseSyncControlle
     } catch (Exception e) {
       log.error("Primary sync stopped due to exception", e);
     } finally {
+      // changes are no longer applied to the in memory ACL engine, access checks go back to the ACL collection
+      inMemoryACLEngineSyncer.markStale();
       try {
         if (debeziumEngine != null) {
           debeziumEngine.close();
@@ -99,6 +110,15 @@ public class AggregatorPrimarySyncController extends AggregatorBaseSyncControlle
     }
   }
 
+  private void rebuildInMemoryACLEngine() {
+    // changes made while rebuilding are replayed by the debezium engine, which resumes from the last committed offset
+    try {
+      inMemoryACLEngineSyncer.rebuild();
+    } catch (Exception e) {
+      log.error("Failed to build the in memory ACL engine, access checks will keep using the ACL collection", e);
+    }
+  }
+
   public String getLockName() {
     return String.format("%s_%s", ACCESS_CONTROL_AGGREGATOR_LOCK, AggregatorJobType.PRIMARY);
   }
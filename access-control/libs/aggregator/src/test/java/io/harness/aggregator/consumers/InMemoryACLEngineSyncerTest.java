@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.aggregator.consumers;
+
+import static io.harness.accesscontrol.acl.persistence.ACL.getAclQueryString;
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.accesscontrol.acl.engine.ACLGrant;
+import io.harness.accesscontrol.acl.engine.InMemoryACLEngineImpl;
+import io.harness.accesscontrol.acl.engine.InMemoryACLEngineMode;
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
+import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupRepository;
+import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
+import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAssignmentRepository;
+import io.harness.accesscontrol.roles.persistence.repositories.RoleRepository;
+import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+@OwnedBy(PL)
+public class InMemoryACLEngineSyncerTest extends CategoryTest {
+  private static final String SCOPE = "/ACCOUNT/account";
+  private static final String SELECTOR = "/PIPELINE/*";
+  private static final String USER = "USER";
+  private static final String VIEW = "core_pipeline_view";
+
+  private InMemoryACLEngineImpl inMemoryACLEngine;
+  private RoleAssignmentRepository roleAssignmentRepository;
+  private ACLGeneratorService aclGeneratorService;
+  private InMemoryACLEngineSyncer inMemoryACLEngineSyncer;
+
+  @Before
+  public void setup() {
+    inMemoryACLEngine = new InMemoryACLEngineImpl(InMemoryACLEngineMode.SHADOW);
+    roleAssignmentRepository = mock(RoleAssignmentRepository.class);
+    aclGeneratorService = mock(ACLGeneratorService.class);
+    inMemoryACLEngineSyncer = new InMemoryACLEngineSyncer(inMemoryACLEngine, roleAssignmentRepository,
+        mock(RoleRepository.class), mock(ResourceGroupRepository.class), mock(UserGroupRepository.class),
+        mock(ScopeService.class), aclGeneratorService);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testRebuildDropsRoleAssignmentsDeletedSinceTheLastRebuild() {
+    RoleAssignmentDBO ra1 = roleAssignment("ra1", "u1");
+    RoleAssignmentDBO ra2 = roleAssignment("ra2", "u2");
+    givenRoleAssignments(ra1, ra2);
+    inMemoryACLEngineSyncer.rebuild();
+    assertThat(inMemoryACLEngine.isReady()).isTrue();
+    assertThat(matching("u1")).extracting(ACL::getRoleAssignmentId).containsExactly("ra1");
+    assertThat(matching("u2")).extracting(ACL::getRoleAssignmentId).containsExactly("ra2");
+
+    // ra1 is deleted while another pod holds the aggregator lock, so its delete event never reaches this engine
+    inMemoryACLEngineSyncer.markStale();
+    givenRoleAssignments(ra2);
+    inMemoryACLEngineSyncer.rebuild();
+
+    assertThat(inMemoryACLEngine.isReady()).isTrue();
+    assertThat(matching("u1")).isEmpty();
+    assertThat(matching("u2")).extracting(ACL::getRoleAssignmentId).containsExactly("ra2");
+    assertThat(inMemoryACLEngine.getNumberOfGrants()).isEqualTo(1);
+  }
+
+  private RoleAssignmentDBO roleAssignment(String id, String principal) {
+    RoleAssignmentDBO roleAssignment = RoleAssignmentDBO.builder().id(id).build();
+    when(aclGeneratorService.getACLGrantsForRoleAssignment(roleAssignment))
+        .thenReturn(ImmutableList.of(ACLGrant.builder()
+                                         .scopeIdentifier(SCOPE)
+                                         .resourceSelector(SELECTOR)
+                                         .principalType(USER)
+                                         .principalIdentifiers(ImmutableSet.of(principal))
+                                         .permissions(ImmutableSet.of(VIEW))
+                                         .build()));
+    return roleAssignment;
+  }
+
+  private void givenRoleAssignments(RoleAssignmentDBO... roleAssignments) {
+    when(roleAssignmentRepository.findAll(any(Criteria.class), any(Pageable.class), any(Sort.class)))
+        .thenReturn(new PageImpl<>(ImmutableList.copyOf(roleAssignments)));
+  }
+
+  private List<ACL> matching(String principal) {
+    return inMemoryACLEngine
+        .getMatchingACLs(ImmutableList.of(ImmutableSet.of(getAclQueryString(SCOPE, SELECTOR, USER, principal, VIEW))))
+        .get(0);
+  }
+}
@@ -20,6 +20,8 @@ import static org.springframework.data.mongodb.core.aggregation.Aggregation.newA
 import io.harness.accesscontrol.ResourceInfo;
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.conditions.ACLExpressionEvaluatorProvider;
+import io.harness.accesscontrol.acl.engine.InMemoryACLEngine;
+import io.harness.accesscontrol.acl.engine.InMemoryACLEngineMode;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACLDAO;
 import io.harness.accesscontrol.permissions.Permission;
@@ -69,16 +71,18 @@ public class ACLServiceImpl implements ACLService {
   private final ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider;
   private final MongoTemplate mongoTemplate;
   private final InMemoryPermissionRepository inMemoryPermissionRepository;
+  private final InMemoryACLEngine inMemoryACLEngine;
 
   @Inject
   public ACLServiceImpl(ACLDAO aclDAO, PermissionService permissionService,
       ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider, MongoTemplate mongoTemplate,
-      InMemoryPermissionRepository inMemoryPermissionRepository) {
+      InMemoryPermissionRepository inMemoryPermissionRepository, InMemoryACLEngine inMemoryACLEngine) {
     this.aclDAO = aclDAO;
     this.permissionService = permissionService;
     this.aclExpressionEvaluatorProvider = aclExpressionEvaluatorProvider;
     this.mongoTemplate = mongoTemplate;
     this.inMemoryPermissionRepository = inMemoryPermissionRepository;
+    this.inMemoryACLEngine = inMemoryACLEngine;
   }
 
   private PermissionCheckResult getPermissionCheckResult(PermissionCheck permissionCheck, boolean permitted) {
@@ -215,7 +219,7 @@ public class ACLServiceImpl implements ACLService {
             -> log.debug("Access check requested for redundant combination of resource : {} with permission : {}",
                 permissionCheck.getResourceType(), permissionCheck.getPermission()));
 
-    List<List<ACL>> matchingACLs = aclDAO.getMatchingACLs(principal, permissionChecks);
+    List<List<ACL>> matchingACLs = getMatchingACLs(principal, permissionChecks);
     List<Boolean> allowedAccessList = checkAccessInternal(permissionChecks, matchingACLs, resourceAttributeProvider);
 
     List<PermissionCheckResult> permissionCheckResults = new ArrayList<>();
@@ -232,6 +236,37 @@ public class ACLServiceImpl implements ACLService {
     return permissionCheckResults;
   }
 
+  private List<List<ACL>> getMatchingACLs(Principal principal, List<PermissionCheck> permissionChecks) {
+    InMemoryACLEngineMode mode = inMemoryACLEngine.getMode();
+    if (mode == null || mode == InMemoryACLEngineMode.DISABLED || !inMemoryACLEngine.isReady()) {
+      return aclDAO.getMatchingACLs(principal, permissionChecks);
+    }
+    List<Set<String>> aclQueryStringsPerPermission =
+        permissionChecks.stream()
+            .map(permissionCheck -> aclDAO.getQueryStrings(permissionCheck, principal))
+            .collect(Collectors.toList());
+    List<List<ACL>> aclsFromEngine = inMemoryACLEngine.getMatchingACLs(aclQueryStringsPerPermission);
+    if (mode == InMemoryACLEngineMode.ENABLED) {
+      return aclsFromEngine;
+    }
+    List<List<ACL>> aclsFromDB = aclDAO.getMatchingACLs(principal, permissionChecks);
+    for (int i = 0; i < permissionChecks.size(); i++) {
+      Set<List<Object>> expected = getACLKeys(aclsFromDB.get(i));
+      Set<List<Object>> actual = getACLKeys(aclsFromEngine.get(i));
+      if (!expected.equals(actual)) {
+        log.warn("In memory ACL engine mismatch for principal {} and {}: expected ACLs {}, found {}", principal,
+            permissionChecks.get(i), expected, actual);
+      }
+    }
+    return aclsFromDB;
+  }
+
+  private static Set<List<Object>> getACLKeys(List<ACL> acls) {
+    return acls.stream()
+        .map(acl -> Arrays.<Object>asList(acl.getAclQueryString(), acl.isConditional(), acl.getCondition()))
+        .collect(Collectors.toSet());
+  }
+
   private List<Boolean> checkAccessInternal(List<PermissionCheck> permissionChecks, List<List<ACL>> matchedACLs,
       ResourceAttributeProvider resourceAttributeProvider) {
     Set<ResourceInfo> resourcesWhoseAttributesAreRequired = new HashSet<>();
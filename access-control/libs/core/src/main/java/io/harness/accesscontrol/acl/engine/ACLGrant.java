@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.engine;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Set;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The ACLs a role assignment grants on one resource selector, kept as the product of its principals and permissions
+ * instead of one ACL per combination.
+ */
+@OwnedBy(PL)
+@Value
+@Builder
+public class ACLGrant {
+  String scopeIdentifier;
+  String resourceSelector;
+  String principalType;
+  Set<String> principalIdentifiers;
+  Set<String> permissions;
+  boolean conditional;
+  String condition;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.engine;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+@OwnedBy(PL)
+public interface InMemoryACLEngine {
+  InMemoryACLEngineMode getMode();
+
+  /**
+   * Whether the engine has been fully built and kept in sync since, only then can it answer access checks.
+   */
+  boolean isReady();
+
+  void markReady();
+
+  void markStale();
+
+  void putRoleAssignment(String roleAssignmentId, List<ACLGrant> grants);
+
+  void removeRoleAssignment(String roleAssignmentId);
+
+  /**
+   * Replaces every role assignment with the ones the loader passes on, lookups see the previous role assignments until
+   * the loader returns.
+   */
+  void replaceRoleAssignments(Consumer<BiConsumer<String, List<ACLGrant>>> loader);
+
+  /**
+   * Returns, for each set of acl query strings, the enabled ACLs matching one of them, the same way the ACL collection
+   * would.
+   */
+  List<List<ACL>> getMatchingACLs(List<Set<String>> aclQueryStringsPerPermission);
+
+  long getNumberOfGrants();
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.engine;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the grants of every role assignment indexed by the scope and resource selector they apply to, with the
+ * permissions and principals of a grant held as bitmaps over dictionary encoded identifiers. Principals are numbered
+ * per account so the bitmaps stay dense.
+ *
+ * Lookups take the same acl query strings as the ACL collection and do not lock; role assignment updates are
+ * serialized and replace the entries of a location copy on write. A rebuild loads a fresh index and swaps it in, so
+ * nothing of the previous index, such as role assignments deleted meanwhile, survives it.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class InMemoryACLEngineImpl implements InMemoryACLEngine {
+  private static final String DELIMITER = "$";
+  private static final String ACL_QUERY_STRING_DELIMITER_REGEX = "\\$";
+  private static final int ACL_QUERY_STRING_PARTS = 5;
+  private static final Entry[] NO_ENTRIES = new Entry[0];
+
+  private final InMemoryACLEngineMode mode;
+  // replaced as a whole on rebuild, writes to it are serialized by this
+  private volatile Index index = new Index();
+  private volatile boolean ready;
+
+  @Inject
+  public InMemoryACLEngineImpl(InMemoryACLEngineMode mode) {
+    this.mode = mode;
+  }
+
+  @Override
+  public InMemoryACLEngineMode getMode() {
+    return mode;
+  }
+
+  @Override
+  public boolean isReady() {
+    return ready;
+  }
+
+  @Override
+  public void markReady() {
+    log.info("In memory ACL engine built with {} grants", index.numberOfGrants.get());
+    ready = true;
+  }
+
+  @Override
+  public void markStale() {
+    ready = false;
+  }
+
+  @Override
+  public synchronized void putRoleAssignment(String roleAssignmentId, List<ACLGrant> grants) {
+    index.putRoleAssignment(roleAssignmentId, grants);
+  }
+
+  @Override
+  public synchronized void removeRoleAssignment(String roleAssignmentId) {
+    index.removeRoleAssignment(roleAssignmentId);
+  }
+
+  @Override
+  public synchronized void replaceRoleAssignments(Consumer<BiConsumer<String, List<ACLGrant>>> loader) {
+    Index freshIndex = new Index();
+    loader.accept(freshIndex::putRoleAssignment);
+    index = freshIndex;
+  }
+
+  @Override
+  public List<List<ACL>> getMatchingACLs(List<Set<String>> aclQueryStringsPerPermission) {
+    Index currentIndex = index;
+    List<List<ACL>> matchingACLs = new ArrayList<>(aclQueryStringsPerPermission.size());
+    for (Set<String> aclQueryStrings : aclQueryStringsPerPermission) {
+      List<ACL> acls = new ArrayList<>();
+      for (String aclQueryString : aclQueryStrings) {
+        currentIndex.addMatchingACLs(aclQueryString, acls);
+      }
+      matchingACLs.add(acls);
+    }
+    return matchingACLs;
+  }
+
+  @Override
+  public long getNumberOfGrants() {
+    return index.numberOfGrants.get();
+  }
+
+  private static class Index {
+    private final Map<String, Integer> permissionIds = new ConcurrentHashMap<>();
+    private final Map<String, PrincipalDictionary> principalDictionaries = new ConcurrentHashMap<>();
+    private final Map<String, Location> locations = new ConcurrentHashMap<>();
+    // only accessed by writers, which are serialized
+    private final Map<String, Set<String>> locationsByRoleAssignment = new HashMap<>();
+    private final AtomicLong numberOfGrants = new AtomicLong();
+
+    void putRoleAssignment(String roleAssignmentId, List<ACLGrant> grants) {
+      removeRoleAssignment(roleAssignmentId);
+      Set<String> locationKeys = new HashSet<>();
+      for (ACLGrant grant : grants) {
+        if (grant.getPermissions().isEmpty() || grant.getPrincipalIdentifiers().isEmpty()) {
+          continue;
+        }
+        String locationKey = grant.getScopeIdentifier() + DELIMITER + grant.getResourceSelector();
+        PrincipalDictionary dictionary = principalDictionaries.computeIfAbsent(
+            getAccountScope(grant.getScopeIdentifier()), k -> new PrincipalDictionary());
+        BitSet permissions = new BitSet();
+        grant.getPermissions().forEach(permission -> permissions.set(getPermissionId(permission)));
+        BitSet principals = new BitSet();
+        grant.getPrincipalIdentifiers().forEach(
+            principalIdentifier -> principals.set(dictionary.getId(grant.getPrincipalType(), principalIdentifier)));
+        Entry entry = new Entry(roleAssignmentId, grant.getResourceSelector(), permissions, principals,
+            grant.isConditional(), grant.getCondition());
+
+        Location location = locations.get(locationKey);
+        Entry[] entries = location == null ? NO_ENTRIES : location.entries;
+        Entry[] updatedEntries = new Entry[entries.length + 1];
+        System.arraycopy(entries, 0, updatedEntries, 0, entries.length);
+        updatedEntries[entries.length] = entry;
+        locations.put(locationKey, new Location(dictionary, updatedEntries));
+        locationKeys.add(locationKey);
+        numberOfGrants.incrementAndGet();
+      }
+      if (!locationKeys.isEmpty()) {
+        locationsByRoleAssignment.put(roleAssignmentId, locationKeys);
+      }
+    }
+
+    void removeRoleAssignment(String roleAssignmentId) {
+      Set<String> locationKeys = locationsByRoleAssignment.remove(roleAssignmentId);
+      if (locationKeys == null) {
+        return;
+      }
+      for (String locationKey : locationKeys) {
+        Location location = locations.get(locationKey);
+        if (location == null) {
+          continue;
+        }
+        List<Entry> remainingEntries = new ArrayList<>(location.entries.length);
+        for (Entry entry : location.entries) {
+          if (roleAssignmentId.equals(entry.roleAssignmentId)) {
+            numberOfGrants.decrementAndGet();
+          } else {
+            remainingEntries.add(entry);
+          }
+        }
+        if (remainingEntries.isEmpty()) {
+          locations.remove(locationKey);
+        } else {
+          locations.put(locationKey, new Location(location.dictionary, remainingEntries.toArray(NO_ENTRIES)));
+        }
+      }
+    }
+
+    void addMatchingACLs(String aclQueryString, List<ACL> acls) {
+      // scope $ permission $ resource selector $ principal type $ principal identifier
+      String[] parts = aclQueryString.split(ACL_QUERY_STRING_DELIMITER_REGEX, -1);
+      if (parts.length != ACL_QUERY_STRING_PARTS) {
+        return;
+      }
+      Location location = locations.get(parts[0] + DELIMITER + parts[2]);
+      if (location == null) {
+        return;
+      }
+      Integer permissionId = permissionIds.get(parts[1]);
+      Integer principalId = location.dictionary.ids.get(parts[3] + DELIMITER + parts[4]);
+      if (permissionId == null || principalId == null) {
+        return;
+      }
+      for (Entry entry : location.entries) {
+        if (entry.permissions.get(permissionId) && entry.principals.get(principalId)) {
+          acls.add(ACL.builder()
+                       .roleAssignmentId(entry.roleAssignmentId)
+                       .permissionIdentifier(parts[1])
+                       .resourceSelector(entry.resourceSelector)
+                       .principalType(parts[3])
+                       .principalIdentifier(parts[4])
+                       .aclQueryString(aclQueryString)
+                       .conditional(entry.conditional)
+                       .condition(entry.condition)
+                       .enabled(true)
+                       .build());
+        }
+      }
+    }
+
+    private int getPermissionId(String permission) {
+      // only called by writers, which are serialized
+      Integer id = permissionIds.get(permission);
+      if (id == null) {
+        id = permissionIds.size();
+        permissionIds.put(permission, id);
+      }
+      return id;
+    }
+  }
+
+  /**
+   * The /ACCOUNT/{accountIdentifier} prefix of a scope identifier.
+   */
+  private static String getAccountScope(String scopeIdentifier) {
+    int accountIdentifierStart = scopeIdentifier.indexOf('/', 1);
+    int accountScopeEnd = accountIdentifierStart < 0 ? -1 : scopeIdentifier.indexOf('/', accountIdentifierStart + 1);
+    return accountScopeEnd < 0 ? scopeIdentifier : scopeIdentifier.substring(0, accountScopeEnd);
+  }
+
+  private static class PrincipalDictionary {
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    // only called by writers, which are serialized
+    int getId(String principalType, String principalIdentifier) {
+      String key = principalType + DELIMITER + principalIdentifier;
+      Integer id = ids.get(key);
+      if (id == null) {
+        id = ids.size();
+        ids.put(key, id);
+      }
+      return id;
+    }
+  }
+
+  private static class Location {
+    private final PrincipalDictionary dictionary;
+    private final Entry[] entries;
+
+    Location(PrincipalDictionary dictionary, Entry[] entries) {
+      this.dictionary = dictionary;
+      this.entries = entries;
+    }
+  }
+
+  private static class Entry {
+    private final String roleAssignmentId;
+    private final String resourceSelector;
+    private final BitSet permissions;
+    private final BitSet principals;
+    private final boolean conditional;
+    private final String condition;
+
+    Entry(String roleAssignmentId, String resourceSelector, BitSet permissions, BitSet principals, boolean conditional,
+        String condition) {
+      this.roleAssignmentId = roleAssignmentId;
+      this.resourceSelector = resourceSelector;
+      this.permissions = permissions;
+      this.principals = principals;
+      this.conditional = conditional;
+      this.condition = condition;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.engine;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+@OwnedBy(PL)
+public enum InMemoryACLEngineMode {
+  /**
+   * The engine is not built, access checks are answered from the ACL collection.
+   */
+  DISABLED,
+  /**
+   * Access checks are answered from the ACL collection and compared against the engine, mismatches are logged.
+   */
+  SHADOW,
+  /**
+   * Access checks are answered by the engine once it is built, and from the ACL collection until then.
+   */
+  ENABLED
+}
@@ -24,6 +24,8 @@ import static org.mockito.Mockito.when;
 import io.harness.accesscontrol.AccessControlCoreTestBase;
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.conditions.ACLExpressionEvaluatorProvider;
+import io.harness.accesscontrol.acl.engine.InMemoryACLEngineImpl;
+import io.harness.accesscontrol.acl.engine.InMemoryACLEngineMode;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACLDAO;
 import io.harness.accesscontrol.permissions.Permission;
@@ -59,8 +61,8 @@ public class ACLServiceImplTest extends AccessControlCoreTestBase {
 
     ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider = mock(ACLExpressionEvaluatorProvider.class);
     inMemoryPermissionRepository = mock(InMemoryPermissionRepository.class);
-    aclService = new ACLServiceImpl(
-        aclDAO, permissionService, aclExpressionEvaluatorProvider, mongoTemplate, inMemoryPermissionRepository);
+    aclService = new ACLServiceImpl(aclDAO, permissionService, aclExpressionEvaluatorProvider, mongoTemplate,
+        inMemoryPermissionRepository, new InMemoryACLEngineImpl(InMemoryACLEngineMode.DISABLED));
   }
 
   @Test
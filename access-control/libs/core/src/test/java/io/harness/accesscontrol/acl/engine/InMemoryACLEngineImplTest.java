@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.engine;
+
+import static io.harness.accesscontrol.acl.persistence.ACL.getAclQueryString;
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class InMemoryACLEngineImplTest extends CategoryTest {
+  private static final String ACCOUNT_SCOPE = "/ACCOUNT/account";
+  private static final String PROJECT_SCOPE = "/ACCOUNT/account/ORGANIZATION/org/PROJECT/project";
+  private static final String OTHER_ACCOUNT_SCOPE = "/ACCOUNT/other";
+  private static final String USER = "USER";
+  private static final String VIEW = "core_pipeline_view";
+  private static final String EXECUTE = "core_pipeline_execute";
+
+  private InMemoryACLEngineImpl inMemoryACLEngine;
+
+  @Before
+  public void setup() {
+    inMemoryACLEngine = new InMemoryACLEngineImpl(InMemoryACLEngineMode.SHADOW);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testGetMatchingACLs() {
+    inMemoryACLEngine.putRoleAssignment("ra1",
+        ImmutableList.of(grant(PROJECT_SCOPE, "/PIPELINE/*", ImmutableSet.of("u1", "u2"), ImmutableSet.of(VIEW))));
+    inMemoryACLEngine.putRoleAssignment("ra2",
+        ImmutableList.of(grant(ACCOUNT_SCOPE, "/**/*/*", ImmutableSet.of("u2"), ImmutableSet.of(VIEW, EXECUTE))));
+
+    List<List<ACL>> matchingACLs = inMemoryACLEngine.getMatchingACLs(ImmutableList.of(
+        queries(PROJECT_SCOPE, "/PIPELINE/*", "u1", VIEW), queries(PROJECT_SCOPE, "/PIPELINE/*", "u1", EXECUTE),
+        ImmutableSet.of(getAclQueryString(PROJECT_SCOPE, "/PIPELINE/*", USER, "u2", EXECUTE),
+            getAclQueryString(ACCOUNT_SCOPE, "/**/*/*", USER, "u2", EXECUTE)),
+        queries(PROJECT_SCOPE, "/PIPELINE/*", "u3", VIEW)));
+
+    assertThat(matchingACLs).hasSize(4);
+    assertThat(matchingACLs.get(0)).hasSize(1);
+    ACL acl = matchingACLs.get(0).get(0);
+    assertThat(acl.getRoleAssignmentId()).isEqualTo("ra1");
+    assertThat(acl.getAclQueryString()).isEqualTo(getAclQueryString(PROJECT_SCOPE, "/PIPELINE/*", USER, "u1", VIEW));
+    assertThat(acl.isEnabled()).isTrue();
+    assertThat(acl.isConditional()).isFalse();
+    assertThat(matchingACLs.get(1)).isEmpty();
+    assertThat(matchingACLs.get(2)).extracting(ACL::getRoleAssignmentId).containsExactly("ra2");
+    assertThat(matchingACLs.get(3)).isEmpty();
+    assertThat(inMemoryACLEngine.getNumberOfGrants()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPutAndRemoveRoleAssignment() {
+    inMemoryACLEngine.putRoleAssignment(
+        "ra1", ImmutableList.of(grant(ACCOUNT_SCOPE, "/PIPELINE/*", ImmutableSet.of("u1"), ImmutableSet.of(VIEW))));
+    inMemoryACLEngine.putRoleAssignment(
+        "ra2", ImmutableList.of(grant(ACCOUNT_SCOPE, "/PIPELINE/*", ImmutableSet.of("u1"), ImmutableSet.of(VIEW))));
+    assertThat(matching(ACCOUNT_SCOPE, "/PIPELINE/*", "u1", VIEW)).hasSize(2);
+
+    inMemoryACLEngine.putRoleAssignment(
+        "ra1", ImmutableList.of(grant(ACCOUNT_SCOPE, "/PIPELINE/*", ImmutableSet.of("u1"), ImmutableSet.of(EXECUTE))));
+    assertThat(matching(ACCOUNT_SCOPE, "/PIPELINE/*", "u1", VIEW)).extracting(ACL::getRoleAssignmentId)
+        .containsExactly("ra2");
+    assertThat(matching(ACCOUNT_SCOPE, "/PIPELINE/*", "u1", EXECUTE)).extracting(ACL::getRoleAssignmentId)
+        .containsExactly("ra1");
+
+    inMemoryACLEngine.removeRoleAssignment("ra1");
+    inMemoryACLEngine.removeRoleAssignment("ra2");
+    assertThat(matching(ACCOUNT_SCOPE, "/PIPELINE/*", "u1", VIEW)).isEmpty();
+    assertThat(matching(ACCOUNT_SCOPE, "/PIPELINE/*", "u1", EXECUTE)).isEmpty();
+    assertThat(inMemoryACLEngine.getNumberOfGrants()).isZero();
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testConditionalGrantsAndAccountIsolation() {
+    inMemoryACLEngine.putRoleAssignment("ra1",
+        ImmutableList.of(ACLGrant.builder()
+                             .scopeIdentifier(ACCOUNT_SCOPE)
+                             .resourceSelector("/PIPELINE/*")
+                             .principalType(USER)
+                             .principalIdentifiers(ImmutableSet.of("u1"))
+                             .permissions(ImmutableSet.of(VIEW))
+                             .conditional(true)
+                             .condition("<+resource.tag.env> == \"prod\"")
+                             .build()));
+    inMemoryACLEngine.putRoleAssignment("ra2",
+        ImmutableList.of(grant(OTHER_ACCOUNT_SCOPE, "/PIPELINE/*", ImmutableSet.of("u2"), ImmutableSet.of(VIEW))));
+
+    List<ACL> acls = matching(ACCOUNT_SCOPE, "/PIPELINE/*", "u1", VIEW);
+    assertThat(acls).hasSize(1);
+    assertThat(acls.get(0).isConditional()).isTrue();
+    assertThat(acls.get(0).getCondition()).isEqualTo("<+resource.tag.env> == \"prod\"");
+
+    assertThat(matching(ACCOUNT_SCOPE, "/PIPELINE/*", "u2", VIEW)).isEmpty();
+    assertThat(matching(OTHER_ACCOUNT_SCOPE, "/PIPELINE/*", "u1", VIEW)).isEmpty();
+    assertThat(matching(OTHER_ACCOUNT_SCOPE, "/PIPELINE/*", "u2", VIEW)).hasSize(1);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testReplaceRoleAssignments() {
+    inMemoryACLEngine.putRoleAssignment(
+        "ra1", ImmutableList.of(grant(ACCOUNT_SCOPE, "/PIPELINE/*", ImmutableSet.of("u1"), ImmutableSet.of(VIEW))));
+
+    inMemoryACLEngine.replaceRoleAssignments(putRoleAssignment -> {
+      // lookups keep seeing the previous role assignments while the fresh ones load
+      assertThat(matching(ACCOUNT_SCOPE, "/PIPELINE/*", "u1", VIEW)).hasSize(1);
+      putRoleAssignment.accept(
+          "ra2", ImmutableList.of(grant(ACCOUNT_SCOPE, "/PIPELINE/*", ImmutableSet.of("u2"), ImmutableSet.of(VIEW))));
+      assertThat(matching(ACCOUNT_SCOPE, "/PIPELINE/*", "u2", VIEW)).isEmpty();
+    });
+
+    assertThat(matching(ACCOUNT_SCOPE, "/PIPELINE/*", "u1", VIEW)).isEmpty();
+    assertThat(matching(ACCOUNT_SCOPE, "/PIPELINE/*", "u2", VIEW)).extracting(ACL::getRoleAssignmentId)
+        .containsExactly("ra2");
+    assertThat(inMemoryACLEngine.getNumberOfGrants()).isEqualTo(1);
+  }
+
+  private List<ACL> matching(String scope, String selector, String principal, String permission) {
+    return inMemoryACLEngine.getMatchingACLs(ImmutableList.of(queries(scope, selector, principal, permission))).get(0);
+  }
+
+  private static Set<String> queries(String scope, String selector, String principal, String permission) {
+    return ImmutableSet.of(getAclQueryString(scope, selector, USER, principal, permission));
+  }
+
+  private static ACLGrant grant(String scope, String selector, Set<String> principals, Set<String> permissions) {
+    return ACLGrant.builder()
+        .scopeIdentifier(scope)
+        .resourceSelector(selector)
+        .principalType(USER)
+        .principalIdentifiers(principals)
+        .permissions(permissions)
+        .build();
+  }
+}
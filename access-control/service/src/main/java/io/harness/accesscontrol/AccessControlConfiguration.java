@@ -12,6 +12,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static java.util.stream.Collectors.toSet;
 
 import io.harness.AccessControlClientConfiguration;
+import io.harness.accesscontrol.acl.engine.InMemoryACLEngineMode;
 import io.harness.accesscontrol.commons.events.EventsConfig;
 import io.harness.accesscontrol.commons.iterators.AccessControlIteratorsConfig;
 import io.harness.accesscontrol.commons.notifications.NotificationConfig;
@@ -126,6 +127,7 @@ public class AccessControlConfiguration extends Configuration {
   private boolean enableParallelProcessingOfUserGroupUpdates;
   @JsonProperty("enableAclProcessingThroughOutbox") private boolean enableAclProcessingThroughOutbox;
   @JsonProperty("batchSizeForACLCreation") private int batchSizeForACLCreation;
+  @JsonProperty("inMemoryACLEngineMode") private InMemoryACLEngineMode inMemoryACLEngineMode;
 
   public static final Collection<Class<?>> ALL_ACCESS_CONTROL_RESOURCES = getResourceClasses();
 
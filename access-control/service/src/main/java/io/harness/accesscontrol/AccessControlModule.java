@@ -31,6 +31,7 @@ import io.harness.accesscontrol.acl.ResourceAttributeProvider;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.acl.api.ResourceAttributeProviderImpl;
+import io.harness.accesscontrol.acl.engine.InMemoryACLEngineMode;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResource;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResourceImpl;
 import io.harness.accesscontrol.aggregator.api.AggregatorResource;
@@ -152,6 +153,7 @@ import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.multibindings.OptionalBinder;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import java.time.Duration;
@@ -431,5 +433,10 @@ public class AccessControlModule extends AbstractModule {
     bind(Integer.class)
         .annotatedWith(Names.named("batchSizeForACLCreation"))
         .toInstance(config.getBatchSizeForACLCreation());
+    if (config.getInMemoryACLEngineMode() != null) {
+      OptionalBinder.newOptionalBinder(binder(), InMemoryACLEngineMode.class)
+          .setBinding()
+          .toInstance(config.getInMemoryACLEngineMode());
+    }
   }
 }
@@ -7,6 +7,8 @@
 
 package io.harness.batch.processing.billing.timeseries.service.impl;
 
+import static io.harness.timescaledb.TimescaleBulkLoader.ON_CONFLICT_DO_NOTHING;
+
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
@@ -22,6 +24,8 @@ import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.exception.InvalidRequestException;
 import io.harness.timescaledb.DBUtils;
 import io.harness.timescaledb.TimeScaleDBService;
+import io.harness.timescaledb.TimescaleBulkLoader;
+import io.harness.timescaledb.TimescaleBulkLoader.CopyRow;
 
 import software.wings.graphql.datafetcher.ce.recommendation.entity.Cost;
 
@@ -57,8 +61,10 @@ public class BillingDataServiceImpl {
   private static final int MAX_RETRY_COUNT = 2;
   private static final int DELETE_MAX_RETRY_COUNT = 5;
   private static final int SELECT_MAX_RETRY_COUNT = 5;
+  static final String INSERT_COLUMNS =
+      "STARTTIME, ENDTIME, ACCOUNTID, INSTANCETYPE, BILLINGACCOUNTID, BILLINGAMOUNT, CPUBILLINGAMOUNT, MEMORYBILLINGAMOUNT, USAGEDURATIONSECONDS, INSTANCEID, CLUSTERNAME, CLUSTERID, SETTINGID,  SERVICEID, APPID, CLOUDPROVIDERID, ENVID, CPUUNITSECONDS, MEMORYMBSECONDS, PARENTINSTANCEID, REGION, LAUNCHTYPE, CLUSTERTYPE, CLOUDPROVIDER, WORKLOADNAME, WORKLOADTYPE, NAMESPACE, CLOUDSERVICENAME, TASKID, IDLECOST, CPUIDLECOST, MEMORYIDLECOST, MAXCPUUTILIZATION, MAXMEMORYUTILIZATION, AVGCPUUTILIZATION, AVGMEMORYUTILIZATION, SYSTEMCOST, CPUSYSTEMCOST, MEMORYSYSTEMCOST, ACTUALIDLECOST, CPUACTUALIDLECOST, MEMORYACTUALIDLECOST, UNALLOCATEDCOST, CPUUNALLOCATEDCOST, MEMORYUNALLOCATEDCOST, INSTANCENAME, CPUREQUEST, MEMORYREQUEST, CPULIMIT, MEMORYLIMIT, MAXCPUUTILIZATIONVALUE, MAXMEMORYUTILIZATIONVALUE, AVGCPUUTILIZATIONVALUE, AVGMEMORYUTILIZATIONVALUE, NETWORKCOST, PRICINGSOURCE, STORAGEACTUALIDLECOST, STORAGEUNALLOCATEDCOST, STORAGEUTILIZATIONVALUE, STORAGEREQUEST, STORAGEMBSECONDS, STORAGECOST, MAXSTORAGEUTILIZATIONVALUE, MAXSTORAGEREQUEST, ORGIDENTIFIER, PROJECTIDENTIFIER, USAGESTARTTIME, USAGESTOPTIME";
   static final String INSERT_STATEMENT =
-      "INSERT INTO %s (STARTTIME, ENDTIME, ACCOUNTID, INSTANCETYPE, BILLINGACCOUNTID, BILLINGAMOUNT, CPUBILLINGAMOUNT, MEMORYBILLINGAMOUNT, USAGEDURATIONSECONDS, INSTANCEID, CLUSTERNAME, CLUSTERID, SETTINGID,  SERVICEID, APPID, CLOUDPROVIDERID, ENVID, CPUUNITSECONDS, MEMORYMBSECONDS, PARENTINSTANCEID, REGION, LAUNCHTYPE, CLUSTERTYPE, CLOUDPROVIDER, WORKLOADNAME, WORKLOADTYPE, NAMESPACE, CLOUDSERVICENAME, TASKID, IDLECOST, CPUIDLECOST, MEMORYIDLECOST, MAXCPUUTILIZATION, MAXMEMORYUTILIZATION, AVGCPUUTILIZATION, AVGMEMORYUTILIZATION, SYSTEMCOST, CPUSYSTEMCOST, MEMORYSYSTEMCOST, ACTUALIDLECOST, CPUACTUALIDLECOST, MEMORYACTUALIDLECOST, UNALLOCATEDCOST, CPUUNALLOCATEDCOST, MEMORYUNALLOCATEDCOST, INSTANCENAME, CPUREQUEST, MEMORYREQUEST, CPULIMIT, MEMORYLIMIT, MAXCPUUTILIZATIONVALUE, MAXMEMORYUTILIZATIONVALUE, AVGCPUUTILIZATIONVALUE, AVGMEMORYUTILIZATIONVALUE, NETWORKCOST, PRICINGSOURCE, STORAGEACTUALIDLECOST, STORAGEUNALLOCATEDCOST, STORAGEUTILIZATIONVALUE, STORAGEREQUEST, STORAGEMBSECONDS, STORAGECOST, MAXSTORAGEUTILIZATIONVALUE, MAXSTORAGEREQUEST, ORGIDENTIFIER, PROJECTIDENTIFIER, USAGESTARTTIME, USAGESTOPTIME) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
+      "INSERT INTO %s (" + INSERT_COLUMNS + ") VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
 
   static final String UPDATE_STATEMENT =
       "UPDATE %s SET ACTUALIDLECOST = ?, CPUACTUALIDLECOST = ?, MEMORYACTUALIDLECOST = ?, UNALLOCATEDCOST = ?, CPUUNALLOCATEDCOST = ?, MEMORYUNALLOCATEDCOST = ? WHERE ACCOUNTID = ? AND CLUSTERID = ? AND INSTANCEID = ? AND STARTTIME = ?";
@@ -116,18 +122,13 @@ public class BillingDataServiceImpl {
       String insertStatement = BillingDataTableNameProvider.replaceTableName(INSERT_STATEMENT, batchJobType);
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(insertStatement)) {
-          int index = 0;
-          for (InstanceBillingData instanceBillingData : instanceBillingDataList) {
-            updateInsertStatement(statement, instanceBillingData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == instanceBillingDataList.size()) {
-              log.debug("Prepared Statement in BillingDataServiceImpl: {} ", statement);
-              statement.executeBatch();
-            }
+        try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+          // a failed bulk load is retried with plain batched inserts
+          if (retryCount == 0 && TimescaleBulkLoader.isSupported(dbConnection)) {
+            TimescaleBulkLoader.load(dbConnection, BillingDataTableNameProvider.getTableName(batchJobType),
+                INSERT_COLUMNS, ON_CONFLICT_DO_NOTHING, instanceBillingDataList, this::addCopyRow);
+          } else {
+            insertInBatches(dbConnection, insertStatement, instanceBillingDataList);
           }
           successfulInsert = true;
         } catch (SQLException e) {
@@ -142,6 +143,23 @@ public class BillingDataServiceImpl {
     return successfulInsert;
   }
 
+  private void insertInBatches(Connection dbConnection, String insertStatement,
+      List<InstanceBillingData> instanceBillingDataList) throws SQLException {
+    try (PreparedStatement statement = dbConnection.prepareStatement(insertStatement)) {
+      int index = 0;
+      for (InstanceBillingData instanceBillingData : instanceBillingDataList) {
+        updateInsertStatement(statement, instanceBillingData);
+        statement.addBatch();
+        index++;
+
+        if (index % BATCH_SIZE == 0 || index == instanceBillingDataList.size()) {
+          log.debug("Prepared Statement in BillingDataServiceImpl: {} ", statement);
+          statement.executeBatch();
+        }
+      }
+    }
+  }
+
   public boolean update(ActualIdleCostWriterData actualIdleCostWriterData, BatchJobType batchJobType) {
     boolean successfulUpdate = false;
     if (timeScaleDBService.isValid()) {
@@ -251,6 +269,77 @@ public class BillingDataServiceImpl {
     statement.setTimestamp(68, new Timestamp(instanceBillingData.getUsageStopTime()), utils.getDefaultCalendar());
   }
 
+  void addCopyRow(InstanceBillingData instanceBillingData, CopyRow copyRow) {
+    copyRow.addTimestamp(instanceBillingData.getStartTimestamp())
+        .addTimestamp(instanceBillingData.getEndTimestamp())
+        .add(instanceBillingData.getAccountId())
+        .add(instanceBillingData.getInstanceType())
+        .add(instanceBillingData.getBillingAccountId())
+        .add(instanceBillingData.getBillingAmount())
+        .add(instanceBillingData.getCpuBillingAmount())
+        .add(instanceBillingData.getMemoryBillingAmount())
+        .add(instanceBillingData.getUsageDurationSeconds())
+        .add(instanceBillingData.getInstanceId())
+        .add(instanceBillingData.getClusterName())
+        .add(instanceBillingData.getClusterId())
+        .add(instanceBillingData.getSettingId())
+        .add(instanceBillingData.getServiceId())
+        .add(instanceBillingData.getAppId())
+        .add(instanceBillingData.getCloudProviderId())
+        .add(instanceBillingData.getEnvId())
+        .add(instanceBillingData.getCpuUnitSeconds())
+        .add(instanceBillingData.getMemoryMbSeconds())
+        .add(instanceBillingData.getParentInstanceId())
+        .add(instanceBillingData.getRegion())
+        .add(instanceBillingData.getLaunchType())
+        .add(instanceBillingData.getClusterType())
+        .add(instanceBillingData.getCloudProvider())
+        .add(instanceBillingData.getWorkloadName())
+        .add(instanceBillingData.getWorkloadType())
+        .add(instanceBillingData.getNamespace())
+        .add(instanceBillingData.getCloudServiceName())
+        .add(instanceBillingData.getTaskId())
+        .add(instanceBillingData.getIdleCost())
+        .add(instanceBillingData.getCpuIdleCost())
+        .add(instanceBillingData.getMemoryIdleCost())
+        .add(instanceBillingData.getMaxCpuUtilization())
+        .add(instanceBillingData.getMaxMemoryUtilization())
+        .add(instanceBillingData.getAvgCpuUtilization())
+        .add(instanceBillingData.getAvgMemoryUtilization())
+        .add(instanceBillingData.getSystemCost())
+        .add(instanceBillingData.getCpuSystemCost())
+        .add(instanceBillingData.getMemorySystemCost())
+        .add(instanceBillingData.getActualIdleCost())
+        .add(instanceBillingData.getCpuActualIdleCost())
+        .add(instanceBillingData.getMemoryActualIdleCost())
+        .add(instanceBillingData.getUnallocatedCost())
+        .add(instanceBillingData.getCpuUnallocatedCost())
+        .add(instanceBillingData.getMemoryUnallocatedCost())
+        .add(instanceBillingData.getInstanceName())
+        .add(instanceBillingData.getCpuRequest())
+        .add(instanceBillingData.getMemoryRequest())
+        .add(instanceBillingData.getCpuLimit())
+        .add(instanceBillingData.getMemoryLimit())
+        .add(instanceBillingData.getMaxCpuUtilizationValue())
+        .add(instanceBillingData.getMaxMemoryUtilizationValue())
+        .add(instanceBillingData.getAvgCpuUtilizationValue())
+        .add(instanceBillingData.getAvgMemoryUtilizationValue())
+        .add(instanceBillingData.getNetworkCost())
+        .add(instanceBillingData.getPricingSource())
+        .add(instanceBillingData.getStorageActualIdleCost())
+        .add(instanceBillingData.getStorageUnallocatedCost())
+        .add(instanceBillingData.getStorageUtilizationValue())
+        .add(instanceBillingData.getStorageRequest())
+        .add(instanceBillingData.getStorageMbSeconds())
+        .add(instanceBillingData.getStorageBillingAmount())
+        .add(instanceBillingData.getMaxStorageUtilizationValue())
+        .add(instanceBillingData.getMaxStorageRequest())
+        .add(instanceBillingData.getOrgIdentifier())
+        .add(instanceBillingData.getProjectIdentifier())
+        .addTimestamp(instanceBillingData.getUsageStartTime())
+        .addTimestamp(instanceBillingData.getUsageStopTime());
+  }
+
   public List<InstanceBillingData> read(
       String accountId, Instant startTime, Instant endTime, int batchSize, int offset, BatchJobType batchJobType) {
     String query = "";
@@ -8,6 +8,7 @@
 package io.harness.batch.processing.billing.timeseries.service.impl;
 
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.timescaledb.TimescaleBulkLoader.ON_CONFLICT_DO_NOTHING;
 
 import io.harness.batch.processing.billing.service.UtilizationData;
 import io.harness.batch.processing.billing.timeseries.data.InstanceUtilizationData;
@@ -20,6 +21,8 @@ import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.exception.InvalidRequestException;
 import io.harness.timescaledb.DBUtils;
 import io.harness.timescaledb.TimeScaleDBService;
+import io.harness.timescaledb.TimescaleBulkLoader;
+import io.harness.timescaledb.TimescaleBulkLoader.CopyRow;
 
 import com.google.inject.Singleton;
 import java.sql.Connection;
@@ -49,8 +52,11 @@ public class UtilizationDataServiceImpl {
   private static final int SELECT_MAX_RETRY_COUNT = 5;
   private static final int BATCH_SIZE = 500;
 
+  private static final String UTILIZATION_DATA_TABLE = "UTILIZATION_DATA";
+  static final String INSERT_COLUMNS =
+      "STARTTIME, ENDTIME, ACCOUNTID, MAXCPU, MAXMEMORY, AVGCPU, AVGMEMORY, INSTANCEID, INSTANCETYPE, CLUSTERID, SETTINGID, MAXCPUVALUE, MAXMEMORYVALUE, AVGCPUVALUE, AVGMEMORYVALUE, AVGSTORAGECAPACITYVALUE, AVGSTORAGEUSAGEVALUE, AVGSTORAGEREQUESTVALUE, MAXSTORAGEUSAGEVALUE, MAXSTORAGEREQUESTVALUE";
   static final String INSERT_STATEMENT =
-      "INSERT INTO UTILIZATION_DATA (STARTTIME, ENDTIME, ACCOUNTID, MAXCPU, MAXMEMORY, AVGCPU, AVGMEMORY, INSTANCEID, INSTANCETYPE, CLUSTERID, SETTINGID, MAXCPUVALUE, MAXMEMORYVALUE, AVGCPUVALUE, AVGMEMORYVALUE, AVGSTORAGECAPACITYVALUE, AVGSTORAGEUSAGEVALUE, AVGSTORAGEREQUESTVALUE, MAXSTORAGEUSAGEVALUE, MAXSTORAGEREQUESTVALUE) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
+      "INSERT INTO UTILIZATION_DATA (" + INSERT_COLUMNS + ") VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
   private static final String UTILIZATION_DATA_QUERY =
       "SELECT MAX(MAXCPU) as MAXCPUUTILIZATION, MAX(MAXMEMORY) as MAXMEMORYUTILIZATION, AVG(AVGCPU) as AVGCPUUTILIZATION, AVG(AVGMEMORY) as AVGMEMORYUTILIZATION, MAX(MAXCPUVALUE) as MAXCPUVALUE, MAX(MAXMEMORYVALUE) as MAXMEMORYVALUE, AVG(AVGCPUVALUE) as AVGCPUVALUE, AVG(AVGMEMORYVALUE) as AVGMEMORYVALUE, AVG(AVGSTORAGECAPACITYVALUE) as AVGSTORAGECAPACITYVALUE ,AVG(AVGSTORAGEUSAGEVALUE) as AVGSTORAGEUSAGEVALUE, AVG(AVGSTORAGEREQUESTVALUE) as AVGSTORAGEREQUESTVALUE ,MAX(MAXSTORAGEUSAGEVALUE) as MAXSTORAGEUSAGEVALUE, MAX(MAXSTORAGEREQUESTVALUE) as MAXSTORAGEREQUESTVALUE, INSTANCEID FROM UTILIZATION_DATA WHERE ACCOUNTID = '%s' AND SETTINGID = '%s' AND CLUSTERID = '%s' AND INSTANCEID IN ('%s') AND STARTTIME >= '%s' AND STARTTIME < '%s' GROUP BY INSTANCEID;";
   private static final String UTILIZATION_DATA_QUERY_BY_CLUSTER_IDS =
@@ -69,17 +75,13 @@ public class UtilizationDataServiceImpl {
       log.info("Util data size {}", instanceUtilizationDataList.size());
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
-          int index = 0;
-          for (InstanceUtilizationData instanceUtilizationData : instanceUtilizationDataList) {
-            updateInsertStatement(statement, instanceUtilizationData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == instanceUtilizationDataList.size()) {
-              statement.executeBatch();
-            }
+        try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+          // a failed bulk load is retried with plain batched inserts
+          if (retryCount == 0 && TimescaleBulkLoader.isSupported(dbConnection)) {
+            TimescaleBulkLoader.load(dbConnection, UTILIZATION_DATA_TABLE, INSERT_COLUMNS, ON_CONFLICT_DO_NOTHING,
+                instanceUtilizationDataList, this::addCopyRow);
+          } else {
+            insertInBatches(dbConnection, instanceUtilizationDataList);
           }
           successfulInsert = true;
         } catch (SQLException e) {
@@ -94,6 +96,22 @@ public class UtilizationDataServiceImpl {
     return successfulInsert;
   }
 
+  private void insertInBatches(Connection dbConnection, List<InstanceUtilizationData> instanceUtilizationDataList)
+      throws SQLException {
+    try (PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
+      int index = 0;
+      for (InstanceUtilizationData instanceUtilizationData : instanceUtilizationDataList) {
+        updateInsertStatement(statement, instanceUtilizationData);
+        statement.addBatch();
+        index++;
+
+        if (index % BATCH_SIZE == 0 || index == instanceUtilizationDataList.size()) {
+          statement.executeBatch();
+        }
+      }
+    }
+  }
+
   private void updateInsertStatement(PreparedStatement statement, InstanceUtilizationData instanceUtilizationData)
       throws SQLException {
     statement.setTimestamp(1, new Timestamp(instanceUtilizationData.getStartTimestamp()), utils.getDefaultCalendar());
@@ -118,6 +136,29 @@ public class UtilizationDataServiceImpl {
     statement.setDouble(20, instanceUtilizationData.getStorageRequestMaxValue());
   }
 
+  private void addCopyRow(InstanceUtilizationData instanceUtilizationData, CopyRow copyRow) {
+    copyRow.addTimestamp(instanceUtilizationData.getStartTimestamp())
+        .addTimestamp(instanceUtilizationData.getEndTimestamp())
+        .add(instanceUtilizationData.getAccountId())
+        .add(instanceUtilizationData.getCpuUtilizationMax())
+        .add(instanceUtilizationData.getMemoryUtilizationMax())
+        .add(instanceUtilizationData.getCpuUtilizationAvg())
+        .add(instanceUtilizationData.getMemoryUtilizationAvg())
+        .add(instanceUtilizationData.getInstanceId())
+        .add(instanceUtilizationData.getInstanceType())
+        .add(instanceUtilizationData.getClusterId())
+        .add(instanceUtilizationData.getSettingId())
+        .add(instanceUtilizationData.getCpuUtilizationMaxValue())
+        .add(instanceUtilizationData.getMemoryUtilizationMaxValue())
+        .add(instanceUtilizationData.getCpuUtilizationAvgValue())
+        .add(instanceUtilizationData.getMemoryUtilizationAvgValue())
+        .add(instanceUtilizationData.getStorageCapacityAvgValue())
+        .add(instanceUtilizationData.getStorageUsageAvgValue())
+        .add(instanceUtilizationData.getStorageRequestAvgValue())
+        .add(instanceUtilizationData.getStorageUsageMaxValue())
+        .add(instanceUtilizationData.getStorageRequestMaxValue());
+  }
+
   public Map<String, UtilizationData> getUtilizationDataForInstances(List<? extends InstanceData> instanceDataList,
       String startTime, String endTime, String accountId, String settingId, String clusterId) {
     try {
@@ -16,6 +16,7 @@ import static io.harness.timescaledb.Tables.NODE_INFO;
 import static io.harness.timescaledb.Tables.POD_INFO;
 import static io.harness.timescaledb.Tables.WORKLOAD_INFO;
 
+import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.ObjectUtils.firstNonNull;
 
@@ -30,6 +31,9 @@ import io.harness.event.payloads.Lifecycle;
 import io.harness.grpc.utils.HTimestamps;
 import io.harness.perpetualtask.k8s.watch.K8sWorkloadSpec;
 import io.harness.timescaledb.Keys;
+import io.harness.timescaledb.TimescaleBulkLoader;
+import io.harness.timescaledb.TimescaleBulkLoader.CopyRow;
+import io.harness.timescaledb.TimescaleBulkLoader.RowEncoder;
 import io.harness.timescaledb.tables.records.NodeInfoRecord;
 import io.harness.timescaledb.tables.records.PodInfoRecord;
 import io.harness.timescaledb.tables.records.WorkloadInfoRecord;
@@ -37,17 +41,25 @@ import io.harness.timescaledb.tables.records.WorkloadInfoRecord;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.DSLContext;
 import org.jooq.DeleteConditionStep;
+import org.jooq.Field;
 import org.jooq.InsertSetStep;
 import org.jooq.Record;
 import org.jooq.Table;
 import org.jooq.UpdateSetMoreStep;
+import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -57,6 +69,19 @@ import org.springframework.stereotype.Service;
 public class InstanceInfoTimescaleDAOImpl implements InstanceInfoTimescaleDAO {
   private final DSLContext dslContext;
   private static final String POD_INFO_PURGE_QUERY = "SELECT drop_chunks('pod_info', interval '9 months')";
+  private static final List<Field<?>> NODE_INFO_COPY_FIELDS = Arrays.asList(
+      NODE_INFO.ACCOUNTID, NODE_INFO.CLUSTERID, NODE_INFO.INSTANCEID, NODE_INFO.STARTTIME, NODE_INFO.NODEPOOLNAME);
+  private static final String NODE_INFO_ON_CONFLICT =
+      onConflictDoUpdate(format("ON CONSTRAINT %s", Keys.NODE_INFO_UNIQUE_RECORD_INDEX.getName()), NODE_INFO.UPDATEDAT,
+          NODE_INFO.STARTTIME, NODE_INFO.NODEPOOLNAME);
+  private static final List<Field<?>> POD_INFO_COPY_FIELDS = Arrays.asList(POD_INFO.ACCOUNTID, POD_INFO.CLUSTERID,
+      POD_INFO.INSTANCEID, POD_INFO.STARTTIME, POD_INFO.NAMESPACE, POD_INFO.NAME, POD_INFO.WORKLOADID,
+      POD_INFO.CPUREQUEST, POD_INFO.MEMORYREQUEST, POD_INFO.PARENTNODEID);
+  private static final String POD_INFO_ON_CONFLICT = onConflictDoUpdate(
+      format("(%s, %s, %s, %s)", POD_INFO.ACCOUNTID.getName(), POD_INFO.CLUSTERID.getName(),
+          POD_INFO.INSTANCEID.getName(), POD_INFO.STARTTIME.getName()),
+      POD_INFO.UPDATEDAT, POD_INFO.STARTTIME, POD_INFO.NAMESPACE, POD_INFO.NAME, POD_INFO.WORKLOADID,
+      POD_INFO.CPUREQUEST, POD_INFO.MEMORYREQUEST, POD_INFO.PARENTNODEID);
 
   @Autowired
   public InstanceInfoTimescaleDAOImpl(DSLContext dslContext) {
@@ -89,7 +114,26 @@ public class InstanceInfoTimescaleDAOImpl implements InstanceInfoTimescaleDAO {
 
   @Override
   public void insertIntoNodeInfo(@NotNull List<InstanceInfo> instanceInfoList) {
-    instanceInfoList.forEach(this::insertIntoNodeInfo);
+    if (instanceInfoList.isEmpty()) {
+      return;
+    }
+    // the conflict clause cannot update the same row twice in one statement, the last change of a node wins
+    Map<List<String>, InstanceInfo> nodes = new LinkedHashMap<>();
+    for (InstanceInfo instanceInfo : instanceInfoList) {
+      nodes.put(Arrays.asList(instanceInfo.getAccountId(), instanceInfo.getClusterId(), instanceInfo.getInstanceId()),
+          instanceInfo);
+    }
+    if (!bulkLoad(NODE_INFO, NODE_INFO_COPY_FIELDS, NODE_INFO_ON_CONFLICT, nodes.values(), this::addNodeInfoCopyRow)) {
+      instanceInfoList.forEach(this::insertIntoNodeInfo);
+    }
+  }
+
+  private void addNodeInfoCopyRow(InstanceInfo instanceInfo, CopyRow copyRow) {
+    copyRow.add(instanceInfo.getAccountId())
+        .add(instanceInfo.getClusterId())
+        .add(instanceInfo.getInstanceId())
+        .add(instanceInfo.getUsageStartTime())
+        .add(getValueForKeyFromInstanceMetaData(InstanceMetaDataConstants.NODE_POOL_NAME, instanceInfo.getMetaData()));
   }
 
   @Override
@@ -169,7 +213,34 @@ public class InstanceInfoTimescaleDAOImpl implements InstanceInfoTimescaleDAO {
 
   @Override
   public void insertIntoPodInfo(@NotNull List<InstanceInfo> instanceInfoList) {
-    instanceInfoList.forEach(this::insertIntoPodInfo);
+    if (instanceInfoList.isEmpty()) {
+      return;
+    }
+    // the conflict clause cannot update the same row twice in one statement, the last change of a pod wins
+    Map<List<Object>, InstanceInfo> pods = new LinkedHashMap<>();
+    for (InstanceInfo instanceInfo : instanceInfoList) {
+      pods.put(Arrays.asList(instanceInfo.getAccountId(), instanceInfo.getClusterId(), instanceInfo.getInstanceId(),
+                   instanceInfo.getUsageStartTime()),
+          instanceInfo);
+    }
+    if (!bulkLoad(POD_INFO, POD_INFO_COPY_FIELDS, POD_INFO_ON_CONFLICT, pods.values(), this::addPodInfoCopyRow)) {
+      instanceInfoList.forEach(this::insertIntoPodInfo);
+    }
+  }
+
+  private void addPodInfoCopyRow(InstanceInfo instanceInfo, CopyRow copyRow) {
+    final Resource resource = firstNonNull(instanceInfo.getResource(), Resource.builder().build());
+    copyRow.add(instanceInfo.getAccountId())
+        .add(instanceInfo.getClusterId())
+        .add(instanceInfo.getInstanceId())
+        .add(instanceInfo.getUsageStartTime())
+        .add(getValueForKeyFromInstanceMetaData(InstanceMetaDataConstants.NAMESPACE, instanceInfo.getMetaData()))
+        .add(instanceInfo.getInstanceName())
+        .add(getValueForKeyFromInstanceMetaData(InstanceMetaDataConstants.WORKLOAD_ID, instanceInfo.getMetaData()))
+        .add(resource.getCpuUnits())
+        .add(resource.getMemoryMb())
+        .add(getValueForKeyFromInstanceMetaData(
+            InstanceMetaDataConstants.ACTUAL_PARENT_RESOURCE_ID, instanceInfo.getMetaData()));
   }
 
   /**
@@ -301,6 +372,34 @@ public class InstanceInfoTimescaleDAOImpl implements InstanceInfoTimescaleDAO {
                                    isAliveAtInstant(POD_INFO.STARTTIME, POD_INFO.STOPTIME, syncEventTimestamp)));
   }
 
+  /**
+   * Copies the rows with {@link TimescaleBulkLoader}, returns false when the rows still have to be inserted one by one
+   * because the connection does not support COPY or the load failed.
+   */
+  private <T> boolean bulkLoad(Table<?> table, List<Field<?>> fields, String conflictClause, Collection<T> rows,
+      RowEncoder<T> encoder) {
+    String columns = fields.stream().map(Field::getName).collect(Collectors.joining(", "));
+    try {
+      return dslContext.connectionResult(connection -> {
+        if (!TimescaleBulkLoader.isSupported(connection)) {
+          return false;
+        }
+        TimescaleBulkLoader.load(connection, table.getName(), columns, conflictClause, rows, encoder);
+        return true;
+      });
+    } catch (DataAccessException e) {
+      log.warn("Failed to bulk load {} rows into {}, inserting them one by one", rows.size(), table.getName(), e);
+      return false;
+    }
+  }
+
+  private static String onConflictDoUpdate(String conflictTarget, Field<?> updatedAtField, Field<?>... fields) {
+    return Stream.of(fields)
+        .map(field -> format("%s = EXCLUDED.%s", field.getName(), field.getName()))
+        .collect(Collectors.joining(", ", format("ON CONFLICT %s DO UPDATE SET ", conflictTarget),
+            format(", %s = now()", updatedAtField.getName())));
+  }
+
   private static <R extends Record> int bulkInsert(
       @NotNull final Table<R> table, @NotNull final List<R> records, @NotNull final DSLContext dslContext) {
     if (records.isEmpty()) {
@@ -21,6 +21,7 @@ import io.harness.batch.processing.service.impl.GoogleCloudStorageServiceImpl;
 import io.harness.batch.processing.service.intfc.WorkloadRepository;
 import io.harness.batch.processing.tasklet.dto.HarnessTags;
 import io.harness.batch.processing.tasklet.reader.BillingDataReader;
+import io.harness.batch.processing.tasklet.support.ClusterBillingDataAvroChunkWriter;
 import io.harness.batch.processing.tasklet.support.HarnessEntitiesService;
 import io.harness.batch.processing.tasklet.support.HarnessEntitiesService.HarnessEntities;
 import io.harness.batch.processing.tasklet.support.HarnessTagService;
@@ -34,6 +35,7 @@ import io.harness.ccm.commons.entities.k8s.K8sWorkload;
 import io.harness.ccm.commons.service.intf.InstanceDataService;
 import io.harness.configuration.DeployMode;
 import io.harness.ff.FeatureFlagService;
+import io.harness.manage.ManagedExecutorService;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
@@ -41,7 +43,6 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Singleton;
 import java.io.File;
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.time.Instant;
@@ -49,19 +50,20 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.avro.file.DataFileWriter;
-import org.apache.avro.io.DatumWriter;
-import org.apache.avro.specific.SpecificDatumWriter;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
@@ -88,6 +90,11 @@ public class ClusterDataToBigQueryTasklet implements Tasklet {
   private static final String defaultBillingDataFileNameHourly = "billing_data_hourly_%s_%s_%s_%s.avro";
   private static final String gcsObjectNameFormat = "%s/%s";
   public static final long CACHE_SIZE = 10000;
+  private static final int EXPORT_WRITERS = 4;
+  private static final long MAX_AVRO_CHUNK_BYTES = 64L * 1024 * 1024;
+
+  private final ExecutorService clusterDataExportExecutor =
+      new ManagedExecutorService(Executors.newFixedThreadPool(EXPORT_WRITERS));
 
   LoadingCache<HarnessEntitiesService.CacheKey, String> entityIdToNameCache =
       Caffeine.newBuilder()
@@ -160,29 +167,77 @@ public class ClusterDataToBigQueryTasklet implements Tasklet {
   }
 
   private void handleDataForBigQuery(BatchJobType batchJobType, JobConstants jobConstants, int batchSize,
-      BillingDataReader billingDataReader, String billingDataFileName) throws IOException {
-    List<InstanceBillingData> instanceBillingDataList;
-    boolean avroFileWithSchemaExists = false;
-    do {
-      instanceBillingDataList = billingDataReader.getNext();
-      List<ClusterBillingData> clusterBillingDataList =
-          getClusterBillingDataForBatch(jobConstants.getAccountId(), batchJobType, instanceBillingDataList);
-      log.info("clusterBillingDataList size: {}", clusterBillingDataList.size());
-      writeDataToAvro(
-          jobConstants.getAccountId(), clusterBillingDataList, billingDataFileName, avroFileWithSchemaExists);
-      avroFileWithSchemaExists = true;
-    } while (instanceBillingDataList.size() == batchSize);
+      BillingDataReader billingDataReader, String billingDataFileName) throws Exception {
+    String accountId = jobConstants.getAccountId();
+    String directoryPath = defaultParentWorkingDirectory + accountId;
+    createDirectoryIfDoesNotExist(directoryPath);
 
-    final String gcsObjectName = String.format(gcsObjectNameFormat, jobConstants.getAccountId(), billingDataFileName);
-    googleCloudStorageService.uploadObject(
-        gcsObjectName, defaultParentWorkingDirectory + gcsObjectName, jobConstants.getAccountId());
+    long startTime = System.currentTimeMillis();
+    File billingDataFile;
+    long rowCount;
+    try (ClusterBillingDataAvroChunkWriter chunkWriter = new ClusterBillingDataAvroChunkWriter(
+             new File(directoryPath), billingDataFileName, EXPORT_WRITERS, MAX_AVRO_CHUNK_BYTES)) {
+      List<InstanceBillingData> instanceBillingDataList;
+      List<Future<Void>> previousBatch = Collections.emptyList();
+      do {
+        instanceBillingDataList = billingDataReader.getNext();
+        List<Future<Void>> currentBatch =
+            exportClusterBillingDataForBatch(accountId, instanceBillingDataList, chunkWriter);
+        // the next batch is read while this one is converted, at most two batches are held in memory
+        waitForExport(previousBatch);
+        previousBatch = currentBatch;
+      } while (instanceBillingDataList.size() == batchSize);
+      waitForExport(previousBatch);
+      billingDataFile = chunkWriter.finish();
+      rowCount = chunkWriter.getRowCount();
+      log.info("Wrote {} rows to {} in {} chunks of {} bytes in total", rowCount, billingDataFileName,
+          chunkWriter.getChunkCount(), chunkWriter.getChunkBytes());
+    }
+    long writeMillis = System.currentTimeMillis() - startTime;
+
+    final String gcsObjectName = String.format(gcsObjectNameFormat, accountId, billingDataFileName);
+    googleCloudStorageService.uploadObject(gcsObjectName, defaultParentWorkingDirectory + gcsObjectName, accountId);
+    long totalMillis = System.currentTimeMillis() - startTime;
+    log.info("ClusterDataToBigQuery export for account {}: {} rows, {} bytes, written in {} ms, uploaded in {} ms, "
+            + "{} rows/s",
+        accountId, rowCount, billingDataFile.length(), writeMillis, totalMillis - writeMillis,
+        rowCount * 1000 / Math.max(totalMillis, 1));
 
     // Delete file once upload is complete
-    File workingDirectory = new File(defaultParentWorkingDirectory + jobConstants.getAccountId());
-    File billingDataFile = new File(workingDirectory, billingDataFileName);
     Files.delete(billingDataFile.toPath());
   }
 
+  private List<Future<Void>> exportClusterBillingDataForBatch(String accountId,
+      List<InstanceBillingData> instanceBillingDataList, ClusterBillingDataAvroChunkWriter chunkWriter) {
+    Map<String, Map<String, String>> instanceIdToLabelMapping =
+        getInstanceIdToLabelMapping(accountId, instanceBillingDataList);
+    Map<AccountClusterKey, List<InstanceBillingData>> instanceBillingDataGrouped =
+        instanceBillingDataList.stream().collect(
+            Collectors.groupingBy(AccountClusterKey::getAccountClusterKeyFromInstanceData));
+
+    List<Future<Void>> futures = new ArrayList<>();
+    // label lookups of every cluster run ahead on the export threads, each cluster's rows go to its own chunk writer
+    instanceBillingDataGrouped.forEach((accountClusterKey, instances) -> {
+      futures.add(clusterDataExportExecutor.submit(() -> {
+        List<ClusterBillingData> clusterBillingDataList =
+            getClusterBillingDataForClusterGroup(instances, accountClusterKey, instanceIdToLabelMapping);
+        chunkWriter.write(accountClusterKey.getClusterId(), clusterBillingDataList);
+        return null;
+      }));
+    });
+    return futures;
+  }
+
+  private static void waitForExport(List<Future<Void>> futures) throws Exception {
+    for (Future<Void> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        throw new Exception("failed to export cluster billing data", e.getCause());
+      }
+    }
+  }
+
   private void handleDataForClickHouse(BatchJobType batchJobType, JobConstants jobConstants, int batchSize,
       BillingDataReader billingDataReader, ZonedDateTime zdt, String clusterDataTableName,
       String clusterDataAggregatedTableName) throws Exception {
@@ -243,6 +298,12 @@ public class ClusterDataToBigQueryTasklet implements Tasklet {
   @VisibleForTesting
   public List<ClusterBillingData> getClusterBillingDataForBatch(
       String accountId, BatchJobType batchJobType, List<InstanceBillingData> instanceBillingDataList) {
+    return getClusterBillingDataForBatchWorkloadUid(
+        instanceBillingDataList, getInstanceIdToLabelMapping(accountId, instanceBillingDataList));
+  }
+
+  private Map<String, Map<String, String>> getInstanceIdToLabelMapping(
+      String accountId, List<InstanceBillingData> instanceBillingDataList) {
     Map<String, Map<String, String>> instanceIdToLabelMapping = new HashMap<>();
     List<String> instanceIdList =
         instanceBillingDataList.stream()
@@ -256,8 +317,7 @@ public class ClusterDataToBigQueryTasklet implements Tasklet {
     if (!instanceIdList.isEmpty()) {
       instanceIdToLabelMapping = instanceDataService.fetchLabelsForGivenInstances(accountId, instanceIdList);
     }
-
-    return getClusterBillingDataForBatchWorkloadUid(instanceBillingDataList, instanceIdToLabelMapping);
+    return instanceIdToLabelMapping;
   }
 
   public List<ClusterBillingData> getClusterBillingDataForBatchWorkloadUid(
@@ -269,23 +329,30 @@ public class ClusterDataToBigQueryTasklet implements Tasklet {
 
     log.info("Started Querying data {}", instanceBillingDataGrouped.size());
     for (AccountClusterKey accountClusterKey : instanceBillingDataGrouped.keySet()) {
-      List<InstanceBillingData> instances = instanceBillingDataGrouped.get(accountClusterKey);
-      Map<K8SWorkloadService.WorkloadUidCacheKey, Map<String, String>> labelMap =
-          getLabelMapForClusterGroup(instances, accountClusterKey);
-
-      for (InstanceBillingData instanceBillingData : instances) {
-        Map<String, String> labels = labelMap.get(new K8SWorkloadService.WorkloadUidCacheKey(
-            instanceBillingData.getAccountId(), instanceBillingData.getClusterId(), instanceBillingData.getTaskId()));
-        ClusterBillingData clusterBillingData = convertInstanceBillingDataToAVROObjects(
-            instanceBillingData, labels, instanceIdToLabelMapping.get(instanceBillingData.getInstanceId()));
-        clusterBillingDataList.add(clusterBillingData);
-      }
+      clusterBillingDataList.addAll(getClusterBillingDataForClusterGroup(
+          instanceBillingDataGrouped.get(accountClusterKey), accountClusterKey, instanceIdToLabelMapping));
     }
     log.info("Finished Querying data");
 
     return clusterBillingDataList;
   }
 
+  private List<ClusterBillingData> getClusterBillingDataForClusterGroup(List<InstanceBillingData> instances,
+      AccountClusterKey accountClusterKey, Map<String, Map<String, String>> instanceIdToLabelMapping) {
+    Map<K8SWorkloadService.WorkloadUidCacheKey, Map<String, String>> labelMap =
+        getLabelMapForClusterGroup(instances, accountClusterKey);
+
+    List<ClusterBillingData> clusterBillingDataList = new ArrayList<>();
+    for (InstanceBillingData instanceBillingData : instances) {
+      Map<String, String> labels = labelMap.get(new K8SWorkloadService.WorkloadUidCacheKey(
+          instanceBillingData.getAccountId(), instanceBillingData.getClusterId(), instanceBillingData.getTaskId()));
+      ClusterBillingData clusterBillingData = convertInstanceBillingDataToAVROObjects(
+          instanceBillingData, labels, instanceIdToLabelMapping.get(instanceBillingData.getInstanceId()));
+      clusterBillingDataList.add(clusterBillingData);
+    }
+    return clusterBillingDataList;
+  }
+
   @VisibleForTesting
   public Map<K8SWorkloadService.WorkloadUidCacheKey, Map<String, String>> getLabelMapForClusterGroup(
       List<InstanceBillingData> instanceBillingDataList, AccountClusterKey accountClusterKey) {
@@ -315,24 +382,6 @@ public class ClusterDataToBigQueryTasklet implements Tasklet {
     return labelMap;
   }
 
-  private void writeDataToAvro(String accountId, List<ClusterBillingData> instanceBillingDataAvro,
-      String billingDataFileName, boolean avroFileWithSchemaExists) throws IOException {
-    String directoryPath = defaultParentWorkingDirectory + accountId;
-    createDirectoryIfDoesNotExist(directoryPath);
-    File workingDirectory = new File(directoryPath);
-    File billingDataFile = new File(workingDirectory, billingDataFileName);
-    DataFileWriter<ClusterBillingData> dataFileWriter = getInstanceBillingDataDataFileWriter();
-    if (avroFileWithSchemaExists) {
-      dataFileWriter.appendTo(billingDataFile);
-    } else {
-      dataFileWriter.create(ClusterBillingData.getClassSchema(), billingDataFile);
-    }
-    for (ClusterBillingData row : instanceBillingDataAvro) {
-      dataFileWriter.append(row);
-    }
-    dataFileWriter.close();
-  }
-
   private ClusterBillingData convertInstanceBillingDataToAVROObjects(
       InstanceBillingData instanceBillingData, Map<String, String> k8sWorkloadLabel, Map<String, String> labelMap) {
     String accountId = instanceBillingData.getAccountId();
@@ -465,12 +514,6 @@ public class ClusterDataToBigQueryTasklet implements Tasklet {
     }
   }
 
-  @NotNull
-  private static DataFileWriter<ClusterBillingData> getInstanceBillingDataDataFileWriter() {
-    DatumWriter<ClusterBillingData> userDatumWriter = new SpecificDatumWriter<>(ClusterBillingData.class);
-    return new DataFileWriter<>(userDatumWriter);
-  }
-
   private static double getDoubleValueFromBigDecimal(BigDecimal value) {
     if (value != null) {
       return value.doubleValue();
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.tasklet.support;
+
+import io.harness.avro.ClusterBillingData;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+
+/**
+ * Writes the {@link ClusterBillingData} of a job into size-capped Avro chunks from several threads at once. Rows of a
+ * cluster always go to the same writer, and every writer rolls over to a new chunk once its current one reaches the
+ * size cap. Finished chunks are block-copied into the job's Avro file in the background while later chunks are still
+ * being written, so only the last open chunks are left to copy when the export finishes.
+ */
+@Slf4j
+public class ClusterBillingDataAvroChunkWriter implements Closeable {
+  private static final String CHUNK_FILE_NAME_FORMAT = "%s.%d-%d.part";
+
+  private final File directory;
+  private final String fileName;
+  private final long maxChunkBytes;
+  private final ChunkWriter[] chunkWriters;
+  private final DataFileWriter<ClusterBillingData> billingDataFileWriter;
+  private final ExecutorService mergeExecutor = Executors.newSingleThreadExecutor();
+  private final List<Future<?>> merges = new ArrayList<>();
+
+  private volatile boolean closed;
+
+  private final AtomicLong rowCount = new AtomicLong();
+  private final AtomicLong chunkCount = new AtomicLong();
+  private final AtomicLong chunkBytes = new AtomicLong();
+
+  public ClusterBillingDataAvroChunkWriter(File directory, String fileName, int writers, long maxChunkBytes)
+      throws IOException {
+    this.directory = directory;
+    this.fileName = fileName;
+    this.maxChunkBytes = maxChunkBytes;
+    this.chunkWriters = new ChunkWriter[writers];
+    for (int i = 0; i < writers; i++) {
+      chunkWriters[i] = new ChunkWriter(i);
+    }
+    billingDataFileWriter = newDataFileWriter();
+    billingDataFileWriter.create(ClusterBillingData.getClassSchema(), getBillingDataFile());
+  }
+
+  public void write(String clusterId, List<ClusterBillingData> rows) throws IOException {
+    if (closed) {
+      throw new IOException("Avro chunk writer of " + fileName + " is closed");
+    }
+    if (rows.isEmpty()) {
+      return;
+    }
+    ChunkWriter chunkWriter = chunkWriters[Math.floorMod(Objects.hashCode(clusterId), chunkWriters.length)];
+    synchronized (chunkWriter) {
+      chunkWriter.write(rows);
+    }
+    rowCount.addAndGet(rows.size());
+  }
+
+  /**
+   * Closes the open chunks, waits for all of them to be copied and returns the job's Avro file.
+   */
+  public File finish() throws IOException, InterruptedException {
+    for (ChunkWriter chunkWriter : chunkWriters) {
+      synchronized (chunkWriter) {
+        chunkWriter.roll();
+      }
+    }
+    List<Future<?>> pendingMerges;
+    synchronized (merges) {
+      pendingMerges = new ArrayList<>(merges);
+    }
+    for (Future<?> merge : pendingMerges) {
+      try {
+        merge.get();
+      } catch (ExecutionException e) {
+        throw new IOException("Failed to copy avro chunk into " + fileName, e.getCause());
+      }
+    }
+    billingDataFileWriter.close();
+    mergeExecutor.shutdown();
+    return getBillingDataFile();
+  }
+
+  public long getRowCount() {
+    return rowCount.get();
+  }
+
+  public long getChunkCount() {
+    return chunkCount.get();
+  }
+
+  public long getChunkBytes() {
+    return chunkBytes.get();
+  }
+
+  /**
+   * Releases everything the writer holds; after a failed export this also removes the chunks left behind.
+   */
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    mergeExecutor.shutdownNow();
+    for (ChunkWriter chunkWriter : chunkWriters) {
+      synchronized (chunkWriter) {
+        chunkWriter.discard();
+      }
+    }
+    billingDataFileWriter.close();
+  }
+
+  private File getBillingDataFile() {
+    return new File(directory, fileName);
+  }
+
+  private void merge(File chunkFile) throws IOException {
+    try (DataFileReader<ClusterBillingData> chunkReader =
+             new DataFileReader<>(chunkFile, new SpecificDatumReader<>(ClusterBillingData.class))) {
+      billingDataFileWriter.appendAllFrom(chunkReader, false);
+    }
+    Files.delete(chunkFile.toPath());
+  }
+
+  private static DataFileWriter<ClusterBillingData> newDataFileWriter() {
+    return new DataFileWriter<>(new SpecificDatumWriter<>(ClusterBillingData.class));
+  }
+
+  private class ChunkWriter {
+    private final int index;
+    private int part;
+    private File chunkFile;
+    private DataFileWriter<ClusterBillingData> dataFileWriter;
+
+    ChunkWriter(int index) {
+      this.index = index;
+    }
+
+    void write(List<ClusterBillingData> rows) throws IOException {
+      if (dataFileWriter == null) {
+        chunkFile = new File(directory, String.format(CHUNK_FILE_NAME_FORMAT, fileName, index, part++));
+        dataFileWriter = newDataFileWriter();
+        dataFileWriter.create(ClusterBillingData.getClassSchema(), chunkFile);
+      }
+      for (ClusterBillingData row : rows) {
+        dataFileWriter.append(row);
+      }
+      dataFileWriter.flush();
+      if (chunkFile.length() >= maxChunkBytes) {
+        roll();
+      }
+    }
+
+    void roll() throws IOException {
+      if (dataFileWriter == null) {
+        return;
+      }
+      dataFileWriter.close();
+      dataFileWriter = null;
+      File finishedChunkFile = chunkFile;
+      chunkFile = null;
+      chunkCount.incrementAndGet();
+      chunkBytes.addAndGet(finishedChunkFile.length());
+      log.info("Finished avro chunk {} of {} bytes", finishedChunkFile.getName(), finishedChunkFile.length());
+      synchronized (merges) {
+        merges.add(mergeExecutor.submit(() -> {
+          merge(finishedChunkFile);
+          return null;
+        }));
+      }
+    }
+
+    void discard() throws IOException {
+      if (dataFileWriter != null) {
+        dataFileWriter.close();
+        dataFileWriter = null;
+      }
+      for (int i = 0; i < part; i++) {
+        Files.deleteIfExists(new File(directory, String.format(CHUNK_FILE_NAME_FORMAT, fileName, index, i)).toPath());
+      }
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.tasklet.support;
+
+import static io.harness.rule.OwnerRule.ROHIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.avro.ClusterBillingData;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+public class ClusterBillingDataAvroChunkWriterTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final String FILE_NAME = "billing_data_2023_JANUARY_1.avro";
+  private static final int CLUSTERS = 10;
+  private static final int ROWS_PER_CLUSTER = 200;
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  @Owner(developers = ROHIT)
+  @Category(UnitTests.class)
+  public void testWritesClustersConcurrentlyIntoOneFile() throws Exception {
+    File directory = temporaryFolder.newFolder();
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try (ClusterBillingDataAvroChunkWriter chunkWriter =
+             new ClusterBillingDataAvroChunkWriter(directory, FILE_NAME, 3, 1024)) {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int cluster = 0; cluster < CLUSTERS; cluster++) {
+        String clusterId = "cluster" + cluster;
+        futures.add(executorService.submit(() -> {
+          for (int row = 0; row < ROWS_PER_CLUSTER; row += 20) {
+            chunkWriter.write(clusterId, createRows(clusterId, row, 20));
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      File billingDataFile = chunkWriter.finish();
+
+      assertThat(chunkWriter.getRowCount()).isEqualTo(CLUSTERS * ROWS_PER_CLUSTER);
+      assertThat(chunkWriter.getChunkCount()).isGreaterThan(3);
+      assertThat(directory.list()).containsExactly(FILE_NAME);
+
+      Set<String> instanceIds = new HashSet<>();
+      try (DataFileReader<ClusterBillingData> reader =
+               new DataFileReader<>(billingDataFile, new SpecificDatumReader<>(ClusterBillingData.class))) {
+        reader.forEach(clusterBillingData -> instanceIds.add(clusterBillingData.getInstanceid().toString()));
+      }
+      assertThat(instanceIds).hasSize(CLUSTERS * ROWS_PER_CLUSTER);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  @Owner(developers = ROHIT)
+  @Category(UnitTests.class)
+  public void testCloseRemovesChunksOfFailedExport() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    ClusterBillingDataAvroChunkWriter chunkWriter =
+        new ClusterBillingDataAvroChunkWriter(directory, FILE_NAME, 2, 1024 * 1024);
+    chunkWriter.write("cluster0", createRows("cluster0", 0, 10));
+    chunkWriter.write("cluster1", createRows("cluster1", 0, 10));
+    chunkWriter.close();
+
+    assertThat(directory.list()).containsExactly(FILE_NAME);
+    assertThatThrownBy(() -> chunkWriter.write("cluster0", createRows("cluster0", 10, 10)))
+        .isInstanceOf(IOException.class);
+  }
+
+  private static List<ClusterBillingData> createRows(String clusterId, int from, int count) {
+    List<ClusterBillingData> rows = new ArrayList<>();
+    for (int i = from; i < from + count; i++) {
+      ClusterBillingData clusterBillingData = new ClusterBillingData();
+      clusterBillingData.setAccountid(ACCOUNT_ID);
+      clusterBillingData.setClusterid(clusterId);
+      clusterBillingData.setInstanceid(clusterId + "-instance" + i);
+      clusterBillingData.setInstancetype("K8S_POD");
+      clusterBillingData.setBillingamount(i);
+      clusterBillingData.setLabels(Collections.emptyList());
+      rows.add(clusterBillingData);
+    }
+    return rows;
+  }
+}
@@ -23,4 +23,5 @@ public class AccessControlClientConfiguration {
   private boolean enableAccessControl;
   private ServiceHttpClientConfig accessControlServiceConfig;
   @ConfigSecret private String accessControlServiceSecret;
+  private AccessControlDecisionCacheConfig decisionCacheConfig;
 }
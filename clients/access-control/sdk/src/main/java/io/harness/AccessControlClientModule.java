@@ -12,6 +12,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import io.harness.accesscontrol.NGAccessControlCheck;
 import io.harness.accesscontrol.NGAccessControlCheckHandler;
 import io.harness.accesscontrol.clients.AccessControlClient;
+import io.harness.accesscontrol.clients.AccessControlDecisionCache;
 import io.harness.accesscontrol.clients.AccessControlHttpClient;
 import io.harness.accesscontrol.clients.AccessControlHttpClientFactory;
 import io.harness.accesscontrol.clients.NoOpAccessControlClientImpl;
@@ -72,6 +73,13 @@ public class AccessControlClientModule extends AbstractModule {
   @Override
   protected void configure() {
     registerRequiredBindings();
+    // one cache per client mode, a privileged check and a caller check may be answered differently
+    bind(AccessControlDecisionCache.class)
+        .annotatedWith(Names.named(ClientMode.PRIVILEGED.name()))
+        .toInstance(new AccessControlDecisionCache(accessControlClientConfiguration.getDecisionCacheConfig()));
+    bind(AccessControlDecisionCache.class)
+        .annotatedWith(Names.named(ClientMode.NON_PRIVILEGED.name()))
+        .toInstance(new AccessControlDecisionCache(accessControlClientConfiguration.getDecisionCacheConfig()));
     if (accessControlClientConfiguration.isEnableAccessControl()) {
       bind(AccessControlHttpClient.class)
           .annotatedWith(Names.named(ClientMode.PRIVILEGED.name()))
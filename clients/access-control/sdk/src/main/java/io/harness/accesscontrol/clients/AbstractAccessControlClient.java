@@ -42,15 +42,21 @@ public abstract class AbstractAccessControlClient implements AccessControlClient
   private static final String ACCOUNT_RESOURCE_TYPE = "ACCOUNT";
   private static final String PROJECT_RESOURCE_TYPE = "PROJECT";
 
-  public AbstractAccessControlClient() {}
+  private final AccessControlDecisionCache decisionCache;
+
+  public AbstractAccessControlClient() {
+    this(AccessControlDecisionCache.disabled());
+  }
+
+  protected AbstractAccessControlClient(AccessControlDecisionCache decisionCache) {
+    this.decisionCache = decisionCache;
+  }
 
   protected abstract AccessCheckResponseDTO checkForAccess(AccessCheckRequestDTO accessCheckRequestDTO);
 
   @Override
   public AccessCheckResponseDTO checkForAccess(Principal principal, List<PermissionCheckDTO> permissionCheckDTOList) {
-    AccessCheckRequestDTO accessCheckRequestDTO =
-        AccessCheckRequestDTO.builder().principal(principal).permissions(permissionCheckDTOList).build();
-    return checkForAccess(accessCheckRequestDTO);
+    return decisionCache.checkForAccess(principal, permissionCheckDTOList, this::checkForAccess);
   }
 
   @Override
@@ -130,7 +136,7 @@ public abstract class AbstractAccessControlClient implements AccessControlClient
     }
     List<AccessCheckResponseDTO> accessCheckResponseDTOs =
         Streams.stream(Iterables.partition(permissionCheckDTOList, 1000))
-            .map(this::checkForAccess)
+            .map(permissionChecks -> checkForAccess(null, permissionChecks))
             .collect(Collectors.toList());
 
     accessCheckResponseDTOs.forEach(res -> accessControlList.addAll(res.getAccessControlList()));
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.AccessControlDecisionCacheConfig;
+import io.harness.accesscontrol.acl.api.AccessCheckRequestDTO;
+import io.harness.accesscontrol.acl.api.AccessCheckResponseDTO;
+import io.harness.accesscontrol.acl.api.AccessControlDTO;
+import io.harness.accesscontrol.acl.api.PermissionCheckDTO;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.api.ResourceScope;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.exception.UnexpectedException;
+import io.harness.security.SecurityContextBuilder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded, in-process cache of access check decisions keyed by principal, scope, resource and permission.
+ *
+ * Identical checks issued concurrently are coalesced into a single call to access-control, and the checks of a batch
+ * that are not cached are sent in one request. Every instance holds its own decisions and nothing invalidates them, as
+ * access-control does not publish role assignment changes to its clients. Decisions only expire after a short ttl,
+ * which bounds how long a change of role assignments or user groups can go unnoticed.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Slf4j
+public class AccessControlDecisionCache {
+  static final long DEFAULT_MAXIMUM_SIZE = 10000;
+  static final long DEFAULT_TTL_SECONDS = 10;
+
+  private final boolean enabled;
+  private final Cache<DecisionKey, Decision> decisions;
+  private final Map<DecisionKey, CompletableFuture<Decision>> inFlight = new ConcurrentHashMap<>();
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong coalescedCount = new AtomicLong();
+
+  public AccessControlDecisionCache(AccessControlDecisionCacheConfig config) {
+    this.enabled = config != null && config.isEnabled();
+    long maximumSize = config != null && config.getMaximumSize() > 0 ? config.getMaximumSize() : DEFAULT_MAXIMUM_SIZE;
+    long ttlSeconds = config != null && config.getTtlSeconds() > 0 ? config.getTtlSeconds() : DEFAULT_TTL_SECONDS;
+    this.decisions = enabled
+        ? CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).build()
+        : null;
+  }
+
+  public static AccessControlDecisionCache disabled() {
+    return new AccessControlDecisionCache(null);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  AccessCheckResponseDTO checkForAccess(Principal principal, List<PermissionCheckDTO> permissionChecks,
+      Function<AccessCheckRequestDTO, AccessCheckResponseDTO> loader) {
+    String principalKey = enabled && !isEmpty(permissionChecks) ? principalKey(principal) : null;
+    if (principalKey == null) {
+      return loader.apply(buildRequest(principal, permissionChecks));
+    }
+
+    Decision[] results = new Decision[permissionChecks.size()];
+    Map<Integer, CompletableFuture<Decision>> pending = new HashMap<>();
+    Map<DecisionKey, CompletableFuture<Decision>> owned = new LinkedHashMap<>();
+    List<PermissionCheckDTO> toLoad = new ArrayList<>();
+    for (int i = 0; i < permissionChecks.size(); i++) {
+      PermissionCheckDTO permissionCheck = permissionChecks.get(i);
+      DecisionKey key = DecisionKey.of(principalKey, permissionCheck);
+      Decision decision = decisions.getIfPresent(key);
+      if (decision != null) {
+        hitCount.incrementAndGet();
+        results[i] = decision;
+        continue;
+      }
+      CompletableFuture<Decision> future = owned.get(key);
+      if (future == null) {
+        CompletableFuture<Decision> created = new CompletableFuture<>();
+        future = inFlight.putIfAbsent(key, created);
+        if (future == null) {
+          missCount.incrementAndGet();
+          future = created;
+          owned.put(key, created);
+          toLoad.add(permissionCheck);
+        } else {
+          coalescedCount.incrementAndGet();
+        }
+      }
+      pending.put(i, future);
+    }
+
+    if (!owned.isEmpty()) {
+      load(principal, owned, toLoad, loader);
+    }
+    for (Map.Entry<Integer, CompletableFuture<Decision>> entry : pending.entrySet()) {
+      results[entry.getKey()] = join(entry.getValue());
+    }
+
+    List<AccessControlDTO> accessControlList = new ArrayList<>(results.length);
+    Principal responsePrincipal = null;
+    for (Decision decision : results) {
+      accessControlList.add(copy(decision.getAccessControlDTO()));
+      if (responsePrincipal == null) {
+        responsePrincipal = decision.getPrincipal();
+      }
+    }
+    return AccessCheckResponseDTO.builder().principal(responsePrincipal).accessControlList(accessControlList).build();
+  }
+
+  private void load(Principal principal, Map<DecisionKey, CompletableFuture<Decision>> owned,
+      List<PermissionCheckDTO> toLoad, Function<AccessCheckRequestDTO, AccessCheckResponseDTO> loader) {
+    try {
+      AccessCheckResponseDTO response = loader.apply(buildRequest(principal, toLoad));
+      List<AccessControlDTO> accessControlList = response == null ? null : response.getAccessControlList();
+      if (accessControlList == null || accessControlList.size() != toLoad.size()) {
+        throw new UnexpectedException("Access control returned a decision list not matching the permission checks");
+      }
+      int i = 0;
+      for (Map.Entry<DecisionKey, CompletableFuture<Decision>> entry : owned.entrySet()) {
+        Decision decision = new Decision(response.getPrincipal(), accessControlList.get(i++));
+        decisions.put(entry.getKey(), decision);
+        entry.getValue().complete(decision);
+      }
+    } catch (RuntimeException | Error e) {
+      owned.values().forEach(future -> future.completeExceptionally(e));
+      throw e;
+    } finally {
+      owned.forEach(inFlight::remove);
+    }
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Checks answered by waiting on an identical check already in flight.
+   */
+  public long getCoalescedCount() {
+    return coalescedCount.get();
+  }
+
+  public double getHitRate() {
+    long hits = hitCount.get();
+    long requests = hits + missCount.get() + coalescedCount.get();
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  /**
+   * The principal the check is made for, either the given one or the one of the calling context which access-control
+   * derives from the request token. Checks without a known principal are not cached.
+   */
+  private static String principalKey(Principal principal) {
+    if (principal != null) {
+      return principal.getPrincipalType() == null || principal.getPrincipalIdentifier() == null
+          ? null
+          : principal.getPrincipalType().name() + ":" + principal.getPrincipalIdentifier();
+    }
+    io.harness.security.dto.Principal contextPrincipal = SecurityContextBuilder.getPrincipal();
+    if (contextPrincipal == null || contextPrincipal.getType() == null || contextPrincipal.getName() == null) {
+      return null;
+    }
+    return contextPrincipal.getType().name() + ":" + contextPrincipal.getName();
+  }
+
+  private static AccessCheckRequestDTO buildRequest(Principal principal, List<PermissionCheckDTO> permissionChecks) {
+    return AccessCheckRequestDTO.builder().principal(principal).permissions(permissionChecks).build();
+  }
+
+  private static Decision join(CompletableFuture<Decision> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw(RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static AccessControlDTO copy(AccessControlDTO accessControlDTO) {
+    return AccessControlDTO.builder()
+        .permission(accessControlDTO.getPermission())
+        .resourceScope(accessControlDTO.getResourceScope())
+        .resourceType(accessControlDTO.getResourceType())
+        .resourceAttributes(accessControlDTO.getResourceAttributes())
+        .resourceIdentifier(accessControlDTO.getResourceIdentifier())
+        .permitted(accessControlDTO.isPermitted())
+        .build();
+  }
+
+  @Value
+  private static class Decision {
+    Principal principal;
+    AccessControlDTO accessControlDTO;
+  }
+
+  @Value
+  private static class DecisionKey {
+    String principal;
+    String accountIdentifier;
+    String orgIdentifier;
+    String projectIdentifier;
+    String resourceType;
+    String resourceIdentifier;
+    Map<String, String> resourceAttributes;
+    String permission;
+
+    static DecisionKey of(String principal, PermissionCheckDTO permissionCheck) {
+      ResourceScope resourceScope = permissionCheck.getResourceScope();
+      Map<String, String> resourceAttributes = permissionCheck.getResourceAttributes() == null
+          ? null
+          : Collections.unmodifiableMap(new HashMap<>(permissionCheck.getResourceAttributes()));
+      return new DecisionKey(principal, resourceScope == null ? null : resourceScope.getAccountIdentifier(),
+          resourceScope == null ? null : resourceScope.getOrgIdentifier(),
+          resourceScope == null ? null : resourceScope.getProjectIdentifier(), permissionCheck.getResourceType(),
+          permissionCheck.getResourceIdentifier(), resourceAttributes, permissionCheck.getPermission());
+    }
+  }
+}
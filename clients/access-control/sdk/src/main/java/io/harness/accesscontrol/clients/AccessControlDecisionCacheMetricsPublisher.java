@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.metrics.service.api.MetricsPublisher;
+import io.harness.remote.client.ClientMode;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+/**
+ * Publishes the counters of the decision caches of this instance, picked up by the RecordMetricsJob of the services
+ * which export metrics.
+ */
+@OwnedBy(PL)
+public class AccessControlDecisionCacheMetricsPublisher implements MetricsPublisher {
+  static final String HITS_METRIC_NAME = "access_control_decision_cache_hits";
+  static final String MISSES_METRIC_NAME = "access_control_decision_cache_misses";
+  static final String COALESCED_METRIC_NAME = "access_control_decision_cache_coalesced";
+  static final String HIT_RATE_METRIC_NAME = "access_control_decision_cache_hit_rate";
+
+  private final AccessControlDecisionCache privilegedDecisionCache;
+  private final AccessControlDecisionCache nonPrivilegedDecisionCache;
+  private final MetricService metricService;
+
+  @Inject
+  public AccessControlDecisionCacheMetricsPublisher(
+      @Named("PRIVILEGED") AccessControlDecisionCache privilegedDecisionCache,
+      @Named("NON_PRIVILEGED") AccessControlDecisionCache nonPrivilegedDecisionCache, MetricService metricService) {
+    this.privilegedDecisionCache = privilegedDecisionCache;
+    this.nonPrivilegedDecisionCache = nonPrivilegedDecisionCache;
+    this.metricService = metricService;
+  }
+
+  @Override
+  public void recordMetrics() {
+    recordMetrics(ClientMode.PRIVILEGED, privilegedDecisionCache);
+    recordMetrics(ClientMode.NON_PRIVILEGED, nonPrivilegedDecisionCache);
+  }
+
+  private void recordMetrics(ClientMode clientMode, AccessControlDecisionCache decisionCache) {
+    if (!decisionCache.isEnabled()) {
+      return;
+    }
+    try (AccessControlDecisionCacheMetricsContext ignore =
+             new AccessControlDecisionCacheMetricsContext(clientMode.name())) {
+      metricService.recordMetric(HITS_METRIC_NAME, decisionCache.getHitCount());
+      metricService.recordMetric(MISSES_METRIC_NAME, decisionCache.getMissCount());
+      metricService.recordMetric(COALESCED_METRIC_NAME, decisionCache.getCoalescedCount());
+      metricService.recordMetric(HIT_RATE_METRIC_NAME, decisionCache.getHitRate());
+    }
+  }
+}
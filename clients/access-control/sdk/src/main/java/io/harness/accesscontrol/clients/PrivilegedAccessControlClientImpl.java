@@ -22,8 +22,14 @@ import com.google.inject.name.Named;
 public class PrivilegedAccessControlClientImpl extends AbstractAccessControlClient {
   private final AccessControlHttpClient accessControlHttpClient;
 
+  public PrivilegedAccessControlClientImpl(AccessControlHttpClient accessControlHttpClient) {
+    this(accessControlHttpClient, AccessControlDecisionCache.disabled());
+  }
+
   @Inject
-  public PrivilegedAccessControlClientImpl(@Named("PRIVILEGED") AccessControlHttpClient accessControlHttpClient) {
+  public PrivilegedAccessControlClientImpl(@Named("PRIVILEGED") AccessControlHttpClient accessControlHttpClient,
+      @Named("PRIVILEGED") AccessControlDecisionCache decisionCache) {
+    super(decisionCache);
     this.accessControlHttpClient = accessControlHttpClient;
   }
 
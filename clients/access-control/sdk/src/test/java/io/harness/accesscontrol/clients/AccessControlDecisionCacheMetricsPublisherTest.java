@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import static io.harness.accesscontrol.clients.AccessControlDecisionCacheMetricsPublisher.COALESCED_METRIC_NAME;
+import static io.harness.accesscontrol.clients.AccessControlDecisionCacheMetricsPublisher.HITS_METRIC_NAME;
+import static io.harness.accesscontrol.clients.AccessControlDecisionCacheMetricsPublisher.HIT_RATE_METRIC_NAME;
+import static io.harness.accesscontrol.clients.AccessControlDecisionCacheMetricsPublisher.MISSES_METRIC_NAME;
+import static io.harness.rule.OwnerRule.JIMIT_GANDHI;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.harness.AccessControlDecisionCacheConfig;
+import io.harness.CategoryTest;
+import io.harness.accesscontrol.acl.api.AccessCheckResponseDTO;
+import io.harness.accesscontrol.acl.api.AccessControlDTO;
+import io.harness.accesscontrol.acl.api.PermissionCheckDTO;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.api.ResourceScope;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PL)
+public class AccessControlDecisionCacheMetricsPublisherTest extends CategoryTest {
+  @Test
+  @Owner(developers = JIMIT_GANDHI)
+  @Category(UnitTests.class)
+  public void shouldRecordCountersOfEnabledCaches() {
+    AccessControlDecisionCache decisionCache =
+        new AccessControlDecisionCache(AccessControlDecisionCacheConfig.builder().enabled(true).build());
+    Principal principal = Principal.of(PrincipalType.USER, "user");
+    List<PermissionCheckDTO> checks = ImmutableList.of(PermissionCheckDTO.builder()
+                                                           .resourceScope(ResourceScope.of("account", null, null))
+                                                           .resourceType("PIPELINE")
+                                                           .resourceIdentifier("pipeline")
+                                                           .permission("core_pipeline_view")
+                                                           .build());
+    for (int i = 0; i < 4; i++) {
+      decisionCache.checkForAccess(principal, checks,
+          request
+          -> AccessCheckResponseDTO.builder()
+                 .principal(principal)
+                 .accessControlList(ImmutableList.of(AccessControlDTO.builder().permitted(true).build()))
+                 .build());
+    }
+    MetricService metricService = mock(MetricService.class);
+
+    new AccessControlDecisionCacheMetricsPublisher(AccessControlDecisionCache.disabled(), decisionCache, metricService)
+        .recordMetrics();
+
+    verify(metricService).recordMetric(HITS_METRIC_NAME, 3);
+    verify(metricService).recordMetric(MISSES_METRIC_NAME, 1);
+    verify(metricService).recordMetric(COALESCED_METRIC_NAME, 0);
+    verify(metricService).recordMetric(HIT_RATE_METRIC_NAME, 0.75);
+    verifyNoMoreInteractions(metricService);
+  }
+}
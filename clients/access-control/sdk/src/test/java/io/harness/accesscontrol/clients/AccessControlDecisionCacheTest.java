@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import static io.harness.rule.OwnerRule.JIMIT_GANDHI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.AccessControlDecisionCacheConfig;
+import io.harness.CategoryTest;
+import io.harness.accesscontrol.acl.api.AccessCheckRequestDTO;
+import io.harness.accesscontrol.acl.api.AccessCheckResponseDTO;
+import io.harness.accesscontrol.acl.api.AccessControlDTO;
+import io.harness.accesscontrol.acl.api.PermissionCheckDTO;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.api.ResourceScope;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PL)
+public class AccessControlDecisionCacheTest extends CategoryTest {
+  private static final Principal USER = Principal.of(PrincipalType.USER, "user");
+
+  private AccessControlDecisionCache decisionCache;
+  private AtomicInteger loadedChecks;
+  private AtomicInteger requests;
+  private Function<AccessCheckRequestDTO, AccessCheckResponseDTO> loader;
+
+  @Before
+  public void setup() {
+    decisionCache = new AccessControlDecisionCache(AccessControlDecisionCacheConfig.builder().enabled(true).build());
+    loadedChecks = new AtomicInteger();
+    requests = new AtomicInteger();
+    loader = request -> {
+      requests.incrementAndGet();
+      loadedChecks.addAndGet(request.getPermissions().size());
+      return response(request);
+    };
+  }
+
+  @Test
+  @Owner(developers = JIMIT_GANDHI)
+  @Category(UnitTests.class)
+  public void shouldLoadOnlyChecksMissingFromTheCache() {
+    decisionCache.checkForAccess(USER, ImmutableList.of(check("account1", "a")), loader);
+
+    AccessCheckResponseDTO response = decisionCache.checkForAccess(
+        USER, ImmutableList.of(check("account1", "b"), check("account1", "a"), check("account1", "b")), loader);
+
+    assertThat(response.getPrincipal()).isEqualTo(USER);
+    assertThat(identifiers(response)).containsExactly("b", "a", "b");
+    assertThat(response.getAccessControlList()).allMatch(AccessControlDTO::isPermitted);
+    assertThat(requests.get()).isEqualTo(2);
+    assertThat(loadedChecks.get()).isEqualTo(2);
+    assertThat(decisionCache.getHitCount()).isEqualTo(1);
+
+    decisionCache.checkForAccess(Principal.of(PrincipalType.USER, "other"), ImmutableList.of(check("account1", "a")),
+        loader);
+    assertThat(loadedChecks.get()).isEqualTo(3);
+  }
+
+  @Test
+  @Owner(developers = JIMIT_GANDHI)
+  @Category(UnitTests.class)
+  public void shouldReloadExpiredDecisions() throws InterruptedException {
+    decisionCache =
+        new AccessControlDecisionCache(AccessControlDecisionCacheConfig.builder().enabled(true).ttlSeconds(1).build());
+    List<PermissionCheckDTO> checks = ImmutableList.of(check("account1", "a"), check("account2", "a"));
+    decisionCache.checkForAccess(USER, checks, loader);
+    decisionCache.checkForAccess(USER, checks, loader);
+    assertThat(loadedChecks.get()).isEqualTo(2);
+
+    Thread.sleep(1100);
+    decisionCache.checkForAccess(USER, checks, loader);
+    assertThat(loadedChecks.get()).isEqualTo(4);
+  }
+
+  @Test
+  @Owner(developers = JIMIT_GANDHI)
+  @Category(UnitTests.class)
+  public void shouldCoalesceConcurrentIdenticalChecks() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    Function<AccessCheckRequestDTO, AccessCheckResponseDTO> blockingLoader = request -> {
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return loader.apply(request);
+    };
+    List<PermissionCheckDTO> checks = ImmutableList.of(check("account1", "a"));
+
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      Future<AccessCheckResponseDTO> first =
+          executorService.submit(() -> decisionCache.checkForAccess(USER, checks, blockingLoader));
+      while (decisionCache.getMissCount() == 0) {
+        Thread.sleep(5);
+      }
+      Future<AccessCheckResponseDTO> second =
+          executorService.submit(() -> decisionCache.checkForAccess(USER, checks, blockingLoader));
+      while (decisionCache.getCoalescedCount() == 0) {
+        Thread.sleep(5);
+      }
+      release.countDown();
+
+      assertThat(identifiers(first.get(10, TimeUnit.SECONDS))).containsExactly("a");
+      assertThat(identifiers(second.get(10, TimeUnit.SECONDS))).containsExactly("a");
+      assertThat(requests.get()).isEqualTo(1);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  @Owner(developers = JIMIT_GANDHI)
+  @Category(UnitTests.class)
+  public void shouldNotCacheWhenDisabled() {
+    AccessControlDecisionCache disabled = AccessControlDecisionCache.disabled();
+    List<PermissionCheckDTO> checks = ImmutableList.of(check("account1", "a"));
+
+    disabled.checkForAccess(USER, checks, loader);
+    disabled.checkForAccess(USER, checks, loader);
+
+    assertThat(requests.get()).isEqualTo(2);
+  }
+
+  private static PermissionCheckDTO check(String accountIdentifier, String resourceIdentifier) {
+    return PermissionCheckDTO.builder()
+        .resourceScope(ResourceScope.of(accountIdentifier, "org", "project"))
+        .resourceType("PIPELINE")
+        .resourceIdentifier(resourceIdentifier)
+        .permission("core_pipeline_view")
+        .build();
+  }
+
+  private static AccessCheckResponseDTO response(AccessCheckRequestDTO request) {
+    List<AccessControlDTO> accessControlList = request.getPermissions()
+                                                   .stream()
+                                                   .map(check
+                                                       -> AccessControlDTO.builder()
+                                                              .resourceScope(check.getResourceScope())
+                                                              .resourceType(check.getResourceType())
+                                                              .resourceIdentifier(check.getResourceIdentifier())
+                                                              .permission(check.getPermission())
+                                                              .permitted(true)
+                                                              .build())
+                                                   .collect(Collectors.toList());
+    return AccessCheckResponseDTO.builder()
+        .principal(request.getPrincipal())
+        .accessControlList(accessControlList)
+        .build();
+  }
+
+  private static List<String> identifiers(AccessCheckResponseDTO response) {
+    return response.getAccessControlList()
+        .stream()
+        .map(AccessControlDTO::getResourceIdentifier)
+        .collect(Collectors.toList());
+  }
+}
@@ -68,6 +68,8 @@ echo "doUpgrade: false" >> config.yml
 
 append_config "clientToolsDownloadDisabled" $CLIENT_TOOLS_DOWNLOAD_DISABLED
 append_config "installClientToolsInBackground" $INSTALL_CLIENT_TOOLS_IN_BACKGROUND
+append_config "virtualThreadTaskExecutionEnabled" $VIRTUAL_THREAD_TASK_EXECUTION_ENABLED
+append_config "perpetualTaskAssignmentChangesEnabled" $PERPETUAL_TASK_ASSIGNMENT_CHANGES_ENABLED
 append_config "clientCertificateFilePath" $DELEGATE_CLIENT_CERTIFICATE_PATH
 append_config "clientCertificateKeyFilePath" $DELEGATE_CLIENT_CERTIFICATE_KEY_PATH
 append_config "grpcAuthorityModificationDisabled" ${GRPC_AUTHORITY_MODIFICATION_DISABLED:-false}
@@ -96,6 +96,7 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
   @Inject private NodeExecutionService nodeExecutionService;
   @Inject private PlanExecutionService planExecutionService;
   @Inject private PlanService planService;
+  @Inject private PlanExecutionNodeCache planExecutionNodeCache;
   @Inject private InputSetValidatorFactory inputSetValidatorFactory;
   @Inject private NodeExecutionInfoService nodeExecutionInfoService;
 
@@ -179,7 +180,7 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
       return;
     }
 
-    nodeExecutionsCache = new NodeExecutionsCache(nodeExecutionService, planService, ambiance);
+    nodeExecutionsCache = new NodeExecutionsCache(nodeExecutionService, planService, ambiance, planExecutionNodeCache);
     // Access StepParameters and Outcomes of self and children.
     addToContext("child",
         NodeExecutionChildFunctor.builder()
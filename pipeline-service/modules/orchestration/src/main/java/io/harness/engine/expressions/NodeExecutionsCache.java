@@ -17,6 +17,7 @@ import io.harness.engine.executions.plan.PlanService;
 import io.harness.execution.NodeExecution;
 import io.harness.plan.Node;
 import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.contracts.ambiance.Level;
 import io.harness.pms.contracts.execution.Status;
 import io.harness.pms.execution.utils.AmbianceUtils;
 import io.harness.pms.execution.utils.NodeProjectionUtils;
@@ -24,6 +25,7 @@ import io.harness.pms.execution.utils.StatusUtils;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -46,12 +48,19 @@ public class NodeExecutionsCache {
   Map<String, List<String>> childrenMap;
   Map<String, Node> nodeMap;
   Map<String, Ambiance> ambianceMap;
+  PlanExecutionNodeCache planExecutionNodeCache;
 
-  @Builder
   public NodeExecutionsCache(NodeExecutionService nodeExecutionService, PlanService planService, Ambiance ambiance) {
+    this(nodeExecutionService, planService, ambiance, null);
+  }
+
+  @Builder
+  public NodeExecutionsCache(NodeExecutionService nodeExecutionService, PlanService planService, Ambiance ambiance,
+      PlanExecutionNodeCache planExecutionNodeCache) {
     this.nodeExecutionService = nodeExecutionService;
     this.planService = planService;
     this.ambiance = ambiance;
+    this.planExecutionNodeCache = planExecutionNodeCache;
     this.nodeMap = new HashMap<>();
     this.map = new HashMap<>();
     this.childrenMap = new HashMap<>();
@@ -66,18 +75,52 @@ public class NodeExecutionsCache {
       return map.get(nodeExecutionId);
     }
 
-    NodeExecution nodeExecution;
-    if (AmbianceUtils.checkIfFeatureFlagEnabled(ambiance, FeatureName.CDS_USE_AMBIANCE_IN_EXPRESSION_ENGINE.name())) {
-      nodeExecution = nodeExecutionService.getWithFieldsIncluded(
-          nodeExecutionId, NodeProjectionUtils.fieldsForExpressionEngineWithAmbiance);
-    } else {
-      nodeExecution =
-          nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.fieldsForExpressionEngine);
+    NodeExecution nodeExecution = null;
+    Set<String> fieldsForExpressionEngine = getFieldsForExpressionEngine();
+    Set<String> ancestorIdsToLoad = getAncestorIdsNotInCache();
+    if (ancestorIdsToLoad.size() > 1 && ancestorIdsToLoad.contains(nodeExecutionId)) {
+      // Ancestors are almost always needed together, so load all of them with a single $in query
+      List<NodeExecution> ancestors =
+          nodeExecutionService.getAllWithFieldIncluded(ancestorIdsToLoad, fieldsForExpressionEngine);
+      ancestors.forEach(this::putInCache);
+      nodeExecution = map.get(nodeExecutionId);
+    }
+    if (nodeExecution == null) {
+      nodeExecution = nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, fieldsForExpressionEngine);
+      putInCache(nodeExecution);
     }
     map.put(nodeExecutionId, nodeExecution);
     return nodeExecution;
   }
 
+  private Set<String> getAncestorIdsNotInCache() {
+    Set<String> ancestorIds = new HashSet<>();
+    if (ambiance == null) {
+      return ancestorIds;
+    }
+    for (Level level : ambiance.getLevelsList()) {
+      String runtimeId = level.getRuntimeId();
+      if (EmptyPredicate.isNotEmpty(runtimeId) && !map.containsKey(runtimeId)) {
+        ancestorIds.add(runtimeId);
+      }
+    }
+    return ancestorIds;
+  }
+
+  private Set<String> getFieldsForExpressionEngine() {
+    if (AmbianceUtils.checkIfFeatureFlagEnabled(ambiance, FeatureName.CDS_USE_AMBIANCE_IN_EXPRESSION_ENGINE.name())) {
+      return NodeProjectionUtils.fieldsForExpressionEngineWithAmbiance;
+    }
+    return NodeProjectionUtils.fieldsForExpressionEngine;
+  }
+
+  private void putInCache(NodeExecution nodeExecution) {
+    if (nodeExecution == null) {
+      return;
+    }
+    map.put(nodeExecution.getUuid(), nodeExecution);
+  }
+
   /**
    * Fetches a list of children for a particular parent Id.
    *
@@ -100,12 +143,7 @@ public class NodeExecutionsCache {
     }
 
     List<NodeExecution> childExecutions = new LinkedList<>();
-    Set<String> fieldsForExpressionEngine;
-    if (AmbianceUtils.checkIfFeatureFlagEnabled(ambiance, FeatureName.CDS_USE_AMBIANCE_IN_EXPRESSION_ENGINE.name())) {
-      fieldsForExpressionEngine = NodeProjectionUtils.fieldsForExpressionEngineWithAmbiance;
-    } else {
-      fieldsForExpressionEngine = NodeProjectionUtils.fieldsForExpressionEngine;
-    }
+    Set<String> fieldsForExpressionEngine = getFieldsForExpressionEngine();
     try (CloseableIterator<NodeExecution> iterator = nodeExecutionService.fetchChildrenNodeExecutionsIterator(
              ambiance.getPlanExecutionId(), parentId, fieldsForExpressionEngine)) {
       while (iterator.hasNext()) {
@@ -117,7 +155,7 @@ public class NodeExecutionsCache {
       return Collections.emptyList();
     }
 
-    childExecutions.forEach(childExecution -> map.put(childExecution.getUuid(), childExecution));
+    childExecutions.forEach(this::putInCache);
     childrenMap.put(parentId, childExecutions.stream().map(NodeExecution::getUuid).collect(Collectors.toList()));
     return childExecutions;
   }
@@ -141,7 +179,15 @@ public class NodeExecutionsCache {
       return nodeMap.get(nodeId);
     }
 
-    Node node = planService.fetchNode(ambiance.getPlanId(), nodeId);
+    Node node = planExecutionNodeCache == null
+        ? null
+        : planExecutionNodeCache.getNode(ambiance.getPlanExecutionId(), nodeId);
+    if (node == null) {
+      node = planService.fetchNode(ambiance.getPlanId(), nodeId);
+      if (planExecutionNodeCache != null) {
+        planExecutionNodeCache.putNode(ambiance.getPlanExecutionId(), nodeId, node);
+      }
+    }
     nodeMap.put(nodeId, node);
     return node;
   }
@@ -153,9 +199,18 @@ public class NodeExecutionsCache {
     if (ambianceMap.containsKey(nodeExecutionId)) {
       return ambianceMap.get(nodeExecutionId);
     }
-    Ambiance ambiance =
-        nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.withAmbiance).getAmbiance();
-    ambianceMap.put(nodeExecutionId, ambiance);
-    return ambiance;
+    // Ambiance of a node execution never changes once created, so it is safe to share across evaluators
+    Ambiance nodeAmbiance = planExecutionNodeCache == null
+        ? null
+        : planExecutionNodeCache.getAmbiance(ambiance.getPlanExecutionId(), nodeExecutionId);
+    if (nodeAmbiance == null) {
+      nodeAmbiance =
+          nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.withAmbiance).getAmbiance();
+      if (planExecutionNodeCache != null) {
+        planExecutionNodeCache.putAmbiance(ambiance.getPlanExecutionId(), nodeExecutionId, nodeAmbiance);
+      }
+    }
+    ambianceMap.put(nodeExecutionId, nodeAmbiance);
+    return nodeAmbiance;
   }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.engine.expressions;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.plan.Node;
+import io.harness.pms.contracts.ambiance.Ambiance;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution scoped cache shared by all the {@link NodeExecutionsCache} instances of a pod, so that expression
+ * evaluators of different steps of the same execution do not re-read the same data from mongo.
+ *
+ * Only data which never changes once written is kept here: the ambiance of a node execution and the plan nodes. Node
+ * executions themselves are not shared, even in a final status they are still updated (e.g. when retried) by any pod,
+ * and an invalidation on one pod would leave the other pods serving the stale copy.
+ */
+@OwnedBy(PIPELINE)
+@Singleton
+public class PlanExecutionNodeCache {
+  private static final int MAX_EXECUTIONS = 1000;
+  private static final int MAX_ENTRIES_PER_EXECUTION = 5000;
+
+  private final Cache<String, ExecutionEntry> executionCache = CacheBuilder.newBuilder()
+                                                                   .maximumSize(MAX_EXECUTIONS)
+                                                                   .expireAfterAccess(10, TimeUnit.MINUTES)
+                                                                   .build();
+
+  private static class ExecutionEntry {
+    private final Map<String, Ambiance> ambiances = new ConcurrentHashMap<>();
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+
+    private static <T> void putBounded(Map<String, T> map, String key, T value) {
+      if (map.size() < MAX_ENTRIES_PER_EXECUTION || map.containsKey(key)) {
+        map.put(key, value);
+      }
+    }
+  }
+
+  public Ambiance getAmbiance(String planExecutionId, String nodeExecutionId) {
+    ExecutionEntry entry = executionCache.getIfPresent(planExecutionId);
+    return entry == null ? null : entry.ambiances.get(nodeExecutionId);
+  }
+
+  public void putAmbiance(String planExecutionId, String nodeExecutionId, Ambiance ambiance) {
+    if (ambiance == null) {
+      return;
+    }
+    ExecutionEntry.putBounded(getOrCreate(planExecutionId).ambiances, nodeExecutionId, ambiance);
+  }
+
+  public Node getNode(String planExecutionId, String nodeId) {
+    ExecutionEntry entry = executionCache.getIfPresent(planExecutionId);
+    return entry == null ? null : entry.nodes.get(nodeId);
+  }
+
+  public void putNode(String planExecutionId, String nodeId, Node node) {
+    if (node == null) {
+      return;
+    }
+    ExecutionEntry.putBounded(getOrCreate(planExecutionId).nodes, nodeId, node);
+  }
+
+  private ExecutionEntry getOrCreate(String planExecutionId) {
+    return executionCache.asMap().computeIfAbsent(planExecutionId, key -> new ExecutionEntry());
+  }
+}
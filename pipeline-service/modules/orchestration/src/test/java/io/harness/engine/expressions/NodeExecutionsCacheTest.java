@@ -10,7 +10,13 @@ package io.harness.engine.expressions;
 import static io.harness.rule.OwnerRule.ARCHIT;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.HarnessTeam;
@@ -20,9 +26,11 @@ import io.harness.engine.executions.node.NodeExecutionService;
 import io.harness.engine.executions.plan.PlanService;
 import io.harness.execution.NodeExecution;
 import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.contracts.ambiance.Level;
 import io.harness.pms.contracts.execution.Status;
 import io.harness.rule.Owner;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.junit.Before;
@@ -57,4 +65,53 @@ public class NodeExecutionsCacheTest extends CategoryTest {
     List<Status> allChildren = nodeExecutionsCache.findAllTerminalChildrenStatusOnly("PARENT_ID", false);
     assertThat(allChildren.size()).isEqualTo(1);
   }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testFetchLoadsAllAncestorsInSingleQuery() {
+    Ambiance ambiance = Ambiance.newBuilder()
+                            .setPlanExecutionId("PLAN_EXECUTION_ID")
+                            .addLevels(Level.newBuilder().setRuntimeId("PIPELINE_ID").build())
+                            .addLevels(Level.newBuilder().setRuntimeId("STAGE_ID").build())
+                            .addLevels(Level.newBuilder().setRuntimeId("STEP_ID").build())
+                            .build();
+    NodeExecutionsCache cache =
+        new NodeExecutionsCache(nodeExecutionService, planService, ambiance, new PlanExecutionNodeCache());
+    NodeExecution pipeline = NodeExecution.builder().uuid("PIPELINE_ID").status(Status.RUNNING).build();
+    NodeExecution stage = NodeExecution.builder().uuid("STAGE_ID").status(Status.RUNNING).build();
+    NodeExecution step = NodeExecution.builder().uuid("STEP_ID").status(Status.RUNNING).build();
+    doReturn(Arrays.asList(pipeline, stage, step)).when(nodeExecutionService).getAllWithFieldIncluded(anySet(), any());
+
+    assertThat(cache.fetch("STAGE_ID")).isEqualTo(stage);
+    assertThat(cache.fetch("PIPELINE_ID")).isEqualTo(pipeline);
+    assertThat(cache.fetch("STEP_ID")).isEqualTo(step);
+    verify(nodeExecutionService, times(1)).getAllWithFieldIncluded(anySet(), any());
+    verify(nodeExecutionService, never()).getWithFieldsIncluded(any(), any());
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testOnlyAmbiancesAreSharedAcrossCaches() {
+    Ambiance ambiance = Ambiance.newBuilder().setPlanExecutionId("PLAN_EXECUTION_ID").build();
+    PlanExecutionNodeCache planExecutionNodeCache = new PlanExecutionNodeCache();
+    Ambiance nodeAmbiance =
+        Ambiance.newBuilder().setPlanExecutionId("PLAN_EXECUTION_ID").setStageExecutionId("STAGE_EXECUTION_ID").build();
+    NodeExecution succeeded =
+        NodeExecution.builder().uuid("SUCCEEDED_ID").status(Status.SUCCEEDED).ambiance(nodeAmbiance).build();
+    doReturn(succeeded).when(nodeExecutionService).getWithFieldsIncluded(eq("SUCCEEDED_ID"), any());
+
+    NodeExecutionsCache first =
+        new NodeExecutionsCache(nodeExecutionService, planService, ambiance, planExecutionNodeCache);
+    assertThat(first.fetch("SUCCEEDED_ID")).isEqualTo(succeeded);
+    assertThat(first.getAmbiance("SUCCEEDED_ID")).isEqualTo(nodeAmbiance);
+    NodeExecutionsCache other =
+        new NodeExecutionsCache(nodeExecutionService, planService, ambiance, planExecutionNodeCache);
+    assertThat(other.getAmbiance("SUCCEEDED_ID")).isEqualTo(nodeAmbiance);
+    assertThat(other.fetch("SUCCEEDED_ID")).isEqualTo(succeeded);
+
+    // two reads of the node execution, one per cache, and one read of its ambiance for both caches
+    verify(nodeExecutionService, times(3)).getWithFieldsIncluded(eq("SUCCEEDED_ID"), any());
+  }
 }
@@ -206,6 +206,7 @@ import io.harness.telemetry.filter.TerraformTelemetryFilter;
 import io.harness.threading.ExecutorModule;
 import io.harness.threading.ThreadPool;
 import io.harness.timeout.TimeoutEngine;
+import io.harness.timeout.TimeoutTimingWheelService;
 import io.harness.token.remote.TokenClient;
 import io.harness.tracing.MongoRedisTracer;
 import io.harness.waiter.NotifierScheduledExecutorService;
@@ -450,6 +451,10 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
                                       .build(),
               Duration.ofSeconds(iteratorsConfig.getTimeoutEngineConfig().getTargetIntervalInSeconds()));
     }
+    if (appConfig.isTimeoutTimingWheelEnabled()) {
+      environment.lifecycle().manage(new TimeoutTimingWheelService(
+          injector.getInstance(TimeoutEngine.class), iteratorsConfig.getTimeoutEngineConfig().getThreadPoolCount()));
+    }
 
     injector.getInstance(BarrierServiceImpl.class).registerIterators(iteratorsConfig.getBarrierConfig());
     injector.getInstance(IrregularApprovalInstanceHandler.class)
@@ -10,6 +10,7 @@ package io.harness.metrics;
 import io.harness.annotations.dev.CodePulse;
 import io.harness.annotations.dev.HarnessModuleComponent;
 import io.harness.annotations.dev.ProductModule;
+import io.harness.expression.JexlExpressionCache;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
 
@@ -17,6 +18,7 @@ import com.codahale.metrics.Counter;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.Snapshot;
 import com.codahale.metrics.Timer;
+import com.google.common.cache.CacheStats;
 import com.google.inject.Inject;
 import java.util.Map;
 import java.util.Set;
@@ -55,6 +57,18 @@ public class PipelineServiceThreadMetricsPublisher implements MetricsPublisher {
     counterSet.stream()
         .filter(e -> metricFilters.stream().anyMatch(e.getKey()::startsWith))
         .forEach(entry -> recordCounter(sanitizeMetricName(entry.getKey()), entry.getValue()));
+
+    recordExpressionCacheMetrics();
+  }
+
+  private void recordExpressionCacheMetrics() {
+    CacheStats stats = JexlExpressionCache.getStats();
+    try (DwMetricContext ignore = new DwMetricContext(NAMESPACE, CONTAINER_NAME, SERVICE_NAME)) {
+      recordMetric("JexlExpressionCache_hitCount", stats.hitCount());
+      recordMetric("JexlExpressionCache_missCount", stats.missCount());
+      recordMetric("JexlExpressionCache_evictionCount", stats.evictionCount());
+      recordMetric("JexlExpressionCache_size", JexlExpressionCache.size());
+    }
   }
 
   private void recordMeter(String metricName, Meter meter) {
@@ -398,6 +398,7 @@ import io.harness.cvng.servicelevelobjective.services.api.SLIConsecutiveMinutesP
 import io.harness.cvng.servicelevelobjective.services.api.SLIDataProcessorService;
 import io.harness.cvng.servicelevelobjective.services.api.SLIDataUnavailabilityInstancesHandlerService;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordBucketService;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordService;
 import io.harness.cvng.servicelevelobjective.services.api.SLODashboardService;
 import io.harness.cvng.servicelevelobjective.services.api.SLOErrorBudgetResetService;
@@ -417,6 +418,7 @@ import io.harness.cvng.servicelevelobjective.services.impl.SLIConsecutiveMinutes
 import io.harness.cvng.servicelevelobjective.services.impl.SLIDataProcessorServiceImpl;
 import io.harness.cvng.servicelevelobjective.services.impl.SLIDataUnavailabilityInstancesHandlerServiceImpl;
 import io.harness.cvng.servicelevelobjective.services.impl.SLIRecordBucketServiceImpl;
+import io.harness.cvng.servicelevelobjective.services.impl.SLIRecordRollupServiceImpl;
 import io.harness.cvng.servicelevelobjective.services.impl.SLIRecordServiceImpl;
 import io.harness.cvng.servicelevelobjective.services.impl.SLODashboardServiceImpl;
 import io.harness.cvng.servicelevelobjective.services.impl.SLOErrorBudgetResetServiceImpl;
@@ -1052,6 +1054,7 @@ public class CVServiceModule extends AbstractModule {
     bind(ChangeSourceEntityAndDTOTransformer.class);
     bind(SLIRecordService.class).to(SLIRecordServiceImpl.class);
     bind(SLIRecordBucketService.class).to(SLIRecordBucketServiceImpl.class);
+    bind(SLIRecordRollupService.class).to(SLIRecordRollupServiceImpl.class);
     bind(SLODashboardService.class).to(SLODashboardServiceImpl.class);
     bind(SLIDataProcessorService.class).to(SLIDataProcessorServiceImpl.class);
     bind(SLOHealthIndicatorService.class).to(SLOHealthIndicatorServiceImpl.class);
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.entities;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.cvng.analysis.entities.VerificationTaskBase;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UuidAware;
+
+import com.google.common.collect.ImmutableList;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.FieldNameConstants;
+
+/**
+ * The last {@link SLIRecord} of an hour or a day. Records carry running counts, so the last record of a bucket is all
+ * the graphs need from it and long windows can be drawn from one document per hour or day instead of per minute.
+ */
+@Data
+@Builder
+@FieldNameConstants(innerTypeName = "SLIRecordRollupKeys")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@StoreIn(DbAliases.CVNG)
+@Entity(value = "sliRecordRollups", noClassnameStored = true)
+@HarnessEntity(exportable = true)
+@OwnedBy(HarnessTeam.CV)
+public class SLIRecordRollup extends VerificationTaskBase implements PersistentEntity, UuidAware {
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("sli_resolution_bucket")
+                 .unique(true)
+                 .field(SLIRecordRollupKeys.sliId)
+                 .field(SLIRecordRollupKeys.resolution)
+                 .field(SLIRecordRollupKeys.bucketStartTime)
+                 .build())
+        .build();
+  }
+
+  @Id private String uuid;
+  private String sliId;
+  private Resolution resolution;
+  private Instant bucketStartTime;
+  private Instant timestamp; // minute of the last record in the bucket
+  private SLIState sliState;
+  private long runningBadCount;
+  private long runningGoodCount;
+  private int sliVersion;
+
+  @Builder.Default @FdTtlIndex private Date validUntil = Date.from(OffsetDateTime.now().plusDays(90).toInstant());
+
+  public SLIRecord toSLIRecord() {
+    SLIRecord sliRecord = SLIRecord.builder()
+                              .sliId(sliId)
+                              .timestamp(timestamp)
+                              .sliState(sliState)
+                              .runningBadCount(runningBadCount)
+                              .runningGoodCount(runningGoodCount)
+                              .sliVersion(sliVersion)
+                              .build();
+    sliRecord.setLastUpdatedAt(getLastUpdatedAt());
+    return sliRecord;
+  }
+
+  @Getter
+  public enum Resolution {
+    // coarsest first
+    DAY(ChronoUnit.DAYS),
+    HOUR(ChronoUnit.HOURS);
+
+    private final ChronoUnit unit;
+
+    Resolution(ChronoUnit unit) {
+      this.unit = unit;
+    }
+
+    public Instant getBucketStartTime(Instant instant) {
+      return instant.truncatedTo(unit);
+    }
+
+    public long getMinutes() {
+      return unit.getDuration().toMinutes();
+    }
+  }
+}
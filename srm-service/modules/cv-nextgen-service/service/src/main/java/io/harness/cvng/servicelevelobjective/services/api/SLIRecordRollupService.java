@@ -0,0 +1,30 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.services.api;
+
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface SLIRecordRollupService {
+  /**
+   * Recomputes the hourly and daily rollups of the buckets which contain records between the given times, inclusive.
+   */
+  void update(String sliId, Instant startTime, Instant endTime);
+
+  List<SLIRecordRollup> getRollups(
+      String sliId, SLIRecordRollup.Resolution resolution, Instant startTime, Instant endTime);
+
+  /**
+   * Returns the records to draw between the given times, exclusive, from the coarsest rollup with no more buckets than
+   * the requested number of points, or null when the window has to be read at minute resolution.
+   */
+  List<SLIRecord> getSLIRecordsBetween(String sliId, Instant startTime, Instant endTime, long numOfPoints);
+}
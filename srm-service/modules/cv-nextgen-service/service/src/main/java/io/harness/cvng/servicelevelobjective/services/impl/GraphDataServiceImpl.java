@@ -30,6 +30,7 @@ import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
 import io.harness.cvng.servicelevelobjective.entities.SimpleServiceLevelObjective;
 import io.harness.cvng.servicelevelobjective.services.api.CompositeSLORecordService;
 import io.harness.cvng.servicelevelobjective.services.api.GraphDataService;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelIndicatorService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelObjectiveV2Service;
@@ -51,6 +52,7 @@ import org.apache.commons.lang3.tuple.Pair;
 
 public class GraphDataServiceImpl implements GraphDataService {
   @Inject SLIRecordService sliRecordService;
+  @Inject SLIRecordRollupService sliRecordRollupService;
   @Inject CompositeSLORecordService compositeSLORecordService;
   @Inject ServiceLevelIndicatorService serviceLevelIndicatorService;
 
@@ -514,14 +516,20 @@ public class GraphDataServiceImpl implements GraphDataService {
       startTime = firstRecordInRange.getTimestamp();
       endTime = lastRecordInRange.getTimestamp();
     }
-    List<Instant> minutes = getMinutesExclusiveOfStartAndEndTime(startTime, endTime, numOfPoints);
     List<SLIRecord> sliRecords = new ArrayList<>();
     sliRecords.add(firstRecord);
     if (!firstRecordInRange.getTimestamp().equals(firstRecord.getTimestamp())) {
       sliRecords.add(firstRecordInRange);
     }
-    if (!minutes.isEmpty()) {
-      sliRecords.addAll(sliRecordService.getSLIRecordsOfMinutes(sliId, minutes));
+    List<SLIRecord> rolledUpSLIRecords =
+        sliRecordRollupService.getSLIRecordsBetween(sliId, startTime, endTime, numOfPoints);
+    if (rolledUpSLIRecords != null) {
+      sliRecords.addAll(rolledUpSLIRecords);
+    } else {
+      List<Instant> minutes = getMinutesExclusiveOfStartAndEndTime(startTime, endTime, numOfPoints);
+      if (!minutes.isEmpty()) {
+        sliRecords.addAll(sliRecordService.getSLIRecordsOfMinutes(sliId, minutes));
+      }
     }
     if (!lastRecordInRange.getTimestamp().equals(lastRecord.getTimestamp())) {
       sliRecords.add(lastRecordInRange);
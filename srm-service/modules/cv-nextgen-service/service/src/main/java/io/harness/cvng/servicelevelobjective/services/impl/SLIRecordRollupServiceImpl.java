@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.services.impl;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.persistence.HQuery.excludeAuthorityCount;
+
+import io.harness.SRMPersistence;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordKeys;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.Resolution;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.SLIRecordRollupKeys;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
+
+import com.google.inject.Inject;
+import com.mongodb.ReadPreference;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Query;
+import dev.morphia.query.Sort;
+import dev.morphia.query.UpdateOperations;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SLIRecordRollupServiceImpl implements SLIRecordRollupService {
+  @Inject private SRMPersistence hPersistence;
+
+  @Override
+  public void update(String sliId, Instant startTime, Instant endTime) {
+    for (Resolution resolution : Resolution.values()) {
+      for (Instant bucketStartTime = resolution.getBucketStartTime(startTime); !bucketStartTime.isAfter(endTime);
+           bucketStartTime = bucketStartTime.plus(1, resolution.getUnit())) {
+        SLIRecord lastSLIRecord = hPersistence.createQuery(SLIRecord.class, excludeAuthorityCount)
+                                      .filter(SLIRecordKeys.sliId, sliId)
+                                      .field(SLIRecordKeys.timestamp)
+                                      .greaterThanOrEq(bucketStartTime)
+                                      .field(SLIRecordKeys.timestamp)
+                                      .lessThan(bucketStartTime.plus(1, resolution.getUnit()))
+                                      .order(Sort.descending(SLIRecordKeys.timestamp))
+                                      .get();
+        if (lastSLIRecord != null) {
+          upsert(lastSLIRecord, resolution, bucketStartTime);
+        }
+      }
+    }
+  }
+
+  private void upsert(SLIRecord sliRecord, Resolution resolution, Instant bucketStartTime) {
+    Query<SLIRecordRollup> query = hPersistence.createQuery(SLIRecordRollup.class)
+                                       .filter(SLIRecordRollupKeys.sliId, sliRecord.getSliId())
+                                       .filter(SLIRecordRollupKeys.resolution, resolution)
+                                       .filter(SLIRecordRollupKeys.bucketStartTime, bucketStartTime);
+    UpdateOperations<SLIRecordRollup> updateOperations =
+        hPersistence.createUpdateOperations(SLIRecordRollup.class)
+            .setOnInsert(SLIRecordRollupKeys.uuid, generateUuid())
+            .set(SLIRecordRollupKeys.timestamp, sliRecord.getTimestamp())
+            .set(SLIRecordRollupKeys.sliState, sliRecord.getSliState())
+            .set(SLIRecordRollupKeys.runningBadCount, sliRecord.getRunningBadCount())
+            .set(SLIRecordRollupKeys.runningGoodCount, sliRecord.getRunningGoodCount())
+            .set(SLIRecordRollupKeys.sliVersion, sliRecord.getSliVersion())
+            .set(SLIRecordRollupKeys.validUntil, Date.from(OffsetDateTime.now().plusDays(90).toInstant()));
+    hPersistence.upsert(query, updateOperations);
+  }
+
+  @Override
+  public List<SLIRecordRollup> getRollups(String sliId, Resolution resolution, Instant startTime, Instant endTime) {
+    return hPersistence.createQuery(SLIRecordRollup.class, excludeAuthorityCount)
+        .filter(SLIRecordRollupKeys.sliId, sliId)
+        .filter(SLIRecordRollupKeys.resolution, resolution)
+        .field(SLIRecordRollupKeys.bucketStartTime)
+        .greaterThanOrEq(resolution.getBucketStartTime(startTime))
+        .field(SLIRecordRollupKeys.bucketStartTime)
+        .lessThan(endTime)
+        .order(Sort.ascending(SLIRecordRollupKeys.bucketStartTime))
+        .asList(new FindOptions().readPreference(ReadPreference.secondaryPreferred()));
+  }
+
+  @Override
+  public List<SLIRecord> getSLIRecordsBetween(String sliId, Instant startTime, Instant endTime, long numOfPoints) {
+    if (numOfPoints <= 0) {
+      return null;
+    }
+    long minutesBetweenPoints = Duration.between(startTime, endTime).toMinutes() / numOfPoints;
+    for (Resolution resolution : Resolution.values()) {
+      if (minutesBetweenPoints < resolution.getMinutes()) {
+        continue;
+      }
+      List<SLIRecordRollup> rollups = getRollups(sliId, resolution, startTime, endTime);
+      // records written before rollups existed have none, read those windows minute by minute until they expire
+      if (rollups.isEmpty()
+          || !rollups.get(0).getBucketStartTime().equals(resolution.getBucketStartTime(startTime))) {
+        log.info("Rollups of sli {} at resolution {} do not cover {}, reading minute records", sliId, resolution,
+            startTime);
+        return null;
+      }
+      return rollups.stream()
+          .filter(rollup -> rollup.getTimestamp().isAfter(startTime) && rollup.getTimestamp().isBefore(endTime))
+          .map(SLIRecordRollup::toSLIRecord)
+          .collect(Collectors.toList());
+    }
+    return null;
+  }
+}
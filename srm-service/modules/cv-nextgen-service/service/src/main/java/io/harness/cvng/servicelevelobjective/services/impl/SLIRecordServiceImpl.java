@@ -27,6 +27,7 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecordParam;
 import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
 import io.harness.cvng.servicelevelobjective.entities.SimpleServiceLevelObjective;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordBucketService;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelIndicatorService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelObjectiveV2Service;
@@ -60,6 +61,8 @@ public class SLIRecordServiceImpl implements SLIRecordService {
 
   @Inject private SLIRecordBucketService sliRecordBucketService;
 
+  @Inject private SLIRecordRollupService sliRecordRollupService;
+
   @Inject private FeatureFlagService featureFlagService;
 
   @Override
@@ -93,6 +96,12 @@ public class SLIRecordServiceImpl implements SLIRecordService {
     } catch (Exception exception) {
       log.error(String.format("[SLI Record Bucketing Error] sliId: %s ", sliId), exception);
     }
+
+    try {
+      sliRecordRollupService.update(sliId, firstSLIRecordParam.getTimeStamp(), lastSLIRecordParam.getTimeStamp());
+    } catch (Exception exception) {
+      log.error(String.format("[SLI Record Rollup Error] sliId: %s ", sliId), exception);
+    }
   }
 
   private void createSLIRecords(List<SLIRecordParam> sliRecordParamList, String sliId, String verificationTaskId,
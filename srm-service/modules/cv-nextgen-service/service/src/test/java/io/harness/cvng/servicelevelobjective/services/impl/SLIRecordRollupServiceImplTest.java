@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.services.impl;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.VARSHA_LALWANI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CvNextGenTestBase;
+import io.harness.category.element.UnitTests;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordParam;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.Resolution;
+import io.harness.cvng.servicelevelobjective.entities.SLIState;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordService;
+import io.harness.rule.Owner;
+
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class SLIRecordRollupServiceImplTest extends CvNextGenTestBase {
+  private static final Instant START_TIME = Instant.parse("2020-07-27T09:55:00Z");
+  private static final Instant END_TIME = Instant.parse("2020-07-27T12:05:00Z");
+
+  @Inject private SLIRecordRollupService sliRecordRollupService;
+  @Inject private SLIRecordService sliRecordService;
+
+  private String sliId;
+  private String verificationTaskId;
+
+  @Before
+  public void setup() {
+    sliId = generateUuid();
+    verificationTaskId = generateUuid();
+  }
+
+  @Test
+  @Owner(developers = VARSHA_LALWANI)
+  @Category(UnitTests.class)
+  public void testUpdate_createsHourlyAndDailyRollups() {
+    createData(START_TIME, END_TIME, 0, 3);
+
+    List<SLIRecordRollup> hourlyRollups =
+        sliRecordRollupService.getRollups(sliId, Resolution.HOUR, START_TIME, END_TIME);
+    assertThat(hourlyRollups)
+        .extracting(SLIRecordRollup::getTimestamp)
+        .containsExactly(Instant.parse("2020-07-27T09:59:00Z"), Instant.parse("2020-07-27T10:59:00Z"),
+            Instant.parse("2020-07-27T11:59:00Z"), Instant.parse("2020-07-27T12:04:00Z"));
+    for (SLIRecordRollup rollup : hourlyRollups) {
+      assertMatchesLastRecordOfBucket(rollup);
+    }
+
+    List<SLIRecordRollup> dailyRollups =
+        sliRecordRollupService.getRollups(sliId, Resolution.DAY, START_TIME, END_TIME);
+    assertThat(dailyRollups).hasSize(1);
+    assertThat(dailyRollups.get(0).getBucketStartTime()).isEqualTo(Instant.parse("2020-07-27T00:00:00Z"));
+    assertMatchesLastRecordOfBucket(dailyRollups.get(0));
+  }
+
+  @Test
+  @Owner(developers = VARSHA_LALWANI)
+  @Category(UnitTests.class)
+  public void testUpdate_recalculatesRollupsOfRewrittenRecords() {
+    createData(START_TIME, END_TIME, 0, 3);
+    createData(Instant.parse("2020-07-27T10:30:00Z"), Instant.parse("2020-07-27T11:00:00Z"), 1, 2);
+
+    List<SLIRecordRollup> hourlyRollups = sliRecordRollupService.getRollups(
+        sliId, Resolution.HOUR, Instant.parse("2020-07-27T10:00:00Z"), Instant.parse("2020-07-27T11:00:00Z"));
+    assertThat(hourlyRollups).hasSize(1);
+    assertThat(hourlyRollups.get(0).getSliVersion()).isEqualTo(1);
+    assertMatchesLastRecordOfBucket(hourlyRollups.get(0));
+  }
+
+  @Test
+  @Owner(developers = VARSHA_LALWANI)
+  @Category(UnitTests.class)
+  public void testGetSLIRecordsBetween() {
+    createData(START_TIME, END_TIME, 0, 3);
+    Instant lastMinute = END_TIME.minus(Duration.ofMinutes(1));
+
+    assertThat(sliRecordRollupService.getSLIRecordsBetween(sliId, START_TIME, lastMinute, 2))
+        .extracting(SLIRecord::getTimestamp)
+        .containsExactly(Instant.parse("2020-07-27T09:59:00Z"), Instant.parse("2020-07-27T10:59:00Z"),
+            Instant.parse("2020-07-27T11:59:00Z"));
+    // minute resolution is needed for as many points as there are hours
+    assertThat(sliRecordRollupService.getSLIRecordsBetween(sliId, START_TIME, lastMinute, 10)).isNull();
+    // windows starting before the rollups are read minute by minute
+    assertThat(sliRecordRollupService.getSLIRecordsBetween(
+                   sliId, START_TIME.minus(Duration.ofHours(2)), lastMinute, 2))
+        .isNull();
+  }
+
+  private void assertMatchesLastRecordOfBucket(SLIRecordRollup rollup) {
+    SLIRecord lastRecord = sliRecordService.getLastSLIRecord(
+        sliId, rollup.getBucketStartTime().plus(1, rollup.getResolution().getUnit()));
+    assertThat(rollup.getTimestamp()).isEqualTo(lastRecord.getTimestamp());
+    assertThat(rollup.getRunningGoodCount()).isEqualTo(lastRecord.getRunningGoodCount());
+    assertThat(rollup.getRunningBadCount()).isEqualTo(lastRecord.getRunningBadCount());
+    assertThat(rollup.getSliState()).isEqualTo(lastRecord.getSliState());
+    assertThat(rollup.getSliVersion()).isEqualTo(lastRecord.getSliVersion());
+  }
+
+  private void createData(Instant startTime, Instant endTime, int sliVersion, int badEvery) {
+    List<SLIRecordParam> sliRecordParams = new ArrayList<>();
+    int index = 0;
+    for (Instant minute = startTime; minute.isBefore(endTime); minute = minute.plus(Duration.ofMinutes(1))) {
+      SLIState sliState = index++ % badEvery == 0 ? SLIState.BAD : SLIState.GOOD;
+      sliRecordParams.add(SLIRecordParam.builder()
+                              .sliState(sliState)
+                              .timeStamp(minute)
+                              .goodEventCount(sliState == SLIState.GOOD ? 1L : 0L)
+                              .badEventCount(sliState == SLIState.BAD ? 1L : 0L)
+                              .build());
+    }
+    sliRecordService.create(sliRecordParams, sliId, verificationTaskId, sliVersion);
+  }
+}